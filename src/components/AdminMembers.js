@@ -3,9 +3,13 @@ import { adminMemberApi } from '../services/apiService';
 import Modal from './Modal'; // Generic modal component
 import MemberEditModal from './MemberEditModal'; // New: Import the dedicated edit modal
 
+const PAGE_SIZE = 100; // max page size of /admin/members/search
+
 // 1. Initial State Definition for useReducer
 const initialState = {
     members: [],
+    nextCursor: null, // cursor for the next /admin/members/search page (null on the last page)
+    loadingMore: false,
     loading: true,
     error: null,
     modalMessage: '',
@@ -19,7 +23,18 @@ function adminMembersReducer(state, action) {
         case 'FETCH_START':
             return { ...state, loading: true, error: null };
         case 'FETCH_SUCCESS':
-            return { ...state, loading: false, members: action.payload };
+            return { ...state, loading: false, members: action.payload.members, nextCursor: action.payload.nextCursor };
+        case 'FETCH_MORE_START':
+            return { ...state, loadingMore: true };
+        case 'FETCH_MORE_SUCCESS':
+            return {
+                ...state,
+                loadingMore: false,
+                members: [...state.members, ...action.payload.members],
+                nextCursor: action.payload.nextCursor,
+            };
+        case 'FETCH_MORE_ERROR':
+            return { ...state, loadingMore: false, modalMessage: '회원 목록을 더 불러오는 데 실패했습니다.' };
         case 'FETCH_ERROR':
             return { ...state, loading: false, error: action.payload, modalMessage: '회원 목록을 불러오는 데 실패했습니다.' };
         case 'SET_MODAL_MESSAGE':
@@ -49,13 +64,13 @@ function adminMembersReducer(state, action) {
 
 function AdminMembers() {
     const [state, dispatch] = useReducer(adminMembersReducer, initialState);
-    const { members, loading, error, modalMessage, isEditModalOpen, currentMemberToEdit } = state;
+    const { members, nextCursor, loadingMore, loading, error, modalMessage, isEditModalOpen, currentMemberToEdit } = state;
 
-    // Function to fetch member list
+    // Function to fetch the first page of the member list
     const fetchMembers = async () => {
         dispatch({ type: 'FETCH_START' });
         try {
-            const response = await adminMemberApi.getAllMembers();
+            const response = await adminMemberApi.searchMembers({ size: PAGE_SIZE });
             dispatch({ type: 'FETCH_SUCCESS', payload: response.data });
         } catch (err) {
             console.error('회원 목록 불러오기 실패:', err);
@@ -63,6 +78,18 @@ function AdminMembers() {
         }
     };
 
+    // Function to append the next page (keyset cursor from the previous response)
+    const fetchMoreMembers = async () => {
+        dispatch({ type: 'FETCH_MORE_START' });
+        try {
+            const response = await adminMemberApi.searchMembers({ cursor: nextCursor, size: PAGE_SIZE });
+            dispatch({ type: 'FETCH_MORE_SUCCESS', payload: response.data });
+        } catch (err) {
+            console.error('회원 목록 더 불러오기 실패:', err);
+            dispatch({ type: 'FETCH_MORE_ERROR' });
+        }
+    };
+
     // Fetch members on component mount
     useEffect(() => {
         fetchMembers();
@@ -230,6 +257,17 @@ function AdminMembers() {
                             ))}
                         </tbody>
                     </table>
+                    {nextCursor && (
+                        <div className="text-center">
+                            <button
+                                className="btn btn-outline-primary rounded-pill"
+                                onClick={fetchMoreMembers}
+                                disabled={loadingMore}
+                            >
+                                {loadingMore ? '불러오는 중...' : '더 보기'}
+                            </button>
+                        </div>
+                    )}
                 </div>
             )}
 
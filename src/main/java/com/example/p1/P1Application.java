@@ -2,12 +2,14 @@ package com.example.p1;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 import jakarta.annotation.PostConstruct; // 임포트
 import lombok.RequiredArgsConstructor; // 임포트
 
 @SpringBootApplication
 @EnableJpaAuditing
+@EnableScheduling
 @RequiredArgsConstructor // LineupPlayerMigrationService 주입을 위해 추가
 public class P1Application {
 
@@ -0,0 +1,157 @@
+package com.example.p1.controller;
+
+import com.example.p1.dto.CommentArchiveReportDTO;
+import com.example.p1.dto.CommentFilterStatusDTO;
+import com.example.p1.dto.CommentModerationReportDTO;
+import com.example.p1.dto.CommentSearchResultDTO;
+import com.example.p1.service.CommentArchiveService;
+import com.example.p1.service.CommentFilterService;
+import com.example.p1.service.CommentModerationService;
+import com.example.p1.service.CommentSearchService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/admin/comments")
+@RequiredArgsConstructor
+@PreAuthorize("hasRole('ADMIN')")
+public class AdminCommentController {
+
+    private final CommentSearchService commentSearchService;
+    private final CommentFilterService commentFilterService;
+    private final CommentArchiveService commentArchiveService;
+    private final CommentModerationService commentModerationService;
+
+    /**
+     * 여러 경기의 댓글을 키워드로 검색합니다. (최신순)
+     * 검색어의 모든 단어를 포함하는 댓글을 찾으며, 조사가 붙은 단어도 찾을 수 있습니다. ("롯데" → "롯데가")
+     * @param q 검색어
+     * @param gameId 경기 ID 필터 (선택)
+     * @param username 작성자 아이디 필터 (선택)
+     * @param from 작성일 시작 (선택, yyyy-MM-dd, 포함)
+     * @param to 작성일 끝 (선택, yyyy-MM-dd, 포함)
+     * @param page 페이지 번호 (0부터)
+     * @param size 페이지 크기 (최대 100)
+     * @return 검색 결과와 HTTP 상태 (200 OK, 검색어가 비어 있으면 400 Bad Request)
+     */
+    @GetMapping("/search")
+    public ResponseEntity<CommentSearchResultDTO> searchComments(
+            @RequestParam String q,
+            @RequestParam(required = false) Long gameId,
+            @RequestParam(required = false) String username,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        try {
+            return ResponseEntity.ok(commentSearchService.search(q, gameId, username, from, to, page, size));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(null);
+        }
+    }
+
+    /**
+     * 댓글 검색 색인을 DB 기준으로 다시 만듭니다.
+     * @return 색인된 댓글 수
+     */
+    @PostMapping("/search-index/rebuild")
+    public ResponseEntity<Map<String, Object>> rebuildSearchIndex() {
+        try {
+            int indexed = commentSearchService.rebuild();
+            return ResponseEntity.ok(Map.of("message", "댓글 검색 색인을 다시 만들었습니다.", "indexedComments", indexed));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(Map.of("message", "색인 재구성 중 오류가 발생했습니다: " + e.getMessage()));
+        }
+    }
+
+    /**
+     * 댓글 금지어 필터 상태(목록 크기, 마지막 로드 시각, 차단 수)를 조회합니다.
+     */
+    @GetMapping("/filter")
+    public ResponseEntity<CommentFilterStatusDTO> getFilterStatus() {
+        return ResponseEntity.ok(commentFilterService.getStatus());
+    }
+
+    /**
+     * 금지어 목록 파일을 다시 읽어 필터에 반영합니다. 반영 중에도 댓글 등록은 기존 필터로 계속 처리됩니다.
+     * @return 새 필터 상태와 HTTP 상태 (200 OK, 목록을 읽지 못하면 500 Internal Server Error - 기존 필터 유지)
+     */
+    @PostMapping("/filter/reload")
+    public ResponseEntity<CommentFilterStatusDTO> reloadFilter() {
+        try {
+            return ResponseEntity.ok(commentFilterService.reload());
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(null);
+        }
+    }
+
+    /**
+     * 조건에 맞는 댓글을 일괄 삭제합니다. (스팸 회원의 댓글 전체, 경기 하나의 댓글, 특정 시간대 댓글 등)
+     * 조건은 하나 이상 지정해야 하며 여러 개면 모두 만족하는 댓글만 삭제합니다.
+     * @param username 작성자 아이디 (선택)
+     * @param gameId 경기 ID (선택)
+     * @param from 작성 시각 시작 (선택, ISO 날짜시간, 포함)
+     * @param to 작성 시각 끝 (선택, ISO 날짜시간, 제외)
+     * @return 처리 건수와 걸린 시간, HTTP 상태 (200 OK, 조건이 없거나 회원이 없으면 400 Bad Request)
+     */
+    @PostMapping("/bulk/delete")
+    public ResponseEntity<CommentModerationReportDTO> bulkDelete(
+            @RequestParam(required = false) String username,
+            @RequestParam(required = false) Long gameId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+        try {
+            return ResponseEntity.ok(commentModerationService.deleteComments(username, gameId, from, to));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(null);
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(null);
+        }
+    }
+
+    /**
+     * 조건에 맞는 댓글을 일괄 숨깁니다. 숨긴 댓글은 DB에 남지만 목록/피드/예측 집계/검색에서 빠집니다.
+     * 조건은 /bulk/delete와 같습니다.
+     * @return 처리 건수와 걸린 시간, HTTP 상태 (200 OK, 조건이 없거나 회원이 없으면 400 Bad Request)
+     */
+    @PostMapping("/bulk/hide")
+    public ResponseEntity<CommentModerationReportDTO> bulkHide(
+            @RequestParam(required = false) String username,
+            @RequestParam(required = false) Long gameId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+        try {
+            return ResponseEntity.ok(commentModerationService.hideComments(username, gameId, from, to));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(null);
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(null);
+        }
+    }
+
+    /**
+     * 지난 시즌 경기의 댓글을 보관 테이블로 옮깁니다. 보관된 댓글은 기존 조회 API에서 그대로 조회됩니다.
+     * @param season 보관할 시즌 연도
+     * @return 보관 결과(건수, 공간, 보관 전후 조회 시간)와 HTTP 상태
+     *         (200 OK, 올해 시즌이거나 끝나지 않은 경기가 있으면 409 Conflict)
+     */
+    @PostMapping("/archive")
+    public ResponseEntity<CommentArchiveReportDTO> archiveSeason(@RequestParam int season) {
+        try {
+            return ResponseEntity.ok(commentArchiveService.archiveSeason(season));
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(null);
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(null);
+        }
+    }
+}
@@ -1,13 +1,27 @@
 package com.example.p1.controller;
 
+import com.example.p1.domain.Member;
+import com.example.p1.dto.BanExpirySweepReportDTO;
 import com.example.p1.dto.MemberDTO;
+import com.example.p1.dto.MemberPageDTO;
+import com.example.p1.dto.MemberSearchConditionDTO;
+import com.example.p1.dto.UserDetailsCacheStatsDTO;
+import com.example.p1.service.BanExpiryService;
+import com.example.p1.service.CustomUserDetailsService;
 import com.example.p1.service.MemberService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.BufferedWriter;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneOffset;
@@ -22,14 +36,131 @@ import java.util.Map;
 public class AdminMemberController {
 
     private final MemberService memberService;
+    private final CustomUserDetailsService userDetailsService;
+    private final BanExpiryService banExpiryService;
+
+    private static final int LEGACY_LIST_SIZE = 100;
+    private static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
     /**
-     * 모든 회원 목록을 조회합니다.
+     * 회원 목록의 첫 페이지(ID순 최대 100명)를 조회합니다. (기존 API 호환용)
+     * 회원 전체를 한 번에 읽지 않도록 /search의 첫 페이지와 같은 키셋 조회를 사용하고,
+     * 다음 회원이 있으면 X-Next-Cursor 헤더로 /search에 넘길 커서를 알려줍니다.
+     * 관리자 화면(AdminMembers)은 /search를 커서로 이어 읽으므로 전체 회원을 볼 수 있습니다.
      * @return 회원 DTO 목록
      */
     @GetMapping
     public ResponseEntity<List<MemberDTO>> getAllMembers() {
-        List<MemberDTO> members = memberService.getAllMembers();
-        return ResponseEntity.ok(members);
+        MemberPageDTO page = memberService.searchMembers(MemberSearchConditionDTO.builder().build(), null, LEGACY_LIST_SIZE);
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (page.isHasNext()) {
+            response.header(NEXT_CURSOR_HEADER, page.getNextCursor());
+        }
+        return response.body(page.getMembers());
+    }
+
+    /**
+     * 회원 목록을 조건으로 걸러 커서 페이징으로 조회합니다. 전체 개수를 세지 않고 인덱스 범위만 읽습니다.
+     * 정렬은 ID순이며, 아이디/닉네임 접두어 검색 시에는 아이디/닉네임순입니다.
+     * @param role USER 또는 ADMIN
+     * @param banned 정지 여부
+     * @param bannedFrom 정지 기한 시작 (ISO 시각, 포함)
+     * @param bannedTo 정지 기한 끝 (ISO 시각, 미포함)
+     * @param cursor 이전 응답의 nextCursor (첫 페이지는 생략, 조건은 그대로 유지)
+     * @param size 페이지 크기 (최대 100)
+     * @return 회원 목록과 다음 커서, HTTP 상태 (200 OK, 잘못된 조건/커서는 400 Bad Request)
+     */
+    @GetMapping("/search")
+    public ResponseEntity<MemberPageDTO> searchMembers(
+            @RequestParam(required = false) String role,
+            @RequestParam(required = false) Boolean banned,
+            @RequestParam(required = false) String bannedFrom,
+            @RequestParam(required = false) String bannedTo,
+            @RequestParam(required = false) String usernamePrefix,
+            @RequestParam(required = false) String nicknamePrefix,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int size) {
+        try {
+            MemberSearchConditionDTO condition = toCondition(role, banned, bannedFrom, bannedTo, usernamePrefix, nicknamePrefix);
+            return ResponseEntity.ok(memberService.searchMembers(condition, cursor, size));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(null);
+        }
+    }
+
+    /**
+     * 조건에 맞는 회원을 CSV 파일로 내보냅니다. 한 행씩 읽어 바로 응답에 쓰므로 회원 수와 관계없이 메모리 사용량이 일정합니다.
+     * @return CSV 스트림 (200 OK, 잘못된 조건은 400 Bad Request)
+     */
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportMembers(
+            @RequestParam(required = false) String role,
+            @RequestParam(required = false) Boolean banned,
+            @RequestParam(required = false) String bannedFrom,
+            @RequestParam(required = false) String bannedTo,
+            @RequestParam(required = false) String usernamePrefix,
+            @RequestParam(required = false) String nicknamePrefix) {
+        MemberSearchConditionDTO condition;
+        try {
+            condition = toCondition(role, banned, bannedFrom, bannedTo, usernamePrefix, nicknamePrefix);
+            if (condition.getRole() != null) {
+                Member.Role.valueOf(condition.getRole().toUpperCase()); // 응답을 쓰기 전에 확인
+            }
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            return ResponseEntity.badRequest().build();
+        }
+        StreamingResponseBody body = outputStream -> {
+            Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+            memberService.exportMembersCsv(condition, writer);
+        };
+        return ResponseEntity.ok()
+                .contentType(new MediaType("text", "csv", StandardCharsets.UTF_8))
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"members.csv\"")
+                .body(body);
+    }
+
+    private static MemberSearchConditionDTO toCondition(String role, Boolean banned, String bannedFrom, String bannedTo,
+                                                        String usernamePrefix, String nicknamePrefix) {
+        return MemberSearchConditionDTO.builder()
+                .role(role)
+                .banned(banned)
+                .bannedFrom(bannedFrom != null ? LocalDateTime.ofInstant(Instant.parse(bannedFrom), ZoneOffset.UTC) : null)
+                .bannedTo(bannedTo != null ? LocalDateTime.ofInstant(Instant.parse(bannedTo), ZoneOffset.UTC) : null)
+                .usernamePrefix(usernamePrefix)
+                .nicknamePrefix(nicknamePrefix)
+                .build();
+    }
+
+    /**
+     * 기한이 지난 임시 정지를 지금 해제합니다. (평소에는 주기적으로 자동 실행)
+     * @return 처리 결과 (해제한 회원 수, 소요 시간)
+     */
+    @PostMapping("/ban-expiry/sweep")
+    public ResponseEntity<BanExpirySweepReportDTO> sweepExpiredBans() {
+        try {
+            return ResponseEntity.ok(banExpiryService.sweep());
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
+    /**
+     * 마지막 정지 기한 만료 처리 결과를 조회합니다.
+     * @return 처리 결과 (200 OK, 아직 처리한 적이 없으면 204 No Content)
+     */
+    @GetMapping("/ban-expiry/last")
+    public ResponseEntity<BanExpirySweepReportDTO> getLastBanExpirySweep() {
+        BanExpirySweepReportDTO report = banExpiryService.getLastReport();
+        return report != null ? ResponseEntity.ok(report) : ResponseEntity.noContent().build();
+    }
+
+    /**
+     * 로그인 인증 정보 캐시 통계를 조회합니다. (크기, 적중/실패, 만료, 밀려남, 무효화 수)
+     * @return 통계 DTO
+     */
+    @GetMapping("/user-details-cache")
+    public ResponseEntity<UserDetailsCacheStatsDTO> getUserDetailsCacheStats() {
+        return ResponseEntity.ok(userDetailsService.getStats());
     }
 
     /**
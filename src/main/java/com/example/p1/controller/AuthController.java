@@ -1,10 +1,17 @@
 package com.example.p1.controller;
 
 import com.example.p1.dto.RegisterRequestDTO;
+import com.example.p1.dto.TokenResponseDTO;
+import com.example.p1.security.password.PasswordHashingBusyException;
+import com.example.p1.security.token.TokenProperties;
+import com.example.p1.security.token.TokenService;
 import com.example.p1.service.MemberService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.authentication.LockedException;
+import org.springframework.security.core.AuthenticationException;
 import org.springframework.security.core.Authentication; // Authentication 임포트 추가
 import org.springframework.security.core.context.SecurityContextHolder; // SecurityContextHolder 임포트 추가
 import org.springframework.security.core.GrantedAuthority; // GrantedAuthority 임포트 추가
@@ -20,6 +27,8 @@ import java.util.stream.Collectors; // Collectors 임포트 추가
 public class AuthController {
 
     private final MemberService memberService;
+    private final TokenService tokenService;
+    private final TokenProperties tokenProperties;
 
     @PostMapping("/register")
     public ResponseEntity<String> register(@RequestBody RegisterRequestDTO registerRequest) {
@@ -28,6 +37,8 @@ public class AuthController {
             return ResponseEntity.status(HttpStatus.CREATED).body("회원가입이 성공적으로 완료되었습니다.");
         } catch (IllegalArgumentException e) {
             return ResponseEntity.status(HttpStatus.CONFLICT).body(e.getMessage());
+        } catch (PasswordHashingBusyException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).header(HttpHeaders.RETRY_AFTER, "1").body(e.getMessage());
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body("회원가입 중 오류가 발생했습니다.");
         }
@@ -80,6 +91,65 @@ public class AuthController {
     }
 
 
+    /**
+     * 토큰 로그인. 세션을 만들지 않고 접근 토큰(Authorization: Bearer)과 갱신 토큰을 발급합니다.
+     * @param request Map containing "username" and "password"
+     * @return 토큰과 HTTP 상태 (200 OK, 아이디/비밀번호가 틀리면 401 Unauthorized, 정지된 회원이면 403 Forbidden,
+     *         비밀번호 확인 대기열이 가득 차면 503 Service Unavailable)
+     */
+    @PostMapping("/token")
+    public ResponseEntity<TokenResponseDTO> issueToken(@RequestBody Map<String, String> request) {
+        if (!tokenProperties.isEnabled()) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).build();
+        }
+        try {
+            return ResponseEntity.ok(tokenService.login(request.get("username"), request.get("password")));
+        } catch (LockedException e) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        } catch (PasswordHashingBusyException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).header(HttpHeaders.RETRY_AFTER, "1").build();
+        } catch (AuthenticationException e) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+    }
+
+    /**
+     * 갱신 토큰으로 새 토큰 쌍을 발급합니다. 사용한 갱신 토큰은 폐기됩니다.
+     * @param request Map containing "refreshToken"
+     * @return 토큰과 HTTP 상태 (200 OK, 갱신 토큰이 잘못/만료/폐기되었으면 401 Unauthorized, 정지된 회원이면 403 Forbidden)
+     */
+    @PostMapping("/token/refresh")
+    public ResponseEntity<TokenResponseDTO> refreshToken(@RequestBody Map<String, String> request) {
+        if (!tokenProperties.isEnabled()) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).build();
+        }
+        try {
+            return ResponseEntity.ok(tokenService.refresh(request.get("refreshToken")));
+        } catch (LockedException e) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+    }
+
+    /**
+     * 갱신 토큰을 폐기합니다. (토큰 로그아웃)
+     * @param request Map containing "refreshToken"
+     * @return 응답 없음 (204 No Content, 갱신 토큰이 잘못되었으면 401 Unauthorized)
+     */
+    @PostMapping("/token/revoke")
+    public ResponseEntity<Void> revokeToken(@RequestBody Map<String, String> request) {
+        if (!tokenProperties.isEnabled()) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).build();
+        }
+        try {
+            tokenService.revoke(request.get("refreshToken"));
+            return ResponseEntity.noContent().build();
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+    }
+
     @PostMapping("/logout")
     public ResponseEntity<String> logout() {
         return ResponseEntity.ok("로그아웃되었습니다.");
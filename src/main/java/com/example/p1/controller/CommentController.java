@@ -1,17 +1,27 @@
 package com.example.p1.controller;
 
 import com.example.p1.dto.CommentDTO;
+import com.example.p1.dto.CommentFeedDTO;
+import com.example.p1.dto.CommentIngestAckDTO;
+import com.example.p1.dto.CommentStreamFrameDTO;
+import com.example.p1.service.CommentIngestionService;
 import com.example.p1.service.CommentService;
+import com.example.p1.service.CommentStreamBroker;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable; // Pageable import 추가
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.Map;
+import java.util.concurrent.RejectedExecutionException;
 
 /**
  * 댓글 관련 API 요청을 처리하는 REST 컨트롤러.
@@ -22,6 +32,11 @@ import java.util.Map;
 public class CommentController {
 
     private final CommentService commentService;
+    private final CommentStreamBroker commentStreamBroker;
+    private final CommentIngestionService commentIngestionService;
+
+    @Value("${comment.stream.timeout-minutes:30}")
+    private long streamTimeoutMinutes;
 
     /**
      * 새로운 댓글을 추가합니다.
@@ -46,6 +61,34 @@ public class CommentController {
         }
     }
 
+    /**
+     * 댓글을 일괄 등록 대기열에 접수합니다. (경기 시작, 막판 등 댓글이 몰리는 시간대용)
+     * 검증만 마치고 바로 응답하며, 실제 저장은 묶음 단위로 이루어집니다.
+     * 저장된 댓글은 실시간 스트림 CREATED 이벤트로 전달되고 이벤트의 provisionalId가 응답의 provisionalId와 같습니다.
+     * @param gameId 댓글이 속할 게임의 ID
+     * @param commentDTO 댓글 데이터 전송 객체
+     * @return 접수 정보와 HTTP 상태 (202 Accepted, 409 Conflict, 400 Bad Request,
+     *         대기열이 가득 차면 503 Service Unavailable + Retry-After)
+     */
+    @PostMapping("/ingest")
+    public ResponseEntity<CommentIngestAckDTO> ingestComment(@PathVariable Long gameId, @RequestBody CommentDTO commentDTO) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        String username = authentication.getName();
+
+        try {
+            CommentIngestAckDTO ack = commentIngestionService.submit(gameId, username, commentDTO);
+            return ResponseEntity.status(HttpStatus.ACCEPTED).body(ack);
+        } catch (RejectedExecutionException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).header(HttpHeaders.RETRY_AFTER, "1").body(null);
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(null);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(null);
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(null);
+        }
+    }
+
     /**
      * 특정 경기의 모든 댓글 목록을 조회합니다. (페이징 적용)
      * @param gameId 게임 ID
@@ -61,6 +104,56 @@ public class CommentController {
         return ResponseEntity.ok(comments);
     }
 
+    /**
+     * 특정 경기의 댓글을 최신순 커서 페이징으로 조회합니다.
+     * 전체 개수를 세지 않고 (createdAt, id) 인덱스 범위만 읽으므로 댓글이 많은 경기의 뒤쪽 페이지도 일정한 속도로 조회됩니다.
+     * @param gameId 게임 ID
+     * @param cursor 이전 응답의 nextCursor (첫 페이지는 생략)
+     * @param size 페이지 크기 (최대 100)
+     * @return 댓글 목록과 다음 커서, HTTP 상태 (200 OK, 잘못된 커서는 400 Bad Request)
+     */
+    @GetMapping("/feed")
+    public ResponseEntity<CommentFeedDTO> getCommentFeed(
+            @PathVariable Long gameId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        try {
+            return ResponseEntity.ok(commentService.getCommentFeed(gameId, cursor, size));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(null);
+        }
+    }
+
+    /**
+     * 특정 경기의 댓글 추가/수정/삭제와 예측 집계 변경을 Server-Sent Events로 구독합니다.
+     * 짧은 시간 동안의 변경은 하나의 "comments" 이벤트(CommentStreamFrameDTO)로 묶여 전송됩니다.
+     * 연결이 끊기면(타임아웃, 느린 수신 등) 클라이언트(EventSource)가 다시 연결한 뒤 피드로 빠진 댓글을 채우면 됩니다.
+     * @param gameId 게임 ID
+     * @return SSE 연결
+     */
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamComments(@PathVariable Long gameId) {
+        SseEmitter emitter = new SseEmitter(streamTimeoutMinutes * 60_000L);
+        Runnable unsubscribe = commentStreamBroker.subscribe(gameId, new CommentStreamBroker.Sink() {
+            @Override
+            public void send(CommentStreamFrameDTO frame) throws Exception {
+                emitter.send(SseEmitter.event()
+                        .id(String.valueOf(frame.getSequence()))
+                        .name("comments")
+                        .data(frame, MediaType.APPLICATION_JSON));
+            }
+
+            @Override
+            public void close() {
+                emitter.complete();
+            }
+        });
+        emitter.onCompletion(unsubscribe);
+        emitter.onTimeout(unsubscribe);
+        emitter.onError(e -> unsubscribe.run());
+        return emitter;
+    }
+
     /**
      * 특정 경기의 예측 댓글 개수를 팀별로 조회합니다.
      * @param gameId 게임 ID
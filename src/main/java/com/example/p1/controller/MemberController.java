@@ -4,8 +4,10 @@ import com.example.p1.dto.MemberDTO;
 import com.example.p1.dto.MemberUpdateRequestDTO;
 import com.example.p1.dto.PasswordChangeRequestDTO;
 import com.example.p1.dto.MemberDeleteRequestDTO;
+import com.example.p1.security.password.PasswordHashingBusyException;
 import com.example.p1.service.MemberService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -72,6 +74,8 @@ public class MemberController {
             return ResponseEntity.ok("비밀번호가 성공적으로 변경되었습니다.");
         } catch (IllegalArgumentException e) {
             return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
+        } catch (PasswordHashingBusyException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).header(HttpHeaders.RETRY_AFTER, "1").body(e.getMessage());
         }
     }
 
@@ -91,6 +95,8 @@ public class MemberController {
             return ResponseEntity.status(HttpStatus.FORBIDDEN).body(e.getMessage()); // 관리자 탈퇴 시도 등
         } catch (IllegalArgumentException e) {
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(e.getMessage()); // 비밀번호 불일치
+        } catch (PasswordHashingBusyException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).header(HttpHeaders.RETRY_AFTER, "1").body(e.getMessage());
         }
     }
 }
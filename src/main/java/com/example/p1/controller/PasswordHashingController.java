@@ -0,0 +1,32 @@
+package com.example.p1.controller;
+
+import com.example.p1.dto.PasswordHashingStatsDTO;
+import com.example.p1.security.password.BoundedPasswordEncoder;
+import com.example.p1.service.CustomUserDetailsService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/admin/password-hashing")
+@RequiredArgsConstructor
+@PreAuthorize("hasRole('ADMIN')")
+public class PasswordHashingController {
+
+    private final BoundedPasswordEncoder passwordEncoder;
+    private final CustomUserDetailsService userDetailsService;
+
+    /**
+     * 비밀번호 해시 통계를 조회합니다. (대기열 길이, 평균/최대 처리 시간, 거절/시간 초과 수, 로그인 때 다시 해시한 수)
+     * @return 통계 DTO
+     */
+    @GetMapping
+    public ResponseEntity<PasswordHashingStatsDTO> getStats() {
+        PasswordHashingStatsDTO stats = passwordEncoder.getStats();
+        stats.setRehashed(userDetailsService.getPasswordUpgradeCount());
+        return ResponseEntity.ok(stats);
+    }
+}
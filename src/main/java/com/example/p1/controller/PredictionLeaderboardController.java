@@ -0,0 +1,64 @@
+package com.example.p1.controller;
+
+import com.example.p1.dto.PredictionLeaderboardDTO;
+import com.example.p1.service.PredictionLeaderboardService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.util.Map;
+
+/**
+ * 승부 예측 리더보드 API 요청을 처리하는 컨트롤러.
+ */
+@RestController
+@RequestMapping("/api/predictions/leaderboard")
+@RequiredArgsConstructor
+public class PredictionLeaderboardController {
+
+    private final PredictionLeaderboardService predictionLeaderboardService;
+
+    /**
+     * 시즌 예측 적중 순위 상위 size명을 조회합니다. 로그인한 경우 본인 순위(me)도 함께 반환합니다.
+     * @param season 시즌 연도 (생략 시 올해)
+     * @param size 조회할 인원 (최대 100)
+     * @return 리더보드 DTO
+     */
+    @GetMapping
+    public ResponseEntity<PredictionLeaderboardDTO> getLeaderboard(
+            @RequestParam(required = false) Integer season,
+            @RequestParam(defaultValue = "20") int size) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        String username = authentication != null && authentication.isAuthenticated()
+                && !(authentication instanceof AnonymousAuthenticationToken) ? authentication.getName() : null;
+        int seasonYear = season != null ? season : LocalDate.now().getYear();
+        return ResponseEntity.ok(predictionLeaderboardService.getLeaderboard(seasonYear, size, username));
+    }
+
+    /**
+     * 시즌 예측 성적을 종료된 경기 기준으로 다시 계산합니다. (관리자용)
+     * @param season 시즌 연도 (생략 시 올해)
+     * @return 성적이 기록된 회원 수와 소요 시간
+     */
+    @PostMapping("/rebuild")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<Map<String, Object>> rebuildLeaderboard(@RequestParam(required = false) Integer season) {
+        try {
+            long start = System.currentTimeMillis();
+            int seasonYear = season != null ? season : LocalDate.now().getYear();
+            int members = predictionLeaderboardService.rebuildSeason(seasonYear);
+            return ResponseEntity.ok(Map.of(
+                    "seasonYear", seasonYear,
+                    "members", members,
+                    "elapsedMs", System.currentTimeMillis() - start));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(Map.of("message", String.valueOf(e.getMessage())));
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.example.p1.controller;
+
+import com.example.p1.dto.RateLimitStatsDTO;
+import com.example.p1.security.ratelimit.RateLimiter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/admin/rate-limits")
+@RequiredArgsConstructor
+@PreAuthorize("hasRole('ADMIN')")
+public class RateLimitController {
+
+    private final RateLimiter rateLimiter;
+
+    /**
+     * 요청 속도 제한 통계를 조회합니다. (규칙별 허용/거절 수, 추적 중인 버킷 수)
+     * @return 통계 DTO
+     */
+    @GetMapping
+    public ResponseEntity<RateLimitStatsDTO> getStats() {
+        return ResponseEntity.ok(rateLimiter.getStats());
+    }
+}
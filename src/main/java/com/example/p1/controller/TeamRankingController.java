@@ -125,9 +125,16 @@
 // src/main/java/com/example/p1/controller/TeamRankingController.java
 package com.example.p1.controller;
 
+import com.example.p1.dto.RankingBackfillReportDTO;
+import com.example.p1.dto.StandingsReconciliationReportDTO;
 import com.example.p1.dto.TeamRankingDTO;
+import com.example.p1.service.RankingBackfillService;
+import com.example.p1.service.RecentFormService;
+import com.example.p1.service.SeasonRankingSnapshot;
+import com.example.p1.service.StandingsReconciliationService;
 import com.example.p1.service.TeamRankingService; // 인터페이스로 주입받음
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -135,6 +142,7 @@ import org.springframework.web.bind.annotation.*;
 
 import java.io.IOException; // IOException 임포트 추가
 import java.util.List;
+import java.util.Map;
 
 /**
  * 팀 순위 관련 API 요청을 처리하는 컨트롤러.
@@ -145,16 +153,25 @@ import java.util.List;
 public class TeamRankingController {
 
     private final TeamRankingService teamRankingService;
+    private final RecentFormService recentFormService;
+    private final RankingBackfillService rankingBackfillService;
+    private final StandingsReconciliationService standingsReconciliationService;
 
     /**
      * 특정 시즌의 모든 팀 순위 정보를 조회합니다.
      * @param seasonYear 조회할 시즌 연도 (쿼리 파라미터)
+     * @param ifNoneMatch 이전 응답의 ETag. 순위가 그대로면 304를 반환합니다.
      * @return 해당 시즌의 팀 순위 DTO 목록 (순위 오름차순 정렬)
      */
     @GetMapping
-    public ResponseEntity<List<TeamRankingDTO>> getAllTeamRankings(@RequestParam int seasonYear) {
-        List<TeamRankingDTO> rankings = teamRankingService.getAllTeamRankings(seasonYear);
-        return ResponseEntity.ok(rankings);
+    public ResponseEntity<List<TeamRankingDTO>> getAllTeamRankings(@RequestParam int seasonYear,
+                                                                   @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        SeasonRankingSnapshot snapshot = teamRankingService.getRankingSnapshot(seasonYear);
+        if (snapshot.getETag().equals(ifNoneMatch)) {
+            // 순위가 바뀌지 않았으면 본문 없이 304 Not Modified
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(snapshot.getETag()).build();
+        }
+        return ResponseEntity.ok().eTag(snapshot.getETag()).body(snapshot.getRankings());
     }
 
     /**
@@ -214,6 +231,64 @@ public class TeamRankingController {
         }
     }
 
+    /**
+     * 최근 10경기/연승·연패/홈·원정 성적을 전체 경기 결과로부터 다시 계산합니다.
+     * 이 엔드포인트는 관리자만 접근할 수 있습니다.
+     * @return 반영된 경기 수
+     */
+    @PostMapping("/form/rebuild")
+    @PreAuthorize("hasRole('ADMIN')") // 관리자만 접근 가능
+    public ResponseEntity<Map<String, Integer>> rebuildRecentForm() {
+        int appliedGames = recentFormService.rebuild();
+        return ResponseEntity.ok(Map.of("appliedGames", appliedGames));
+    }
+
+    /**
+     * 종료된 전체 경기 결과로 모든 시즌의 순위, 팀 간 상대 전적, 일별 순위 스냅샷을 다시 계산해 저장합니다.
+     * 시즌별 계산은 병렬로 수행되며, 이 엔드포인트는 관리자만 접근할 수 있습니다.
+     * @return 시즌별 처리 건수와 소요 시간
+     */
+    @PostMapping("/backfill")
+    @PreAuthorize("hasRole('ADMIN')") // 관리자만 접근 가능
+    public ResponseEntity<RankingBackfillReportDTO> backfillAllSeasons() {
+        try {
+            return ResponseEntity.ok(rankingBackfillService.backfillAllSeasons());
+        } catch (Exception e) {
+            System.err.println("Error during ranking backfill: " + e.getMessage());
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(null);
+        }
+    }
+
+    /**
+     * 크롤링 순위와 경기 결과 집계를 즉시 비교하고, 차이를 설명하는 의심 경기만 다시 크롤링합니다.
+     * 이 엔드포인트는 관리자만 접근할 수 있습니다.
+     * @return 팀별 차이, 의심 경기 gameKey, 재크롤링 결과
+     */
+    @PostMapping("/reconcile")
+    @PreAuthorize("hasRole('ADMIN')") // 관리자만 접근 가능
+    public ResponseEntity<StandingsReconciliationReportDTO> reconcileStandings() {
+        try {
+            return ResponseEntity.ok(standingsReconciliationService.reconcile());
+        } catch (IOException e) {
+            System.err.println("Error during standings reconciliation crawl: " + e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_GATEWAY).body(null);
+        } catch (Exception e) {
+            System.err.println("Error during standings reconciliation: " + e.getMessage());
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(null);
+        }
+    }
+
+    /**
+     * 마지막 정합성 점검 결과를 조회합니다. (관리자용)
+     * @return 마지막 점검 결과, 점검한 적이 없으면 204 No Content
+     */
+    @GetMapping("/reconciliation")
+    @PreAuthorize("hasRole('ADMIN')") // 관리자만 접근 가능
+    public ResponseEntity<StandingsReconciliationReportDTO> getLastReconciliation() {
+        StandingsReconciliationReportDTO report = standingsReconciliationService.getLastReport();
+        return report != null ? ResponseEntity.ok(report) : ResponseEntity.noContent().build();
+    }
+
     /**
      * 새로운 팀 순위 정보를 생성합니다. (관리자용)
      * @param teamRankingDTO 생성할 팀 순위 정보 DTO
@@ -0,0 +1,50 @@
+package com.example.p1.controller;
+
+import com.example.p1.dto.TeamRatingDTO;
+import com.example.p1.service.EloRatingService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 팀 Elo 레이팅 관련 API 요청을 처리하는 컨트롤러.
+ */
+@RestController
+@RequestMapping("/api/ratings")
+@RequiredArgsConstructor
+public class TeamRatingController {
+
+    private final EloRatingService eloRatingService;
+
+    /**
+     * 현재 팀별 Elo 레이팅을 높은 순으로 조회합니다.
+     * @return 팀 레이팅 DTO 목록
+     */
+    @GetMapping
+    public ResponseEntity<List<TeamRatingDTO>> getRatings() {
+        return ResponseEntity.ok(eloRatingService.getRatings());
+    }
+
+    /**
+     * 종료된 전체 경기 이력으로 레이팅을 다시 계산합니다. (관리자용)
+     * @return 반영된 경기 수와 소요 시간
+     */
+    @PostMapping("/rebuild")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<Map<String, Object>> rebuildRatings() {
+        try {
+            long start = System.currentTimeMillis();
+            int appliedGames = eloRatingService.rebuild();
+            return ResponseEntity.ok(Map.of(
+                    "appliedGames", appliedGames,
+                    "elapsedMs", System.currentTimeMillis() - start));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(Map.of("message", String.valueOf(e.getMessage())));
+        }
+    }
+}
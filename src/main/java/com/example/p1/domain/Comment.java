@@ -18,7 +18,10 @@ import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
-@Table(name = "GAME_COMMENT")
+@Table(name = "GAME_COMMENT", indexes = {
+        // 경기별 댓글 피드(최신순 커서 페이징)용 복합 인덱스: WHERE game_id = ? ORDER BY created_at DESC, id DESC
+        @Index(name = "IDX_GAME_COMMENT_FEED", columnList = "game_id, created_at, id")
+})
 @ToString(exclude = {"member", "game", "predictedTeam"}) // Exclude predictedTeam as well to prevent loops
 @EntityListeners(AuditingEntityListener.class)
 public class Comment {
@@ -56,4 +59,10 @@ public class Comment {
     @JoinColumn(name = "PREDICTED_TEAM_ID", referencedColumnName = "ID", nullable = true)
     @EqualsAndHashCode.Exclude
     private Team predictedTeam;
+
+    // 관리자가 숨긴 댓글. 목록/피드/예측 집계/검색에서 빠지며 DB에는 남습니다.
+    // 기존 행이 있는 테이블에도 컬럼이 추가되도록 DB 기본값을 지정 (네이티브 INSERT도 기본값 사용)
+    @Builder.Default
+    @Column(nullable = false, columnDefinition = "NUMBER(1) DEFAULT 0 NOT NULL")
+    private boolean hidden = false;
 }
\ No newline at end of file
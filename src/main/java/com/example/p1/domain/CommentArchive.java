@@ -0,0 +1,50 @@
+package com.example.p1.domain;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+import java.time.LocalDateTime;
+
+/**
+ * 지난 시즌 경기의 보관된 댓글. 경기마다 한 행이며, 댓글 DTO 목록(최신순)을 JSON으로 직렬화해 GZIP으로 압축한 값을 저장합니다.
+ * 보관된 경기의 댓글은 GAME_COMMENT에서 삭제되고 조회 시 이 행에서 풀어서 제공합니다.
+ */
+@Entity
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Table(name = "GAME_COMMENT_ARCHIVE", uniqueConstraints = {
+        @UniqueConstraint(columnNames = {"game_id"})
+})
+@ToString(exclude = "payload")
+public class CommentArchive {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "game_comment_archive_seq_gen")
+    @SequenceGenerator(name = "game_comment_archive_seq_gen", sequenceName = "GAME_COMMENT_ARCHIVE_SEQ", allocationSize = 1)
+    private Long id;
+
+    @Column(name = "game_id", nullable = false)
+    private Long gameId;
+
+    @Column(name = "season_year", nullable = false)
+    private int seasonYear;
+
+    @Column(name = "comment_count", nullable = false)
+    private int commentCount;
+
+    @Column(name = "raw_bytes", nullable = false)
+    private long rawBytes;        // 압축 전 JSON 크기
+
+    @Lob
+    @Column(nullable = false)
+    private byte[] payload;       // GZIP(JSON 배열)
+
+    @Column(name = "archived_at", nullable = false)
+    private LocalDateTime archivedAt;
+}
@@ -10,7 +10,16 @@ import java.time.LocalDateTime;
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
-@Table(name = "MEMBER")
+@Table(name = "MEMBER", indexes = {
+        // 관리자 회원 목록: 역할/정지 여부 조건 + ID순 keyset (WHERE role = ? AND banned = ? AND id > ? ORDER BY id)
+        @Index(name = "IDX_MEMBER_ROLE_BANNED", columnList = "role, banned, id"),
+        // 정지 기한 만료 처리(WHERE banned = 1 AND banned_until <= ?)와 관리자 회원 목록의 정지 기한 범위 조건
+        @Index(name = "IDX_MEMBER_BAN_EXPIRY", columnList = "banned, banned_until"),
+        // 중복 확인 필터의 변경분 동기화 (WHERE updated_at >= ? ORDER BY updated_at, id)
+        @Index(name = "IDX_MEMBER_UPDATED_AT", columnList = "updated_at, id"),
+        // 토큰 폐기 목록 동기화 (모든 서버가 주기적으로 WHERE tokens_revoked_at >= ?)
+        @Index(name = "IDX_MEMBER_TOKENS_REVOKED_AT", columnList = "tokens_revoked_at")
+})
 public class Member {
     @Id
     @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "member_seq_gen") // GENERATOR 추가
@@ -44,6 +53,12 @@ public class Member {
 
     private LocalDateTime bannedUntil;
 
+    // 이 시각(UTC) 이전에 발급된 토큰은 모두 폐기 (비밀번호 변경, 정지, 역할 변경 시 갱신)
+    private LocalDateTime tokensRevokedAt;
+
+    // 닉네임/이메일/휴대전화번호를 마지막으로 바꾼 시각(UTC). 다른 서버의 중복 확인 필터가 바뀐 값을 읽어 갑니다.
+    private LocalDateTime updatedAt;
+
     public enum Role {
         USER, ADMIN
     }
@@ -0,0 +1,56 @@
+package com.example.p1.domain;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+import java.time.LocalDateTime;
+
+/**
+ * 회원의 시즌별 승부 예측 성적. 회원마다 시즌당 한 행입니다.
+ * 경기가 종료될 때 그 경기의 예측 댓글 전체를 한 번의 MERGE 문으로 반영하며,
+ * 무승부 경기는 적중/실패 어디에도 넣지 않고 연속 적중도 유지합니다.
+ */
+@Entity
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Table(name = "PREDICTION_SCORE", uniqueConstraints = {
+        @UniqueConstraint(columnNames = {"member_id", "season_year"})
+}, indexes = {
+        @Index(name = "IDX_PREDICTION_SCORE_SEASON", columnList = "season_year, correct_count")
+})
+@ToString(exclude = "member")
+public class PredictionScore {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "prediction_score_seq_gen")
+    @SequenceGenerator(name = "prediction_score_seq_gen", sequenceName = "PREDICTION_SCORE_SEQ", allocationSize = 1)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "member_id", nullable = false)
+    private Member member;
+
+    @Column(name = "season_year", nullable = false)
+    private int seasonYear;
+
+    @Column(name = "correct_count", nullable = false)
+    private int correctCount;
+
+    @Column(name = "incorrect_count", nullable = false)
+    private int incorrectCount;
+
+    @Column(name = "current_streak", nullable = false)
+    private int currentStreak; // 현재 연속 적중 수
+
+    @Column(name = "best_streak", nullable = false)
+    private int bestStreak;    // 시즌 최다 연속 적중 수
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,34 @@
+package com.example.p1.domain;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 사용했거나(재발급) 로그아웃으로 폐기한 갱신 토큰 ID. 토큰 ID가 기본 키이므로 같은 갱신 토큰은 서버와 관계없이 한 번만 기록할 수 있고,
+ * 재발급은 이 행을 먼저 넣는 쪽만 성공합니다. 토큰 만료 시각(UTC)이 지난 행은 주기적으로 지웁니다.
+ */
+@Entity
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Table(name = "REVOKED_REFRESH_TOKEN", indexes = {
+        @Index(name = "IDX_REVOKED_REFRESH_TOKEN_EXP", columnList = "expires_at")
+})
+public class RevokedRefreshToken {
+
+    @Id
+    @Column(name = "token_id", length = 36)
+    private String tokenId;
+
+    @Column(nullable = false)
+    private String username;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+}
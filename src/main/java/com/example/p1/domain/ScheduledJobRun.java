@@ -0,0 +1,31 @@
+package com.example.p1.domain;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 여러 서버에서 같은 시각에 도는 예약 작업의 실행 기록. 실행 키(작업 이름 + 실행 날짜)가 기본 키이므로
+ * 이 행을 먼저 넣은 서버만 그 회차를 실행하고 나머지 서버는 건너뜁니다. 오래된 행은 작업이 실행될 때 지웁니다.
+ */
+@Entity
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Table(name = "SCHEDULED_JOB_RUN", indexes = {
+        @Index(name = "IDX_SCHEDULED_JOB_RUN_CLAIMED", columnList = "claimed_at")
+})
+public class ScheduledJobRun {
+
+    @Id
+    @Column(name = "run_key", length = 100)
+    private String runKey; // 예: "standings-reconcile:2025-04-01"
+
+    @Column(name = "claimed_at", nullable = false)
+    private LocalDateTime claimedAt;
+}
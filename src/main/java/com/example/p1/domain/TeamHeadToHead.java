@@ -0,0 +1,55 @@
+package com.example.p1.domain;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 시즌별 팀 간 상대 전적. (team 기준으로 opponentTeam을 상대로 한 승/패/무)
+ * 순위 백필 작업에서 경기 결과로부터 계산해 저장합니다.
+ */
+@Entity
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Table(name = "TEAM_HEAD_TO_HEAD", uniqueConstraints = {
+        @UniqueConstraint(columnNames = {"season_year", "team_id", "opponent_team_id"})
+})
+public class TeamHeadToHead {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "team_head_to_head_seq_gen")
+    @SequenceGenerator(name = "team_head_to_head_seq_gen", sequenceName = "TEAM_HEAD_TO_HEAD_SEQ", allocationSize = 1)
+    private Long id;
+
+    @Column(name = "season_year", nullable = false)
+    private int seasonYear;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "team_id", nullable = false)
+    private Team team;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "opponent_team_id", nullable = false)
+    private Team opponentTeam;
+
+    @Column(nullable = false)
+    @Builder.Default
+    private int wins = 0;
+
+    @Column(nullable = false)
+    @Builder.Default
+    private int losses = 0;
+
+    @Column(nullable = false)
+    @Builder.Default
+    private int draws = 0;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
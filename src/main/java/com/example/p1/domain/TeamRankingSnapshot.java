@@ -0,0 +1,57 @@
+package com.example.p1.domain;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * 날짜별 팀 순위 스냅샷. 해당 날짜의 경기까지 반영한 순위표를 팀마다 한 행씩 저장합니다.
+ * 순위 백필 작업에서 경기 결과로부터 계산해 저장합니다.
+ */
+@Entity
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Table(name = "TEAM_RANKING_SNAPSHOT", uniqueConstraints = {
+        @UniqueConstraint(columnNames = {"season_year", "snapshot_date", "team_id"})
+})
+public class TeamRankingSnapshot {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "team_ranking_snapshot_seq_gen")
+    @SequenceGenerator(name = "team_ranking_snapshot_seq_gen", sequenceName = "TEAM_RANKING_SNAPSHOT_SEQ", allocationSize = 1)
+    private Long id;
+
+    @Column(name = "season_year", nullable = false)
+    private int seasonYear;
+
+    @Column(name = "snapshot_date", nullable = false)
+    private LocalDate snapshotDate;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "team_id", nullable = false)
+    private Team team;
+
+    @Column(nullable = false)
+    private int wins;
+
+    @Column(nullable = false)
+    private int losses;
+
+    @Column(nullable = false)
+    private int draws;
+
+    @Column(name = "win_rate", nullable = false)
+    private double winRate;
+
+    @Column(name = "current_rank", nullable = false)
+    private int currentRank;
+
+    @Column(name = "games_behind", nullable = false)
+    private double gamesBehind;
+}
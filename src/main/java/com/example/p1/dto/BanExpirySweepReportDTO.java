@@ -0,0 +1,20 @@
+package com.example.p1.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// 정지 기한 만료 처리 결과
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BanExpirySweepReportDTO {
+    private LocalDateTime cutoff;   // 이 시각(UTC)까지 기한이 지난 정지를 해제
+    private int lifted;             // 이 서버가 해제한 회원 수 (다른 서버가 먼저 해제했으면 0)
+    private int cacheEvicted;       // 로그인 캐시에서 지운 회원 수
+    private long elapsedMs;
+}
@@ -0,0 +1,27 @@
+package com.example.p1.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// 시즌 댓글 보관 결과 (처리 건수, 공간, 보관 전후 조회 시간)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CommentArchiveReportDTO {
+    private int seasonYear;
+    private int archivedGames;
+    private long archivedComments;
+    private long rawBytes;          // 보관한 댓글의 압축 전 JSON 크기
+    private long compressedBytes;   // 보관 테이블에 저장된 크기
+    private long tableBytesBefore;  // GAME_COMMENT 세그먼트 크기 (조회 권한이 없으면 -1)
+    private long tableBytesAfter;   // shrink-table이 꺼져 있으면 삭제만 되고 세그먼트는 그대로일 수 있음
+    private Long probeGameId;       // 조회 시간 측정에 사용한 경기 (댓글이 가장 많은 보관 대상 경기)
+    private double gameQueryMsBefore; // 경기 단건 조회(findById, 댓글 fetch join) 중앙값
+    private double gameQueryMsAfter;
+    private double feedQueryMsBefore; // 댓글 피드 첫 페이지 중앙값 (보관 후에는 보관본에서 제공)
+    private double feedQueryMsAfter;
+    private long totalMs;
+}
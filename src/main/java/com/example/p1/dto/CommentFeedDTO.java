@@ -0,0 +1,19 @@
+package com.example.p1.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+// 커서 기반 댓글 피드 한 페이지 (전체 개수는 제공하지 않음)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CommentFeedDTO {
+    private List<CommentDTO> comments;
+    private String nextCursor; // 다음 페이지 요청 시 그대로 전달. 마지막 페이지면 null
+    private boolean hasNext;
+}
@@ -0,0 +1,23 @@
+package com.example.p1.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// 댓글 금지어 필터 상태
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CommentFilterStatusDTO {
+    private String source;          // 목록 위치 (comment.filter.word-list)
+    private int wordCount;          // 금지어 수
+    private int linkCount;          // 스팸 링크 패턴 수
+    private int allowedWordCount;   // 허용 단어 수 (금지어를 포함하는 합성어)
+    private int automatonNodes;     // 컴파일된 오토마톤 노드 수
+    private LocalDateTime loadedAt;
+    private long blockedComments;   // 서버 시작 이후 차단된 댓글 수
+}
@@ -0,0 +1,20 @@
+package com.example.p1.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// 댓글 일괄 등록 접수 응답. 실제 댓글 ID는 저장 후 실시간 스트림 CREATED 이벤트(provisionalId 일치)로 전달됩니다.
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CommentIngestAckDTO {
+    private String provisionalId;
+    private Long gameId;
+    private LocalDateTime acceptedAt;
+    private int queuedComments; // 접수 시점의 저장 대기 댓글 수
+}
@@ -0,0 +1,28 @@
+package com.example.p1.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+// 댓글 일괄 삭제/숨김 결과 (처리 건수, 영향받은 경기, 걸린 시간)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CommentModerationReportDTO {
+    private String action;          // DELETE 또는 HIDE
+    private String username;        // 적용한 조건 (없으면 null)
+    private Long gameId;
+    private LocalDateTime from;
+    private LocalDateTime to;
+    private long affectedComments;
+    private long predictionComments; // 그중 예측 집계 대상이던 댓글 수
+    private int affectedGames;
+    private int chunks;              // 커밋한 묶음 수
+    private List<Integer> rebuiltSeasons; // 예측 성적을 다시 계산한 시즌
+    private long elapsedMs;
+}
@@ -0,0 +1,21 @@
+package com.example.p1.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+// 관리자 댓글 검색 결과 한 페이지 (최신순)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CommentSearchResultDTO {
+    private List<CommentDTO> comments;
+    private int totalHits;
+    private int page;
+    private int size;
+    private boolean indexReady; // false면 서버 시작 후 색인을 만드는 중이라 결과가 일부일 수 있음
+}
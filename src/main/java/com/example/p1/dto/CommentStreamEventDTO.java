@@ -0,0 +1,22 @@
+package com.example.p1.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// 실시간 댓글 스트림의 개별 변경 (CREATED, UPDATED, DELETED)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CommentStreamEventDTO {
+    public static final String CREATED = "CREATED";
+    public static final String UPDATED = "UPDATED";
+    public static final String DELETED = "DELETED";
+
+    private String type;
+    private Long commentId;
+    private CommentDTO comment; // DELETED인 경우 null
+    private String provisionalId; // 일괄 등록(ingest)으로 접수된 댓글의 접수 ID. 일반 등록은 null
+}
@@ -0,0 +1,21 @@
+package com.example.p1.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+// 실시간 댓글 스트림으로 한 번에 내보내는 묶음. 짧은 시간 동안 쌓인 변경을 합쳐서 보냅니다.
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CommentStreamFrameDTO {
+    private Long gameId;
+    private long sequence;                     // 프레임 순번 (SSE id)
+    private List<CommentStreamEventDTO> events;
+    private Map<String, Long> predictionCounts; // 예측 댓글이 바뀐 경우에만 포함, 아니면 null
+}
@@ -6,6 +6,7 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 
 
 @Data
@@ -29,6 +30,10 @@ public class GameScheduleDTO {
     private List<CommentDTO> comments;
     private List<GameLineupDTO> lineups;
 
+    // Elo 레이팅 기반 경기 전 승리 확률 (종료/취소된 경기는 null)
+    private Double homeWinProbability;
+    private Map<String, Double> winProbabilities; // 팀 이름 -> 승리 확률
+
     // FIX: fromEntity 정적 팩토리 메서드를 서비스 계층으로 이동하여 여기서는 제거합니다.
     // 변환 로직은 GameScheduleServiceImpl에서 담당합니다.
 }
\ No newline at end of file
@@ -0,0 +1,19 @@
+package com.example.p1.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+// 커서 기반 관리자 회원 목록 한 페이지 (전체 개수는 제공하지 않음)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class MemberPageDTO {
+    private List<MemberDTO> members;
+    private String nextCursor; // 다음 페이지 요청 시 같은 조건과 함께 그대로 전달. 마지막 페이지면 null
+    private boolean hasNext;
+}
@@ -0,0 +1,22 @@
+package com.example.p1.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// 관리자 회원 목록/내보내기 조건. null인 조건은 적용하지 않음
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class MemberSearchConditionDTO {
+    private String role;                 // USER, ADMIN
+    private Boolean banned;
+    private LocalDateTime bannedFrom;    // 정지 기한 >= (UTC)
+    private LocalDateTime bannedTo;      // 정지 기한 < (UTC)
+    private String usernamePrefix;
+    private String nicknamePrefix;
+}
@@ -0,0 +1,29 @@
+package com.example.p1.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// 비밀번호 해시 실행기 통계 (서버 시작 이후 누적)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PasswordHashingStatsDTO {
+    private int cost;
+    private int threads;
+    private int activeThreads;
+    private int queueDepth;          // 현재 대기 중인 작업 수
+    private int maxQueueDepth;       // 관측된 최대 대기 수
+    private int queueCapacity;
+    private long encodeCount;
+    private long matchCount;
+    private double avgEncodeMs;      // 대기 + 해시 시간 평균
+    private double avgMatchMs;
+    private double maxLatencyMs;
+    private double avgQueueWaitMs;   // 대기열에서 기다린 시간 평균
+    private long rejected;           // 대기열이 가득 차 거절한 요청 수
+    private long timedOut;           // 제한 시간 안에 끝나지 않아 거절한 요청 수
+    private long rehashed;           // cost 변경으로 로그인 때 다시 해시해 저장한 횟수 (CustomUserDetailsService)
+}
@@ -0,0 +1,20 @@
+package com.example.p1.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+// 시즌 승부 예측 리더보드 (상위 N명 + 요청한 회원의 순위)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PredictionLeaderboardDTO {
+    private int seasonYear;
+    private int totalMembers;                    // 시즌에 예측이 채점된 회원 수
+    private List<PredictionLeaderboardEntryDTO> entries;
+    private PredictionLeaderboardEntryDTO me;    // 로그인한 회원의 성적, 없으면 null
+}
@@ -0,0 +1,21 @@
+package com.example.p1.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PredictionLeaderboardEntryDTO {
+    private int rank;          // 적중/실패 수가 같으면 같은 순위
+    private Long memberId;
+    private String nickname;
+    private int correct;
+    private int incorrect;
+    private double accuracy;   // 적중률 (0~1, 무승부 제외)
+    private int currentStreak;
+    private int bestStreak;
+}
@@ -0,0 +1,35 @@
+package com.example.p1.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+// 전체 시즌 순위 백필 결과 (시즌별 처리 건수와 소요 시간)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class RankingBackfillReportDTO {
+    private int seasonCount;
+    private int totalGames;
+    private long readMs;    // 종료 경기 스트리밍 조회 및 시즌별 분할
+    private long totalMs;
+    private List<SeasonResult> seasons;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class SeasonResult {
+        private int seasonYear;
+        private int games;
+        private int rankingRows;
+        private int headToHeadRows;
+        private int snapshotRows;
+        private long computeMs; // 순위/상대전적/일별 스냅샷 계산 (시즌별 병렬)
+        private long writeMs;   // 배치 upsert
+    }
+}
@@ -0,0 +1,21 @@
+package com.example.p1.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+// 요청 속도 제한 통계 (서버 시작 이후 누적)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class RateLimitStatsDTO {
+    private Map<String, Long> allowedByRule;
+    private Map<String, Long> throttledByRule; // 429로 거절된 요청 수
+    private int trackedKeys;       // 현재 추적 중인 (규칙, 사용자/IP) 버킷 수
+    private int maxKeys;
+    private long overflowRequests; // 버킷 수 한도로 공용 버킷을 사용한 요청 수
+}
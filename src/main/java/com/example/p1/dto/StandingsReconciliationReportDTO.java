@@ -0,0 +1,41 @@
+package com.example.p1.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+// 크롤링 순위와 경기 결과 집계의 정합성 점검 결과
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class StandingsReconciliationReportDTO {
+    private int seasonYear;
+    private LocalDateTime crawledAt;   // 비교에 사용한 순위 크롤링 시각
+    private LocalDateTime checkedAt;
+    private boolean consistent;        // 모든 팀의 승/패/무가 일치하면 true
+    private List<TeamDiff> mismatchedTeams;
+    private List<String> suspectGameKeys;   // 누락되었거나 결과가 잘못되었을 가능성이 높은 경기
+    private List<String> recrawledGameKeys; // 이번 점검에서 다시 크롤링한 경기
+    private int refreshedGames;             // 재크롤링으로 갱신된 경기 수
+    private String skippedReason;           // 비교하지 않고 건너뛴 이유 (비교했으면 null)
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class TeamDiff {
+        private Long teamId;
+        private String teamName;
+        private int crawledWins;
+        private int crawledLosses;
+        private int crawledDraws;
+        private int computedWins;
+        private int computedLosses;
+        private int computedDraws;
+    }
+}
@@ -10,7 +10,7 @@ import java.time.LocalDateTime;
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
-@Builder
+@Builder(toBuilder = true)
 public class TeamRankingDTO {
     private Long id;
     private TeamDTO team; // Team 엔티티 대신 TeamDTO를 사용합니다.
@@ -23,4 +23,16 @@ public class TeamRankingDTO {
     private double gamesBehind;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
+
+    // 최근 흐름 (경기 결과로부터 메모리에서 누적 계산한 값, DB에 저장되지 않음)
+    private int lastTenWins;
+    private int lastTenLosses;
+    private int lastTenDraws;
+    private String streak; // 예: "W3" (3연승), "L2" (2연패)
+    private int homeWins;
+    private int homeLosses;
+    private int homeDraws;
+    private int awayWins;
+    private int awayLosses;
+    private int awayDraws;
 }
\ No newline at end of file
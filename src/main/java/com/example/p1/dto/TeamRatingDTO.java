@@ -0,0 +1,17 @@
+package com.example.p1.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TeamRatingDTO {
+    private Long teamId;
+    private String teamName;
+    private double rating;    // Elo 레이팅 (기본 1500)
+    private int gamesPlayed;  // 레이팅에 반영된 경기 수
+}
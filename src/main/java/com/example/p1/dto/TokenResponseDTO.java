@@ -0,0 +1,22 @@
+package com.example.p1.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// 토큰 로그인/재발급 응답
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TokenResponseDTO {
+    private String tokenType;         // 항상 "Bearer"
+    private String accessToken;
+    private long accessExpiresIn;     // 초
+    private String refreshToken;
+    private long refreshExpiresIn;    // 초
+    private String username;
+    private String nickname;
+    private String role;
+}
@@ -0,0 +1,23 @@
+package com.example.p1.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// 로그인 인증 정보 캐시 통계 (서버 시작 이후 누적)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class UserDetailsCacheStatsDTO {
+    private int size;
+    private int maxSize;
+    private long ttlSeconds;
+    private long hits;
+    private long misses;        // DB에서 읽은 횟수 (없는 회원 포함)
+    private long expirations;   // TTL이 지나 다시 읽은 횟수
+    private long evictions;     // 크기 한도로 밀려난 항목 수
+    private long invalidations; // 회원 정보 변경으로 지운 항목 수
+    private double hitRatio;
+}
@@ -0,0 +1,25 @@
+package com.example.p1.repository;
+
+import com.example.p1.domain.CommentArchive;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface CommentArchiveRepository extends JpaRepository<CommentArchive, Long> {
+
+    Optional<CommentArchive> findByGameId(Long gameId);
+
+    // 보관 여부 판단용 (payload는 읽지 않음). 반환 배열: [gameId, seasonYear]
+    @Query("SELECT a.gameId, a.seasonYear FROM CommentArchive a")
+    List<Object[]> findArchivedGames();
+
+    @Modifying
+    @Query("DELETE FROM CommentArchive a WHERE a.gameId = :gameId")
+    int deleteByGameId(@Param("gameId") Long gameId);
+}
@@ -2,16 +2,26 @@ package com.example.p1.repository;
 
 import com.example.p1.domain.Comment;
 import com.example.p1.domain.CommentType;
+import com.example.p1.domain.GameStatus;
+import com.example.p1.dto.CommentDTO;
+import jakarta.persistence.QueryHint;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
-public interface CommentRepository extends JpaRepository<Comment, Long> {
+public interface CommentRepository extends JpaRepository<Comment, Long>, CommentRepositoryCustom {
 
     // 특정 게임 ID의 댓글을 페이징 처리하여 조회 (최신순 정렬)
     // Pageable 객체를 인자로 받음
@@ -20,7 +30,88 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
     // 예측 댓글 존재 여부 확인 (addComment에서 사용)
     boolean existsByGameIdAndMemberUsernameAndType(Long gameId, String username, CommentType type);
 
-    // 예측 카운트 조회 쿼리 (getPredictionCommentCounts에서 사용)
-    @Query("SELECT c.predictedTeam.id, COUNT(c) FROM Comment c WHERE c.game.id = :gameId AND c.type = :type GROUP BY c.predictedTeam.id")
-    List<Object[]> countPredictionsByGameId(Long gameId, CommentType type);
+    // 예측 댓글 존재 여부 확인 (회원 ID 기준, 댓글 일괄 등록에서 사용)
+    boolean existsByGameIdAndMemberIdAndType(Long gameId, Long memberId, CommentType type);
+
+    // 댓글 수정/삭제용 조회: 작성자와 예측 팀을 함께 읽어 이후 LAZY 로딩이 일어나지 않게 합니다. (경기는 ID만 사용)
+    @Query("SELECT c FROM Comment c JOIN FETCH c.member LEFT JOIN FETCH c.predictedTeam WHERE c.id = :id")
+    Optional<Comment> findByIdForWrite(@Param("id") Long id);
+
+    // 예측 카운트 조회 쿼리 (예측 카운터 초기 적재). [팀 이름, 개수]를 한 번에 읽어 팀을 따로 조회하지 않습니다.
+    @Query("SELECT pt.name, COUNT(c) FROM Comment c JOIN c.predictedTeam pt " +
+            "WHERE c.game.id = :gameId AND c.type = :type AND c.hidden = false GROUP BY pt.name")
+    List<Object[]> countPredictionsByGameId(@Param("gameId") Long gameId, @Param("type") CommentType type);
+
+    // 여러 경기의 예측 카운트를 한 번에 조회 (예측 카운터 정기 보정). [경기 ID, 팀 이름, 개수]
+    @Query("SELECT c.game.id, pt.name, COUNT(c) FROM Comment c JOIN c.predictedTeam pt " +
+            "WHERE c.game.id IN :gameIds AND c.type = :type AND c.hidden = false GROUP BY c.game.id, pt.name")
+    List<Object[]> countPredictionsByGameIds(@Param("gameIds") Collection<Long> gameIds, @Param("type") CommentType type);
+
+    // 댓글 목록 DTO projection: 작성자 닉네임/아이디, 예측 팀 이름까지 한 번의 SELECT로 읽어 LAZY 연관 로딩(N+1)을 없앱니다.
+    String COMMENT_DTO_SELECT = "SELECT new com.example.p1.dto.CommentDTO(" +
+            "c.id, c.game.id, m.username, c.commentText, c.type, pt.name, c.createdAt, c.updatedAt, m.nickname) " +
+            "FROM Comment c JOIN c.member m LEFT JOIN c.predictedTeam pt ";
+
+    // 페이지 번호 방식 댓글 목록 (기존 API 호환용). 숨긴 댓글은 이하 공개 조회에서 모두 제외
+    @Query(value = COMMENT_DTO_SELECT + "WHERE c.game.id = :gameId AND c.hidden = false ORDER BY c.createdAt DESC",
+            countQuery = "SELECT COUNT(c) FROM Comment c WHERE c.game.id = :gameId AND c.hidden = false")
+    Page<CommentDTO> findCommentDTOsByGameId(@Param("gameId") Long gameId, Pageable pageable);
+
+    // ID 목록으로 댓글 DTO 조회 (검색 결과 페이지)
+    @Query(COMMENT_DTO_SELECT + "WHERE c.id IN :ids")
+    List<CommentDTO> findCommentDTOsByIdIn(@Param("ids") Collection<Long> ids);
+
+    // 검색 색인 재구성용 스트리밍 조회. 반환 배열: [id, gameId, username, commentText, createdAt]
+    // Stream을 사용하므로 반드시 트랜잭션 안에서 호출하고 try-with-resources로 닫아야 합니다.
+    @QueryHints(@QueryHint(name = "org.hibernate.fetchSize", value = "1000"))
+    @Query("SELECT c.id, c.game.id, m.username, c.commentText, c.createdAt FROM Comment c JOIN c.member m WHERE c.hidden = false")
+    Stream<Object[]> streamCommentsForSearchIndex();
+
+    // 경기의 전체 댓글 DTO (최신순). 댓글 보관 시 보관본을 만들 때 사용 (숨긴 댓글은 보관하지 않음)
+    @Query(COMMENT_DTO_SELECT + "WHERE c.game.id = :gameId AND c.hidden = false ORDER BY c.createdAt DESC, c.id DESC")
+    List<CommentDTO> findAllCommentDTOsByGameId(@Param("gameId") Long gameId);
+
+    // 기간 내 댓글이 많은 경기 ID (보관 전후 조회 시간 측정 대상 선정)
+    @Query("SELECT c.game.id FROM Comment c WHERE c.game.gameDate >= :start AND c.game.gameDate < :end " +
+            "GROUP BY c.game.id ORDER BY COUNT(c) DESC")
+    List<Long> findBusiestGameIds(@Param("start") LocalDateTime start, @Param("end") LocalDateTime end, Pageable pageable);
+
+    // 예측 성적 재계산용 스트리밍 조회 (경기 날짜순). 반환 배열: [memberId, hit(1/0)]
+    // 경기 종료 시 채점(MERGE)과 같게 회원/경기마다 한 행으로 집계하고, 예측이 여러 개면 하나라도 맞으면 적중. 무승부 경기는 제외
+    // Stream을 사용하므로 반드시 트랜잭션 안에서 호출하고 try-with-resources로 닫아야 합니다.
+    @QueryHints(@QueryHint(name = "org.hibernate.fetchSize", value = "1000"))
+    @Query("SELECT c.member.id, " +
+            "MAX(CASE WHEN c.predictedTeam.id = (CASE WHEN g.homeScore > g.awayScore THEN g.homeTeam.id ELSE g.opponentTeam.id END) " +
+            "THEN 1 ELSE 0 END) " +
+            "FROM Comment c JOIN c.game g " +
+            "WHERE c.type = :type AND c.hidden = false AND c.predictedTeam IS NOT NULL AND g.status = :status " +
+            "AND g.homeScore <> g.awayScore AND g.gameDate >= :start AND g.gameDate < :end " +
+            "GROUP BY c.member.id, g.id, g.gameDate " +
+            "ORDER BY g.gameDate ASC, g.id ASC")
+    Stream<Object[]> streamPredictionResults(@Param("type") CommentType type,
+                                             @Param("status") GameStatus status,
+                                             @Param("start") LocalDateTime start,
+                                             @Param("end") LocalDateTime end);
+
+    // 커서 페이징 첫 페이지 (최신순). 개수 조회 없이 pageable 크기만큼만 읽습니다.
+    @Query(COMMENT_DTO_SELECT + "WHERE c.game.id = :gameId AND c.hidden = false ORDER BY c.createdAt DESC, c.id DESC")
+    List<CommentDTO> findFeedFirstPage(@Param("gameId") Long gameId, Pageable pageable);
+
+    // 커서 페이징 다음 페이지. (createdAt, id)가 커서보다 앞선(더 오래된) 댓글만 인덱스 범위로 읽습니다.
+    @Query(COMMENT_DTO_SELECT + "WHERE c.game.id = :gameId AND c.hidden = false " +
+            "AND (c.createdAt < :createdAt OR (c.createdAt = :createdAt AND c.id < :id)) " +
+            "ORDER BY c.createdAt DESC, c.id DESC")
+    List<CommentDTO> findFeedAfter(@Param("gameId") Long gameId,
+                                @Param("createdAt") LocalDateTime createdAt,
+                                @Param("id") Long id,
+                                Pageable pageable);
+
+    // 일괄 삭제/숨김 (묶음당 한 문장). 영속성 컨텍스트를 거치지 않으므로 별도 트랜잭션에서만 호출
+    @Modifying
+    @Query("DELETE FROM Comment c WHERE c.id IN :ids")
+    int deleteByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Modifying
+    @Query("UPDATE Comment c SET c.hidden = true WHERE c.id IN :ids AND c.hidden = false")
+    int hideByIdIn(@Param("ids") Collection<Long> ids);
 }
\ No newline at end of file
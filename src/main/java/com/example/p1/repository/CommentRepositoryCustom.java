@@ -0,0 +1,20 @@
+package com.example.p1.repository;
+
+import com.example.p1.domain.CommentType;
+import org.springframework.data.domain.Pageable;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 조건 조합에 따라 쿼리를 만드는 댓글 조회.
+ */
+public interface CommentRepositoryCustom {
+
+    // 일괄 관리 대상 댓글 한 묶음 (ID 오름차순 keyset). 조건은 null이면 적용하지 않습니다.
+    // 값이 있는 조건만 WHERE 절에 넣어 (:x IS NULL OR ...) 없이 회원/경기/작성 시각 인덱스 범위로 읽습니다.
+    // 반환 배열: [id, gameId, 예측 집계 대상 여부(PREDICTION + 예측 팀 존재)]
+    List<Object[]> findModerationChunk(Long afterId, Long memberId, Long gameId,
+                                       LocalDateTime from, LocalDateTime to,
+                                       boolean includeHidden, CommentType prediction, Pageable pageable);
+}
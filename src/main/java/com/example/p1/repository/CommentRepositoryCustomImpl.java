@@ -0,0 +1,60 @@
+package com.example.p1.repository;
+
+import com.example.p1.domain.CommentType;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import org.springframework.data.domain.Pageable;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * CommentRepositoryCustom 구현체. 값이 있는 조건만 모아 JPQL을 만들므로 조건 조합마다 실행 계획이 따로 만들어집니다.
+ */
+public class CommentRepositoryCustomImpl implements CommentRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<Object[]> findModerationChunk(Long afterId, Long memberId, Long gameId,
+                                              LocalDateTime from, LocalDateTime to,
+                                              boolean includeHidden, CommentType prediction, Pageable pageable) {
+        List<String> predicates = new ArrayList<>();
+        Map<String, Object> parameters = new LinkedHashMap<>();
+        predicates.add("c.id > :afterId");
+        parameters.put("afterId", afterId);
+        if (memberId != null) {
+            predicates.add("c.member.id = :memberId");
+            parameters.put("memberId", memberId);
+        }
+        if (gameId != null) {
+            predicates.add("c.game.id = :gameId");
+            parameters.put("gameId", gameId);
+        }
+        if (from != null) {
+            predicates.add("c.createdAt >= :from");
+            parameters.put("from", from);
+        }
+        if (to != null) {
+            predicates.add("c.createdAt < :to");
+            parameters.put("to", to);
+        }
+        if (!includeHidden) {
+            predicates.add("c.hidden = false");
+        }
+        parameters.put("prediction", prediction);
+
+        TypedQuery<Object[]> query = entityManager.createQuery(
+                "SELECT c.id, c.game.id, CASE WHEN c.type = :prediction AND c.predictedTeam IS NOT NULL THEN true ELSE false END " +
+                "FROM Comment c WHERE " + String.join(" AND ", predicates) + " ORDER BY c.id ASC", Object[].class);
+        parameters.forEach(query::setParameter);
+        return query.setFirstResult((int) pageable.getOffset())
+                .setMaxResults(pageable.getPageSize())
+                .getResultList();
+    }
+}
@@ -20,6 +20,10 @@ public interface GameLineupRepository extends JpaRepository<GameLineup, Long> {
     @Query("SELECT gl FROM GameLineup gl JOIN FETCH gl.players p WHERE gl.game.id = :gameId")
     List<GameLineup> findAllByGameIdWithPlayers(@Param("gameId") Long gameId);
 
+    // 선수가 없는 라인업도 포함 (라인업 차이 반영용)
+    @Query("SELECT DISTINCT gl FROM GameLineup gl LEFT JOIN FETCH gl.players WHERE gl.game.id = :gameId")
+    List<GameLineup> findAllByGameIdFetchPlayers(@Param("gameId") Long gameId);
+
     // Kept: For cascade deletion from game_schedule (deletes all associated lineups)
     void deleteByGameId(Long gameId);
 }
\ No newline at end of file
@@ -1,14 +1,19 @@
 package com.example.p1.repository;
 
 import com.example.p1.domain.GameSchedule;
+import com.example.p1.domain.GameStatus;
+import jakarta.persistence.QueryHint;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface GameScheduleRepository extends JpaRepository<GameSchedule, Long> {
@@ -34,4 +39,77 @@ public interface GameScheduleRepository extends JpaRepository<GameSchedule, Long
     // 이 메서드는 크롤링된 데이터를 DB에 저장하거나 업데이트할 때 기존 데이터를 확인하는 데 사용됩니다.
     // 여기서는 연관 엔티티를 EAGER 로딩할 필요가 없을 수도 있습니다. (성능상 필요한 경우 FETCH JOIN 추가 고려)
     List<GameSchedule> findByGameDateBetween(LocalDateTime startDate, LocalDateTime endDate);
+
+    // 기간 내 경기 ID (댓글 보관 대상)
+    @Query("SELECT gs.id FROM GameSchedule gs WHERE gs.gameDate >= :start AND gs.gameDate < :end ORDER BY gs.id ASC")
+    List<Long> findIdsByGameDateRange(@Param("start") LocalDateTime start, @Param("end") LocalDateTime end);
+
+    // 기간 내 전체 경기 수 (시즌의 모든 경기가 보관되었는지 확인)
+    @Query("SELECT COUNT(gs) FROM GameSchedule gs WHERE gs.gameDate >= :start AND gs.gameDate < :end")
+    long countByGameDateRange(@Param("start") LocalDateTime start, @Param("end") LocalDateTime end);
+
+    // 기간 내 특정 상태 경기 수 (시즌이 모두 끝났는지 확인)
+    @Query("SELECT COUNT(gs) FROM GameSchedule gs WHERE gs.gameDate >= :start AND gs.gameDate < :end AND gs.status IN :statuses")
+    long countByGameDateRangeAndStatusIn(@Param("start") LocalDateTime start,
+                                         @Param("end") LocalDateTime end,
+                                         @Param("statuses") Collection<GameStatus> statuses);
+
+    // 기준 시각 이전에 경기가 있는 시즌 연도 목록
+    @Query("SELECT DISTINCT YEAR(gs.gameDate) FROM GameSchedule gs WHERE gs.gameDate < :before")
+    List<Integer> findSeasonYearsBefore(@Param("before") LocalDateTime before);
+
+    // 연관 엔티티 없이 경기 날짜와 상태만 조회. 반환 배열: [gameDate, status] (없으면 빈 목록)
+    @Query("SELECT gs.gameDate, gs.status FROM GameSchedule gs WHERE gs.id = :id")
+    List<Object[]> findDateAndStatusById(@Param("id") Long id);
+
+    // 경기 목록 중 특정 상태인 경기의 시즌 연도 (일괄 삭제 후 예측 성적을 다시 계산할 시즌)
+    @Query("SELECT DISTINCT YEAR(gs.gameDate) FROM GameSchedule gs WHERE gs.id IN :ids AND gs.status = :status")
+    List<Integer> findSeasonYearsByIdInAndStatus(@Param("ids") Collection<Long> ids, @Param("status") GameStatus status);
+
+    // 레이팅/통계 재계산용 스트리밍 조회. 엔티티 대신 필요한 컬럼만 읽어 연관 엔티티 로딩 없이 한 번에 훑습니다.
+    // 반환 배열: [id, gameDate, homeTeamId, opponentTeamId, homeScore, awayScore]
+    // Stream을 사용하므로 반드시 트랜잭션 안에서 호출하고 try-with-resources로 닫아야 합니다.
+    @QueryHints(@QueryHint(name = "org.hibernate.fetchSize", value = "500"))
+    @Query("SELECT gs.id, gs.gameDate, gs.homeTeam.id, gs.opponentTeam.id, gs.homeScore, gs.awayScore " +
+            "FROM GameSchedule gs WHERE gs.status = :status ORDER BY gs.gameDate ASC, gs.id ASC")
+    Stream<Object[]> streamGameResultsByStatus(@Param("status") GameStatus status);
+
+    // 경기 결과 변경 감지용 지문. 반환 배열: [경기 수, ID/점수 가중합] (다른 서버에서 종료/삭제/점수 수정된 경기가 있는지 확인)
+    @Query("SELECT COUNT(gs), COALESCE(SUM(gs.id * 1009 + gs.homeScore * 31 + gs.awayScore), 0) " +
+            "FROM GameSchedule gs WHERE gs.status = :status")
+    List<Object[]> findResultFingerprint(@Param("status") GameStatus status);
+
+    // 순위 정합성 점검용 집계. 기간 내 특정 상태 경기의 홈 팀 기준 [teamId, 승, 패, 무]
+    @Query("SELECT gs.homeTeam.id, " +
+            "SUM(CASE WHEN gs.homeScore > gs.awayScore THEN 1 ELSE 0 END), " +
+            "SUM(CASE WHEN gs.homeScore < gs.awayScore THEN 1 ELSE 0 END), " +
+            "SUM(CASE WHEN gs.homeScore = gs.awayScore THEN 1 ELSE 0 END) " +
+            "FROM GameSchedule gs WHERE gs.status = :status AND gs.gameDate >= :start AND gs.gameDate < :end " +
+            "GROUP BY gs.homeTeam.id")
+    List<Object[]> aggregateHomeRecords(@Param("status") GameStatus status,
+                                        @Param("start") LocalDateTime start,
+                                        @Param("end") LocalDateTime end);
+
+    // 순위 정합성 점검용 집계. 기간 내 특정 상태 경기의 원정 팀 기준 [teamId, 승, 패, 무]
+    @Query("SELECT gs.opponentTeam.id, " +
+            "SUM(CASE WHEN gs.awayScore > gs.homeScore THEN 1 ELSE 0 END), " +
+            "SUM(CASE WHEN gs.awayScore < gs.homeScore THEN 1 ELSE 0 END), " +
+            "SUM(CASE WHEN gs.awayScore = gs.homeScore THEN 1 ELSE 0 END) " +
+            "FROM GameSchedule gs WHERE gs.status = :status AND gs.gameDate >= :start AND gs.gameDate < :end " +
+            "GROUP BY gs.opponentTeam.id")
+    List<Object[]> aggregateAwayRecords(@Param("status") GameStatus status,
+                                        @Param("start") LocalDateTime start,
+                                        @Param("end") LocalDateTime end);
+
+    // 기간 내에서 두 팀 모두 주어진 팀 목록에 속한 경기. 정합성 점검에서 의심 경기를 찾을 때만 사용합니다.
+    @Query("SELECT gs FROM GameSchedule gs " +
+            "JOIN FETCH gs.homeTeam ht " +
+            "JOIN FETCH gs.opponentTeam ot " +
+            "WHERE ht.id IN :teamIds AND ot.id IN :teamIds AND gs.gameDate >= :start AND gs.gameDate < :end " +
+            "ORDER BY gs.gameDate DESC")
+    List<GameSchedule> findGamesBetweenTeams(@Param("teamIds") Collection<Long> teamIds,
+                                             @Param("start") LocalDateTime start,
+                                             @Param("end") LocalDateTime end);
+
+    List<GameSchedule> findByGameKeyIn(Collection<String> gameKeys);
 }
\ No newline at end of file
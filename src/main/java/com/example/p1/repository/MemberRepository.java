@@ -1,12 +1,70 @@
 package com.example.p1.repository;
 
 import com.example.p1.domain.Member;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional; // Optional
 
-public interface MemberRepository extends JpaRepository<Member, Long> {
+// 관리자 회원 목록/내보내기는 조건 조합에 따라 쿼리를 만드는 MemberRepositoryCustom에 있음
+public interface MemberRepository extends JpaRepository<Member, Long>, MemberRepositoryCustom {
+
     Optional<Member> findByUsername(String username);
     Optional<Member> findByNickname(String nickname); // 닉네임 중복 확인
     Optional<Member> findByEmail(String email);       // 이메일 중복 확인
     Optional<Member> findByPhoneNumber(String phoneNumber); // 휴대전화번호 중복 확인//
+    boolean existsByUsername(String username);
+    boolean existsByEmail(String email);
+
+    // 아이디/닉네임/이메일/휴대전화번호 중복을 한 번에 확인. null인 값은 비교하지 않음 (excludeId: 수정 중인 본인)
+    // 반환 배열: [아이디, 닉네임, 이메일, 휴대전화번호]
+    @Query("SELECT m.username, m.nickname, m.email, m.phoneNumber FROM Member m " +
+            "WHERE m.id <> :excludeId " +
+            "AND (m.username = :username OR m.nickname = :nickname OR m.email = :email OR m.phoneNumber = :phoneNumber)")
+    List<Object[]> findIdentifierConflicts(@Param("excludeId") Long excludeId,
+                                           @Param("username") String username,
+                                           @Param("nickname") String nickname,
+                                           @Param("email") String email,
+                                           @Param("phoneNumber") String phoneNumber);
+
+    // 중복 확인 필터(MemberAvailabilityFilter) 생성용 키셋 조회. 반환 배열: [ID, 아이디, 닉네임, 이메일, 휴대전화번호]
+    @Query("SELECT m.id, m.username, m.nickname, m.email, m.phoneNumber FROM Member m WHERE m.id > :afterId ORDER BY m.id")
+    List<Object[]> findIdentifiersAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    // 중복 확인 필터의 변경분 동기화용 키셋 조회 (수정 시각, ID 순). 반환 배열: [ID, 닉네임, 이메일, 휴대전화번호, 수정 시각]
+    @Query("SELECT m.id, m.nickname, m.email, m.phoneNumber, m.updatedAt FROM Member m " +
+            "WHERE m.updatedAt > :since OR (m.updatedAt = :since AND m.id > :afterId) ORDER BY m.updatedAt, m.id")
+    List<Object[]> findIdentifiersUpdatedAfter(@Param("since") LocalDateTime since, @Param("afterId") Long afterId, Pageable pageable);
+
+    // 회원 엔티티 없이 [ID, 닉네임, 역할]만 조회 (댓글 쓰기 경로의 회원 캐시용)
+    @Query("SELECT m.id, m.nickname, m.role FROM Member m WHERE m.username = :username")
+    List<Object[]> findCommentAuthorByUsername(@Param("username") String username);
+
+    // 로그인 인증 정보 캐시용. 반환 배열: [ID, 비밀번호 해시, 닉네임, 역할, 정지 여부, 정지 기한]
+    @Query("SELECT m.id, m.password, m.nickname, m.role, m.banned, m.bannedUntil FROM Member m WHERE m.username = :username")
+    List<Object[]> findUserDetailsByUsername(@Param("username") String username);
+
+    // 로그인 때 새 cost로 다시 만든 비밀번호 해시 저장
+    @Modifying
+    @Query("UPDATE Member m SET m.password = :password WHERE m.username = :username")
+    int updatePassword(@Param("username") String username, @Param("password") String password);
+
+    // 정지 기한이 지난 회원 아이디 (해제 후 로그인 캐시 무효화용, IDX_MEMBER_BAN_EXPIRY 범위 조회)
+    @Query("SELECT m.username FROM Member m WHERE m.banned = true AND m.bannedUntil <= :now")
+    List<String> findUsernamesWithExpiredBan(@Param("now") LocalDateTime now);
+
+    // 정지 기한이 지난 회원을 한 번에 해제. 조건을 다시 확인하므로 여러 서버가 동시에 실행해도 한 번만 해제되고,
+    // 그 사이 관리자가 기한을 늘렸거나 영구 정지(기한 null)로 바꾼 회원은 해제하지 않습니다.
+    @Modifying
+    @Query("UPDATE Member m SET m.banned = false, m.bannedUntil = null WHERE m.banned = true AND m.bannedUntil <= :now")
+    int liftExpiredBans(@Param("now") LocalDateTime now);
+
+    // 기준 시각 이후 토큰을 폐기한 회원. 반환 배열: [아이디, 폐기 시각]
+    @Query("SELECT m.username, m.tokensRevokedAt FROM Member m WHERE m.tokensRevokedAt >= :since")
+    List<Object[]> findTokenRevocationsSince(@Param("since") LocalDateTime since);
 }
\ No newline at end of file
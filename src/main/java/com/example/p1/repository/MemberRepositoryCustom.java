@@ -0,0 +1,37 @@
+package com.example.p1.repository;
+
+import com.example.p1.domain.Member;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * 관리자 회원 목록/내보내기 조회. 조건은 null이면 적용하지 않으며, 값이 있는 조건만 WHERE 절에 넣어
+ * (:x IS NULL OR ...) 형태 없이 IDX_MEMBER_ROLE_BANNED, IDX_MEMBER_BAN_EXPIRY 등의 인덱스 범위 조회가 되도록 합니다.
+ * 접두어는 LIKE 패턴으로 '!'를 escape 문자로 사용합니다.
+ */
+public interface MemberRepositoryCustom {
+
+    // 관리자 회원 목록 (ID 오름차순 keyset). 접두어 조건이 없을 때 사용 (afterId가 null이면 첫 페이지)
+    List<Member> findAdminPageAfterId(Long afterId, Member.Role role, Boolean banned,
+                                      LocalDateTime bannedFrom, LocalDateTime bannedTo,
+                                      String usernamePrefix, String nicknamePrefix, int limit);
+
+    // 관리자 회원 목록 (아이디순 keyset). 아이디 접두어 검색 시 USERNAME 유일 인덱스 범위만 읽도록 사용
+    List<Member> findAdminPageAfterUsername(String afterUsername, Member.Role role, Boolean banned,
+                                            LocalDateTime bannedFrom, LocalDateTime bannedTo,
+                                            String usernamePrefix, String nicknamePrefix, int limit);
+
+    // 관리자 회원 목록 (닉네임순 keyset). 닉네임 접두어 검색 시 NICKNAME 유일 인덱스 범위만 읽도록 사용
+    List<Member> findAdminPageAfterNickname(String afterNickname, Member.Role role, Boolean banned,
+                                            LocalDateTime bannedFrom, LocalDateTime bannedTo,
+                                            String usernamePrefix, String nicknamePrefix, int limit);
+
+    // 관리자 CSV 내보내기용 스트리밍 조회 (엔티티를 만들지 않아 영속성 컨텍스트에 쌓이지 않음)
+    // 반환 배열: [ID, 아이디, 이름, 닉네임, 이메일, 휴대전화번호, 역할, 정지 여부, 정지 기한]
+    // Stream을 사용하므로 반드시 트랜잭션 안에서 호출하고 try-with-resources로 닫아야 합니다.
+    Stream<Object[]> streamForAdminExport(Member.Role role, Boolean banned,
+                                          LocalDateTime bannedFrom, LocalDateTime bannedTo,
+                                          String usernamePrefix, String nicknamePrefix);
+}
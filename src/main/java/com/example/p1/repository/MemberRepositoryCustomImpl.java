@@ -0,0 +1,102 @@
+package com.example.p1.repository;
+
+import com.example.p1.domain.Member;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * MemberRepositoryCustom 구현체. 값이 있는 조건만 모아 JPQL을 만듭니다.
+ * 조건 조합마다 SQL 문이 달라지므로 실행 계획도 조합별로 따로 만들어집니다.
+ */
+public class MemberRepositoryCustomImpl implements MemberRepositoryCustom {
+
+    private static final String EXPORT_SELECT =
+            "SELECT m.id, m.username, m.name, m.nickname, m.email, m.phoneNumber, m.role, m.banned, m.bannedUntil FROM Member m";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<Member> findAdminPageAfterId(Long afterId, Member.Role role, Boolean banned,
+                                             LocalDateTime bannedFrom, LocalDateTime bannedTo,
+                                             String usernamePrefix, String nicknamePrefix, int limit) {
+        Filter filter = new Filter(role, banned, bannedFrom, bannedTo, usernamePrefix, nicknamePrefix);
+        return findAdminPage("m.id", afterId, filter, limit);
+    }
+
+    @Override
+    public List<Member> findAdminPageAfterUsername(String afterUsername, Member.Role role, Boolean banned,
+                                                   LocalDateTime bannedFrom, LocalDateTime bannedTo,
+                                                   String usernamePrefix, String nicknamePrefix, int limit) {
+        Filter filter = new Filter(role, banned, bannedFrom, bannedTo, usernamePrefix, nicknamePrefix);
+        return findAdminPage("m.username", afterUsername, filter, limit);
+    }
+
+    @Override
+    public List<Member> findAdminPageAfterNickname(String afterNickname, Member.Role role, Boolean banned,
+                                                   LocalDateTime bannedFrom, LocalDateTime bannedTo,
+                                                   String usernamePrefix, String nicknamePrefix, int limit) {
+        Filter filter = new Filter(role, banned, bannedFrom, bannedTo, usernamePrefix, nicknamePrefix);
+        return findAdminPage("m.nickname", afterNickname, filter, limit);
+    }
+
+    @Override
+    public Stream<Object[]> streamForAdminExport(Member.Role role, Boolean banned,
+                                                 LocalDateTime bannedFrom, LocalDateTime bannedTo,
+                                                 String usernamePrefix, String nicknamePrefix) {
+        Filter filter = new Filter(role, banned, bannedFrom, bannedTo, usernamePrefix, nicknamePrefix);
+        TypedQuery<Object[]> query = entityManager.createQuery(
+                EXPORT_SELECT + filter.where() + " ORDER BY m.id ASC", Object[].class);
+        query.setHint("org.hibernate.fetchSize", 1000);
+        filter.parameters.forEach(query::setParameter);
+        return query.getResultStream();
+    }
+
+    // keyPath 오름차순 keyset 페이지. after가 null이면 첫 페이지
+    private List<Member> findAdminPage(String keyPath, Object after, Filter filter, int limit) {
+        if (after != null) {
+            filter.add(keyPath + " > :after", "after", after);
+        }
+        TypedQuery<Member> query = entityManager.createQuery(
+                "SELECT m FROM Member m" + filter.where() + " ORDER BY " + keyPath + " ASC", Member.class);
+        filter.parameters.forEach(query::setParameter);
+        return query.setMaxResults(limit).getResultList();
+    }
+
+    /**
+     * 값이 있는 조건의 JPQL 조각과 파라미터.
+     */
+    private static final class Filter {
+        private final List<String> predicates = new ArrayList<>();
+        private final Map<String, Object> parameters = new LinkedHashMap<>();
+
+        Filter(Member.Role role, Boolean banned, LocalDateTime bannedFrom, LocalDateTime bannedTo,
+               String usernamePrefix, String nicknamePrefix) {
+            add("m.role = :role", "role", role);
+            add("m.banned = :banned", "banned", banned);
+            add("m.bannedUntil >= :bannedFrom", "bannedFrom", bannedFrom);
+            add("m.bannedUntil < :bannedTo", "bannedTo", bannedTo);
+            add("m.username LIKE :usernamePrefix ESCAPE '!'", "usernamePrefix", usernamePrefix);
+            add("m.nickname LIKE :nicknamePrefix ESCAPE '!'", "nicknamePrefix", nicknamePrefix);
+        }
+
+        void add(String predicate, String name, Object value) {
+            if (value != null) {
+                predicates.add(predicate);
+                parameters.put(name, value);
+            }
+        }
+
+        String where() {
+            return predicates.isEmpty() ? "" : " WHERE " + String.join(" AND ", predicates);
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.example.p1.repository;
+
+import com.example.p1.domain.PredictionScore;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface PredictionScoreRepository extends JpaRepository<PredictionScore, Long> {
+
+    // 시즌 리더보드 순서 그대로의 projection. 반환 배열: [memberId, nickname, 적중, 실패, 현재 연속 적중, 최다 연속 적중]
+    @Query("SELECT m.id, m.nickname, s.correctCount, s.incorrectCount, s.currentStreak, s.bestStreak " +
+            "FROM PredictionScore s JOIN s.member m WHERE s.seasonYear = :seasonYear " +
+            "ORDER BY s.correctCount DESC, s.incorrectCount ASC, s.bestStreak DESC, m.id ASC")
+    List<Object[]> findLeaderboardRows(@Param("seasonYear") int seasonYear);
+}
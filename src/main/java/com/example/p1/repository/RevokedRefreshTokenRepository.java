@@ -0,0 +1,27 @@
+package com.example.p1.repository;
+
+import com.example.p1.domain.RevokedRefreshToken;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+@Repository
+public interface RevokedRefreshTokenRepository extends JpaRepository<RevokedRefreshToken, String> {
+
+    // save()는 이미 있는 ID면 UPDATE로 바뀌므로 INSERT만 합니다. 이미 폐기된 토큰이면 기본 키 위반(DataIntegrityViolationException)
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT INTO REVOKED_REFRESH_TOKEN (token_id, username, expires_at) VALUES (:tokenId, :username, :expiresAt)",
+            nativeQuery = true)
+    int insert(@Param("tokenId") String tokenId, @Param("username") String username, @Param("expiresAt") LocalDateTime expiresAt);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM RevokedRefreshToken t WHERE t.expiresAt < :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
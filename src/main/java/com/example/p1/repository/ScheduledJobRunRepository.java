@@ -0,0 +1,26 @@
+package com.example.p1.repository;
+
+import com.example.p1.domain.ScheduledJobRun;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+@Repository
+public interface ScheduledJobRunRepository extends JpaRepository<ScheduledJobRun, String> {
+
+    // save()는 이미 있는 키면 UPDATE로 바뀌므로 INSERT만 합니다. 다른 서버가 먼저 실행했으면 기본 키 위반(DataIntegrityViolationException)
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT INTO SCHEDULED_JOB_RUN (run_key, claimed_at) VALUES (:runKey, :claimedAt)", nativeQuery = true)
+    int insert(@Param("runKey") String runKey, @Param("claimedAt") LocalDateTime claimedAt);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM ScheduledJobRun r WHERE r.claimedAt < :before")
+    int deleteClaimedBefore(@Param("before") LocalDateTime before);
+}
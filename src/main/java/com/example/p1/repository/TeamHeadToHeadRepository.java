@@ -0,0 +1,14 @@
+package com.example.p1.repository;
+
+import com.example.p1.domain.TeamHeadToHead;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface TeamHeadToHeadRepository extends JpaRepository<TeamHeadToHead, Long> {
+
+    // 특정 시즌, 특정 팀의 상대 전적 전체
+    List<TeamHeadToHead> findBySeasonYearAndTeamId(int seasonYear, Long teamId);
+}
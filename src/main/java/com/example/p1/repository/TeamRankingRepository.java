@@ -3,6 +3,8 @@ package com.example.p1.repository;
 import com.example.p1.domain.TeamRanking;
 import com.example.p1.domain.Team;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -38,4 +40,19 @@ public interface TeamRankingRepository extends JpaRepository<TeamRanking, Long>
      * @return 존재하면 true, 아니면 false
      */
     boolean existsByTeamIdAndSeasonYear(Long teamId, int seasonYear);
+
+    /**
+     * 특정 시즌의 팀 순위 정보를 팀과 함께 한 번에 조회합니다. (순위 스냅샷 적재용, N+1 방지)
+     * @param seasonYear 조회할 시즌 연도
+     * @return 현재 순위 오름차순으로 정렬된 TeamRanking 리스트
+     */
+    @Query("SELECT tr FROM TeamRanking tr JOIN FETCH tr.team WHERE tr.seasonYear = :seasonYear ORDER BY tr.currentRank ASC")
+    List<TeamRanking> findBySeasonYearWithTeam(@Param("seasonYear") int seasonYear);
+
+    /**
+     * 모든 시즌의 팀 순위 정보를 팀과 함께 한 번에 조회합니다. (애플리케이션 시작 시 스냅샷 적재용)
+     * @return 시즌, 현재 순위 오름차순으로 정렬된 TeamRanking 리스트
+     */
+    @Query("SELECT tr FROM TeamRanking tr JOIN FETCH tr.team ORDER BY tr.seasonYear ASC, tr.currentRank ASC")
+    List<TeamRanking> findAllWithTeam();
 }
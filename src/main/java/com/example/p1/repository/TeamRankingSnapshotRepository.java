@@ -0,0 +1,18 @@
+package com.example.p1.repository;
+
+import com.example.p1.domain.TeamRankingSnapshot;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface TeamRankingSnapshotRepository extends JpaRepository<TeamRankingSnapshot, Long> {
+
+    // 특정 날짜 기준 순위표 (순위 오름차순)
+    List<TeamRankingSnapshot> findBySeasonYearAndSnapshotDateOrderByCurrentRankAsc(int seasonYear, LocalDate snapshotDate);
+
+    // 특정 팀의 시즌 중 순위 변화
+    List<TeamRankingSnapshot> findBySeasonYearAndTeamIdOrderBySnapshotDateAsc(int seasonYear, Long teamId);
+}
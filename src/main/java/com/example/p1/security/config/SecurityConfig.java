@@ -3,6 +3,7 @@ package com.example.p1.security.config;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod; // HttpMethod 임포트 추가
 import org.springframework.http.HttpStatus;
 import org.springframework.security.config.Customizer;
@@ -11,9 +12,9 @@ import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.core.GrantedAuthority;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.access.intercept.AuthorizationFilter;
+import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import org.springframework.security.web.authentication.HttpStatusEntryPoint;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
@@ -24,18 +25,33 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
-import com.example.p1.repository.MemberRepository;
-import com.example.p1.domain.Member; // Member 클래스 임포트 추가
+import com.example.p1.security.password.BoundedPasswordEncoder;
+import com.example.p1.security.password.PasswordHashingBusyException;
+import com.example.p1.security.password.PasswordHashingProperties;
+import com.example.p1.security.ratelimit.RateLimitFilter;
+import com.example.p1.security.ratelimit.RateLimitProperties;
+import com.example.p1.security.ratelimit.RateLimiter;
+import com.example.p1.security.token.TokenAuthenticationFilter;
+import com.example.p1.security.token.TokenProperties;
+import com.example.p1.security.token.TokenService;
+import com.example.p1.service.MemberUserDetails;
 
 @Configuration
 @EnableWebSecurity
 @EnableMethodSecurity(prePostEnabled = true)
 public class SecurityConfig {
 
-    private final MemberRepository memberRepository;
-
-    public SecurityConfig(MemberRepository memberRepository) {
-        this.memberRepository = memberRepository;
+    private final RateLimiter rateLimiter;
+    private final RateLimitProperties rateLimitProperties;
+    private final TokenService tokenService;
+    private final TokenProperties tokenProperties;
+
+    public SecurityConfig(RateLimiter rateLimiter, RateLimitProperties rateLimitProperties,
+                          TokenService tokenService, TokenProperties tokenProperties) {
+        this.rateLimiter = rateLimiter;
+        this.rateLimitProperties = rateLimitProperties;
+        this.tokenService = tokenService;
+        this.tokenProperties = tokenProperties;
     }
 
     @Bean
@@ -49,7 +65,10 @@ public class SecurityConfig {
                                 "/api/auth/register",
                                 "/api/auth/status",
                                 "/api/auth/check-username",
-                                "/api/auth/check-email"
+                                "/api/auth/check-email",
+                                "/api/auth/token",
+                                "/api/auth/token/refresh",
+                                "/api/auth/token/revoke"
                         ).permitAll()
                         // 경기 관련 API (조회는 permitAll)
                         .requestMatchers("/api/games").permitAll()
@@ -76,6 +95,14 @@ public class SecurityConfig {
                         // /api/rankings/calculate는 이미 @PreAuthorize로 ADMIN만 허용되어 있지만, 여기서도 명시적으로 설정
                         .requestMatchers(HttpMethod.POST, "/api/rankings/calculate").hasRole("ADMIN")
 
+                        // 팀 레이팅 API: 조회는 모두 허용, 재계산은 ADMIN만
+                        .requestMatchers(HttpMethod.GET, "/api/ratings").permitAll()
+                        .requestMatchers(HttpMethod.POST, "/api/ratings/rebuild").hasRole("ADMIN")
+
+                        // 예측 리더보드 API: 조회는 모두 허용(로그인 시 본인 순위 포함), 재계산은 ADMIN만
+                        .requestMatchers(HttpMethod.GET, "/api/predictions/leaderboard").permitAll()
+                        .requestMatchers(HttpMethod.POST, "/api/predictions/leaderboard/rebuild").hasRole("ADMIN")
+
 
                         // All other requests must be authenticated
                         .anyRequest().authenticated()
@@ -101,15 +128,25 @@ public class SecurityConfig {
 
                             responseBody.put("role", role);
 
-                            memberRepository.findByUsername(authentication.getName()).ifPresent(member -> {
+                            // 닉네임은 인증할 때 읽은 회원 정보(CustomUserDetailsService 캐시)에서 꺼냄
+                            if (authentication.getPrincipal() instanceof MemberUserDetails member) {
                                 responseBody.put("nickname", member.getNickname());
-                            });
+                            }
 
                             ObjectMapper objectMapper = new ObjectMapper();
                             response.getWriter().write(objectMapper.writeValueAsString(responseBody));
                             response.getWriter().flush();
                         })
                         .failureHandler((request, response, exception) -> {
+                            if (exception instanceof PasswordHashingBusyException) {
+                                // 비밀번호 확인 대기열이 가득 참: 인증 실패가 아니라 과부하로 응답
+                                response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+                                response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+                                response.setContentType("application/json;charset=UTF-8");
+                                response.getWriter().write("{\"message\": \"Login is busy. Please retry shortly.\"}");
+                                response.getWriter().flush();
+                                return;
+                            }
                             response.setStatus(HttpStatus.UNAUTHORIZED.value());
                             response.setContentType("application/json;charset=UTF-8");
                             response.getWriter().write("{\"message\": \"Login failed: " + exception.getMessage() + "\"}");
@@ -138,12 +175,20 @@ public class SecurityConfig {
                             response.getWriter().flush();
                         })
                 );
+        // 토큰 인증: Bearer 토큰이 있는 요청은 세션 없이 토큰으로 인증 (없으면 기존 세션 로그인 사용)
+        if (tokenProperties.isEnabled()) {
+            http.addFilterBefore(new TokenAuthenticationFilter(tokenService), UsernamePasswordAuthenticationFilter.class);
+        }
+        // 댓글/예측 쓰기 요청 속도 제한: 인증/인가가 끝난 뒤 사용자와 IP 기준으로 적용
+        http.addFilterAfter(new RateLimitFilter(rateLimiter, rateLimitProperties), AuthorizationFilter.class);
         return http.build();
     }
 
+    // static: TokenService가 이 설정 클래스 생성 전에 PasswordEncoder를 주입받을 수 있도록 (순환 참조 방지)
+    // BCrypt는 전용 스레드 풀에서 실행 (요청 스레드가 해시 CPU 작업에 묶이지 않도록, 대기열이 차면 거절)
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public static BoundedPasswordEncoder passwordEncoder(PasswordHashingProperties properties) {
+        return new BoundedPasswordEncoder(properties);
     }
 
     @Bean
@@ -153,6 +198,7 @@ public class SecurityConfig {
         configuration.setAllowedOrigins(List.of("http://localhost:3000"));
         configuration.setAllowedMethods(Arrays.asList("GET", "POST", "PUT", "DELETE", "OPTIONS"));
         configuration.setAllowedHeaders(Arrays.asList("*"));
+        configuration.setExposedHeaders(List.of("X-Next-Cursor")); // 관리자 회원 목록의 다음 페이지 커서
         configuration.setAllowCredentials(true);
         configuration.setMaxAge(3600L);
 
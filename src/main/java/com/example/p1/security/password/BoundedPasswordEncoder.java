@@ -0,0 +1,160 @@
+package com.example.p1.security.password;
+
+import com.example.p1.dto.PasswordHashingStatsDTO;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * BCrypt 해시/비교를 전용 스레드 풀에서 실행하는 PasswordEncoder.
+ * 로그인이 몰려도 BCrypt가 쓰는 CPU는 스레드 수만큼으로 묶이고, 대기열(queue-capacity)이 가득 차면 기다리지 않고
+ * PasswordHashingBusyException으로 바로 거절해 경기 페이지를 처리할 Tomcat 스레드가 해시를 기다리며 묶이지 않게 합니다.
+ * upgradeEncoding은 저장된 해시의 cost가 설정과 다르면(올리든 내리든) true를 반환해 로그인 때 다시 해시하도록 합니다.
+ */
+public class BoundedPasswordEncoder implements PasswordEncoder {
+
+    private static final Logger log = LoggerFactory.getLogger(BoundedPasswordEncoder.class);
+
+    private static final Pattern BCRYPT_PATTERN = Pattern.compile("\\A\\$2([ayb])?\\$(\\d\\d)\\$[./0-9A-Za-z]{53}");
+
+    private final BCryptPasswordEncoder delegate;
+    private final ThreadPoolExecutor executor;
+    private final int cost;
+    private final int queueCapacity;
+    private final long maxWaitNanos;
+
+    private final LongAdder encodeCount = new LongAdder();
+    private final LongAdder encodeNanos = new LongAdder();
+    private final LongAdder matchCount = new LongAdder();
+    private final LongAdder matchNanos = new LongAdder();
+    private final LongAdder queueWaitNanos = new LongAdder();
+    private final AtomicLong maxLatencyNanos = new AtomicLong();
+    private final AtomicInteger maxQueueDepth = new AtomicInteger();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder timedOut = new LongAdder();
+
+    public BoundedPasswordEncoder(PasswordHashingProperties properties) {
+        this.cost = properties.getCost();
+        this.delegate = new BCryptPasswordEncoder(cost);
+        int threads = properties.getThreads() > 0 ? properties.getThreads() : Runtime.getRuntime().availableProcessors();
+        this.queueCapacity = Math.max(1, properties.getQueueCapacity());
+        this.maxWaitNanos = TimeUnit.MILLISECONDS.toNanos(properties.getMaxWaitMs());
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hash-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return submit(() -> delegate.encode(rawPassword), encodeCount, encodeNanos);
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        if (rawPassword == null || encodedPassword == null || encodedPassword.isEmpty()) {
+            return false;
+        }
+        return submit(() -> delegate.matches(rawPassword, encodedPassword), matchCount, matchNanos);
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        if (encodedPassword == null) {
+            return false;
+        }
+        Matcher matcher = BCRYPT_PATTERN.matcher(encodedPassword);
+        return matcher.find() && Integer.parseInt(matcher.group(2)) != cost;
+    }
+
+    public PasswordHashingStatsDTO getStats() {
+        long encodes = encodeCount.sum();
+        long matches = matchCount.sum();
+        long total = encodes + matches;
+        return PasswordHashingStatsDTO.builder()
+                .cost(cost)
+                .threads(executor.getMaximumPoolSize())
+                .activeThreads(executor.getActiveCount())
+                .queueDepth(executor.getQueue().size())
+                .maxQueueDepth(maxQueueDepth.get())
+                .queueCapacity(queueCapacity)
+                .encodeCount(encodes)
+                .matchCount(matches)
+                .avgEncodeMs(encodes == 0 ? 0 : encodeNanos.sum() / 1e6 / encodes)
+                .avgMatchMs(matches == 0 ? 0 : matchNanos.sum() / 1e6 / matches)
+                .maxLatencyMs(maxLatencyNanos.get() / 1e6)
+                .avgQueueWaitMs(total == 0 ? 0 : queueWaitNanos.sum() / 1e6 / total)
+                .rejected(rejected.sum())
+                .timedOut(timedOut.sum())
+                .build();
+    }
+
+    /**
+     * 스프링 컨텍스트 종료 시 호출됩니다. (@Bean destroy 메서드 추론)
+     */
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private <T> T submit(Callable<T> work, LongAdder count, LongAdder nanos) {
+        long submitted = System.nanoTime();
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                queueWaitNanos.add(System.nanoTime() - submitted);
+                return work.call();
+            });
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            log.warn("Password hashing queue is full ({} waiting); rejecting request.", queueCapacity);
+            throw new PasswordHashingBusyException("요청이 많아 잠시 후 다시 시도해 주세요.");
+        }
+        maxQueueDepth.accumulateAndGet(executor.getQueue().size(), Math::max);
+
+        try {
+            T result = future.get(maxWaitNanos, TimeUnit.NANOSECONDS);
+            long elapsed = System.nanoTime() - submitted;
+            count.increment();
+            nanos.add(elapsed);
+            maxLatencyNanos.accumulateAndGet(elapsed, Math::max);
+            return result;
+        } catch (TimeoutException e) {
+            future.cancel(false); // 아직 대기열에 있으면 실행하지 않음
+            timedOut.increment();
+            throw new PasswordHashingBusyException("요청이 많아 잠시 후 다시 시도해 주세요.");
+        } catch (InterruptedException e) {
+            future.cancel(false);
+            Thread.currentThread().interrupt();
+            throw new PasswordHashingBusyException("비밀번호 확인이 중단되었습니다.");
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException(cause);
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package com.example.p1.security.password;
+
+import org.springframework.security.authentication.AuthenticationServiceException;
+
+/**
+ * 비밀번호 해시 대기열이 가득 찼거나 제한 시간 안에 끝나지 않아 요청을 거절한 경우.
+ * 로그인 중에 발생하면 인증 실패 처리기로 전달되도록 AuthenticationServiceException을 상속합니다. (503으로 응답)
+ */
+public class PasswordHashingBusyException extends AuthenticationServiceException {
+
+    public PasswordHashingBusyException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,21 @@
+package com.example.p1.security.password;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 비밀번호 해시 설정 (application.properties의 password.hashing.*).
+ */
+@Component
+@ConfigurationProperties(prefix = "password.hashing")
+@Getter
+@Setter
+public class PasswordHashingProperties {
+
+    private int cost = 10;             // BCrypt cost (4~31). 바꾸면 다음 로그인 때 새 cost로 다시 해시해 저장
+    private int threads = 0;           // 해시 전용 스레드 수. 0이면 CPU 코어 수
+    private int queueCapacity = 64;    // 대기열 크기. 가득 차면 기다리지 않고 바로 거절
+    private long maxWaitMs = 3_000;    // 요청 스레드가 결과를 기다리는 최대 시간 (대기열 대기 포함)
+}
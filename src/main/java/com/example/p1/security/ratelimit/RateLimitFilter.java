@@ -0,0 +1,98 @@
+package com.example.p1.security.ratelimit;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 설정된 엔드포인트에 사용자별, IP별 토큰 버킷을 적용하는 필터.
+ * 인증 정보가 필요하므로 SecurityConfig에서 보안 필터 체인 뒤쪽에 등록합니다. (빈으로 등록하면 서블릿 필터로 한 번 더 실행됨)
+ * 로그인 사용자는 사용자 버킷과 IP 버킷을 모두 통과해야 하고, 비로그인 요청은 IP 버킷만 사용합니다. 관리자는 제한하지 않습니다.
+ */
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private final RateLimiter rateLimiter;
+    private final RateLimitProperties properties;
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+
+    public RateLimitFilter(RateLimiter rateLimiter, RateLimitProperties properties) {
+        this.rateLimiter = rateLimiter;
+        this.properties = properties;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        Map.Entry<String, RateLimitProperties.Rule> matched = properties.isEnabled() ? findRule(request) : null;
+        if (matched == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        boolean authenticated = authentication != null && authentication.isAuthenticated()
+                && !(authentication instanceof AnonymousAuthenticationToken);
+        if (authenticated && authentication.getAuthorities().stream().anyMatch(a -> "ROLE_ADMIN".equals(a.getAuthority()))) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        String ruleName = matched.getKey();
+        RateLimitProperties.Rule rule = matched.getValue();
+        long waitNanos = 0;
+        if (authenticated) {
+            waitNanos = rateLimiter.tryAcquire(ruleName, rule, "user:" + authentication.getName());
+        }
+        if (waitNanos == 0) {
+            waitNanos = rateLimiter.tryAcquire(ruleName, rule, "ip:" + clientIp(request));
+        }
+        if (waitNanos > 0) {
+            long retryAfterSeconds = Math.max(1, (waitNanos + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1));
+            response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+            response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+            response.setContentType("application/json;charset=UTF-8");
+            response.getWriter().write("{\"message\": \"Too many requests. Retry after " + retryAfterSeconds + " seconds.\"}");
+            response.getWriter().flush();
+            return;
+        }
+        filterChain.doFilter(request, response);
+    }
+
+    private Map.Entry<String, RateLimitProperties.Rule> findRule(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        for (Map.Entry<String, RateLimitProperties.Rule> entry : properties.getRules().entrySet()) {
+            RateLimitProperties.Rule rule = entry.getValue();
+            if (!rule.getMethods().isEmpty() && rule.getMethods().stream().noneMatch(m -> m.equalsIgnoreCase(request.getMethod()))) {
+                continue;
+            }
+            for (String pattern : rule.getPatterns()) {
+                if (pathMatcher.match(pattern, path)) {
+                    return entry;
+                }
+            }
+        }
+        return null;
+    }
+
+    private String clientIp(HttpServletRequest request) {
+        if (properties.isTrustForwardedFor()) {
+            String forwardedFor = request.getHeader("X-Forwarded-For");
+            if (forwardedFor != null && !forwardedFor.isBlank()) {
+                return forwardedFor.split(",")[0].trim();
+            }
+        }
+        return request.getRemoteAddr();
+    }
+}
@@ -0,0 +1,36 @@
+package com.example.p1.security.ratelimit;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 요청 속도 제한 설정 (application.properties의 rate-limit.*).
+ * 규칙은 선언 순서대로 검사하며 HTTP 메서드와 경로 패턴(Ant 스타일)이 모두 맞는 첫 규칙이 적용됩니다.
+ */
+@Component
+@ConfigurationProperties(prefix = "rate-limit")
+@Getter
+@Setter
+public class RateLimitProperties {
+
+    private boolean enabled = true;
+    private int maxKeys = 100_000;              // 추적하는 (규칙, 사용자/IP) 버킷 최대 개수
+    private boolean trustForwardedFor = false;  // 프록시 뒤에서만 true (X-Forwarded-For 첫 주소를 클라이언트 IP로 사용)
+    private Map<String, Rule> rules = new LinkedHashMap<>();
+
+    @Getter
+    @Setter
+    public static class Rule {
+        private List<String> methods = new ArrayList<>();
+        private List<String> patterns = new ArrayList<>();
+        private int capacity = 5;          // 연속으로 허용하는 최대 요청 수 (버킷 크기)
+        private int refillPerMinute = 20;  // 분당 채워지는 토큰 수 (지속 허용 속도)
+    }
+}
@@ -0,0 +1,110 @@
+package com.example.p1.security.ratelimit;
+
+import com.example.p1.dto.RateLimitStatsDTO;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 규칙별, 키(사용자/IP)별 토큰 버킷 저장소.
+ * - 버킷은 처음 요청 시 만들어지고, 가득 찬(쉬고 있는) 버킷은 주기적으로 지워 맵 크기가 요청자 수만큼 계속 늘지 않게 합니다.
+ * - 버킷 수가 max-keys에 도달하면 먼저 쉬는 버킷을 지우고, 그래도 가득하면 새 키는 규칙별 공용 버킷을 함께 씁니다.
+ *   (많은 IP를 돌려 쓰는 요청이 메모리를 키우지 못하게 하되, 전체 허용량은 제한)
+ */
+@Component
+public class RateLimiter {
+
+    private static final Logger log = LoggerFactory.getLogger(RateLimiter.class);
+
+    private final RateLimitProperties properties;
+
+    private final Map<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+    private final Map<String, TokenBucket> overflowBuckets = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> allowed = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> throttled = new ConcurrentHashMap<>();
+    private final LongAdder overflowRequests = new LongAdder();
+    private final ReentrantLock sweepLock = new ReentrantLock();
+
+    public RateLimiter(RateLimitProperties properties) {
+        this.properties = properties;
+    }
+
+    /**
+     * 토큰 하나를 사용합니다.
+     * @param ruleName 규칙 이름 (rate-limit.rules.* 키)
+     * @param rule 버킷 크기와 채움 속도
+     * @param key 사용자/IP 구분 키
+     * @return 허용되면 0, 거절되면 다음 요청이 허용되기까지 남은 시간(ns)
+     */
+    public long tryAcquire(String ruleName, RateLimitProperties.Rule rule, String key) {
+        long now = System.nanoTime();
+        long intervalNanos = TimeUnit.MINUTES.toNanos(1) / Math.max(1, rule.getRefillPerMinute());
+        long waitNanos = bucketFor(ruleName + "|" + key, ruleName, now).tryConsume(now, intervalNanos, rule.getCapacity());
+        (waitNanos == 0 ? allowed : throttled).computeIfAbsent(ruleName, name -> new LongAdder()).increment();
+        return waitNanos;
+    }
+
+    public RateLimitStatsDTO getStats() {
+        Map<String, Long> allowedByRule = new LinkedHashMap<>();
+        Map<String, Long> throttledByRule = new LinkedHashMap<>();
+        for (String ruleName : properties.getRules().keySet()) {
+            allowedByRule.put(ruleName, sum(allowed.get(ruleName)));
+            throttledByRule.put(ruleName, sum(throttled.get(ruleName)));
+        }
+        return RateLimitStatsDTO.builder()
+                .allowedByRule(allowedByRule)
+                .throttledByRule(throttledByRule)
+                .trackedKeys(buckets.size())
+                .maxKeys(properties.getMaxKeys())
+                .overflowRequests(overflowRequests.sum())
+                .build();
+    }
+
+    @Scheduled(fixedDelay = 60_000)
+    public void sweepIdleBuckets() {
+        int removed = sweep();
+        if (removed > 0) {
+            log.debug("Removed {} idle rate limit bucket(s). {} remaining.", removed, buckets.size());
+        }
+    }
+
+    private TokenBucket bucketFor(String bucketKey, String ruleName, long now) {
+        TokenBucket bucket = buckets.get(bucketKey);
+        if (bucket != null) {
+            return bucket;
+        }
+        if (buckets.size() >= properties.getMaxKeys()) {
+            if (sweepLock.tryLock()) {
+                try {
+                    sweep();
+                } finally {
+                    sweepLock.unlock();
+                }
+            }
+            if (buckets.size() >= properties.getMaxKeys()) {
+                overflowRequests.increment();
+                return overflowBuckets.computeIfAbsent(ruleName, name -> new TokenBucket(now));
+            }
+        }
+        return buckets.computeIfAbsent(bucketKey, k -> new TokenBucket(now));
+    }
+
+    private int sweep() {
+        long now = System.nanoTime();
+        int before = buckets.size();
+        buckets.entrySet().removeIf(entry -> entry.getValue().isIdle(now));
+        return before - buckets.size();
+    }
+
+    private static long sum(LongAdder adder) {
+        return adder != null ? adder.sum() : 0;
+    }
+}
@@ -0,0 +1,43 @@
+package com.example.p1.security.ratelimit;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 락 없는 토큰 버킷. 토큰 수 대신 "버킷이 다시 가득 차는 시각" 하나만 AtomicLong으로 저장하고 CAS로 갱신합니다.
+ * (GCRA 방식: capacity개까지 연속 허용, 이후 interval마다 한 개씩 허용하는 토큰 버킷과 동일하게 동작)
+ */
+final class TokenBucket {
+
+    private final AtomicLong fullAt; // nanoTime 기준. 이 시각 이후면 버킷이 가득 찬 상태
+
+    TokenBucket(long now) {
+        this.fullAt = new AtomicLong(now);
+    }
+
+    /**
+     * 토큰 하나를 사용합니다.
+     * @param intervalNanos 토큰 하나가 채워지는 시간
+     * @param capacity 버킷 크기
+     * @return 허용되면 0, 거절되면 다음 토큰까지 남은 시간(ns)
+     */
+    long tryConsume(long now, long intervalNanos, int capacity) {
+        while (true) {
+            long current = fullAt.get();
+            long next = Math.max(current, now) + intervalNanos;
+            long allowAt = next - intervalNanos * capacity;
+            if (now < allowAt) {
+                return allowAt - now;
+            }
+            if (fullAt.compareAndSet(current, next)) {
+                return 0;
+            }
+        }
+    }
+
+    /**
+     * 버킷이 가득 찬(한동안 사용되지 않은) 상태인지. 가득 찬 버킷은 지워도 동작이 같습니다.
+     */
+    boolean isIdle(long now) {
+        return fullAt.get() <= now;
+    }
+}
@@ -0,0 +1,66 @@
+package com.example.p1.security.token;
+
+import com.example.p1.service.MemberUserDetails;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * "Authorization: Bearer <접근 토큰>" 요청을 인증하는 필터. 토큰 서명/만료와 메모리 폐기 목록만 확인하므로 DB를 읽지 않고,
+ * 인증 정보를 세션에 저장하지 않아 어느 서버로 요청이 가도 같은 결과가 나옵니다.
+ * 토큰이 없는 요청은 그대로 넘겨 기존 세션 로그인(JSESSIONID)으로 처리됩니다. 토큰이 있는데 잘못되었으면 바로 401을 반환합니다.
+ * RateLimitFilter와 같이 SecurityConfig에서 보안 필터 체인에만 등록합니다.
+ */
+public class TokenAuthenticationFilter extends OncePerRequestFilter {
+
+    private static final String BEARER = "Bearer ";
+
+    private final TokenService tokenService;
+
+    public TokenAuthenticationFilter(TokenService tokenService) {
+        this.tokenService = tokenService;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String header = request.getHeader(HttpHeaders.AUTHORIZATION);
+        if (header == null || !header.regionMatches(true, 0, BEARER, 0, BEARER.length())) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        TokenClaims claims;
+        try {
+            claims = tokenService.verify(header.substring(BEARER.length()).strip(), TokenClaims.ACCESS);
+        } catch (IllegalArgumentException e) {
+            response.setStatus(HttpStatus.UNAUTHORIZED.value());
+            response.setHeader(HttpHeaders.WWW_AUTHENTICATE, "Bearer error=\"invalid_token\"");
+            response.setContentType("application/json;charset=UTF-8");
+            response.getWriter().write("{\"message\": \"Invalid token.\"}");
+            response.getWriter().flush();
+            return;
+        }
+
+        List<GrantedAuthority> authorities = List.of(new SimpleGrantedAuthority("ROLE_" + claims.getRole()));
+        // 비밀번호는 토큰 인증에 쓰지 않으므로 빈 값
+        MemberUserDetails principal = new MemberUserDetails(claims.getMemberId(), claims.getUsername(), "",
+                claims.getNickname(), true, authorities);
+        SecurityContext context = SecurityContextHolder.createEmptyContext();
+        context.setAuthentication(UsernamePasswordAuthenticationToken.authenticated(principal, null, authorities));
+        SecurityContextHolder.setContext(context);
+        filterChain.doFilter(request, response);
+    }
+}
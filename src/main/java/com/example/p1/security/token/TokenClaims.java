@@ -0,0 +1,26 @@
+package com.example.p1.security.token;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 토큰에 서명해 담는 값. 시각은 모두 epoch 밀리초입니다.
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+public class TokenClaims {
+
+    public static final String ACCESS = "access";
+    public static final String REFRESH = "refresh";
+
+    private final String type;      // ACCESS 또는 REFRESH
+    private final String username;
+    private final Long memberId;
+    private final String role;      // USER, ADMIN
+    private final String nickname;  // 접근 토큰만
+    private final String tokenId;   // 갱신 토큰 폐기(로그아웃, 재발급)에 사용
+    private final long issuedAt;
+    private final long expiresAt;
+}
@@ -0,0 +1,150 @@
+package com.example.p1.security.token;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.Base64;
+
+/**
+ * 토큰 서명/검증. 형식은 base64url(JSON 값).base64url(HMAC-SHA256 서명)이며 검증에 DB나 서버 상태가 필요 없습니다.
+ * 같은 키를 가진 서버라면 어느 서버에서 발급한 토큰이든 검증할 수 있습니다.
+ */
+@Component
+public class TokenCodec {
+
+    private static final Logger log = LoggerFactory.getLogger(TokenCodec.class);
+
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final int MIN_KEY_BYTES = 32;
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private final SecretKeySpec key;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    // Mac은 스레드 안전하지 않고 getInstance 비용이 있어 스레드마다 하나씩 재사용
+    private final ThreadLocal<Mac> macs;
+
+    @Autowired
+    public TokenCodec(TokenProperties properties) {
+        this(resolveKey(properties));
+    }
+
+    public TokenCodec(byte[] secret) {
+        if (secret.length < MIN_KEY_BYTES) {
+            throw new IllegalArgumentException("토큰 서명 키는 " + MIN_KEY_BYTES + "바이트 이상이어야 합니다.");
+        }
+        this.key = new SecretKeySpec(secret, ALGORITHM);
+        this.macs = ThreadLocal.withInitial(() -> {
+            try {
+                Mac mac = Mac.getInstance(ALGORITHM);
+                mac.init(key);
+                return mac;
+            } catch (GeneralSecurityException e) {
+                throw new IllegalStateException("토큰 서명을 초기화할 수 없습니다.", e);
+            }
+        });
+    }
+
+    /**
+     * 토큰 인증을 켰는데 키가 없으면 서버마다 다른 키로 서명하게 되므로 시작하지 않습니다.
+     * 꺼져 있으면 토큰을 발급하지 않으므로 임의 키를 씁니다.
+     */
+    private static byte[] resolveKey(TokenProperties properties) {
+        String secret = properties.getSecret();
+        if (secret == null || secret.isBlank()) {
+            if (properties.isEnabled()) {
+                throw new IllegalStateException("auth.token.enabled=true이면 모든 서버에 같은 auth.token.secret을 지정해야 합니다.");
+            }
+            log.debug("Token authentication is disabled; using a random signing key.");
+            byte[] random = new byte[MIN_KEY_BYTES];
+            new SecureRandom().nextBytes(random);
+            return random;
+        }
+        return Base64.getDecoder().decode(secret.strip());
+    }
+
+    public String encode(TokenClaims claims) {
+        ObjectNode node = objectMapper.createObjectNode();
+        node.put("typ", claims.getType());
+        node.put("sub", claims.getUsername());
+        node.put("uid", claims.getMemberId());
+        node.put("role", claims.getRole());
+        if (claims.getNickname() != null) {
+            node.put("nick", claims.getNickname());
+        }
+        if (claims.getTokenId() != null) {
+            node.put("jti", claims.getTokenId());
+        }
+        node.put("iat", claims.getIssuedAt());
+        node.put("exp", claims.getExpiresAt());
+        String payload;
+        try {
+            payload = ENCODER.encodeToString(objectMapper.writeValueAsBytes(node));
+        } catch (IOException e) {
+            throw new IllegalStateException("토큰을 만들 수 없습니다.", e);
+        }
+        return payload + "." + ENCODER.encodeToString(sign(payload));
+    }
+
+    /**
+     * 서명, 종류, 만료를 확인하고 값을 꺼냅니다.
+     * @param expectedType TokenClaims.ACCESS 또는 TokenClaims.REFRESH
+     * @throws IllegalArgumentException 형식/서명이 잘못되었거나 종류가 다르거나 만료된 경우
+     */
+    public TokenClaims decode(String token, String expectedType, long now) {
+        int dot = token != null ? token.indexOf('.') : -1;
+        if (dot <= 0 || dot != token.lastIndexOf('.')) {
+            throw new IllegalArgumentException("잘못된 토큰 형식입니다.");
+        }
+        String payload = token.substring(0, dot);
+        byte[] signature;
+        try {
+            signature = DECODER.decode(token.substring(dot + 1));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("잘못된 토큰 형식입니다.");
+        }
+        if (!MessageDigest.isEqual(sign(payload), signature)) {
+            throw new IllegalArgumentException("토큰 서명이 올바르지 않습니다.");
+        }
+
+        JsonNode node;
+        try {
+            node = objectMapper.readTree(DECODER.decode(payload));
+        } catch (IOException | IllegalArgumentException e) {
+            throw new IllegalArgumentException("잘못된 토큰 형식입니다.");
+        }
+        TokenClaims claims = TokenClaims.builder()
+                .type(node.path("typ").asText(null))
+                .username(node.path("sub").asText(null))
+                .memberId(node.hasNonNull("uid") ? node.get("uid").asLong() : null)
+                .role(node.path("role").asText(null))
+                .nickname(node.path("nick").asText(null))
+                .tokenId(node.path("jti").asText(null))
+                .issuedAt(node.path("iat").asLong())
+                .expiresAt(node.path("exp").asLong())
+                .build();
+        if (!expectedType.equals(claims.getType()) || claims.getUsername() == null || claims.getRole() == null) {
+            throw new IllegalArgumentException("사용할 수 없는 토큰입니다.");
+        }
+        if (claims.getExpiresAt() <= now) {
+            throw new IllegalArgumentException("만료된 토큰입니다.");
+        }
+        return claims;
+    }
+
+    private byte[] sign(String payload) {
+        return macs.get().doFinal(payload.getBytes(StandardCharsets.US_ASCII));
+    }
+}
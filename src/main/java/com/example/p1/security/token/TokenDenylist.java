@@ -0,0 +1,139 @@
+package com.example.p1.security.token;
+
+import com.example.p1.repository.MemberRepository;
+import com.example.p1.repository.RevokedRefreshTokenRepository;
+import com.example.p1.service.CustomUserDetailsService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 폐기된 토큰 목록 (메모리). 요청마다 DB를 읽지 않고 토큰 검증 직후 여기서만 확인합니다.
+ * - 회원 단위: 비밀번호 변경, 정지, 역할 변경, 탈퇴 시각(MEMBER.TOKENS_REVOKED_AT) 이전에 발급된 토큰을 모두 거절합니다.
+ *   처리한 서버는 커밋 직후 바로 반영하고, 다른 서버는 주기적으로 DB에서 최근 폐기 기록을 다시 읽어 맞춥니다.
+ *   다른 서버에서 폐기된 회원은 로그인 캐시(CustomUserDetailsService)도 지워, 예전 비밀번호/역할/정지 상태로 새 토큰을 받지 못하게 합니다.
+ * - 토큰 단위: 로그아웃하거나 재발급에 사용한 갱신 토큰 ID. 재발급/로그아웃은 자주 일어나지 않으므로 DB(REVOKED_REFRESH_TOKEN)에
+ *   기록하고, 기록에 성공한 쪽만 재발급을 진행해 어느 서버에서든 갱신 토큰은 한 번만 쓰입니다. 메모리 목록은 이 서버가 본 기록의 빠른 확인용입니다.
+ * 갱신 토큰 유효 시간이 지난 기록은 그 전에 발급된 토큰이 모두 만료되었으므로 지웁니다. 폐기된 회원/토큰 수만큼만 메모리를 씁니다.
+ */
+@Component
+public class TokenDenylist {
+
+    private static final Logger log = LoggerFactory.getLogger(TokenDenylist.class);
+
+    private final MemberRepository memberRepository;
+    private final RevokedRefreshTokenRepository revokedRefreshTokenRepository;
+    private final CustomUserDetailsService userDetailsService;
+    private final long retentionMillis;
+
+    private final Map<String, Long> revokedMembers = new ConcurrentHashMap<>(); // username -> 폐기 시각
+    private final Map<String, Long> revokedTokens = new ConcurrentHashMap<>();  // 갱신 토큰 ID -> 만료 시각
+
+    public TokenDenylist(MemberRepository memberRepository, RevokedRefreshTokenRepository revokedRefreshTokenRepository,
+                         CustomUserDetailsService userDetailsService, TokenProperties properties) {
+        this.memberRepository = memberRepository;
+        this.revokedRefreshTokenRepository = revokedRefreshTokenRepository;
+        this.userDetailsService = userDetailsService;
+        this.retentionMillis = TimeUnit.SECONDS.toMillis(Math.max(properties.getAccessTtlSeconds(), properties.getRefreshTtlSeconds()));
+    }
+
+    /**
+     * 토큰이 폐기되었는지 확인합니다. (메모리 조회)
+     */
+    public boolean isRevoked(TokenClaims claims) {
+        Long revokedAt = revokedMembers.get(claims.getUsername());
+        if (revokedAt != null && claims.getIssuedAt() < revokedAt) {
+            return true;
+        }
+        return claims.getTokenId() != null && revokedTokens.containsKey(claims.getTokenId());
+    }
+
+    /**
+     * 회원이 지금까지 발급받은 토큰을 모두 폐기합니다. 같은 시각을 MEMBER.TOKENS_REVOKED_AT에 저장한 트랜잭션이 커밋된 뒤 호출합니다.
+     * @return 이미 알고 있던 폐기 시각보다 새로우면 true
+     */
+    public boolean revokeMember(String username, LocalDateTime revokedAt) {
+        long millis = toEpochMillis(revokedAt);
+        Long previous = revokedMembers.get(username);
+        while (previous == null || previous < millis) {
+            if (previous == null ? revokedMembers.putIfAbsent(username, millis) == null
+                    : revokedMembers.replace(username, previous, millis)) {
+                return true;
+            }
+            previous = revokedMembers.get(username);
+        }
+        return false;
+    }
+
+    /**
+     * 갱신 토큰을 폐기합니다. 폐기 기록을 DB에 넣은 쪽만 true를 받으므로, 재발급은 true일 때만 진행합니다.
+     * @return 이 호출로 폐기되었으면 true, 이미 (다른 서버에서라도) 사용/폐기된 토큰이면 false
+     */
+    public boolean revokeToken(TokenClaims claims) {
+        if (claims.getTokenId() == null) {
+            return false;
+        }
+        boolean revoked;
+        try {
+            revokedRefreshTokenRepository.insert(claims.getTokenId(), claims.getUsername(),
+                    LocalDateTime.ofInstant(Instant.ofEpochMilli(claims.getExpiresAt()), ZoneOffset.UTC));
+            revoked = true;
+        } catch (DataIntegrityViolationException e) {
+            revoked = false;
+        }
+        revokedTokens.put(claims.getTokenId(), claims.getExpiresAt());
+        return revoked;
+    }
+
+    public int getRevokedMemberCount() {
+        return revokedMembers.size();
+    }
+
+    public int getRevokedTokenCount() {
+        return revokedTokens.size();
+    }
+
+    @Scheduled(fixedDelayString = "${auth.token.denylist-refresh-interval-ms:30000}")
+    public void refresh() {
+        long now = System.currentTimeMillis();
+        try {
+            LocalDateTime since = LocalDateTime.now(ZoneOffset.UTC).minusNanos(TimeUnit.MILLISECONDS.toNanos(retentionMillis));
+            for (Object[] row : memberRepository.findTokenRevocationsSince(since)) {
+                String username = (String) row[0];
+                if (revokeMember(username, (LocalDateTime) row[1])) {
+                    userDetailsService.evict(username); // 다른 서버에서 바뀐 비밀번호/역할/정지 상태를 다시 읽도록
+                }
+            }
+        } catch (Exception e) {
+            log.warn("Token denylist refresh failed: {}", e.getMessage());
+        }
+        revokedMembers.values().removeIf(revokedAt -> revokedAt + retentionMillis < now);
+        revokedTokens.values().removeIf(expiresAt -> expiresAt < now);
+    }
+
+    // 만료된 갱신 토큰의 폐기 기록 삭제. 조건 삭제라 여러 서버에서 실행해도 결과가 같습니다.
+    @Scheduled(cron = "${auth.token.revoked-cleanup-cron:0 40 * * * *}")
+    public void deleteExpiredRevocations() {
+        try {
+            int deleted = revokedRefreshTokenRepository.deleteExpired(LocalDateTime.now(ZoneOffset.UTC));
+            if (deleted > 0) {
+                log.info("Deleted {} expired refresh token revocations.", deleted);
+            }
+        } catch (Exception e) {
+            log.warn("Expired refresh token revocation cleanup failed: {}", e.getMessage());
+        }
+    }
+
+    static long toEpochMillis(LocalDateTime utc) {
+        return utc.toInstant(ZoneOffset.UTC).toEpochMilli();
+    }
+}
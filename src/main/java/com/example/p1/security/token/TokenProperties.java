@@ -0,0 +1,23 @@
+package com.example.p1.security.token;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 토큰 인증 설정 (application.properties의 auth.token.*).
+ * 여러 서버가 같은 토큰을 검증하려면 모든 서버에 같은 secret을 지정해야 합니다. secret 없이 켜면 서버가 시작하지 않습니다.
+ */
+@Component
+@ConfigurationProperties(prefix = "auth.token")
+@Getter
+@Setter
+public class TokenProperties {
+
+    private boolean enabled = false;                  // secret을 지정한 뒤 켭니다
+    private String secret = "";                       // Base64 HMAC 키 (32바이트 이상). 켜져 있으면 필수
+    private long accessTtlSeconds = 900;              // 접근 토큰 유효 시간 (15분)
+    private long refreshTtlSeconds = 1_209_600;       // 갱신 토큰 유효 시간 (14일)
+    private long denylistRefreshIntervalMs = 30_000;  // 다른 서버의 폐기 기록을 DB에서 다시 읽는 주기
+}
@@ -0,0 +1,164 @@
+package com.example.p1.security.token;
+
+import com.example.p1.dto.TokenResponseDTO;
+import com.example.p1.service.CustomUserDetailsService;
+import com.example.p1.service.MemberUserDetails;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.LockedException;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 토큰 발급/재발급/폐기. 세션 로그인과 같은 회원 정보(CustomUserDetailsService 캐시)와 비밀번호 검사를 사용합니다.
+ * 갱신 토큰은 한 번 쓰면 폐기(DB에 기록)하고 새 토큰 쌍을 발급합니다. 여러 서버에서 같은 갱신 토큰을 동시에 써도 한 번만 재발급됩니다. 재발급 때 회원 정보를 다시 읽으므로 역할/닉네임 변경과 정지가 반영됩니다.
+ */
+@Component
+public class TokenService {
+
+    private static final Logger log = LoggerFactory.getLogger(TokenService.class);
+
+    private static final String USER_NOT_FOUND_PASSWORD = "userNotFoundPassword";
+
+    private final TokenCodec tokenCodec;
+    private final TokenDenylist tokenDenylist;
+    private final TokenProperties properties;
+    private final CustomUserDetailsService userDetailsService;
+    private final PasswordEncoder passwordEncoder;
+    // 없는 아이디도 같은 비용으로 비밀번호를 비교해 응답 시간으로 아이디 존재 여부가 드러나지 않게 함 (DaoAuthenticationProvider와 같은 방식)
+    private volatile String userNotFoundHash;
+
+    public TokenService(TokenCodec tokenCodec, TokenDenylist tokenDenylist, TokenProperties properties,
+                        CustomUserDetailsService userDetailsService, PasswordEncoder passwordEncoder) {
+        this.tokenCodec = tokenCodec;
+        this.tokenDenylist = tokenDenylist;
+        this.properties = properties;
+        this.userDetailsService = userDetailsService;
+        this.passwordEncoder = passwordEncoder;
+    }
+
+    /**
+     * 아이디/비밀번호를 확인하고 토큰 쌍을 발급합니다.
+     * @throws BadCredentialsException 아이디나 비밀번호가 틀린 경우
+     * @throws LockedException 정지된 회원인 경우
+     */
+    public TokenResponseDTO login(String username, String password) {
+        MemberUserDetails member;
+        try {
+            member = (MemberUserDetails) userDetailsService.loadUserByUsername(username);
+        } catch (UsernameNotFoundException e) {
+            passwordEncoder.matches(password != null ? password : "", userNotFoundHash());
+            throw new BadCredentialsException("아이디 또는 비밀번호가 올바르지 않습니다.");
+        }
+        if (password == null || !passwordEncoder.matches(password, member.getPassword())) {
+            throw new BadCredentialsException("아이디 또는 비밀번호가 올바르지 않습니다.");
+        }
+        if (!member.isAccountNonLocked()) {
+            throw new LockedException("정지된 계정입니다.");
+        }
+        if (passwordEncoder.upgradeEncoding(member.getPassword())) {
+            // 세션 로그인(DaoAuthenticationProvider)과 같이 저장된 해시의 cost가 설정과 다르면 다시 해시해 저장
+            try {
+                userDetailsService.updatePassword(member, passwordEncoder.encode(password));
+            } catch (RuntimeException e) {
+                log.warn("Password rehash failed for {}: {}", username, e.getMessage());
+            }
+        }
+        return issue(member);
+    }
+
+    /**
+     * 갱신 토큰으로 새 토큰 쌍을 발급하고 사용한 갱신 토큰은 폐기합니다.
+     * @throws IllegalArgumentException 갱신 토큰이 잘못되었거나 만료/폐기된 경우, 회원이 없어진 경우
+     * @throws LockedException 정지된 회원인 경우
+     */
+    public TokenResponseDTO refresh(String refreshToken) {
+        TokenClaims claims = verify(refreshToken, TokenClaims.REFRESH);
+        MemberUserDetails member;
+        try {
+            member = (MemberUserDetails) userDetailsService.loadUserByUsername(claims.getUsername());
+        } catch (UsernameNotFoundException e) {
+            throw new IllegalArgumentException("회원을 찾을 수 없습니다.");
+        }
+        if (!member.isAccountNonLocked()) {
+            throw new LockedException("정지된 계정입니다.");
+        }
+        if (!tokenDenylist.revokeToken(claims)) {
+            throw new IllegalArgumentException("폐기된 토큰입니다."); // 다른 서버에서 이미 사용했거나 로그아웃한 토큰
+        }
+        return issue(member);
+    }
+
+    /**
+     * 갱신 토큰을 폐기합니다. (로그아웃) 모든 서버에서 더 이상 재발급에 쓸 수 없고, 이미 발급된 접근 토큰은 유효 시간이 지나면 만료됩니다.
+     * @throws IllegalArgumentException 갱신 토큰이 잘못된 경우
+     */
+    public void revoke(String refreshToken) {
+        tokenDenylist.revokeToken(verify(refreshToken, TokenClaims.REFRESH));
+    }
+
+    /**
+     * 서명, 만료, 폐기 여부를 확인합니다. (DB 조회 없음)
+     * @throws IllegalArgumentException 사용할 수 없는 토큰인 경우
+     */
+    public TokenClaims verify(String token, String expectedType) {
+        TokenClaims claims = tokenCodec.decode(token, expectedType, System.currentTimeMillis());
+        if (tokenDenylist.isRevoked(claims)) {
+            throw new IllegalArgumentException("폐기된 토큰입니다.");
+        }
+        return claims;
+    }
+
+    private String userNotFoundHash() {
+        String hash = userNotFoundHash;
+        if (hash == null) {
+            hash = passwordEncoder.encode(USER_NOT_FOUND_PASSWORD);
+            userNotFoundHash = hash;
+        }
+        return hash;
+    }
+
+    private TokenResponseDTO issue(MemberUserDetails member) {
+        long now = System.currentTimeMillis();
+        String role = member.getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .filter(a -> a.startsWith("ROLE_"))
+                .map(a -> a.substring(5))
+                .findFirst()
+                .orElse("USER");
+        String accessToken = tokenCodec.encode(TokenClaims.builder()
+                .type(TokenClaims.ACCESS)
+                .username(member.getUsername())
+                .memberId(member.getMemberId())
+                .role(role)
+                .nickname(member.getNickname())
+                .issuedAt(now)
+                .expiresAt(now + TimeUnit.SECONDS.toMillis(properties.getAccessTtlSeconds()))
+                .build());
+        String refreshToken = tokenCodec.encode(TokenClaims.builder()
+                .type(TokenClaims.REFRESH)
+                .username(member.getUsername())
+                .memberId(member.getMemberId())
+                .role(role)
+                .tokenId(UUID.randomUUID().toString())
+                .issuedAt(now)
+                .expiresAt(now + TimeUnit.SECONDS.toMillis(properties.getRefreshTtlSeconds()))
+                .build());
+        return TokenResponseDTO.builder()
+                .tokenType("Bearer")
+                .accessToken(accessToken)
+                .accessExpiresIn(properties.getAccessTtlSeconds())
+                .refreshToken(refreshToken)
+                .refreshExpiresIn(properties.getRefreshTtlSeconds())
+                .username(member.getUsername())
+                .nickname(member.getNickname())
+                .role(role)
+                .build();
+    }
+}
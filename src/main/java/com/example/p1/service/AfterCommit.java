@@ -0,0 +1,28 @@
+package com.example.p1.service;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 현재 트랜잭션이 커밋된 뒤에 작업을 실행하는 헬퍼.
+ * 메모리 캐시/카운터처럼 롤백되면 안 되는 상태는 커밋 이후에만 갱신해야 합니다.
+ * 활성 트랜잭션이 없으면 즉시 실행합니다.
+ */
+final class AfterCommit {
+
+    private AfterCommit() {
+    }
+
+    static void run(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
@@ -0,0 +1,161 @@
+package com.example.p1.service;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 여러 문자열 패턴을 한 번에 찾는 Aho-Corasick 오토마톤.
+ * 패턴 수와 관계없이 본문을 한 번만 훑으며(본문 길이에 비례), 만든 뒤에는 바뀌지 않으므로 여러 스레드가 함께 사용해도 됩니다.
+ * 노드의 전이는 정렬된 char 배열 + 이진 탐색으로 저장해 패턴이 수천 개여도 메모리를 적게 씁니다.
+ */
+public final class AhoCorasickMatcher {
+
+    private static final int ROOT = 0;
+
+    private final char[][] edgeChars;  // 노드별 전이 문자 (정렬)
+    private final int[][] edgeTargets; // 노드별 전이 대상
+    private final int[] fail;          // 실패 링크
+    private final int[] output;        // 이 노드(또는 실패 링크를 따라간 접미사)에서 끝나는 패턴 번호, 없으면 -1
+
+    private AhoCorasickMatcher(char[][] edgeChars, int[][] edgeTargets, int[] fail, int[] output) {
+        this.edgeChars = edgeChars;
+        this.edgeTargets = edgeTargets;
+        this.fail = fail;
+        this.output = output;
+    }
+
+    /**
+     * @param patterns 찾을 패턴 (빈 문자열은 무시). 반환되는 번호는 이 목록의 인덱스입니다.
+     */
+    public static AhoCorasickMatcher compile(List<String> patterns) {
+        // 1. 트라이
+        List<TreeMap<Character, Integer>> children = new ArrayList<>();
+        List<Integer> outputs = new ArrayList<>();
+        children.add(new TreeMap<>());
+        outputs.add(-1);
+        for (int p = 0; p < patterns.size(); p++) {
+            String pattern = patterns.get(p);
+            if (pattern == null || pattern.isEmpty()) {
+                continue;
+            }
+            int node = ROOT;
+            for (int i = 0; i < pattern.length(); i++) {
+                Integer next = children.get(node).get(pattern.charAt(i));
+                if (next == null) {
+                    next = children.size();
+                    children.add(new TreeMap<>());
+                    outputs.add(-1);
+                    children.get(node).put(pattern.charAt(i), next);
+                }
+                node = next;
+            }
+            if (outputs.get(node) < 0) {
+                outputs.set(node, p);
+            }
+        }
+
+        int size = children.size();
+        char[][] edgeChars = new char[size][];
+        int[][] edgeTargets = new int[size][];
+        for (int node = 0; node < size; node++) {
+            TreeMap<Character, Integer> edges = children.get(node);
+            edgeChars[node] = new char[edges.size()];
+            edgeTargets[node] = new int[edges.size()];
+            int i = 0;
+            for (Map.Entry<Character, Integer> edge : edges.entrySet()) {
+                edgeChars[node][i] = edge.getKey();
+                edgeTargets[node][i] = edge.getValue();
+                i++;
+            }
+        }
+
+        // 2. 너비 우선으로 실패 링크와 출력 전파
+        int[] fail = new int[size];
+        int[] output = outputs.stream().mapToInt(Integer::intValue).toArray();
+        AhoCorasickMatcher matcher = new AhoCorasickMatcher(edgeChars, edgeTargets, fail, output);
+        Deque<Integer> queue = new ArrayDeque<>();
+        for (int child : edgeTargets[ROOT]) {
+            fail[child] = ROOT;
+            queue.add(child);
+        }
+        while (!queue.isEmpty()) {
+            int node = queue.poll();
+            for (int i = 0; i < edgeChars[node].length; i++) {
+                char c = edgeChars[node][i];
+                int child = edgeTargets[node][i];
+                int f = fail[node];
+                int target;
+                while ((target = matcher.child(f, c)) < 0 && f != ROOT) {
+                    f = fail[f];
+                }
+                fail[child] = target >= 0 ? target : ROOT;
+                if (output[child] < 0) {
+                    output[child] = output[fail[child]];
+                }
+                queue.add(child);
+            }
+        }
+        return matcher;
+    }
+
+    /**
+     * 본문에서 처음 발견되는 패턴 번호를 반환합니다.
+     * @return 패턴 번호, 없으면 -1
+     */
+    public int findFirst(CharSequence text) {
+        int node = ROOT;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            int next;
+            while ((next = child(node, c)) < 0 && node != ROOT) {
+                node = fail[node];
+            }
+            node = next >= 0 ? next : ROOT;
+            if (output[node] >= 0) {
+                return output[node];
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * 본문에서 패턴이 끝나는 위치마다 consumer를 호출합니다. 한 위치에서는 그 위치에서 끝나는 가장 긴 패턴 하나만 알려 줍니다.
+     */
+    public void forEachMatch(CharSequence text, MatchConsumer consumer) {
+        int node = ROOT;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            int next;
+            while ((next = child(node, c)) < 0 && node != ROOT) {
+                node = fail[node];
+            }
+            node = next >= 0 ? next : ROOT;
+            if (output[node] >= 0) {
+                consumer.accept(output[node], i + 1);
+            }
+        }
+    }
+
+    @FunctionalInterface
+    public interface MatchConsumer {
+        /**
+         * @param pattern 패턴 번호
+         * @param end 본문에서 패턴이 끝나는 위치 (포함하지 않음)
+         */
+        void accept(int pattern, int end);
+    }
+
+    public int getNodeCount() {
+        return fail.length;
+    }
+
+    private int child(int node, char c) {
+        int index = Arrays.binarySearch(edgeChars[node], c);
+        return index >= 0 ? edgeTargets[node][index] : -1;
+    }
+}
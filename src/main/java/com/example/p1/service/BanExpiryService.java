@@ -0,0 +1,20 @@
+package com.example.p1.service;
+
+import com.example.p1.dto.BanExpirySweepReportDTO;
+
+/**
+ * 기한이 지난 임시 정지를 해제하는 서비스 인터페이스.
+ */
+public interface BanExpiryService {
+
+    /**
+     * 정지 기한이 지난 회원을 한 번의 UPDATE로 해제하고 로그인 캐시에서 지웁니다.
+     * @return 처리 결과
+     */
+    BanExpirySweepReportDTO sweep();
+
+    /**
+     * 마지막 처리 결과를 반환합니다. 아직 처리한 적이 없다면 null을 반환합니다.
+     */
+    BanExpirySweepReportDTO getLastReport();
+}
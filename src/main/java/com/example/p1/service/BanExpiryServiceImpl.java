@@ -0,0 +1,92 @@
+package com.example.p1.service;
+
+import com.example.p1.dto.BanExpirySweepReportDTO;
+import com.example.p1.repository.MemberRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+
+/**
+ * 임시 정지 기한 만료 처리.
+ * 요청마다 기한을 확인해 DB를 고치지 않고, 주기적으로 (banned, banned_until) 인덱스 범위만 읽어 기한이 지난 회원을 한 번에 해제합니다.
+ * - 여러 서버: UPDATE가 조건(정지 중 + 기한 경과)을 다시 확인하므로 동시에 실행해도 같은 회원을 두 번 해제하지 않습니다.
+ *   먼저 실행한 서버만 해제 건수를 보고하고 나머지는 0건입니다.
+ * - 로그인 캐시: 이 서버 캐시는 커밋 직후 지웁니다. 다른 서버 캐시는 CustomUserDetailsService가 읽을 때마다 기한을 비교하므로
+ *   기한이 지나면 해제 처리 전이라도 정지가 풀린 것으로 판단하고, 캐시 유효 시간이 지나면 다시 읽습니다.
+ * - 토큰: 정지 시점에 이미 폐기되었으므로 해제 후 다시 로그인하면 됩니다.
+ */
+@Service
+public class BanExpiryServiceImpl implements BanExpiryService {
+
+    private static final Logger log = LoggerFactory.getLogger(BanExpiryServiceImpl.class);
+
+    private final MemberRepository memberRepository;
+    private final CustomUserDetailsService userDetailsService;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+
+    private volatile BanExpirySweepReportDTO lastReport;
+
+    public BanExpiryServiceImpl(MemberRepository memberRepository,
+                                CustomUserDetailsService userDetailsService,
+                                PlatformTransactionManager transactionManager,
+                                @Value("${member.ban-expiry.enabled:true}") boolean enabled) {
+        this.memberRepository = memberRepository;
+        this.userDetailsService = userDetailsService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+    }
+
+    @Scheduled(fixedDelayString = "${member.ban-expiry.sweep-interval-ms:60000}",
+            initialDelayString = "${member.ban-expiry.sweep-interval-ms:60000}")
+    public void scheduledSweep() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            sweep();
+        } catch (Exception e) {
+            log.error("Scheduled ban expiry sweep failed: {}", e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public synchronized BanExpirySweepReportDTO sweep() {
+        long start = System.currentTimeMillis();
+        LocalDateTime cutoff = LocalDateTime.now(ZoneOffset.UTC); // bannedUntil은 UTC로 저장
+
+        List<String> usernames = memberRepository.findUsernamesWithExpiredBan(cutoff);
+        int lifted = 0;
+        if (!usernames.isEmpty()) {
+            Integer updated = transactionTemplate.execute(status -> memberRepository.liftExpiredBans(cutoff));
+            lifted = updated != null ? updated : 0;
+            // 커밋 후 무효화. 조회와 UPDATE 사이 다른 서버가 먼저 해제했더라도 지워서 손해는 없음
+            usernames.forEach(userDetailsService::evict);
+        }
+
+        BanExpirySweepReportDTO report = BanExpirySweepReportDTO.builder()
+                .cutoff(cutoff)
+                .lifted(lifted)
+                .cacheEvicted(usernames.size())
+                .elapsedMs(System.currentTimeMillis() - start)
+                .build();
+        lastReport = report;
+        if (lifted > 0) {
+            log.info("Lifted {} expired bans (cutoff {} UTC) in {} ms.", lifted, cutoff, report.getElapsedMs());
+        }
+        return report;
+    }
+
+    @Override
+    public BanExpirySweepReportDTO getLastReport() {
+        return lastReport;
+    }
+}
@@ -0,0 +1,54 @@
+package com.example.p1.service;
+
+import com.example.p1.dto.CommentArchiveReportDTO;
+import com.example.p1.dto.CommentDTO;
+import com.example.p1.dto.CommentFeedDTO;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 지난 시즌 댓글 보관(GAME_COMMENT → 경기별 압축 보관본) 및 보관된 댓글 조회 서비스 인터페이스.
+ */
+public interface CommentArchiveService {
+
+    /**
+     * 경기의 댓글이 보관되었는지 여부. (메모리 조회, SQL 없음)
+     */
+    boolean isArchived(Long gameId);
+
+    /**
+     * 시즌의 모든 경기가 보관되었는지 여부. 중간에 실패했거나 일부 경기를 폐기한 시즌은 false입니다. (메모리 조회, SQL 없음)
+     */
+    boolean isSeasonArchived(int seasonYear);
+
+    /**
+     * 보관된 경기의 전체 댓글 (최신순).
+     */
+    List<CommentDTO> getComments(Long gameId);
+
+    Page<CommentDTO> getCommentsByGameId(Long gameId, Pageable pageable);
+
+    /**
+     * 보관된 경기의 커서 피드. 커서 형식은 GAME_COMMENT 피드와 같습니다.
+     */
+    CommentFeedDTO getCommentFeed(Long gameId, String cursor, int size);
+
+    /**
+     * 보관된 경기의 예측 팀별 예측 댓글 수.
+     */
+    Map<String, Long> getPredictionCounts(Long gameId);
+
+    /**
+     * 시즌의 모든 경기 댓글을 보관본으로 옮기고 GAME_COMMENT에서 삭제합니다. 이미 보관된 경기는 건너뜁니다.
+     * @throws IllegalStateException 올해 시즌이거나 아직 끝나지 않은(예정/진행 중) 경기가 남은 시즌인 경우
+     */
+    CommentArchiveReportDTO archiveSeason(int seasonYear);
+
+    /**
+     * 경기 삭제 시 보관본도 삭제합니다. (호출한 쪽 트랜잭션에서 실행)
+     */
+    void discard(Long gameId);
+}
@@ -0,0 +1,467 @@
+package com.example.p1.service;
+
+import com.example.p1.domain.CommentArchive;
+import com.example.p1.domain.CommentType;
+import com.example.p1.domain.GameStatus;
+import com.example.p1.dto.CommentArchiveReportDTO;
+import com.example.p1.dto.CommentDTO;
+import com.example.p1.dto.CommentFeedDTO;
+import com.example.p1.repository.CommentArchiveRepository;
+import com.example.p1.repository.CommentRepository;
+import com.example.p1.repository.GameScheduleRepository;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 댓글 보관 서비스 구현체.
+ * - 보관: 끝난 시즌의 경기마다 댓글 DTO 목록을 JSON + GZIP 한 행(GAME_COMMENT_ARCHIVE)으로 만들고
+ *   GAME_COMMENT에서 삭제합니다. 경기 하나가 트랜잭션 하나라 undo가 작고, 중간에 실패해도 다시 실행하면 남은 경기만 처리합니다.
+ * - 조회: 보관된 경기 ID는 GAME_COMMENT_ARCHIVE를 읽어 메모리에 두어 일반 조회 경로가 SQL 없이 보관 여부를 판단합니다.
+ *   이 서버의 보관/폐기는 커밋 직후 반영하고, 다른 서버의 보관/폐기는 주기적으로(comment.archive.refresh-interval-ms) 다시 읽어 반영합니다.
+ *   보관본은 경기 단위로 풀어 최근 사용한 경기 몇 개만 메모리에 둡니다.
+ * - 보관된 경기에는 새 댓글을 받지 않습니다. (CommentService에서 거절)
+ */
+@Service
+public class CommentArchiveServiceImpl implements CommentArchiveService {
+
+    private static final Logger log = LoggerFactory.getLogger(CommentArchiveServiceImpl.class);
+
+    private static final int MAX_CACHED_GAMES = 64;
+    private static final int BATCH_SIZE = 500;
+    private static final int MAX_FEED_SIZE = 100;
+    private static final int PROBE_RUNS = 5;
+    private static final int RELOAD_ATTEMPTS = 3;
+    private static final List<GameStatus> UNFINISHED = List.of(GameStatus.SCHEDULED, GameStatus.IN_PROGRESS);
+    private static final TypeReference<List<CommentDTO>> COMMENT_LIST = new TypeReference<>() {};
+
+    private final CommentArchiveRepository commentArchiveRepository;
+    private final CommentRepository commentRepository;
+    private final GameScheduleRepository gameScheduleRepository;
+    private final CommentSearchService commentSearchService;
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate gameTransaction;
+    private final int retainSeasons;
+    private final boolean shrinkTable;
+
+    private final Map<Long, Integer> archivedGames = new ConcurrentHashMap<>(); // gameId -> seasonYear
+    private final Set<Integer> archivedSeasons = ConcurrentHashMap.newKeySet(); // 모든 경기가 보관된 시즌
+    private final AtomicLong localChanges = new AtomicLong(); // 이 서버의 보관/폐기 횟수 (archivedGames로 보호)
+    private final Object loadLock = new Object();
+    private volatile boolean loaded;
+    // 최근 조회한 보관본 (접근 순서 LRU)
+    private final Map<Long, List<CommentDTO>> cache = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, List<CommentDTO>> eldest) {
+            return size() > MAX_CACHED_GAMES;
+        }
+    };
+
+    public CommentArchiveServiceImpl(CommentArchiveRepository commentArchiveRepository,
+                                     CommentRepository commentRepository,
+                                     GameScheduleRepository gameScheduleRepository,
+                                     CommentSearchService commentSearchService,
+                                     JdbcTemplate jdbcTemplate,
+                                     ObjectMapper objectMapper,
+                                     PlatformTransactionManager transactionManager,
+                                     @Value("${comment.archive.retain-seasons:1}") int retainSeasons,
+                                     @Value("${comment.archive.shrink-table:false}") boolean shrinkTable) {
+        this.commentArchiveRepository = commentArchiveRepository;
+        this.commentRepository = commentRepository;
+        this.gameScheduleRepository = gameScheduleRepository;
+        this.commentSearchService = commentSearchService;
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+        this.gameTransaction = new TransactionTemplate(transactionManager);
+        this.gameTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.retainSeasons = retainSeasons;
+        this.shrinkTable = shrinkTable;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        ensureLoaded(); // 댓글 쓰기 경로의 보관 여부 확인이 첫 요청에서 쿼리를 만들지 않도록 미리 적재
+    }
+
+    /**
+     * 다른 서버에서 보관/폐기한 경기를 반영합니다.
+     */
+    @Scheduled(fixedDelayString = "${comment.archive.refresh-interval-ms:60000}",
+            initialDelayString = "${comment.archive.refresh-interval-ms:60000}")
+    public void refreshArchivedGames() {
+        try {
+            reloadArchivedGames();
+        } catch (Exception e) {
+            log.warn("Archived game refresh failed: {}", e.getMessage());
+        }
+    }
+
+    @Override
+    public boolean isArchived(Long gameId) {
+        ensureLoaded();
+        return gameId != null && archivedGames.containsKey(gameId);
+    }
+
+    @Override
+    public boolean isSeasonArchived(int seasonYear) {
+        ensureLoaded();
+        return archivedSeasons.contains(seasonYear);
+    }
+
+    @Override
+    public List<CommentDTO> getComments(Long gameId) {
+        if (!isArchived(gameId)) {
+            return List.of();
+        }
+        synchronized (cache) {
+            List<CommentDTO> cached = cache.get(gameId);
+            if (cached != null) {
+                return cached;
+            }
+        }
+        Optional<CommentArchive> archive = commentArchiveRepository.findByGameId(gameId);
+        if (archive.isEmpty()) {
+            return List.of(); // 방금 폐기된 경우
+        }
+        List<CommentDTO> comments = Collections.unmodifiableList(decompress(archive.get().getPayload()));
+        synchronized (cache) {
+            cache.put(gameId, comments);
+        }
+        return comments;
+    }
+
+    @Override
+    public Page<CommentDTO> getCommentsByGameId(Long gameId, Pageable pageable) {
+        List<CommentDTO> comments = getComments(gameId);
+        int from = (int) Math.min(pageable.getOffset(), comments.size());
+        int to = Math.min(from + pageable.getPageSize(), comments.size());
+        return new PageImpl<>(new ArrayList<>(comments.subList(from, to)), pageable, comments.size());
+    }
+
+    @Override
+    public CommentFeedDTO getCommentFeed(Long gameId, String cursor, int size) {
+        int pageSize = Math.max(1, Math.min(size, MAX_FEED_SIZE));
+        List<CommentDTO> comments = getComments(gameId);
+
+        // 보관본은 (createdAt, id) 내림차순이므로 커서 바로 다음 위치부터 자름
+        int from = 0;
+        if (cursor != null && !cursor.isEmpty()) {
+            CommentCursor position = CommentCursor.decode(cursor);
+            while (from < comments.size() && !isAfter(comments.get(from), position)) {
+                from++;
+            }
+        }
+        int to = Math.min(from + pageSize, comments.size());
+        boolean hasNext = to < comments.size();
+        String nextCursor = null;
+        if (hasNext) {
+            CommentDTO last = comments.get(to - 1);
+            nextCursor = new CommentCursor(last.getCreatedAt(), last.getId()).encode();
+        }
+        return CommentFeedDTO.builder()
+                .comments(new ArrayList<>(comments.subList(from, to)))
+                .nextCursor(nextCursor)
+                .hasNext(hasNext)
+                .build();
+    }
+
+    @Override
+    public Map<String, Long> getPredictionCounts(Long gameId) {
+        return getComments(gameId).stream()
+                .filter(c -> c.getType() == CommentType.PREDICTION && c.getPredictedTeamName() != null)
+                .collect(Collectors.groupingBy(CommentDTO::getPredictedTeamName, Collectors.counting()));
+    }
+
+    @Scheduled(cron = "${comment.archive.cron:0 0 5 1 * *}")
+    public void scheduledArchive() {
+        int lastArchivableSeason = LocalDate.now().getYear() - retainSeasons - 1;
+        List<Integer> seasons = gameScheduleRepository.findSeasonYearsBefore(LocalDateTime.of(lastArchivableSeason + 1, 1, 1, 0, 0));
+        for (Integer seasonYear : seasons) {
+            if (isSeasonArchived(seasonYear)) {
+                continue;
+            }
+            try {
+                archiveSeason(seasonYear);
+            } catch (Exception e) {
+                log.error("Scheduled comment archive for season {} failed: {}", seasonYear, e.getMessage(), e);
+            }
+        }
+    }
+
+    @Override
+    public synchronized CommentArchiveReportDTO archiveSeason(int seasonYear) {
+        long start = System.currentTimeMillis();
+        if (seasonYear >= LocalDate.now().getYear()) {
+            throw new IllegalStateException("진행 중인 시즌은 보관할 수 없습니다: " + seasonYear);
+        }
+        LocalDateTime from = LocalDateTime.of(seasonYear, 1, 1, 0, 0);
+        LocalDateTime to = from.plusYears(1);
+        if (gameScheduleRepository.countByGameDateRangeAndStatusIn(from, to, UNFINISHED) > 0) {
+            throw new IllegalStateException("예정/진행 중인 경기가 남은 시즌은 보관할 수 없습니다: " + seasonYear);
+        }
+        reloadArchivedGames(); // 다른 서버가 이미 보관한 경기는 건너뜀
+
+        // 보관 전 측정: 댓글이 가장 많은 경기의 단건 조회와 피드 첫 페이지
+        Long probeGameId = commentRepository.findBusiestGameIds(from, to, PageRequest.of(0, 1)).stream().findFirst().orElse(null);
+        double gameQueryMsBefore = probeGameId != null ? medianMs(() -> gameScheduleRepository.findById(probeGameId)) : 0;
+        double feedQueryMsBefore = probeGameId != null
+                ? medianMs(() -> commentRepository.findFeedFirstPage(probeGameId, PageRequest.of(0, 21))) : 0;
+        long tableBytesBefore = tableBytes();
+
+        int games = 0;
+        long comments = 0;
+        long rawBytes = 0;
+        long compressedBytes = 0;
+        for (Long gameId : gameScheduleRepository.findIdsByGameDateRange(from, to)) {
+            if (archivedGames.containsKey(gameId)) {
+                continue;
+            }
+            CommentArchive archive = gameTransaction.execute(status -> archiveGame(gameId, seasonYear));
+            games++;
+            comments += archive.getCommentCount();
+            rawBytes += archive.getRawBytes();
+            compressedBytes += archive.getPayload().length;
+        }
+        synchronized (archivedGames) {
+            archivedSeasons.add(seasonYear); // 남은 경기를 모두 보관했을 때만 (중간에 실패하면 예외로 여기까지 오지 않음)
+            localChanges.incrementAndGet();
+        }
+
+        if (shrinkTable && comments > 0) {
+            shrink();
+        }
+        long tableBytesAfter = tableBytes();
+        synchronized (cache) {
+            cache.remove(probeGameId); // 보관 후 측정은 압축 해제부터 포함
+        }
+        double gameQueryMsAfter = probeGameId != null ? medianMs(() -> gameScheduleRepository.findById(probeGameId)) : 0;
+        double feedQueryMsAfter = probeGameId != null ? firstRunMs(() -> getCommentFeed(probeGameId, null, 20)) : 0;
+
+        CommentArchiveReportDTO report = CommentArchiveReportDTO.builder()
+                .seasonYear(seasonYear)
+                .archivedGames(games)
+                .archivedComments(comments)
+                .rawBytes(rawBytes)
+                .compressedBytes(compressedBytes)
+                .tableBytesBefore(tableBytesBefore)
+                .tableBytesAfter(tableBytesAfter)
+                .probeGameId(probeGameId)
+                .gameQueryMsBefore(gameQueryMsBefore)
+                .gameQueryMsAfter(gameQueryMsAfter)
+                .feedQueryMsBefore(feedQueryMsBefore)
+                .feedQueryMsAfter(feedQueryMsAfter)
+                .totalMs(System.currentTimeMillis() - start)
+                .build();
+        log.info("Archived season {}: {} game(s), {} comment(s), {} -> {} bytes, GAME_COMMENT {} -> {} bytes, " +
+                        "game query {} -> {} ms, feed {} -> {} ms.",
+                seasonYear, games, comments, rawBytes, compressedBytes, tableBytesBefore, tableBytesAfter,
+                gameQueryMsBefore, gameQueryMsAfter, feedQueryMsBefore, feedQueryMsAfter);
+        return report;
+    }
+
+    @Override
+    public void discard(Long gameId) {
+        if (!isArchived(gameId)) {
+            return;
+        }
+        commentArchiveRepository.deleteByGameId(gameId);
+        AfterCommit.run(() -> {
+            synchronized (archivedGames) {
+                Integer seasonYear = archivedGames.remove(gameId);
+                if (seasonYear != null) {
+                    archivedSeasons.remove(seasonYear); // 폐기한 경기는 다음 보관 때 다시 처리
+                }
+                localChanges.incrementAndGet();
+            }
+            synchronized (cache) {
+                cache.remove(gameId);
+            }
+        });
+    }
+
+    /**
+     * 경기 하나의 댓글을 보관본으로 옮깁니다. (경기별 새 트랜잭션)
+     */
+    private CommentArchive archiveGame(Long gameId, int seasonYear) {
+        List<CommentDTO> comments = commentRepository.findAllCommentDTOsByGameId(gameId);
+        byte[] json;
+        try {
+            json = objectMapper.writeValueAsBytes(comments);
+        } catch (IOException e) {
+            throw new UncheckedIOException("댓글 보관본을 만들 수 없습니다: " + gameId, e);
+        }
+        CommentArchive archive = commentArchiveRepository.save(CommentArchive.builder()
+                .gameId(gameId)
+                .seasonYear(seasonYear)
+                .commentCount(comments.size())
+                .rawBytes(json.length)
+                .payload(compress(json))
+                .archivedAt(LocalDateTime.now())
+                .build());
+        // 읽은 댓글만 삭제 (읽은 뒤 들어온 댓글이 보관 없이 지워지지 않도록)
+        jdbcTemplate.batchUpdate("DELETE FROM GAME_COMMENT WHERE id = ?", comments, BATCH_SIZE,
+                (ps, comment) -> ps.setLong(1, comment.getId()));
+        jdbcTemplate.update("DELETE FROM GAME_COMMENT WHERE game_id = ? AND hidden = 1", gameId); // 숨긴 댓글은 보관 없이 정리
+
+        AfterCommit.run(() -> {
+            synchronized (archivedGames) {
+                archivedGames.put(gameId, seasonYear);
+                localChanges.incrementAndGet();
+            }
+            comments.forEach(comment -> commentSearchService.remove(comment.getId()));
+        });
+        return archive;
+    }
+
+    private void ensureLoaded() {
+        if (loaded) {
+            return;
+        }
+        synchronized (loadLock) {
+            if (!loaded) {
+                reloadArchivedGames();
+            }
+        }
+    }
+
+    /**
+     * GAME_COMMENT_ARCHIVE의 경기 목록으로 archivedGames를 맞춥니다. 시즌은 보관된 경기 수가 그 시즌 전체 경기 수와 같을 때만
+     * 보관된 것으로 봅니다. (보관 중 실패해 일부 경기만 보관된 시즌을 다음 예약 보관이 건너뛰지 않도록)
+     * 읽는 동안 이 서버에서 보관/폐기가 커밋되면 읽은 목록이 그보다 오래됐을 수 있으므로 버리고 다시 읽습니다.
+     */
+    private void reloadArchivedGames() {
+        for (int attempt = 0; attempt < RELOAD_ATTEMPTS; attempt++) {
+            long changesBefore = localChanges.get();
+            Map<Long, Integer> games = new HashMap<>();
+            Map<Integer, Integer> gamesPerSeason = new HashMap<>();
+            for (Object[] row : commentArchiveRepository.findArchivedGames()) {
+                int seasonYear = ((Number) row[1]).intValue();
+                games.put((Long) row[0], seasonYear);
+                gamesPerSeason.merge(seasonYear, 1, Integer::sum);
+            }
+            Set<Integer> seasons = new HashSet<>();
+            gamesPerSeason.forEach((seasonYear, archived) -> {
+                LocalDateTime from = LocalDateTime.of(seasonYear, 1, 1, 0, 0);
+                if (gameScheduleRepository.countByGameDateRange(from, from.plusYears(1)) == archived) {
+                    seasons.add(seasonYear);
+                }
+            });
+            synchronized (archivedGames) {
+                if (localChanges.get() != changesBefore) {
+                    continue;
+                }
+                archivedGames.putAll(games);
+                archivedGames.keySet().retainAll(games.keySet()); // 다른 서버에서 폐기된 경기
+                archivedSeasons.addAll(seasons);
+                archivedSeasons.retainAll(seasons);
+                loaded = true;
+                return;
+            }
+        }
+        log.debug("Archived games changed during reload; keeping the current list.");
+    }
+
+    private static boolean isAfter(CommentDTO comment, CommentCursor position) {
+        int byTime = comment.getCreatedAt().compareTo(position.getCreatedAt());
+        return byTime < 0 || (byTime == 0 && comment.getId() < position.getId());
+    }
+
+    private byte[] compress(byte[] json) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(64, json.length / 4));
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(json);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    private List<CommentDTO> decompress(byte[] payload) {
+        try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(payload))) {
+            return objectMapper.readValue(gzip, COMMENT_LIST);
+        } catch (IOException e) {
+            throw new UncheckedIOException("댓글 보관본을 읽을 수 없습니다.", e);
+        }
+    }
+
+    /**
+     * GAME_COMMENT 세그먼트 크기(바이트). 딕셔너리 조회 권한이 없으면 -1.
+     */
+    private long tableBytes() {
+        try {
+            Long bytes = jdbcTemplate.queryForObject(
+                    "SELECT NVL(SUM(bytes), -1) FROM USER_SEGMENTS WHERE segment_name = 'GAME_COMMENT'", Long.class);
+            return bytes != null ? bytes : -1;
+        } catch (Exception e) {
+            log.debug("Could not read GAME_COMMENT segment size: {}", e.getMessage());
+            return -1;
+        }
+    }
+
+    /**
+     * 삭제로 생긴 빈 블록을 반환합니다. 온라인으로 실행되지만 행 이동이 필요하므로 설정으로만 켭니다.
+     */
+    private void shrink() {
+        try {
+            jdbcTemplate.execute("ALTER TABLE GAME_COMMENT ENABLE ROW MOVEMENT");
+            jdbcTemplate.execute("ALTER TABLE GAME_COMMENT SHRINK SPACE CASCADE");
+        } catch (Exception e) {
+            log.warn("GAME_COMMENT shrink failed: {}", e.getMessage());
+        }
+    }
+
+    private static double medianMs(Supplier<?> query) {
+        long[] nanos = new long[PROBE_RUNS];
+        for (int i = 0; i < PROBE_RUNS; i++) {
+            long start = System.nanoTime();
+            query.get();
+            nanos[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(nanos);
+        return nanos[PROBE_RUNS / 2] / 1e6;
+    }
+
+    private static double firstRunMs(Supplier<?> query) {
+        long start = System.nanoTime();
+        query.get();
+        return (System.nanoTime() - start) / 1e6;
+    }
+}
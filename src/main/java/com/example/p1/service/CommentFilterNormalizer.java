@@ -0,0 +1,252 @@
+package com.example.p1.service;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * 금지어 필터용 문자열 정규화.
+ * - 한글이 아닌 문자는 NFKC + 소문자로 전각/호환 문자를 맞춥니다.
+ *   (한글까지 NFKC를 적용하면 "ㅅㅣ"가 "시"로 합쳐져 자모로 쓴 것인지 알 수 없으므로 한글은 직접 처리)
+ * - 한글 음절은 호환 자모(ㄱ, ㅏ ...)로 풀고 음절 끝에 구분 문자를 붙입니다. 조합형 자모도 호환 자모로 바꾸고,
+ *   자모로만 쓴 부분도 끝에 구분 문자를 붙입니다. "ㅅㅣㅂㅏㄹ"처럼 자모로 풀어 쓴 우회 표현을 잡으면서,
+ *   음절 경계를 남겨 "갓바"가 "ㅅㅂ"에, "닥쳤다"가 "닥쳐"에 걸리지 않게 합니다.
+ * - 글자가 아닌 것(공백, 숫자, 문장부호)은 단어 경계(WORD_GAP)가 되어 금지어가 두 단어에 걸쳐 맞지 않습니다. ("감시 발전")
+ *   다만 한 글자 단어는 옆 단어와 이어 붙여 "시 발", "개 새끼", "f u c k" 같은 띄어쓰기 우회는 잡습니다.
+ *   (영문은 한 글자 단어끼리만 이어 붙여 "a fuck"의 단어 시작 경계를 지킵니다)
+ *   폭 없는 문자 같은 서식 문자는 경계 없이 지웁니다.
+ * - 영문 금지어는 단어 시작에서만 맞습니다. 스팸 링크 주소(".") 패턴은 normalizeLink로 따로 비교합니다.
+ */
+public final class CommentFilterNormalizer {
+
+    static final char SYLLABLE_END = '\u0001';
+    static final char WORD_GAP = ' ';
+
+    private static final char SYLLABLE_BASE = '가';
+    private static final char SYLLABLE_LAST = '힣';
+    private static final String CHOSEONG = "ㄱㄲㄴㄷㄸㄹㅁㅂㅃㅅㅆㅇㅈㅉㅊㅋㅌㅍㅎ";
+    private static final String JUNGSEONG = "ㅏㅐㅑㅒㅓㅔㅕㅖㅗㅘㅙㅚㅛㅜㅝㅞㅟㅠㅡㅢㅣ";
+    private static final String JONGSEONG = "ㄱㄲㄳㄴㄵㄶㄷㄹㄺㄻㄼㄽㄾㄿㅀㅁㅂㅄㅅㅆㅇㅈㅊㅋㅌㅍㅎ";
+    private static final int MAX_SHORT_JAMO = 3; // 자모로 풀어 쓴 한 글자 ("ㅂㅏㄹ")
+
+    private CommentFilterNormalizer() {
+    }
+
+    /**
+     * 댓글 본문을 금지어 비교용 문자열로 바꿉니다. 결과는 항상 WORD_GAP으로 시작합니다. (영문 단어 시작 경계)
+     */
+    public static String normalize(String text) {
+        if (text == null || text.isEmpty()) {
+            return String.valueOf(WORD_GAP);
+        }
+        // 1. 글자 아닌 문자로 나눈 단어 (한글은 그대로, 나머지는 NFKC + 소문자)
+        List<StringBuilder> words = new ArrayList<>();
+        StringBuilder word = new StringBuilder();
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c < 0x80) {
+                if (Character.isLetter(c)) {
+                    word.append(Character.toLowerCase(c));
+                } else {
+                    word = endWord(words, word);
+                }
+            } else if (isHangul(c)) {
+                word.append(c);
+            } else if (Character.getType(c) != Character.FORMAT) {
+                String folded = Normalizer.normalize(String.valueOf(c), Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+                for (int j = 0; j < folded.length(); j++) {
+                    char f = folded.charAt(j);
+                    if (isHangul(f) || Character.isLetter(f)) {
+                        word.append(f);
+                    } else {
+                        word = endWord(words, word);
+                    }
+                }
+            }
+        }
+        endWord(words, word);
+
+        // 2. 한글을 자모로 풀어 잇고, 한 글자 단어끼리가 아니면 사이에 경계를 둠
+        StringBuilder out = new StringBuilder(text.length() * 3 + 1);
+        out.append(WORD_GAP);
+        boolean jamoRun = false;
+        boolean previousShort = false;
+        boolean previousHangul = false;
+        for (int w = 0; w < words.size(); w++) {
+            CharSequence current = words.get(w);
+            boolean currentShort = isShort(current);
+            boolean currentHangul = containsHangul(current);
+            boolean joined = (previousShort && currentShort)
+                    || (previousHangul && currentHangul && (previousShort || currentShort));
+            if (w > 0 && !joined) {
+                jamoRun = endJamoRun(out, jamoRun);
+                out.append(WORD_GAP);
+            }
+            for (int i = 0; i < current.length(); i++) {
+                char c = current.charAt(i);
+                char jamo = toCompatibilityJamo(c);
+                if (jamo != 0) {
+                    out.append(jamo);
+                    jamoRun = true;
+                    continue;
+                }
+                jamoRun = endJamoRun(out, jamoRun);
+                if (c >= SYLLABLE_BASE && c <= SYLLABLE_LAST) {
+                    int index = c - SYLLABLE_BASE;
+                    out.append(CHOSEONG.charAt(index / 588));
+                    out.append(JUNGSEONG.charAt(index % 588 / 28));
+                    if (index % 28 > 0) {
+                        out.append(JONGSEONG.charAt(index % 28 - 1));
+                    }
+                    out.append(SYLLABLE_END);
+                } else {
+                    out.append(c);
+                }
+            }
+            previousShort = currentShort;
+            previousHangul = currentHangul;
+        }
+        endJamoRun(out, jamoRun);
+        return out.toString();
+    }
+
+    /**
+     * 스팸 링크 주소 비교용 문자열. 영문/숫자/'.'/'-'만 남기고 나머지는 공백으로 바꾸며, "bit . ly"처럼 '.' 주변 공백은 지웁니다.
+     * 결과는 공백으로 시작하고 끝나므로 주소 패턴은 앞뒤 경계까지 맞춰 "a bit lyrical"이나 "bit.lyrics"에 걸리지 않습니다.
+     */
+    public static String normalizeLink(String text) {
+        String folded = text == null ? "" : Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+        StringBuilder out = new StringBuilder(folded.length() + 2);
+        out.append(' ');
+        for (int i = 0; i < folded.length(); i++) {
+            char c = folded.charAt(i);
+            boolean kept = (c >= 'a' && c <= 'z') || (c >= '0' && c <= '9') || c == '-' || c == '.';
+            if (c == '.') {
+                while (out.length() > 1 && out.charAt(out.length() - 1) == ' ') {
+                    out.setLength(out.length() - 1);
+                }
+                out.append(c);
+            } else if (kept) {
+                out.append(c);
+            } else if (out.charAt(out.length() - 1) != ' ' && out.charAt(out.length() - 1) != '.') {
+                out.append(' ');
+            }
+        }
+        while (out.length() > 1 && out.charAt(out.length() - 1) == '.') {
+            out.setLength(out.length() - 1); // 문장 끝 마침표
+        }
+        if (out.charAt(out.length() - 1) != ' ') {
+            out.append(' ');
+        }
+        return out.toString();
+    }
+
+    /**
+     * 목록 항목이 주소 패턴("bit.ly", "open.kakao.com")인지 확인합니다. 아니면 단어로 비교합니다. ("link:카지노")
+     */
+    public static boolean isLinkAddress(String entry) {
+        return entry.indexOf('.') >= 0;
+    }
+
+    /**
+     * 금지어(또는 허용 단어) 하나를 normalize 결과와 비교할 오토마톤 패턴들로 바꿉니다.
+     * - 한글이 들어간 단어: 음절로 쓴 본문에 맞는 형태(음절 구분 문자 포함)와 자모로 풀어 쓴 본문에 맞는 형태.
+     *   마지막 음절의 구분 문자까지 포함하므로 받침이 붙은 다른 글자("닥쳐" → "닥쳤")에는 걸리지 않고,
+     *   뒤에 다른 글자가 이어지는 경우("시발놈")는 걸립니다. 자주 쓰는 합성어("시발점")는 허용 단어로 제외합니다.
+     * - 영문 단어: 앞에 단어 경계를 붙여 단어 시작에서만 맞게 합니다. ("fuck"은 "fucking"에는 걸리고 다른 단어 중간에는 걸리지 않음)
+     */
+    public static Set<String> patterns(String word) {
+        String normalized = normalize(word);
+        Set<String> patterns = new LinkedHashSet<>();
+        if (normalized.length() <= 1) {
+            return patterns;
+        }
+        if (!containsHangul(word)) {
+            patterns.add(normalized);
+            return patterns;
+        }
+        String syllableForm = normalized.substring(1);
+        patterns.add(syllableForm);
+        String jamoForm = syllableForm.replace(String.valueOf(SYLLABLE_END), "");
+        if (!jamoForm.isEmpty()) {
+            patterns.add(jamoForm);
+        }
+        return patterns;
+    }
+
+    /**
+     * 주소 패턴 하나를 normalizeLink 결과와 비교할 패턴들로 바꿉니다. 주소 앞은 단어 경계나 하위 도메인('.')이어야 하고 뒤는 경계여야 합니다.
+     */
+    public static Set<String> linkPatterns(String address) {
+        String normalized = normalizeLink(address).strip();
+        Set<String> patterns = new LinkedHashSet<>();
+        if (!normalized.isEmpty()) {
+            patterns.add(' ' + normalized + ' ');
+            patterns.add('.' + normalized + ' ');
+        }
+        return patterns;
+    }
+
+    private static StringBuilder endWord(List<StringBuilder> words, StringBuilder word) {
+        if (word.length() == 0) {
+            return word;
+        }
+        words.add(word);
+        return new StringBuilder();
+    }
+
+    // 한 글자 단어: 음절이나 글자 하나, 또는 자모로 풀어 쓴 한 글자
+    private static boolean isShort(CharSequence word) {
+        if (word.length() == 1) {
+            return true;
+        }
+        if (word.length() > MAX_SHORT_JAMO) {
+            return false;
+        }
+        for (int i = 0; i < word.length(); i++) {
+            if (toCompatibilityJamo(word.charAt(i)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean endJamoRun(StringBuilder out, boolean jamoRun) {
+        if (jamoRun) {
+            out.append(SYLLABLE_END);
+        }
+        return false;
+    }
+
+    private static boolean containsHangul(CharSequence word) {
+        for (int i = 0; i < word.length(); i++) {
+            if (isHangul(word.charAt(i))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isHangul(char c) {
+        return (c >= SYLLABLE_BASE && c <= SYLLABLE_LAST) || toCompatibilityJamo(c) != 0;
+    }
+
+    /**
+     * 호환 자모/조합형 자모면 호환 자모를, 아니면 0을 반환합니다.
+     */
+    private static char toCompatibilityJamo(char c) {
+        if (c >= 'ㄱ' && c <= 'ㆎ') {
+            return c;
+        } else if (c >= 'ᄀ' && c < 'ᄀ' + CHOSEONG.length()) {
+            return CHOSEONG.charAt(c - 'ᄀ');
+        } else if (c >= 'ᅡ' && c < 'ᅡ' + JUNGSEONG.length()) {
+            return JUNGSEONG.charAt(c - 'ᅡ');
+        } else if (c >= 'ᆨ' && c < 'ᆨ' + JONGSEONG.length()) {
+            return JONGSEONG.charAt(c - 'ᆨ');
+        }
+        return 0;
+    }
+}
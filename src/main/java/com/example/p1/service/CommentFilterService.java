@@ -0,0 +1,25 @@
+package com.example.p1.service;
+
+import com.example.p1.dto.CommentFilterStatusDTO;
+
+import java.io.IOException;
+
+/**
+ * 댓글 금지어/스팸 링크 필터 서비스 인터페이스.
+ */
+public interface CommentFilterService {
+
+    /**
+     * 댓글 본문에 금지어나 스팸 링크가 있는지 확인합니다.
+     * @throws IllegalArgumentException 금지어나 스팸 링크가 포함된 경우
+     */
+    void validate(String commentText);
+
+    /**
+     * 금지어 목록을 다시 읽어 필터를 교체합니다. 교체 중에도 댓글 검사는 기존 필터로 계속 진행됩니다.
+     * @throws IOException 목록을 읽을 수 없는 경우 (기존 필터 유지)
+     */
+    CommentFilterStatusDTO reload() throws IOException;
+
+    CommentFilterStatusDTO getStatus();
+}
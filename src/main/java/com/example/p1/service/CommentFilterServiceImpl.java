@@ -0,0 +1,210 @@
+package com.example.p1.service;
+
+import com.example.p1.dto.CommentFilterStatusDTO;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 댓글 금지어/스팸 링크 필터 구현체.
+ * - 금지어 목록(comment.filter.word-list)을 정규화해 Aho-Corasick 오토마톤 하나로 컴파일하고,
+ *   댓글마다 정규화된 본문을 한 번만 훑어 검사합니다. 금지어가 수천 개여도 검사 시간은 본문 길이에만 비례합니다.
+ * - 다시 읽기는 새 오토마톤을 따로 만든 뒤 volatile 참조만 바꿉니다. 검사하는 쪽은 잠금 없이 그 시점의 필터를 사용하므로
+ *   다시 읽는 동안에도 댓글 등록이 멈추지 않습니다. (다시 읽기끼리만 synchronized)
+ * - 스팸 링크 주소("bit.ly")는 단어와 따로 주소 형태로 정규화한 본문(normalizeLink)에서 앞뒤 경계까지 맞춰 찾습니다.
+ * - 금지어를 포함하는 자주 쓰는 단어("시발점")는 허용 단어로 등록하면, 본문에서 그 단어 부분을 지운 뒤 검사합니다.
+ * 목록 형식: 한 줄에 하나, '#'으로 시작하면 주석, "link:"로 시작하면 스팸 링크 패턴, "allow:"로 시작하면 허용 단어.
+ */
+@Service
+public class CommentFilterServiceImpl implements CommentFilterService {
+
+    private static final Logger log = LoggerFactory.getLogger(CommentFilterServiceImpl.class);
+
+    private static final String LINK_PREFIX = "link:";
+    private static final String ALLOW_PREFIX = "allow:";
+
+    private final ResourceLoader resourceLoader;
+    private final String wordListLocation;
+    private final LongAdder blockedComments = new LongAdder();
+
+    private volatile CompiledFilter filter = CompiledFilter.EMPTY;
+
+    public CommentFilterServiceImpl(ResourceLoader resourceLoader,
+                                    @Value("${comment.filter.word-list:classpath:comment-filter/banned-words.txt}") String wordListLocation) {
+        this.resourceLoader = resourceLoader;
+        this.wordListLocation = wordListLocation;
+        try {
+            reload();
+        } catch (IOException e) {
+            log.error("Comment filter word list could not be loaded from {}: {}", wordListLocation, e.getMessage());
+        }
+    }
+
+    @Override
+    public void validate(String commentText) {
+        if (commentText == null || commentText.isEmpty()) {
+            return;
+        }
+        CompiledFilter current = filter;
+        int match = current.matcher.findFirst(current.maskAllowed(CommentFilterNormalizer.normalize(commentText)));
+        if (match >= 0) {
+            blockedComments.increment();
+            if (current.links.get(match)) {
+                throw new IllegalArgumentException("허용되지 않는 링크가 포함된 댓글은 등록할 수 없습니다.");
+            }
+            throw new IllegalArgumentException("금지어가 포함된 댓글은 등록할 수 없습니다.");
+        }
+        if (current.linkMatcher.findFirst(CommentFilterNormalizer.normalizeLink(commentText)) >= 0) {
+            blockedComments.increment();
+            throw new IllegalArgumentException("허용되지 않는 링크가 포함된 댓글은 등록할 수 없습니다.");
+        }
+    }
+
+    @Override
+    public synchronized CommentFilterStatusDTO reload() throws IOException {
+        long start = System.currentTimeMillis();
+        Resource resource = resourceLoader.getResource(wordListLocation);
+        List<String> patterns = new ArrayList<>();
+        List<Boolean> links = new ArrayList<>();
+        List<String> linkPatterns = new ArrayList<>();
+        List<String> allowPatterns = new ArrayList<>();
+        int wordCount = 0;
+        int linkCount = 0;
+        int allowCount = 0;
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(resource.getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                String entry = line.strip();
+                if (entry.isEmpty() || entry.startsWith("#")) {
+                    continue;
+                }
+                boolean link = entry.startsWith(LINK_PREFIX);
+                boolean allow = entry.startsWith(ALLOW_PREFIX);
+                if (link) {
+                    entry = entry.substring(LINK_PREFIX.length()).strip();
+                } else if (allow) {
+                    entry = entry.substring(ALLOW_PREFIX.length()).strip();
+                }
+                int added = 0;
+                if (allow) {
+                    for (String pattern : CommentFilterNormalizer.patterns(entry)) {
+                        allowPatterns.add(pattern);
+                        added++;
+                    }
+                } else if (link && CommentFilterNormalizer.isLinkAddress(entry)) {
+                    for (String pattern : CommentFilterNormalizer.linkPatterns(entry)) {
+                        linkPatterns.add(pattern);
+                        added++;
+                    }
+                } else {
+                    for (String pattern : CommentFilterNormalizer.patterns(entry)) {
+                        patterns.add(pattern);
+                        links.add(link);
+                        added++;
+                    }
+                }
+                if (added == 0) {
+                    log.warn("Ignoring comment filter entry without letters: {}", line);
+                } else if (allow) {
+                    allowCount++;
+                } else if (link) {
+                    linkCount++;
+                } else {
+                    wordCount++;
+                }
+            }
+        }
+
+        CompiledFilter compiled = new CompiledFilter(AhoCorasickMatcher.compile(patterns), links,
+                AhoCorasickMatcher.compile(linkPatterns), AhoCorasickMatcher.compile(allowPatterns),
+                allowPatterns.stream().mapToInt(String::length).toArray(),
+                wordCount, linkCount, allowCount, LocalDateTime.now());
+        filter = compiled;
+        log.info("Comment filter loaded {} word(s), {} link pattern(s) and {} allowed word(s) from {} ({} nodes) in {} ms.",
+                wordCount, linkCount, allowCount, wordListLocation, compiled.getNodeCount(), System.currentTimeMillis() - start);
+        return toStatus(compiled);
+    }
+
+    @Override
+    public CommentFilterStatusDTO getStatus() {
+        return toStatus(filter);
+    }
+
+    private CommentFilterStatusDTO toStatus(CompiledFilter compiled) {
+        return CommentFilterStatusDTO.builder()
+                .source(wordListLocation)
+                .wordCount(compiled.wordCount)
+                .linkCount(compiled.linkCount)
+                .allowedWordCount(compiled.allowCount)
+                .automatonNodes(compiled.getNodeCount())
+                .loadedAt(compiled.loadedAt)
+                .blockedComments(blockedComments.sum())
+                .build();
+    }
+
+    /**
+     * 한 번 만든 뒤 바뀌지 않는 필터. links는 단어 패턴 번호별 스팸 링크 여부, allowLengths는 허용 단어 패턴 번호별 길이입니다.
+     */
+    private static final class CompiledFilter {
+        private static final CompiledFilter EMPTY = new CompiledFilter(AhoCorasickMatcher.compile(List.of()), List.of(),
+                AhoCorasickMatcher.compile(List.of()), AhoCorasickMatcher.compile(List.of()), new int[0], 0, 0, 0, null);
+
+        private final AhoCorasickMatcher matcher;
+        private final List<Boolean> links;
+        private final AhoCorasickMatcher linkMatcher;
+        private final AhoCorasickMatcher allowMatcher;
+        private final int[] allowLengths;
+        private final int wordCount;
+        private final int linkCount;
+        private final int allowCount;
+        private final LocalDateTime loadedAt;
+
+        CompiledFilter(AhoCorasickMatcher matcher, List<Boolean> links, AhoCorasickMatcher linkMatcher,
+                       AhoCorasickMatcher allowMatcher, int[] allowLengths,
+                       int wordCount, int linkCount, int allowCount, LocalDateTime loadedAt) {
+            this.matcher = matcher;
+            this.links = links;
+            this.linkMatcher = linkMatcher;
+            this.allowMatcher = allowMatcher;
+            this.allowLengths = allowLengths;
+            this.wordCount = wordCount;
+            this.linkCount = linkCount;
+            this.allowCount = allowCount;
+            this.loadedAt = loadedAt;
+        }
+
+        /**
+         * 정규화된 본문에서 허용 단어 부분을 단어 경계로 바꿉니다. 허용 단어가 없으면 그대로 반환합니다.
+         */
+        String maskAllowed(String normalized) {
+            if (allowLengths.length == 0) {
+                return normalized;
+            }
+            char[][] masked = new char[1][]; // 허용 단어가 있을 때만 복사
+            allowMatcher.forEachMatch(normalized, (pattern, end) -> {
+                if (masked[0] == null) {
+                    masked[0] = normalized.toCharArray();
+                }
+                Arrays.fill(masked[0], end - allowLengths[pattern], end, CommentFilterNormalizer.WORD_GAP);
+            });
+            return masked[0] != null ? new String(masked[0]) : normalized;
+        }
+
+        int getNodeCount() {
+            return matcher.getNodeCount() + linkMatcher.getNodeCount() + allowMatcher.getNodeCount();
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.example.p1.service;
+
+import com.example.p1.dto.CommentDTO;
+import com.example.p1.dto.CommentIngestAckDTO;
+
+/**
+ * 경기 중 댓글이 몰릴 때 사용하는 댓글 일괄 등록(write-behind) 서비스 인터페이스.
+ */
+public interface CommentIngestionService {
+
+    /**
+     * 댓글을 검증한 뒤 저장 대기열에 넣고 바로 접수 응답을 반환합니다. 실제 저장은 묶음 단위로 나중에 이루어집니다.
+     * @throws IllegalArgumentException 경기/회원/예측 팀을 찾을 수 없거나 내용이 올바르지 않은 경우
+     * @throws IllegalStateException 이미 이 경기에 예측 댓글을 등록(또는 접수)한 경우
+     * @throws java.util.concurrent.RejectedExecutionException 대기열이 가득 찬 경우 (잠시 후 재시도)
+     */
+    CommentIngestAckDTO submit(Long gameId, String username, CommentDTO commentDTO);
+
+    /**
+     * 저장 대기 중인 댓글 수를 반환합니다.
+     */
+    int getQueuedCount();
+}
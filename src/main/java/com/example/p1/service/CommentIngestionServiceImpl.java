@@ -0,0 +1,291 @@
+package com.example.p1.service;
+
+import com.example.p1.domain.CommentType;
+import com.example.p1.dto.CommentDTO;
+import com.example.p1.dto.CommentIngestAckDTO;
+import com.example.p1.repository.CommentRepository;
+import com.example.p1.repository.GameScheduleRepository;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 댓글 일괄 등록 서비스 구현체.
+ * - 접수 시에는 경기 존재 여부와 예측 중복만 쿼리로 확인하고 회원/예측 팀은 CommentWriteLookup 캐시를 사용합니다.
+ *   경기/회원 엔티티는 읽지 않습니다. (경기 findById는 댓글과 라인업까지 함께 읽음)
+ * - 검증된 댓글은 크기가 제한된 대기열에 들어가고, 전용 저장 스레드가 쌓인 만큼 꺼내
+ *   시퀀스 일괄 채번 + JDBC 배치 INSERT 한 트랜잭션으로 저장합니다. 저장 중 들어온 댓글은 다음 묶음이 됩니다.
+ * - 대기열이 가득 차면 접수를 거절(RejectedExecutionException)해 메모리와 DB 부하가 무한히 늘지 않게 합니다.
+ * - 저장이 끝난 댓글은 예측 카운터와 실시간 스트림에 반영되며, 스트림 이벤트의 provisionalId로 접수 건과 연결됩니다.
+ * 예측 중복은 DB 확인 + 저장 대기 중인 (경기, 회원) 목록으로 막습니다.
+ */
+@Service
+public class CommentIngestionServiceImpl implements CommentIngestionService {
+
+    private static final Logger log = LoggerFactory.getLogger(CommentIngestionServiceImpl.class);
+
+    private static final int MAX_COMMENT_LENGTH = 500; // GAME_COMMENT.COMMENT_TEXT 길이
+    private static final long POLL_INTERVAL_MS = 100;
+
+    private static final String NEXT_IDS_SQL =
+            "SELECT GAME_COMMENT_SEQ.NEXTVAL FROM dual CONNECT BY LEVEL <= ?";
+
+    private static final String INSERT_COMMENT_SQL =
+            "INSERT INTO GAME_COMMENT (id, member_id, game_id, comment_text, created_at, updated_at, type, predicted_team_id) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final GameScheduleRepository gameScheduleRepository;
+    private final CommentWriteLookup commentWriteLookup;
+    private final CommentRepository commentRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final PredictionCounterService predictionCounterService;
+    private final CommentStreamBroker commentStreamBroker;
+    private final CommentSearchService commentSearchService;
+    private final CommentFilterService commentFilterService;
+    private final CommentArchiveService commentArchiveService;
+
+    private final int batchSize;
+    private final BlockingQueue<PendingComment> queue;
+    private final Set<String> pendingPredictions = ConcurrentHashMap.newKeySet(); // "gameId:memberId"
+    private final Thread writer;
+    private volatile boolean running = true;
+
+    public CommentIngestionServiceImpl(GameScheduleRepository gameScheduleRepository,
+                                       CommentWriteLookup commentWriteLookup,
+                                       CommentRepository commentRepository,
+                                       JdbcTemplate jdbcTemplate,
+                                       TransactionTemplate transactionTemplate,
+                                       PredictionCounterService predictionCounterService,
+                                       CommentStreamBroker commentStreamBroker,
+                                       CommentSearchService commentSearchService,
+                                       CommentFilterService commentFilterService,
+                                       CommentArchiveService commentArchiveService,
+                                       @Value("${comment.ingest.queue-capacity:10000}") int queueCapacity,
+                                       @Value("${comment.ingest.batch-size:200}") int batchSize) {
+        this.gameScheduleRepository = gameScheduleRepository;
+        this.commentWriteLookup = commentWriteLookup;
+        this.commentRepository = commentRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.predictionCounterService = predictionCounterService;
+        this.commentStreamBroker = commentStreamBroker;
+        this.commentSearchService = commentSearchService;
+        this.commentFilterService = commentFilterService;
+        this.commentArchiveService = commentArchiveService;
+        this.batchSize = batchSize;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.writer = new Thread(this::runWriter, "comment-ingest-writer");
+        this.writer.setDaemon(true);
+        this.writer.start();
+    }
+
+    @Override
+    public CommentIngestAckDTO submit(Long gameId, String username, CommentDTO commentDTO) {
+        if (commentDTO.getType() == null) {
+            throw new IllegalArgumentException("댓글 종류를 지정해야 합니다.");
+        }
+        if (commentDTO.getCommentText() != null && commentDTO.getCommentText().length() > MAX_COMMENT_LENGTH) {
+            throw new IllegalArgumentException("댓글은 " + MAX_COMMENT_LENGTH + "자까지 입력할 수 있습니다.");
+        }
+        commentFilterService.validate(commentDTO.getCommentText());
+        if (!gameScheduleRepository.existsById(gameId)) {
+            throw new IllegalArgumentException("경기를 찾을 수 없습니다: " + gameId);
+        }
+        if (commentArchiveService.isArchived(gameId)) {
+            throw new IllegalStateException("댓글이 보관된 지난 시즌 경기에는 댓글을 작성할 수 없습니다.");
+        }
+        CommentWriteLookup.MemberRef member = commentWriteLookup.getMember(username);
+        if (member == null) {
+            throw new IllegalArgumentException("사용자를 찾을 수 없습니다: " + username);
+        }
+        Long memberId = member.getId();
+        String nickname = member.getNickname();
+
+        CommentWriteLookup.TeamRef predictedTeam = null;
+        String predictionKey = null;
+        if (commentDTO.getType() == CommentType.PREDICTION) {
+            if (commentDTO.getPredictedTeamName() == null || commentDTO.getPredictedTeamName().isEmpty()) {
+                throw new IllegalArgumentException("예측 댓글은 예측 팀을 지정해야 합니다.");
+            }
+            predictedTeam = commentWriteLookup.getTeam(commentDTO.getPredictedTeamName());
+            if (predictedTeam == null) {
+                throw new IllegalArgumentException("예측 팀을 찾을 수 없습니다: " + commentDTO.getPredictedTeamName());
+            }
+            predictionKey = gameId + ":" + memberId;
+            if (commentRepository.existsByGameIdAndMemberIdAndType(gameId, memberId, CommentType.PREDICTION)
+                    || !pendingPredictions.add(predictionKey)) {
+                throw new IllegalStateException("이미 이 경기에 예측 댓글을 등록했습니다.");
+            }
+        }
+
+        PendingComment pending = new PendingComment(UUID.randomUUID().toString(), gameId, memberId, username, nickname,
+                commentDTO.getCommentText(), commentDTO.getType(),
+                predictedTeam != null ? predictedTeam.getId() : null,
+                predictedTeam != null ? predictedTeam.getName() : null,
+                LocalDateTime.now());
+        if (!running || !queue.offer(pending)) {
+            if (predictionKey != null) {
+                pendingPredictions.remove(predictionKey);
+            }
+            throw new RejectedExecutionException("댓글 저장 대기열이 가득 찼습니다. 잠시 후 다시 시도해 주세요.");
+        }
+
+        return CommentIngestAckDTO.builder()
+                .provisionalId(pending.provisionalId)
+                .gameId(gameId)
+                .acceptedAt(pending.createdAt)
+                .queuedComments(queue.size())
+                .build();
+    }
+
+    @Override
+    public int getQueuedCount() {
+        return queue.size();
+    }
+
+    /**
+     * 종료 시 접수를 멈추고 대기열에 남은 댓글을 모두 저장한 뒤 끝냅니다.
+     */
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        running = false;
+        writer.join(TimeUnit.SECONDS.toMillis(30));
+        if (!queue.isEmpty()) {
+            log.warn("Comment ingest writer stopped with {} comment(s) still queued.", queue.size());
+        }
+    }
+
+    private void runWriter() {
+        List<PendingComment> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                PendingComment first = queue.poll(POLL_INTERVAL_MS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                write(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                log.error("Comment ingest writer failed: {}", e.getMessage(), e);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void write(List<PendingComment> batch) {
+        try {
+            List<Long> ids;
+            try {
+                ids = transactionTemplate.execute(status -> insert(batch));
+            } catch (Exception e) {
+                // 한 건 때문에 묶음 전체가 실패한 경우(그 사이 경기 삭제 등) 나머지는 살리기 위해 한 건씩 다시 저장
+                log.warn("Comment ingest batch of {} failed: {}. Retrying one by one.", batch.size(), e.getMessage());
+                writeOneByOne(batch);
+                return;
+            }
+            afterInsert(batch, ids);
+        } finally {
+            for (PendingComment comment : batch) {
+                if (comment.predictedTeamId != null) {
+                    pendingPredictions.remove(comment.gameId + ":" + comment.memberId);
+                }
+            }
+        }
+    }
+
+    private void writeOneByOne(List<PendingComment> batch) {
+        for (PendingComment comment : batch) {
+            List<PendingComment> single = List.of(comment);
+            List<Long> ids;
+            try {
+                ids = transactionTemplate.execute(status -> insert(single));
+            } catch (Exception e) {
+                log.error("Dropping ingested comment {} for game {}: {}", comment.provisionalId, comment.gameId, e.getMessage());
+                continue;
+            }
+            afterInsert(single, ids);
+        }
+    }
+
+    private List<Long> insert(List<PendingComment> comments) {
+        List<Long> ids = jdbcTemplate.queryForList(NEXT_IDS_SQL, Long.class, comments.size());
+        List<Object[]> rows = new ArrayList<>(comments.size());
+        for (int i = 0; i < comments.size(); i++) {
+            PendingComment comment = comments.get(i);
+            Timestamp createdAt = Timestamp.valueOf(comment.createdAt);
+            rows.add(new Object[]{ids.get(i), comment.memberId, comment.gameId, comment.commentText,
+                    createdAt, createdAt, comment.type.name(), comment.predictedTeamId});
+        }
+        jdbcTemplate.batchUpdate(INSERT_COMMENT_SQL, rows, new int[]{
+                Types.NUMERIC, Types.NUMERIC, Types.NUMERIC, Types.VARCHAR,
+                Types.TIMESTAMP, Types.TIMESTAMP, Types.VARCHAR, Types.NUMERIC});
+        return ids;
+    }
+
+    private void afterInsert(List<PendingComment> comments, List<Long> ids) {
+        for (int i = 0; i < comments.size(); i++) {
+            PendingComment comment = comments.get(i);
+            CommentDTO saved = new CommentDTO(ids.get(i), comment.gameId, comment.username, comment.commentText,
+                    comment.type, comment.predictedTeamName, comment.createdAt, comment.createdAt, comment.nickname);
+            if (comment.type == CommentType.PREDICTION) {
+                predictionCounterService.recordChange(comment.gameId, null, comment.predictedTeamName);
+            }
+            commentStreamBroker.publishCreated(comment.gameId, saved, comment.provisionalId);
+            commentSearchService.index(saved);
+        }
+    }
+
+    /**
+     * 검증을 마치고 저장을 기다리는 댓글.
+     */
+    private static final class PendingComment {
+        private final String provisionalId;
+        private final Long gameId;
+        private final Long memberId;
+        private final String username;
+        private final String nickname;
+        private final String commentText;
+        private final CommentType type;
+        private final Long predictedTeamId;
+        private final String predictedTeamName;
+        private final LocalDateTime createdAt;
+
+        PendingComment(String provisionalId, Long gameId, Long memberId, String username, String nickname,
+                       String commentText, CommentType type, Long predictedTeamId, String predictedTeamName,
+                       LocalDateTime createdAt) {
+            this.provisionalId = provisionalId;
+            this.gameId = gameId;
+            this.memberId = memberId;
+            this.username = username;
+            this.nickname = nickname;
+            this.commentText = commentText;
+            this.type = type;
+            this.predictedTeamId = predictedTeamId;
+            this.predictedTeamName = predictedTeamName;
+            this.createdAt = createdAt;
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.example.p1.service;
+
+import com.example.p1.dto.CommentModerationReportDTO;
+
+import java.time.LocalDateTime;
+
+/**
+ * 관리자용 댓글 일괄 삭제/숨김 서비스 인터페이스.
+ * 조건(작성자, 경기, 작성 시각 범위)은 null이면 적용하지 않으며 하나 이상 지정해야 합니다. 여러 조건은 AND로 적용됩니다.
+ */
+public interface CommentModerationService {
+
+    /**
+     * 조건에 맞는 댓글을 모두 삭제합니다. (숨긴 댓글 포함)
+     * @param from 작성 시각 시작 (포함)
+     * @param to 작성 시각 끝 (제외)
+     * @throws IllegalArgumentException 조건이 없거나 범위가 잘못되었거나 회원을 찾을 수 없는 경우
+     */
+    CommentModerationReportDTO deleteComments(String username, Long gameId, LocalDateTime from, LocalDateTime to);
+
+    /**
+     * 조건에 맞는 댓글을 숨깁니다. 숨긴 댓글은 DB에 남지만 목록/피드/예측 집계/검색에서 빠집니다.
+     * @throws IllegalArgumentException 조건이 없거나 범위가 잘못되었거나 회원을 찾을 수 없는 경우
+     */
+    CommentModerationReportDTO hideComments(String username, Long gameId, LocalDateTime from, LocalDateTime to);
+}
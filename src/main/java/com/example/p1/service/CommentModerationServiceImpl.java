@@ -0,0 +1,218 @@
+package com.example.p1.service;
+
+import com.example.p1.domain.CommentType;
+import com.example.p1.domain.GameStatus;
+import com.example.p1.dto.CommentModerationReportDTO;
+import com.example.p1.repository.CommentRepository;
+import com.example.p1.repository.GameScheduleRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * 댓글 일괄 삭제/숨김 구현체.
+ * - 조건에 맞는 댓글 ID를 ID 순서로 묶음(comment.moderation.chunk-size, 최대 1000)씩 읽고,
+ *   묶음마다 DELETE/UPDATE ... WHERE id IN (...) 한 문장으로 처리해 새 트랜잭션으로 커밋합니다.
+ *   댓글을 하나씩 읽어 지우지 않으며, 묶음 단위 커밋이라 undo/잠금이 작고 중간에 실패해도 다시 실행하면 남은 댓글만 처리합니다.
+ * - 묶음이 커밋되면 해당 댓글을 검색 색인에서 빼고, 구독 중인 경기 스트림에 삭제 이벤트를 보내고,
+ *   예측 댓글이 있던 경기의 메모리 예측 카운터를 버립니다. (다음 조회 때 DB 집계로 다시 채움)
+ * - 끝난 경기의 예측 댓글이 빠졌으면 모든 묶음을 처리한 뒤 해당 시즌 예측 성적을 다시 계산합니다.
+ * 보관(CommentArchiveService)된 경기의 댓글은 GAME_COMMENT에 없으므로 대상이 아닙니다.
+ */
+@Service
+public class CommentModerationServiceImpl implements CommentModerationService {
+
+    private static final Logger log = LoggerFactory.getLogger(CommentModerationServiceImpl.class);
+
+    private static final int MAX_CHUNK_SIZE = 1000; // Oracle IN 목록 최대 개수
+
+    private final CommentRepository commentRepository;
+    private final GameScheduleRepository gameScheduleRepository;
+    private final CommentWriteLookup commentWriteLookup;
+    private final PredictionCounterService predictionCounterService;
+    private final CommentSearchService commentSearchService;
+    private final CommentStreamBroker commentStreamBroker;
+    private final PredictionLeaderboardService predictionLeaderboardService;
+    private final TransactionTemplate chunkTransaction;
+    private final int chunkSize;
+
+    public CommentModerationServiceImpl(CommentRepository commentRepository,
+                                        GameScheduleRepository gameScheduleRepository,
+                                        CommentWriteLookup commentWriteLookup,
+                                        PredictionCounterService predictionCounterService,
+                                        CommentSearchService commentSearchService,
+                                        CommentStreamBroker commentStreamBroker,
+                                        PredictionLeaderboardService predictionLeaderboardService,
+                                        PlatformTransactionManager transactionManager,
+                                        @Value("${comment.moderation.chunk-size:1000}") int chunkSize) {
+        this.commentRepository = commentRepository;
+        this.gameScheduleRepository = gameScheduleRepository;
+        this.commentWriteLookup = commentWriteLookup;
+        this.predictionCounterService = predictionCounterService;
+        this.commentSearchService = commentSearchService;
+        this.commentStreamBroker = commentStreamBroker;
+        this.predictionLeaderboardService = predictionLeaderboardService;
+        this.chunkTransaction = new TransactionTemplate(transactionManager);
+        this.chunkTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.chunkSize = Math.max(1, Math.min(chunkSize, MAX_CHUNK_SIZE));
+    }
+
+    @Override
+    public CommentModerationReportDTO deleteComments(String username, Long gameId, LocalDateTime from, LocalDateTime to) {
+        return moderate(true, username, gameId, from, to);
+    }
+
+    @Override
+    public CommentModerationReportDTO hideComments(String username, Long gameId, LocalDateTime from, LocalDateTime to) {
+        return moderate(false, username, gameId, from, to);
+    }
+
+    private CommentModerationReportDTO moderate(boolean delete, String username, Long gameId,
+                                                LocalDateTime from, LocalDateTime to) {
+        long start = System.currentTimeMillis();
+        if (username == null && gameId == null && from == null && to == null) {
+            throw new IllegalArgumentException("작성자, 경기, 작성 시각 중 하나 이상의 조건이 필요합니다.");
+        }
+        if (from != null && to != null && !from.isBefore(to)) {
+            throw new IllegalArgumentException("작성 시각 범위가 올바르지 않습니다: " + from + " ~ " + to);
+        }
+        Long memberId = null;
+        if (username != null) {
+            CommentWriteLookup.MemberRef member = commentWriteLookup.getMember(username);
+            if (member == null) {
+                throw new IllegalArgumentException("사용자를 찾을 수 없습니다: " + username);
+            }
+            memberId = member.getId();
+        }
+
+        Long criteriaMemberId = memberId;
+        long afterId = 0;
+        long affected = 0;
+        long predictions = 0;
+        int chunks = 0;
+        Set<Long> games = new HashSet<>();
+        Set<Integer> seasons = new TreeSet<>();
+        while (true) {
+            long cursor = afterId;
+            Chunk chunk = chunkTransaction.execute(status ->
+                    processChunk(delete, cursor, criteriaMemberId, gameId, from, to));
+            if (chunk == null || chunk.read == 0) {
+                break;
+            }
+            chunks++;
+            affected += chunk.affected;
+            predictions += chunk.predictions;
+            games.addAll(chunk.gameIds);
+            seasons.addAll(chunk.finishedSeasons);
+            afterId = chunk.lastId;
+            if (chunk.read < chunkSize) {
+                break;
+            }
+        }
+
+        List<Integer> rebuilt = new ArrayList<>();
+        for (Integer seasonYear : seasons) {
+            try {
+                predictionLeaderboardService.rebuildSeason(seasonYear);
+                rebuilt.add(seasonYear);
+            } catch (Exception e) {
+                log.error("Prediction leaderboard rebuild for season {} after comment moderation failed: {}",
+                        seasonYear, e.getMessage(), e);
+            }
+        }
+
+        String action = delete ? "DELETE" : "HIDE";
+        long elapsedMs = System.currentTimeMillis() - start;
+        log.info("Comment moderation {} (username={}, gameId={}, from={}, to={}): {} comment(s) in {} game(s), {} chunk(s), {} ms.",
+                action, username, gameId, from, to, affected, games.size(), chunks, elapsedMs);
+        return CommentModerationReportDTO.builder()
+                .action(action)
+                .username(username)
+                .gameId(gameId)
+                .from(from)
+                .to(to)
+                .affectedComments(affected)
+                .predictionComments(predictions)
+                .affectedGames(games.size())
+                .chunks(chunks)
+                .rebuiltSeasons(rebuilt)
+                .elapsedMs(elapsedMs)
+                .build();
+    }
+
+    /**
+     * 다음 묶음을 읽어 한 문장으로 삭제/숨김합니다. (묶음별 새 트랜잭션)
+     */
+    private Chunk processChunk(boolean delete, long afterId, Long memberId, Long gameId,
+                               LocalDateTime from, LocalDateTime to) {
+        // 숨김은 이미 숨긴 댓글을 다시 읽지 않고, 삭제는 숨긴 댓글까지 포함
+        List<Object[]> rows = commentRepository.findModerationChunk(afterId, memberId, gameId, from, to, delete,
+                CommentType.PREDICTION, PageRequest.of(0, chunkSize));
+        if (rows.isEmpty()) {
+            return Chunk.EMPTY;
+        }
+        List<Long> ids = new ArrayList<>(rows.size());
+        Set<Long> gameIds = new HashSet<>();
+        Set<Long> predictionGameIds = new HashSet<>();
+        int predictions = 0;
+        for (Object[] row : rows) {
+            ids.add((Long) row[0]);
+            gameIds.add((Long) row[1]);
+            if (Boolean.TRUE.equals(row[2])) {
+                predictionGameIds.add((Long) row[1]);
+                predictions++;
+            }
+        }
+
+        int affected = delete ? commentRepository.deleteByIdIn(ids) : commentRepository.hideByIdIn(ids);
+        List<Integer> finishedSeasons = predictionGameIds.isEmpty()
+                ? List.of()
+                : gameScheduleRepository.findSeasonYearsByIdInAndStatus(predictionGameIds, GameStatus.FINISHED);
+
+        AfterCommit.run(() -> {
+            // 스트림 프레임이 새 집계를 읽도록 카운터를 먼저 비움
+            predictionGameIds.forEach(predictionCounterService::evict);
+            for (Object[] row : rows) {
+                Long commentId = (Long) row[0];
+                commentSearchService.remove(commentId);
+                commentStreamBroker.publishDeleted((Long) row[1], commentId, Boolean.TRUE.equals(row[2]));
+            }
+        });
+        return new Chunk(rows.size(), ids.get(ids.size() - 1), affected, predictions, gameIds, finishedSeasons);
+    }
+
+    /**
+     * 묶음 하나의 처리 결과. lastId는 다음 묶음을 읽을 keyset 위치입니다.
+     */
+    private static final class Chunk {
+        private static final Chunk EMPTY = new Chunk(0, 0, 0, 0, Set.of(), List.of());
+
+        private final int read;
+        private final long lastId;
+        private final int affected;
+        private final int predictions;
+        private final Set<Long> gameIds;
+        private final List<Integer> finishedSeasons;
+
+        Chunk(int read, long lastId, int affected, int predictions, Set<Long> gameIds, List<Integer> finishedSeasons) {
+            this.read = read;
+            this.lastId = lastId;
+            this.affected = affected;
+            this.predictions = predictions;
+            this.gameIds = gameIds;
+            this.finishedSeasons = finishedSeasons;
+        }
+    }
+}
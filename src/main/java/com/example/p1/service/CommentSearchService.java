@@ -0,0 +1,34 @@
+package com.example.p1.service;
+
+import com.example.p1.dto.CommentDTO;
+import com.example.p1.dto.CommentSearchResultDTO;
+
+import java.time.LocalDate;
+
+/**
+ * 댓글 본문 키워드 검색(메모리 역색인) 서비스 인터페이스.
+ */
+public interface CommentSearchService {
+
+    /**
+     * 키워드의 모든 단어를 포함하는 댓글을 최신순으로 검색합니다. 필터는 null이면 적용하지 않습니다.
+     * @throws IllegalArgumentException 검색어에 글자/숫자가 없는 경우
+     */
+    CommentSearchResultDTO search(String query, Long gameId, String username, LocalDate from, LocalDate to, int page, int size);
+
+    /**
+     * 댓글을 색인에 추가하거나 내용을 갱신합니다. (커밋 이후 호출)
+     */
+    void index(CommentDTO comment);
+
+    /**
+     * 댓글을 색인에서 제거합니다. (커밋 이후 호출)
+     */
+    void remove(Long commentId);
+
+    /**
+     * DB의 전체 댓글로 색인을 새로 만듭니다. 만드는 동안 들어온 변경은 새 색인에 이어서 반영됩니다.
+     * @return 색인된 댓글 수
+     */
+    int rebuild();
+}
@@ -0,0 +1,277 @@
+package com.example.p1.service;
+
+import com.example.p1.dto.CommentDTO;
+import com.example.p1.dto.CommentSearchResultDTO;
+import com.example.p1.repository.CommentRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * 댓글 검색 서비스 구현체. 댓글 본문의 한글 바이그램(+한 글자) → 댓글 ID 역색인을 메모리에 유지합니다.
+ * - 검색: 가장 짧은 색인 목록부터 교집합을 구한 뒤, 원문 포함 여부와 경기/회원/기간 필터를 확인합니다.
+ *   LIKE '%...%' 전체 스캔 없이 후보만 확인하고, 결과 페이지의 댓글만 DB에서 DTO로 한 번에 읽습니다.
+ * - 갱신: 댓글 등록/수정/삭제 커밋 후 index/remove로 바로 반영합니다.
+ * - 재구성: 서버 시작 시(백그라운드) 또는 관리자 요청 시 전체 댓글을 스트리밍으로 읽어 새 색인을 만든 뒤 교체합니다.
+ *   만드는 동안 들어온 변경은 기록해 두었다가 교체 직전에 새 색인에 다시 적용합니다.
+ */
+@Service
+public class CommentSearchServiceImpl implements CommentSearchService {
+
+    private static final Logger log = LoggerFactory.getLogger(CommentSearchServiceImpl.class);
+
+    private static final int MAX_PAGE_SIZE = 100;
+
+    private final CommentRepository commentRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private SearchIndex index = new SearchIndex();        // lock으로 보호
+    private List<IndexedComment> changesDuringRebuild;    // 재구성 중일 때만 non-null (remove는 text == null)
+    private volatile boolean ready;
+
+    public CommentSearchServiceImpl(CommentRepository commentRepository, TransactionTemplate transactionTemplate) {
+        this.commentRepository = commentRepository;
+        this.transactionTemplate = transactionTemplate;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildOnStartup() {
+        // 댓글이 많으면 오래 걸리므로 시작을 막지 않도록 별도 스레드에서 생성
+        Thread builder = new Thread(() -> {
+            try {
+                rebuild();
+            } catch (Exception e) {
+                log.error("Comment search index build failed: {}", e.getMessage(), e);
+            }
+        }, "comment-search-index-build");
+        builder.setDaemon(true);
+        builder.start();
+    }
+
+    @Override
+    public CommentSearchResultDTO search(String query, Long gameId, String username, LocalDate from, LocalDate to, int page, int size) {
+        List<String> queryWords = KoreanBigramTokenizer.words(KoreanBigramTokenizer.normalize(query));
+        if (queryWords.isEmpty()) {
+            throw new IllegalArgumentException("검색어를 입력해야 합니다.");
+        }
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        int pageNumber = Math.max(0, page);
+        LocalDateTime fromTime = from != null ? from.atStartOfDay() : null;
+        LocalDateTime toTime = to != null ? to.plusDays(1).atStartOfDay() : null;
+
+        List<IndexedComment> matches;
+        lock.readLock().lock();
+        try {
+            matches = index.find(KoreanBigramTokenizer.queryTerms(queryWords)).stream()
+                    .filter(c -> queryWords.stream().allMatch(c.text::contains))
+                    .filter(c -> gameId == null || gameId.equals(c.gameId))
+                    .filter(c -> username == null || username.equals(c.username))
+                    .filter(c -> fromTime == null || !c.createdAt.isBefore(fromTime))
+                    .filter(c -> toTime == null || c.createdAt.isBefore(toTime))
+                    .collect(Collectors.toList());
+        } finally {
+            lock.readLock().unlock();
+        }
+        matches.sort(Comparator.comparing((IndexedComment c) -> c.createdAt).thenComparing(c -> c.id).reversed());
+
+        List<Long> pageIds = matches.stream()
+                .skip((long) pageNumber * pageSize)
+                .limit(pageSize)
+                .map(c -> c.id)
+                .collect(Collectors.toList());
+        List<CommentDTO> comments = new ArrayList<>();
+        if (!pageIds.isEmpty()) {
+            // 검색 결과 순서를 유지 (그 사이 삭제된 댓글은 빠짐)
+            Map<Long, CommentDTO> byId = commentRepository.findCommentDTOsByIdIn(pageIds).stream()
+                    .collect(Collectors.toMap(CommentDTO::getId, Function.identity()));
+            pageIds.stream().map(byId::get).filter(c -> c != null).forEach(comments::add);
+        }
+
+        return CommentSearchResultDTO.builder()
+                .comments(comments)
+                .totalHits(matches.size())
+                .page(pageNumber)
+                .size(pageSize)
+                .indexReady(ready)
+                .build();
+    }
+
+    @Override
+    public void index(CommentDTO comment) {
+        apply(new IndexedComment(comment.getId(), comment.getGameId(), comment.getUsername(), comment.getCreatedAt(),
+                KoreanBigramTokenizer.normalize(comment.getCommentText())));
+    }
+
+    @Override
+    public void remove(Long commentId) {
+        apply(new IndexedComment(commentId, null, null, null, null));
+    }
+
+    @Override
+    public synchronized int rebuild() {
+        long start = System.currentTimeMillis();
+        lock.writeLock().lock();
+        try {
+            changesDuringRebuild = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        SearchIndex rebuilt = new SearchIndex();
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                try (Stream<Object[]> rows = commentRepository.streamCommentsForSearchIndex()) {
+                    rows.forEach(row -> rebuilt.put(new IndexedComment((Long) row[0], (Long) row[1], (String) row[2],
+                            (LocalDateTime) row[4], KoreanBigramTokenizer.normalize((String) row[3]))));
+                }
+            });
+        } catch (RuntimeException e) {
+            lock.writeLock().lock();
+            try {
+                changesDuringRebuild = null; // 기존 색인은 계속 갱신되고 있었으므로 그대로 사용
+            } finally {
+                lock.writeLock().unlock();
+            }
+            throw e;
+        }
+
+        lock.writeLock().lock();
+        try {
+            changesDuringRebuild.forEach(rebuilt::apply);
+            changesDuringRebuild = null;
+            index = rebuilt;
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("Comment search index rebuilt with {} comment(s), {} term(s) in {} ms.",
+                rebuilt.comments.size(), rebuilt.postings.size(), System.currentTimeMillis() - start);
+        return rebuilt.comments.size();
+    }
+
+    private void apply(IndexedComment change) {
+        lock.writeLock().lock();
+        try {
+            index.apply(change);
+            if (changesDuringRebuild != null) {
+                changesDuringRebuild.add(change);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 색인된 댓글. text는 정규화된 본문이며 null이면 삭제 기록입니다.
+     */
+    private static final class IndexedComment {
+        private final Long id;
+        private final Long gameId;
+        private final String username;
+        private final LocalDateTime createdAt;
+        private final String text;
+
+        IndexedComment(Long id, Long gameId, String username, LocalDateTime createdAt, String text) {
+            this.id = id;
+            this.gameId = gameId;
+            this.username = username;
+            this.createdAt = createdAt;
+            this.text = text;
+        }
+    }
+
+    /**
+     * 댓글 저장소와 역색인. 잠금은 바깥에서 처리합니다.
+     */
+    private static final class SearchIndex {
+        private final Map<Long, IndexedComment> comments = new HashMap<>();
+        private final Map<String, Set<Long>> postings = new HashMap<>();
+
+        void apply(IndexedComment change) {
+            if (change.text == null) {
+                removeById(change.id);
+            } else {
+                put(change);
+            }
+        }
+
+        void put(IndexedComment comment) {
+            IndexedComment previous = comments.get(comment.id);
+            IndexedComment stored = comment;
+            if (previous != null) {
+                removeById(comment.id);
+                // 수정 이벤트에 작성 시각이 없으면 기존 값을 유지
+                if (comment.createdAt == null) {
+                    stored = new IndexedComment(comment.id, previous.gameId, previous.username, previous.createdAt, comment.text);
+                }
+            }
+            if (stored.createdAt == null) {
+                stored = new IndexedComment(stored.id, stored.gameId, stored.username, LocalDateTime.now(), stored.text);
+            }
+            comments.put(stored.id, stored);
+            for (String term : KoreanBigramTokenizer.indexTerms(stored.text)) {
+                postings.computeIfAbsent(term, t -> new HashSet<>()).add(stored.id);
+            }
+        }
+
+        void removeById(Long id) {
+            IndexedComment removed = comments.remove(id);
+            if (removed == null) {
+                return;
+            }
+            for (String term : KoreanBigramTokenizer.indexTerms(removed.text)) {
+                Set<Long> ids = postings.get(term);
+                if (ids != null) {
+                    ids.remove(id);
+                    if (ids.isEmpty()) {
+                        postings.remove(term);
+                    }
+                }
+            }
+        }
+
+        /**
+         * 모든 검색어가 색인된 댓글 후보. (가장 짧은 목록부터 교집합)
+         */
+        List<IndexedComment> find(Set<String> terms) {
+            List<Set<Long>> lists = new ArrayList<>(terms.size());
+            for (String term : terms) {
+                Set<Long> ids = postings.get(term);
+                if (ids == null) {
+                    return List.of();
+                }
+                lists.add(ids);
+            }
+            lists.sort(Comparator.comparingInt(Set::size));
+            List<IndexedComment> candidates = new ArrayList<>();
+            for (Long id : lists.get(0)) {
+                boolean inAll = true;
+                for (int i = 1; i < lists.size() && inAll; i++) {
+                    inAll = lists.get(i).contains(id);
+                }
+                if (inAll) {
+                    candidates.add(comments.get(id));
+                }
+            }
+            return candidates;
+        }
+    }
+}
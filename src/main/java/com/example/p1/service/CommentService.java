@@ -1,6 +1,7 @@
 package com.example.p1.service;
 
 import com.example.p1.dto.CommentDTO;
+import com.example.p1.dto.CommentFeedDTO;
 import com.example.p1.domain.Comment;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable; // Pageable import 추가
@@ -12,6 +13,9 @@ public interface CommentService {
     // 페이징 처리를 위해 Pageable 인자를 받고 Page<CommentDTO>를 반환하도록 변경
     Page<CommentDTO> getCommentsByGameId(Long gameId, Pageable pageable);
 
+    // 커서 기반 댓글 피드 (최신순). cursor가 null이면 첫 페이지, 전체 개수는 조회하지 않음
+    CommentFeedDTO getCommentFeed(Long gameId, String cursor, int size);
+
     CommentDTO addComment(Long gameId, String username, CommentDTO commentDTO);
 
     Map<String, Long> getPredictionCommentCounts(Long gameId);
@@ -1,167 +1,283 @@
 package com.example.p1.service;
 
 import com.example.p1.dto.CommentDTO;
+import com.example.p1.dto.CommentFeedDTO;
 import com.example.p1.domain.Comment;
-import com.example.p1.domain.GameSchedule;
-import com.example.p1.domain.Member;
 import com.example.p1.domain.CommentType;
-import com.example.p1.domain.Team;
 import com.example.p1.repository.CommentRepository;
 import com.example.p1.repository.GameScheduleRepository;
 import com.example.p1.repository.MemberRepository;
 import com.example.p1.repository.TeamRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable; // Pageable import 추가
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
-import java.util.HashMap;
+import java.util.Objects;
 import java.util.stream.Collectors;
 
 /**
  * 댓글 관련 비즈니스 로직을 구현하는 서비스 구현체.
+ * 쓰기 경로(등록/수정/삭제)는 회원/팀을 CommentWriteLookup 캐시에서 꺼내 getReferenceById로 외래 키만 연결하고,
+ * 응답 DTO도 캐시 값으로 만들어 LAZY 연관을 초기화하지 않습니다. 호출당 SQL 수(캐시 적중 기준):
+ * - 등록: 경기 존재 확인 1 + (예측이면 중복 확인 1) + 시퀀스 1 + INSERT 1
+ * - 수정: 작성자/예측 팀 fetch join 조회 1 + UPDATE 1
+ * - 삭제: 작성자/예측 팀 fetch join 조회 1 + DELETE 1
+ * 지난 시즌 경기의 댓글이 보관(CommentArchiveService)되었으면 조회는 보관본에서 제공하고 새 댓글은 받지 않습니다.
+ * 등록/수정 본문은 CommentFilterService로 금지어/스팸 링크를 먼저 검사합니다. (메모리 검사, SQL 없음)
  */
 @Service
 @RequiredArgsConstructor
 public class CommentServiceImpl implements CommentService {
 
+    private static final int MAX_FEED_SIZE = 100;
+
     private final CommentRepository commentRepository;
     private final GameScheduleRepository gameScheduleRepository;
     private final MemberRepository memberRepository;
     private final TeamRepository teamRepository;
+    private final CommentWriteLookup commentWriteLookup;
+    private final CommentStreamBroker commentStreamBroker;
+    private final PredictionCounterService predictionCounterService;
+    private final CommentSearchService commentSearchService;
+    private final CommentFilterService commentFilterService;
+    private final CommentArchiveService commentArchiveService;
 
     @Override
     @Transactional
     public CommentDTO addComment(Long gameId, String username, CommentDTO commentDTO) {
-        GameSchedule game = gameScheduleRepository.findById(gameId)
-                .orElseThrow(() -> new IllegalArgumentException("경기를 찾을 수 없습니다: " + gameId));
-        Member member = memberRepository.findByUsername(username)
-                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다: " + username));
+        commentFilterService.validate(commentDTO.getCommentText());
+        // findById는 경기의 댓글/라인업까지 fetch join하므로 존재 여부만 확인하고 참조로 연결
+        if (!gameScheduleRepository.existsById(gameId)) {
+            throw new IllegalArgumentException("경기를 찾을 수 없습니다: " + gameId);
+        }
+        if (commentArchiveService.isArchived(gameId)) {
+            throw new IllegalStateException("댓글이 보관된 지난 시즌 경기에는 댓글을 작성할 수 없습니다.");
+        }
+        CommentWriteLookup.MemberRef member = commentWriteLookup.getMember(username);
+        if (member == null) {
+            throw new IllegalArgumentException("사용자를 찾을 수 없습니다: " + username);
+        }
 
-        Team predictedTeam = null;
+        CommentWriteLookup.TeamRef predictedTeam = null;
 
         if (commentDTO.getType() == CommentType.PREDICTION) {
-            boolean hasExistingPrediction = commentRepository.existsByGameIdAndMemberUsernameAndType(gameId, username, CommentType.PREDICTION);
+            boolean hasExistingPrediction = commentRepository.existsByGameIdAndMemberIdAndType(gameId, member.getId(), CommentType.PREDICTION);
             if (hasExistingPrediction) {
                 throw new IllegalStateException("이미 이 경기에 예측 댓글을 등록했습니다.");
             }
             if (commentDTO.getPredictedTeamName() == null || commentDTO.getPredictedTeamName().isEmpty()) {
                 throw new IllegalArgumentException("예측 댓글은 예측 팀을 지정해야 합니다.");
             }
-            predictedTeam = teamRepository.findByName(commentDTO.getPredictedTeamName());
+            predictedTeam = commentWriteLookup.getTeam(commentDTO.getPredictedTeamName());
             if (predictedTeam == null) {
                 throw new IllegalArgumentException("예측 팀을 찾을 수 없습니다: " + commentDTO.getPredictedTeamName());
             }
         }
 
         Comment comment = Comment.builder()
-                .game(game)
-                .member(member)
+                .game(gameScheduleRepository.getReferenceById(gameId))
+                .member(memberRepository.getReferenceById(member.getId()))
                 .commentText(commentDTO.getCommentText())
                 .type(commentDTO.getType())
-                .predictedTeam(predictedTeam)
+                .predictedTeam(predictedTeam != null ? teamRepository.getReferenceById(predictedTeam.getId()) : null)
                 .build();
 
         Comment savedComment = commentRepository.save(comment);
-        return toDTO(savedComment);
+        String predictedTeamName = predictedTeam != null ? predictedTeam.getName() : null;
+        CommentDTO saved = CommentDTO.builder()
+                .id(savedComment.getId())
+                .gameId(gameId)
+                .username(member.getUsername())
+                .commentText(savedComment.getCommentText())
+                .type(savedComment.getType())
+                .predictedTeamName(predictedTeamName)
+                .createdAt(savedComment.getCreatedAt())
+                .updatedAt(savedComment.getUpdatedAt())
+                .nickname(member.getNickname())
+                .build();
+        AfterCommit.run(() -> {
+            // 스트림 프레임이 새 집계를 읽도록 카운터를 먼저 반영
+            predictionCounterService.recordChange(gameId, null, predictedTeamName);
+            commentStreamBroker.publishCreated(gameId, saved);
+            commentSearchService.index(saved);
+        });
+        return saved;
     }
 
     // 페이징 처리된 댓글 목록 조회 메서드 구현
     @Override
     @Transactional(readOnly = true)
     public Page<CommentDTO> getCommentsByGameId(Long gameId, Pageable pageable) {
-        // Pageable 객체를 직접 Repository에 전달하여 페이징 및 정렬을 처리합니다.
-        Page<Comment> commentPage = commentRepository.findByGameIdOrderByCreatedAtDesc(gameId, pageable);
-
-        // Page<Comment>를 Page<CommentDTO>로 변환하여 반환
-        return commentPage.map(this::toDTO);
+        if (commentArchiveService.isArchived(gameId)) {
+            return commentArchiveService.getCommentsByGameId(gameId, pageable);
+        }
+        // 작성자/예측 팀 정보를 포함한 DTO를 한 번의 SELECT(+COUNT)로 조회합니다.
+        return commentRepository.findCommentDTOsByGameId(gameId, pageable);
     }
 
     @Override
     @Transactional(readOnly = true)
-    public Map<String, Long> getPredictionCommentCounts(Long gameId) {
-        List<Object[]> results = commentRepository.countPredictionsByGameId(gameId, CommentType.PREDICTION);
-        Map<String, Long> counts = new HashMap<>();
-        for (Object[] result : results) {
-            String teamName;
-            if (result[0] instanceof Long) { // If repository returns Team ID
-                Long teamId = (Long) result[0];
-                Team team = teamRepository.findById(teamId).orElse(null);
-                teamName = (team != null) ? team.getName() : "UNKNOWN_TEAM_ID_" + teamId;
-            } else { // If repository returns Team Name (String)
-                teamName = (String) result[0];
-            }
+    public CommentFeedDTO getCommentFeed(Long gameId, String cursor, int size) {
+        if (commentArchiveService.isArchived(gameId)) {
+            return commentArchiveService.getCommentFeed(gameId, cursor, size);
+        }
+        int pageSize = Math.max(1, Math.min(size, MAX_FEED_SIZE));
+        // 한 건 더 읽어 다음 페이지 존재 여부를 COUNT 쿼리 없이 판단합니다.
+        PageRequest limit = PageRequest.of(0, pageSize + 1);
 
-            Long count = (Long) result[1];
+        List<CommentDTO> comments;
+        if (cursor == null || cursor.isEmpty()) {
+            comments = commentRepository.findFeedFirstPage(gameId, limit);
+        } else {
+            CommentCursor position = CommentCursor.decode(cursor);
+            comments = commentRepository.findFeedAfter(gameId, position.getCreatedAt(), position.getId(), limit);
+        }
 
-            if (teamName == null) {
-                teamName = "UNKNOWN_OR_NULL_TEAM";
-            }
-            counts.put(teamName, count);
+        boolean hasNext = comments.size() > pageSize;
+        List<CommentDTO> page = hasNext ? comments.subList(0, pageSize) : comments;
+        String nextCursor = null;
+        if (hasNext) {
+            CommentDTO last = page.get(page.size() - 1);
+            nextCursor = new CommentCursor(last.getCreatedAt(), last.getId()).encode();
         }
-        return counts;
+
+        return CommentFeedDTO.builder()
+                .comments(new ArrayList<>(page))
+                .nextCursor(nextCursor)
+                .hasNext(hasNext)
+                .build();
+    }
+
+    @Override
+    public Map<String, Long> getPredictionCommentCounts(Long gameId) {
+        if (commentArchiveService.isArchived(gameId)) {
+            return commentArchiveService.getPredictionCounts(gameId);
+        }
+        // 메모리 카운터 조회. 처음 조회하는 경기만 집계 쿼리 한 번으로 채워집니다.
+        return predictionCounterService.getCounts(gameId);
     }
 
     @Override
     @Transactional
     public CommentDTO updateComment(Long commentId, String username, CommentDTO commentDTO) {
-        Comment comment = commentRepository.findById(commentId)
+        Comment comment = commentRepository.findByIdForWrite(commentId)
                 .orElseThrow(() -> new IllegalArgumentException("댓글을 찾을 수 없습니다: " + commentId));
 
-        Member currentUser = memberRepository.findByUsername(username)
-                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다: " + username));
+        CommentWriteLookup.MemberRef currentUser = commentWriteLookup.getMember(username);
+        if (currentUser == null) {
+            throw new IllegalArgumentException("사용자를 찾을 수 없습니다: " + username);
+        }
+        commentFilterService.validate(commentDTO.getCommentText());
 
         // Check if the current user is the author of the comment
-        boolean isAuthor = comment.getMember() != null && comment.getMember().equals(currentUser);
+        boolean isAuthor = comment.getMember() != null && comment.getMember().getId().equals(currentUser.getId());
 
         // Check if the current user is an admin
-        boolean isAdmin = currentUser.getRole() != null && currentUser.getRole().equals(com.example.p1.domain.Member.Role.ADMIN);
+        boolean isAdmin = currentUser.isAdmin();
 
         // If not the author AND not an admin, throw SecurityException
         if (!isAuthor && !isAdmin) {
             throw new SecurityException("댓글을 수정할 권한이 없습니다.");
         }
+        // 관리자가 숨긴 댓글은 작성자가 고칠 수 없습니다. (고쳐서 다시 노출되는 것 방지)
+        boolean hidden = comment.isHidden();
+        if (hidden && !isAdmin) {
+            throw new SecurityException("숨김 처리된 댓글은 수정할 수 없습니다.");
+        }
 
+        Long previousPredictedTeamId = comment.getPredictedTeam() != null ? comment.getPredictedTeam().getId() : null;
+        String previousCountedTeamName = countedPredictionTeamName(comment.getType(),
+                comment.getPredictedTeam() != null ? comment.getPredictedTeam().getName() : null);
         comment.setCommentText(commentDTO.getCommentText());
 
+        String newPredictedTeamName = null;
         if (commentDTO.getType() == CommentType.PREDICTION) {
             if (commentDTO.getPredictedTeamName() == null || commentDTO.getPredictedTeamName().isEmpty()) {
                 throw new IllegalArgumentException("예측 댓글은 예측 팀을 지정해야 합니다.");
             }
-            Team newPredictedTeam = teamRepository.findByName(commentDTO.getPredictedTeamName());
+            CommentWriteLookup.TeamRef newPredictedTeam = commentWriteLookup.getTeam(commentDTO.getPredictedTeamName());
             if (newPredictedTeam == null) {
                 throw new IllegalArgumentException("예측 팀을 찾을 수 없습니다: " + commentDTO.getPredictedTeamName());
             }
-            comment.setPredictedTeam(newPredictedTeam);
+            if (!newPredictedTeam.getId().equals(previousPredictedTeamId)) {
+                comment.setPredictedTeam(teamRepository.getReferenceById(newPredictedTeam.getId()));
+            }
+            newPredictedTeamName = newPredictedTeam.getName();
         } else {
             // If the comment type is changed from PREDICTION to TEXT, clear predicted team
             comment.setPredictedTeam(null);
         }
 
         Comment updatedComment = commentRepository.save(comment);
-        return toDTO(updatedComment);
+        // 예측 팀은 참조 프록시일 수 있으므로 이름은 캐시 값을 사용 (toDTO를 쓰면 팀 SELECT 발생)
+        CommentDTO updated = CommentDTO.builder()
+                .id(updatedComment.getId())
+                .gameId(updatedComment.getGame().getId())
+                .username(updatedComment.getMember().getUsername())
+                .commentText(updatedComment.getCommentText())
+                .type(updatedComment.getType())
+                .predictedTeamName(newPredictedTeamName)
+                .createdAt(updatedComment.getCreatedAt())
+                .updatedAt(updatedComment.getUpdatedAt())
+                .nickname(updatedComment.getMember().getNickname())
+                .build();
+        Long newPredictedTeamId = updatedComment.getPredictedTeam() != null ? updatedComment.getPredictedTeam().getId() : null;
+        boolean predictionChanged = !Objects.equals(previousPredictedTeamId, newPredictedTeamId);
+        String newCountedTeamName = countedPredictionTeamName(updatedComment.getType(), newPredictedTeamName);
+        if (!hidden) { // 숨긴 댓글은 집계, 실시간 스트림, 검색 색인 어디에도 없으므로 그대로 둡니다.
+            AfterCommit.run(() -> {
+                predictionCounterService.recordChange(updated.getGameId(), previousCountedTeamName, newCountedTeamName);
+                commentStreamBroker.publishUpdated(updated.getGameId(), updated, predictionChanged);
+                commentSearchService.index(updated);
+            });
+        }
+        return updated;
     }
 
     @Override
     @Transactional
     public void deleteComment(Long commentId, String username, boolean isAdmin) {
-        Comment comment = commentRepository.findById(commentId)
+        Comment comment = commentRepository.findByIdForWrite(commentId)
                 .orElseThrow(() -> new IllegalArgumentException("댓글을 찾을 수 없습니다: " + commentId));
 
-        Member currentUser = memberRepository.findByUsername(username)
-                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다: " + username));
+        CommentWriteLookup.MemberRef currentUser = commentWriteLookup.getMember(username);
+        if (currentUser == null) {
+            throw new IllegalArgumentException("사용자를 찾을 수 없습니다: " + username);
+        }
 
-        // Using equals for Member objects
-        boolean isAuthor = comment.getMember() != null && comment.getMember().equals(currentUser);
+        boolean isAuthor = comment.getMember() != null && comment.getMember().getId().equals(currentUser.getId());
 
         if (!isAuthor && !isAdmin) {
             throw new SecurityException("댓글을 삭제할 권한이 없습니다.");
         }
 
+        Long gameId = comment.getGame().getId();
+        boolean hidden = comment.isHidden(); // 숨길 때 이미 집계와 스트림에서 빠짐
+        boolean predictionChanged = comment.getPredictedTeam() != null;
+        String countedTeamName = countedPredictionTeamName(comment.getType(),
+                comment.getPredictedTeam() != null ? comment.getPredictedTeam().getName() : null);
         commentRepository.delete(comment);
+        AfterCommit.run(() -> {
+            if (!hidden) {
+                predictionCounterService.recordChange(gameId, countedTeamName, null);
+                commentStreamBroker.publishDeleted(gameId, commentId, predictionChanged);
+            }
+            commentSearchService.remove(commentId);
+        });
+    }
+
+    /**
+     * 예측 집계(countPredictionsByGameId)에 잡히는 댓글이면 예측 팀 이름, 아니면 null.
+     * 집계와 같은 기준(PREDICTION 타입 + 예측 팀 존재)이어야 메모리 카운터가 DB와 어긋나지 않습니다.
+     */
+    private static String countedPredictionTeamName(CommentType type, String predictedTeamName) {
+        return type == CommentType.PREDICTION ? predictedTeamName : null;
     }
 
     @Override
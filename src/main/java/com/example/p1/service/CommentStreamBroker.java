@@ -0,0 +1,386 @@
+package com.example.p1.service;
+
+import com.example.p1.dto.CommentDTO;
+import com.example.p1.dto.CommentStreamEventDTO;
+import com.example.p1.dto.CommentStreamFrameDTO;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * 경기별 실시간 댓글 스트림을 구독자에게 나눠 보내는 프로세스 내 브로커.
+ * - 커밋된 댓글 변경은 경기별 대기 묶음에 쌓였다가 flush 주기마다 하나의 프레임으로 합쳐 전송됩니다.
+ *   (같은 댓글의 연속 변경은 마지막 상태 하나로 합쳐지고, 예측 집계는 프레임당 한 번만 계산)
+ * - 구독자마다 크기가 제한된 프레임 큐를 두고 별도 전송 스레드에서 비웁니다.
+ *   큐가 가득 찰 만큼 느린 구독자는 연결을 끊어 다른 구독자와 메모리에 영향을 주지 않게 합니다. (클라이언트는 재연결)
+ * - 프레임 한 개의 전송(소켓 쓰기)이 send-timeout-ms를 넘기거나 전송 중에 구독이 끊기면 그 전송을 포기합니다.
+ *   전송 스레드를 인터럽트하고, 쓰기가 인터럽트에 풀리지 않아도 전송 스레드를 하나 더 늘려 대신하게 하므로
+ *   멈춘 구독자가 전송 스레드 수보다 많아도 다른 구독자의 전송은 막히지 않습니다. (멈춘 쓰기가 끝나면 다시 줄임)
+ */
+@Service
+public class CommentStreamBroker {
+
+    private static final Logger log = LoggerFactory.getLogger(CommentStreamBroker.class);
+
+    /**
+     * 프레임을 실제로 내보내는 대상 (SSE 연결 등).
+     */
+    public interface Sink {
+        void send(CommentStreamFrameDTO frame) throws Exception;
+
+        /** 브로커가 구독을 끊을 때 호출됩니다. (느린 구독자, 전송 실패, 종료) */
+        default void close() {
+        }
+    }
+
+    private final Function<Long, Map<String, Long>> predictionCountLoader;
+    private final int subscriberBufferSize;
+    private final long sendTimeoutNanos;
+
+    private final Map<Long, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+    private final Map<Long, PendingBatch> pending = new ConcurrentHashMap<>();
+    private final AtomicLong sequence = new AtomicLong();
+    private final AtomicLong droppedSubscribers = new AtomicLong();
+    private final AtomicLong abandonedSends = new AtomicLong();
+    private final long epochNanos = System.nanoTime();
+
+    private final ScheduledExecutorService flusher;
+    private final ThreadPoolExecutor senders;
+
+    @Autowired
+    public CommentStreamBroker(ObjectProvider<CommentService> commentService,
+                               @Value("${comment.stream.flush-interval-ms:200}") long flushIntervalMs,
+                               @Value("${comment.stream.subscriber-buffer:64}") int subscriberBufferSize,
+                               @Value("${comment.stream.sender-threads:8}") int senderThreads,
+                               @Value("${comment.stream.send-timeout-ms:5000}") long sendTimeoutMs) {
+        // CommentServiceImpl이 이 브로커를 주입받으므로 집계 조회는 지연 조회로 순환 의존을 피합니다.
+        this(gameId -> commentService.getObject().getPredictionCommentCounts(gameId),
+                flushIntervalMs, subscriberBufferSize, senderThreads, sendTimeoutMs);
+    }
+
+    public CommentStreamBroker(Function<Long, Map<String, Long>> predictionCountLoader,
+                               long flushIntervalMs, int subscriberBufferSize, int senderThreads, long sendTimeoutMs) {
+        this.predictionCountLoader = predictionCountLoader;
+        this.subscriberBufferSize = subscriberBufferSize;
+        this.sendTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(sendTimeoutMs);
+        this.flusher = Executors.newSingleThreadScheduledExecutor(r -> daemon(r, "comment-stream-flusher"));
+        // 멈춘 전송을 대신할 스레드를 늘릴 수 있도록 최대 크기는 제한하지 않습니다. (평소에는 senderThreads개)
+        this.senders = new ThreadPoolExecutor(senderThreads, Integer.MAX_VALUE, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(), r -> daemon(r, "comment-stream-sender"));
+        this.flusher.scheduleWithFixedDelay(this::flushSafely, flushIntervalMs, flushIntervalMs, TimeUnit.MILLISECONDS);
+        long watchdogIntervalMs = Math.max(10, sendTimeoutMs / 4);
+        this.flusher.scheduleWithFixedDelay(this::abandonStalledSends, watchdogIntervalMs, watchdogIntervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 경기 스트림을 구독합니다.
+     * @return 구독 해제에 사용할 핸들
+     */
+    public Runnable subscribe(Long gameId, Sink sink) {
+        Subscriber subscriber = new Subscriber(gameId, sink, subscriberBufferSize);
+        subscribers.computeIfAbsent(gameId, id -> ConcurrentHashMap.newKeySet()).add(subscriber);
+        return () -> remove(subscriber);
+    }
+
+    public void publishCreated(Long gameId, CommentDTO comment) {
+        publishCreated(gameId, comment, null);
+    }
+
+    /**
+     * 일괄 등록으로 저장된 댓글을 알립니다. 작성자는 접수 ID로 자신이 보낸 댓글의 실제 ID를 확인할 수 있습니다.
+     */
+    public void publishCreated(Long gameId, CommentDTO comment, String provisionalId) {
+        publish(gameId, new CommentStreamEventDTO(CommentStreamEventDTO.CREATED, comment.getId(), comment, provisionalId),
+                comment.getPredictedTeamName() != null);
+    }
+
+    public void publishUpdated(Long gameId, CommentDTO comment, boolean predictionChanged) {
+        publish(gameId, new CommentStreamEventDTO(CommentStreamEventDTO.UPDATED, comment.getId(), comment, null), predictionChanged);
+    }
+
+    public void publishDeleted(Long gameId, Long commentId, boolean predictionChanged) {
+        publish(gameId, new CommentStreamEventDTO(CommentStreamEventDTO.DELETED, commentId, null, null), predictionChanged);
+    }
+
+    /**
+     * 예측 집계만 바뀐 경우(댓글 목록 변화 없음) 다음 프레임에 새 집계를 포함시킵니다.
+     */
+    public void publishPredictionCountsChanged(Long gameId) {
+        publish(gameId, null, true);
+    }
+
+    private void publish(Long gameId, CommentStreamEventDTO event, boolean predictionChanged) {
+        if (!subscribers.containsKey(gameId)) {
+            return; // 구독자가 없는 경기는 쌓지 않음
+        }
+        pending.compute(gameId, (id, batch) -> {
+            PendingBatch target = batch != null ? batch : new PendingBatch();
+            target.add(event, predictionChanged);
+            return target;
+        });
+    }
+
+    /**
+     * 대기 중인 변경을 경기별 프레임으로 묶어 구독자 큐에 넣습니다.
+     * flush 스레드에서 주기적으로 호출되며, 주기를 기다리지 않고 바로 내보낼 때(테스트 등)도 사용할 수 있습니다.
+     */
+    public void flush() {
+        for (Long gameId : new ArrayList<>(pending.keySet())) {
+            PendingBatch batch = pending.remove(gameId);
+            Set<Subscriber> gameSubscribers = subscribers.get(gameId);
+            if (batch == null || gameSubscribers == null || gameSubscribers.isEmpty()) {
+                continue;
+            }
+
+            Map<String, Long> predictionCounts = null;
+            if (batch.predictionChanged) {
+                try {
+                    predictionCounts = predictionCountLoader.apply(gameId);
+                } catch (Exception e) {
+                    log.warn("Failed to load prediction counts for game {} stream: {}", gameId, e.getMessage());
+                }
+            }
+            CommentStreamFrameDTO frame = new CommentStreamFrameDTO(gameId, sequence.incrementAndGet(),
+                    new ArrayList<>(batch.events.values()), predictionCounts);
+
+            for (Subscriber subscriber : gameSubscribers) {
+                if (!subscriber.queue.offer(frame)) {
+                    log.debug("Comment stream subscriber for game {} is too slow. Disconnecting.", gameId);
+                    drop(subscriber);
+                    continue;
+                }
+                subscriber.scheduleDrain();
+            }
+        }
+    }
+
+    public int getSubscriberCount(Long gameId) {
+        Set<Subscriber> gameSubscribers = subscribers.get(gameId);
+        return gameSubscribers != null ? gameSubscribers.size() : 0;
+    }
+
+    public long getDroppedSubscriberCount() {
+        return droppedSubscribers.get();
+    }
+
+    /**
+     * 시간 초과나 구독 해제로 포기한 전송 수 (누적)
+     */
+    public long getAbandonedSendCount() {
+        return abandonedSends.get();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flusher.shutdownNow();
+        senders.shutdownNow();
+        subscribers.values().forEach(set -> set.forEach(Subscriber::close));
+        subscribers.clear();
+    }
+
+    private void flushSafely() {
+        try {
+            flush();
+        } catch (Exception e) {
+            log.error("Comment stream flush failed: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * send-timeout-ms를 넘긴 전송을 포기하고 그 구독자를 끊습니다. (flush 스레드에서 주기적으로 실행)
+     */
+    private void abandonStalledSends() {
+        try {
+            long now = System.nanoTime() - epochNanos;
+            for (Set<Subscriber> gameSubscribers : subscribers.values()) {
+                for (Subscriber subscriber : gameSubscribers) {
+                    long startedAt = subscriber.sendStartedAt.get();
+                    if (startedAt > 0 && now - startedAt > sendTimeoutNanos) {
+                        log.debug("Comment stream send for game {} timed out. Disconnecting.", subscriber.gameId);
+                        drop(subscriber);
+                    }
+                }
+            }
+        } catch (Exception e) {
+            log.error("Comment stream watchdog failed: {}", e.getMessage(), e);
+        }
+    }
+
+    private boolean remove(Subscriber subscriber) {
+        subscribers.computeIfPresent(subscriber.gameId, (id, set) -> {
+            set.remove(subscriber);
+            return set.isEmpty() ? null : set;
+        });
+        return subscriber.close();
+    }
+
+    // 느린 구독자 끊기: 버퍼 초과와 전송 시간 초과가 겹쳐도 한 번만 셉니다.
+    private void drop(Subscriber subscriber) {
+        if (remove(subscriber)) {
+            droppedSubscribers.incrementAndGet();
+        }
+    }
+
+    // 포기한 전송이 잡고 있는 스레드 대신 전송 스레드를 하나 늘리거나(+1), 그 전송이 끝나 다시 줄입니다(-1).
+    private void resizeSenders(int delta) {
+        synchronized (senders) {
+            senders.setCorePoolSize(senders.getCorePoolSize() + delta);
+        }
+    }
+
+    private static Thread daemon(Runnable runnable, String name) {
+        Thread thread = new Thread(runnable, name);
+        thread.setDaemon(true);
+        return thread;
+    }
+
+    /**
+     * flush 주기 동안 쌓인 한 경기의 변경. 같은 댓글의 변경은 마지막 상태 하나로 합칩니다.
+     */
+    private static final class PendingBatch {
+        private final Map<Long, CommentStreamEventDTO> events = new LinkedHashMap<>();
+        private boolean predictionChanged;
+
+        void add(CommentStreamEventDTO event, boolean predictionChanged) {
+            this.predictionChanged |= predictionChanged;
+            if (event == null) {
+                return;
+            }
+            CommentStreamEventDTO previous = events.get(event.getCommentId());
+            if (previous != null && CommentStreamEventDTO.CREATED.equals(previous.getType())) {
+                if (CommentStreamEventDTO.DELETED.equals(event.getType())) {
+                    events.remove(event.getCommentId()); // 같은 묶음에서 생성 후 삭제: 보낼 필요 없음
+                    return;
+                }
+                // 생성 후 수정: 구독자에게는 최신 내용의 생성으로 보임
+                event = new CommentStreamEventDTO(CommentStreamEventDTO.CREATED, event.getCommentId(), event.getComment(),
+                        previous.getProvisionalId());
+            }
+            events.put(event.getCommentId(), event);
+        }
+    }
+
+    private final class Subscriber {
+        private static final long IDLE = 0;
+        private static final long ABANDONED = -1;
+
+        private final Long gameId;
+        private final Sink sink;
+        private final BlockingQueue<CommentStreamFrameDTO> queue;
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private final AtomicBoolean closed = new AtomicBoolean();
+        // 전송 중이면 시작 시각(브로커 기준 양수 나노초), 아니면 IDLE, 포기한 전송이면 ABANDONED
+        private final AtomicLong sendStartedAt = new AtomicLong(IDLE);
+        private volatile Thread sendingThread;
+
+        Subscriber(Long gameId, Sink sink, int bufferSize) {
+            this.gameId = gameId;
+            this.sink = sink;
+            this.queue = new ArrayBlockingQueue<>(bufferSize);
+        }
+
+        void scheduleDrain() {
+            if (draining.compareAndSet(false, true)) {
+                senders.execute(this::drain);
+            }
+        }
+
+        private void drain() {
+            do {
+                CommentStreamFrameDTO frame;
+                while (!closed.get() && (frame = queue.poll()) != null) {
+                    if (!send(frame)) {
+                        return;
+                    }
+                }
+                draining.set(false);
+                // 플래그를 내린 사이에 들어온 프레임이 있으면 이어서 처리
+            } while (!closed.get() && !queue.isEmpty() && draining.compareAndSet(false, true));
+        }
+
+        // 실패했거나 전송 중에 포기된 경우 false (이후 이 구독자의 drain은 멈춤)
+        private boolean send(CommentStreamFrameDTO frame) {
+            long startedAt = Math.max(1, System.nanoTime() - epochNanos);
+            Exception failure = null;
+            sendingThread = Thread.currentThread();
+            sendStartedAt.set(startedAt);
+            try {
+                if (!closed.get()) {
+                    sink.send(frame);
+                }
+            } catch (Exception e) {
+                failure = e;
+            } finally {
+                synchronized (this) {
+                    sendingThread = null; // 이후로는 abandonSend가 이 스레드를 인터럽트하지 않음
+                }
+                if (!sendStartedAt.compareAndSet(startedAt, IDLE)) {
+                    // 포기된 전송: 대신 늘린 스레드를 줄이고, 인터럽트 표시가 다음 작업에 남지 않게 지웁니다.
+                    Thread.interrupted();
+                    resizeSenders(-1);
+                }
+            }
+            if (closed.get()) {
+                return false;
+            }
+            if (failure != null) {
+                log.debug("Comment stream send failed for game {}: {}", gameId, failure.getMessage());
+                remove(this);
+                return false;
+            }
+            return true;
+        }
+
+        // 진행 중인 전송을 포기: 전송 스레드를 인터럽트하고, 풀리지 않는 동안 대신할 스레드를 하나 늘립니다.
+        private void abandonSend() {
+            long startedAt = sendStartedAt.get();
+            if (startedAt > 0 && sendStartedAt.compareAndSet(startedAt, ABANDONED)) {
+                abandonedSends.incrementAndGet();
+                resizeSenders(1);
+                synchronized (this) {
+                    if (sendingThread != null) {
+                        sendingThread.interrupt();
+                    }
+                }
+            }
+        }
+
+        /**
+         * 구독을 닫고 진행 중인 전송을 포기합니다. 이 호출로 닫혔으면 true
+         */
+        boolean close() {
+            if (!closed.compareAndSet(false, true)) {
+                return false;
+            }
+            queue.clear();
+            abandonSend();
+            try {
+                sink.close();
+            } catch (Exception e) {
+                log.debug("Comment stream sink close failed for game {}: {}", gameId, e.getMessage());
+            }
+            return true;
+        }
+    }
+}
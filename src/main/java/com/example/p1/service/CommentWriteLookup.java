@@ -0,0 +1,144 @@
+package com.example.p1.service;
+
+import com.example.p1.domain.Member;
+import com.example.p1.domain.Team;
+import com.example.p1.repository.MemberRepository;
+import com.example.p1.repository.TeamRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 댓글 쓰기 경로에서 외래 키를 채우는 데 필요한 회원/팀 정보 캐시.
+ * 댓글 등록/수정/삭제는 회원 ID, 닉네임, 역할과 예측 팀 ID만 있으면 되므로
+ * 엔티티를 매번 읽지 않고 username → 회원, 팀 이름 → 팀 캐시에서 꺼내 getReferenceById로 연결합니다.
+ * 회원 닉네임/역할 변경, 탈퇴, 팀 변경 시 해당 서비스가 커밋 후 evict를 호출합니다. (없는 값은 캐시하지 않음)
+ * - 회원 캐시는 CustomUserDetailsService와 같이 크기 제한(comment.write-lookup.max-members)과
+ *   TTL(comment.write-lookup.ttl-seconds)이 있는 LRU입니다. 다른 서버에서 바뀐 역할(관리자 해제)이나
+ *   탈퇴 후 같은 아이디로 다시 가입한 회원도 TTL 안에 반영됩니다.
+ * - evict 전에 시작된 조회가 옛 값을 다시 넣지 않도록 조회 시작 시점의 세대 번호가 그대로일 때만 캐시에 넣습니다.
+ */
+@Component
+public class CommentWriteLookup {
+
+    private final MemberRepository memberRepository;
+    private final TeamRepository teamRepository;
+    private final int maxMembers;
+    private final long ttlNanos;
+
+    private final Map<String, CachedMember> members;
+    private final AtomicLong generation = new AtomicLong();
+    private final Map<String, TeamRef> teams = new ConcurrentHashMap<>();
+
+    public CommentWriteLookup(MemberRepository memberRepository,
+                              TeamRepository teamRepository,
+                              @Value("${comment.write-lookup.max-members:50000}") int maxMembers,
+                              @Value("${comment.write-lookup.ttl-seconds:60}") long ttlSeconds) {
+        this.memberRepository = memberRepository;
+        this.teamRepository = teamRepository;
+        this.maxMembers = Math.max(1, maxMembers);
+        this.ttlNanos = TimeUnit.SECONDS.toNanos(ttlSeconds);
+        // 접근 순서 LRU. 크기를 넘으면 가장 오래 쓰지 않은 회원부터 밀어냄
+        this.members = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedMember> eldest) {
+                return size() > CommentWriteLookup.this.maxMembers;
+            }
+        };
+    }
+
+    @lombok.Value
+    public static class MemberRef {
+        Long id;
+        String username;
+        String nickname;
+        Member.Role role;
+
+        public boolean isAdmin() {
+            return role == Member.Role.ADMIN;
+        }
+    }
+
+    @lombok.Value
+    public static class TeamRef {
+        Long id;
+        String name;
+    }
+
+    /**
+     * @return 회원 정보, 없는 회원이면 null
+     */
+    public MemberRef getMember(String username) {
+        long now = System.nanoTime();
+        long loadGeneration;
+        synchronized (members) {
+            CachedMember cached = members.get(username);
+            if (cached != null) {
+                if (now - cached.loadedAt <= ttlNanos) {
+                    return cached.member;
+                }
+                members.remove(username);
+            }
+            loadGeneration = generation.get();
+        }
+        List<Object[]> rows = memberRepository.findCommentAuthorByUsername(username);
+        if (rows.isEmpty()) {
+            return null;
+        }
+        Object[] row = rows.get(0);
+        MemberRef loaded = new MemberRef((Long) row[0], username, (String) row[1], (Member.Role) row[2]);
+        synchronized (members) {
+            if (generation.get() == loadGeneration) {
+                members.put(username, new CachedMember(loaded, System.nanoTime()));
+            }
+        }
+        return loaded;
+    }
+
+    /**
+     * @return 팀 정보, 없는 팀 이름이면 null
+     */
+    public TeamRef getTeam(String name) {
+        TeamRef cached = teams.get(name);
+        if (cached != null) {
+            return cached;
+        }
+        Team team = teamRepository.findByName(name);
+        if (team == null) {
+            return null;
+        }
+        TeamRef loaded = new TeamRef(team.getId(), team.getName());
+        teams.put(name, loaded);
+        return loaded;
+    }
+
+    public void evictMember(String username) {
+        synchronized (members) {
+            generation.incrementAndGet();
+            members.remove(username);
+        }
+    }
+
+    public void evictTeams() {
+        teams.clear();
+    }
+
+    /**
+     * 캐시에 두는 회원 정보. loadedAt은 System.nanoTime 기준입니다.
+     */
+    private static final class CachedMember {
+        private final MemberRef member;
+        private final long loadedAt;
+
+        CachedMember(MemberRef member, long loadedAt) {
+            this.member = member;
+            this.loadedAt = loadedAt;
+        }
+    }
+}
@@ -1,37 +1,203 @@
 package com.example.p1.service;
 
 import com.example.p1.domain.Member; // domain 패키지의 Member 엔티티 임포트
+import com.example.p1.dto.UserDetailsCacheStatsDTO;
 import com.example.p1.repository.MemberRepository;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
 
+/**
+ * 로그인 인증 정보 조회. 회원별 [ID, 비밀번호 해시, 닉네임, 역할, 정지 상태]를 크기 제한(user-details.cache.max-size)과
+ * TTL(user-details.cache.ttl-seconds)이 있는 LRU 캐시에 두어 로그인마다 회원을 다시 읽지 않습니다.
+ * - 비밀번호 변경, 역할 변경, 정지/해제, 탈퇴/삭제 시 MemberServiceImpl이 커밋 후 evict를 호출합니다.
+ *   evict 전에 시작된 조회가 옛 값을 다시 넣지 않도록 조회 시작 시점의 세대 번호가 그대로일 때만 캐시에 넣습니다.
+ * - 정지 기한은 조회할 때마다 현재 시각과 비교하므로 기한이 지난 임시 정지는 캐시에 남아 있어도 바로 풀립니다.
+ * - 인증이 끝나면 Spring Security가 UserDetails의 비밀번호를 지우므로 캐시에는 값만 두고 호출마다 새 UserDetails를 만듭니다.
+ * - 저장된 해시의 BCrypt cost가 설정(password.hashing.cost)과 다르면 로그인에 성공할 때 새 cost로 다시 해시해 저장합니다.
+ *   (세션 로그인은 DaoAuthenticationProvider가 updatePassword를 호출, 토큰 로그인은 TokenService가 호출)
+ */
 @Service
-public class CustomUserDetailsService implements UserDetailsService {
+public class CustomUserDetailsService implements UserDetailsService, UserDetailsPasswordService {
 
     private final MemberRepository memberRepository;
+    private final int maxSize;
+    private final long ttlNanos;
 
-    public CustomUserDetailsService(MemberRepository memberRepository) {
+    private final Map<String, CachedMember> cache;
+    private final AtomicLong generation = new AtomicLong();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder expirations = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder invalidations = new LongAdder();
+    private final LongAdder passwordUpgrades = new LongAdder();
+
+    public CustomUserDetailsService(MemberRepository memberRepository,
+                                    @Value("${user-details.cache.max-size:10000}") int maxSize,
+                                    @Value("${user-details.cache.ttl-seconds:600}") long ttlSeconds) {
         this.memberRepository = memberRepository;
+        this.maxSize = Math.max(1, maxSize);
+        this.ttlNanos = TimeUnit.SECONDS.toNanos(ttlSeconds);
+        // 접근 순서 LRU. 크기를 넘으면 가장 오래 쓰지 않은 회원부터 밀어냄
+        this.cache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedMember> eldest) {
+                if (size() > CustomUserDetailsService.this.maxSize) {
+                    evictions.increment();
+                    return true;
+                }
+                return false;
+            }
+        };
     }
 
     @Override
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
-        Member member = memberRepository.findByUsername(username)
-                .orElseThrow(() -> new UsernameNotFoundException("User not found with username: " + username));
+        long now = System.nanoTime();
+        CachedMember member;
+        synchronized (cache) {
+            member = cache.get(username);
+            if (member != null && now - member.loadedAt > ttlNanos) {
+                cache.remove(username);
+                expirations.increment();
+                member = null;
+            }
+        }
+        if (member != null) {
+            hits.increment();
+        } else {
+            misses.increment();
+            member = load(username);
+        }
 
         // Member 엔티티의 Role을 Spring Security의 GrantedAuthority로 변환
         List<GrantedAuthority> authorities = Collections.singletonList(
-                new SimpleGrantedAuthority("ROLE_" + member.getRole().name()) // 예: "ROLE_USER", "ROLE_ADMIN"
+                new SimpleGrantedAuthority("ROLE_" + member.role.name()) // 예: "ROLE_USER", "ROLE_ADMIN"
         );
 
-        return new User(member.getUsername(), member.getPassword(), authorities);
+        return new MemberUserDetails(member.id, username, member.password, member.nickname, !member.isBanned(), authorities);
+    }
+
+    /**
+     * 같은 비밀번호를 새 cost로 다시 만든 해시를 저장합니다. 비밀번호 자체는 그대로이므로 토큰은 폐기하지 않습니다.
+     */
+    @Override
+    @Transactional
+    public UserDetails updatePassword(UserDetails user, String newPassword) {
+        String username = user.getUsername();
+        memberRepository.updatePassword(username, newPassword);
+        passwordUpgrades.increment();
+        AfterCommit.run(() -> evict(username));
+        if (user instanceof MemberUserDetails member) {
+            return new MemberUserDetails(member.getMemberId(), username, newPassword, member.getNickname(),
+                    member.isAccountNonLocked(), member.getAuthorities());
+        }
+        return User.withUserDetails(user).password(newPassword).build();
+    }
+
+    /**
+     * 로그인 때 새 cost로 다시 해시해 저장한 횟수.
+     */
+    public long getPasswordUpgradeCount() {
+        return passwordUpgrades.sum();
+    }
+
+    /**
+     * 회원의 캐시 항목을 지웁니다. 인증 정보(비밀번호, 역할, 닉네임, 정지 상태)가 바뀐 트랜잭션이 커밋된 뒤 호출합니다.
+     */
+    public void evict(String username) {
+        synchronized (cache) {
+            generation.incrementAndGet();
+            if (cache.remove(username) != null) {
+                invalidations.increment();
+            }
+        }
+    }
+
+    public UserDetailsCacheStatsDTO getStats() {
+        int size;
+        synchronized (cache) {
+            size = cache.size();
+        }
+        long hitCount = hits.sum();
+        long missCount = misses.sum();
+        long total = hitCount + missCount;
+        return UserDetailsCacheStatsDTO.builder()
+                .size(size)
+                .maxSize(maxSize)
+                .ttlSeconds(TimeUnit.NANOSECONDS.toSeconds(ttlNanos))
+                .hits(hitCount)
+                .misses(missCount)
+                .expirations(expirations.sum())
+                .evictions(evictions.sum())
+                .invalidations(invalidations.sum())
+                .hitRatio(total == 0 ? 0 : (double) hitCount / total)
+                .build();
+    }
+
+    private CachedMember load(String username) {
+        long loadGeneration = generation.get();
+        List<Object[]> rows = memberRepository.findUserDetailsByUsername(username);
+        if (rows.isEmpty()) {
+            throw new UsernameNotFoundException("User not found with username: " + username); // 없는 회원은 캐시하지 않음
+        }
+        Object[] row = rows.get(0);
+        CachedMember member = new CachedMember((Long) row[0], (String) row[1], (String) row[2], (Member.Role) row[3],
+                Boolean.TRUE.equals(row[4]), (LocalDateTime) row[5], System.nanoTime());
+        synchronized (cache) {
+            if (generation.get() == loadGeneration) {
+                cache.put(username, member);
+            }
+        }
+        return member;
+    }
+
+    /**
+     * 캐시에 두는 회원 인증 정보. loadedAt은 System.nanoTime 기준입니다.
+     */
+    private static final class CachedMember {
+        private final Long id;
+        private final String password;
+        private final String nickname;
+        private final Member.Role role;
+        private final boolean banned;
+        private final LocalDateTime bannedUntil;
+        private final long loadedAt;
+
+        CachedMember(Long id, String password, String nickname, Member.Role role, boolean banned,
+                     LocalDateTime bannedUntil, long loadedAt) {
+            this.id = id;
+            this.password = password;
+            this.nickname = nickname;
+            this.role = role;
+            this.banned = banned;
+            this.bannedUntil = bannedUntil;
+            this.loadedAt = loadedAt;
+        }
+
+        /**
+         * 영구 정지이거나 정지 기한이 남아 있으면 true. 정지 기한은 UTC로 저장됩니다. (AdminMemberController)
+         */
+        boolean isBanned() {
+            return banned && (bannedUntil == null || bannedUntil.isAfter(LocalDateTime.now(ZoneOffset.UTC)));
+        }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,119 @@
+package com.example.p1.service;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 경기 결과를 한 경기씩 반영하는 Elo 레이팅 계산기.
+ * 홈 어드밴티지, 점수차 가중치, 시즌 전환 시 평균 회귀를 적용합니다.
+ * 스레드 안전하지 않으므로 호출하는 쪽(EloRatingServiceImpl)에서 동기화해야 합니다.
+ */
+public class EloRatingEngine {
+
+    public static final double INITIAL_RATING = 1500.0;
+
+    private final double kFactor;
+    private final double homeAdvantage;
+    private final double seasonRegression; // 0.0 ~ 1.0, 시즌이 바뀔 때 평균 쪽으로 당기는 비율
+
+    private final Map<Long, Double> ratings = new HashMap<>();
+    private final Map<Long, Integer> gamesPlayed = new HashMap<>();
+    private final Set<Long> appliedGameIds = new HashSet<>();
+
+    private int currentSeason = -1;
+    private LocalDateTime lastGameDate;
+
+    public EloRatingEngine(double kFactor, double homeAdvantage, double seasonRegression) {
+        this.kFactor = kFactor;
+        this.homeAdvantage = homeAdvantage;
+        this.seasonRegression = seasonRegression;
+    }
+
+    /**
+     * 경기 하나를 반영합니다.
+     * 이미 반영한 경기이거나 마지막으로 반영한 경기보다 이전 날짜의 경기라면 반영하지 않고 false를 반환합니다.
+     * (이 경우 호출하는 쪽에서 전체 재계산을 해야 합니다.)
+     */
+    public boolean apply(Long gameId, LocalDateTime gameDate, Long homeTeamId, Long awayTeamId, int homeScore, int awayScore) {
+        if (gameId != null && appliedGameIds.contains(gameId)) {
+            return false;
+        }
+        if (lastGameDate != null && gameDate.isBefore(lastGameDate)) {
+            return false;
+        }
+
+        int season = gameDate.getYear();
+        if (currentSeason != -1 && season != currentSeason) {
+            regressToMean();
+        }
+        currentSeason = season;
+        lastGameDate = gameDate;
+
+        double homeRating = ratings.getOrDefault(homeTeamId, INITIAL_RATING);
+        double awayRating = ratings.getOrDefault(awayTeamId, INITIAL_RATING);
+
+        double expectedHome = expectedScore(homeRating + homeAdvantage, awayRating);
+        double actualHome = homeScore > awayScore ? 1.0 : (homeScore < awayScore ? 0.0 : 0.5);
+
+        // 점수차가 클수록 조금 더 크게 움직이되, 로그로 눌러서 대량 득점 경기가 과대평가되지 않도록 합니다.
+        double marginMultiplier = Math.log(Math.abs(homeScore - awayScore) + 1) + 1.0;
+        double delta = kFactor * marginMultiplier * (actualHome - expectedHome);
+
+        ratings.put(homeTeamId, homeRating + delta);
+        ratings.put(awayTeamId, awayRating - delta);
+        gamesPlayed.merge(homeTeamId, 1, Integer::sum);
+        gamesPlayed.merge(awayTeamId, 1, Integer::sum);
+        if (gameId != null) {
+            appliedGameIds.add(gameId);
+        }
+        return true;
+    }
+
+    /**
+     * 홈 팀의 경기 전 승리 확률을 계산합니다. (홈 어드밴티지 포함)
+     */
+    public double homeWinProbability(Long homeTeamId, Long awayTeamId) {
+        return homeWinProbability(ratings, homeTeamId, awayTeamId, homeAdvantage);
+    }
+
+    static double homeWinProbability(Map<Long, Double> ratings, Long homeTeamId, Long awayTeamId, double homeAdvantage) {
+        double homeRating = ratings.getOrDefault(homeTeamId, INITIAL_RATING);
+        double awayRating = ratings.getOrDefault(awayTeamId, INITIAL_RATING);
+        return expectedScore(homeRating + homeAdvantage, awayRating);
+    }
+
+    private static double expectedScore(double ratingA, double ratingB) {
+        return 1.0 / (1.0 + Math.pow(10.0, (ratingB - ratingA) / 400.0));
+    }
+
+    /**
+     * 시즌 전환 시 모든 팀의 레이팅을 리그 평균 쪽으로 일정 비율 당깁니다.
+     * 리그 평균을 기준으로 하므로 전체 레이팅 합은 유지됩니다.
+     */
+    private void regressToMean() {
+        if (ratings.isEmpty()) {
+            return;
+        }
+        double mean = ratings.values().stream().mapToDouble(Double::doubleValue).average().orElse(INITIAL_RATING);
+        ratings.replaceAll((teamId, rating) -> mean + (rating - mean) * (1.0 - seasonRegression));
+    }
+
+    public Map<Long, Double> getRatings() {
+        return Map.copyOf(ratings);
+    }
+
+    public Map<Long, Integer> getGamesPlayed() {
+        return Map.copyOf(gamesPlayed);
+    }
+
+    public int getAppliedGameCount() {
+        return appliedGameIds.size();
+    }
+
+    public double getHomeAdvantage() {
+        return homeAdvantage;
+    }
+}
@@ -0,0 +1,47 @@
+package com.example.p1.service;
+
+import com.example.p1.domain.GameSchedule;
+import com.example.p1.dto.TeamRatingDTO;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 팀별 Elo 레이팅을 관리하는 서비스 인터페이스.
+ */
+public interface EloRatingService {
+
+    /**
+     * 종료된 모든 경기를 날짜순으로 한 번 훑어 레이팅을 처음부터 다시 계산합니다.
+     * @return 재계산에 반영된 경기 수
+     */
+    int rebuild();
+
+    /**
+     * 종료된 경기 결과 하나를 레이팅에 반영합니다.
+     * 순서가 어긋난 경기나 이미 반영된 경기의 점수 수정은 백그라운드 전체 재계산으로 처리됩니다.
+     * @param game 종료된 경기
+     */
+    void recordResult(GameSchedule game);
+
+    /**
+     * 레이팅을 다음 재계산 확인 때 다시 계산하도록 표시합니다. (경기 삭제 등)
+     */
+    void invalidate();
+
+    /**
+     * 현재 레이팅 목록을 높은 순으로 반환합니다.
+     */
+    List<TeamRatingDTO> getRatings();
+
+    /**
+     * 홈 팀의 경기 전 승리 확률을 반환합니다.
+     */
+    double getHomeWinProbability(Long homeTeamId, Long awayTeamId);
+
+    /**
+     * 경기 전 승리 확률을 팀 이름 기준으로 반환합니다.
+     * 예측 댓글 집계(getPredictionCommentCounts)와 같은 키를 사용하므로 화면에서 초기값으로 쓸 수 있습니다.
+     */
+    Map<String, Double> getWinProbabilitiesByTeamName(GameSchedule game);
+}
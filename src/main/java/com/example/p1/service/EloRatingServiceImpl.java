@@ -0,0 +1,189 @@
+package com.example.p1.service;
+
+import com.example.p1.domain.GameSchedule;
+import com.example.p1.domain.GameStatus;
+import com.example.p1.domain.Team;
+import com.example.p1.dto.TeamRatingDTO;
+import com.example.p1.repository.GameScheduleRepository;
+import com.example.p1.repository.TeamRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Elo 레이팅 서비스 구현체.
+ * 레이팅은 메모리에만 보관하며, 시작 시 전체 이력으로 한 번 계산한 뒤 이 서버에서 끝난 경기는 증분 반영합니다.
+ * 조회는 불변 스냅샷만 읽고 잠금이나 재계산을 하지 않습니다. 재계산은 주기 확인(elo.rebuild-check-interval-ms)이 조회 경로 밖에서 합니다.
+ * - 이 서버에서 순서가 어긋난 경기, 결과 수정, 경기 삭제(invalidate)가 있었을 때
+ * - 종료 경기 지문(경기 수, ID/점수 가중합)이 마지막 반영 때와 다를 때 (다른 서버에서 끝나거나 수정/삭제된 경기)
+ */
+@Service
+@Transactional(readOnly = true)
+public class EloRatingServiceImpl implements EloRatingService {
+
+    private static final Logger log = LoggerFactory.getLogger(EloRatingServiceImpl.class);
+
+    private final GameScheduleRepository gameScheduleRepository;
+    private final TeamRepository teamRepository;
+
+    private final double kFactor;
+    private final double homeAdvantage;
+    private final double seasonRegression;
+
+    private EloRatingEngine engine;       // 쓰기 쪽 상태 (this로 동기화)
+    private long[] fingerprint;          // engine에 반영된 종료 경기 지문 (this로 동기화)
+    private volatile boolean dirty = true;
+    // 조회용 불변 스냅샷. 쓰기 쪽에서 engine을 갱신한 뒤 통째로 교체합니다.
+    private volatile Map<Long, Double> ratingSnapshot = Map.of();
+    private volatile Map<Long, Integer> gamesPlayedSnapshot = Map.of();
+
+    public EloRatingServiceImpl(GameScheduleRepository gameScheduleRepository,
+                                TeamRepository teamRepository,
+                                @Value("${elo.k-factor:6.0}") double kFactor,
+                                @Value("${elo.home-advantage:24.0}") double homeAdvantage,
+                                @Value("${elo.season-regression:0.33}") double seasonRegression) {
+        this.gameScheduleRepository = gameScheduleRepository;
+        this.teamRepository = teamRepository;
+        this.kFactor = kFactor;
+        this.homeAdvantage = homeAdvantage;
+        this.seasonRegression = seasonRegression;
+    }
+
+    @Override
+    public synchronized int rebuild() {
+        long start = System.currentTimeMillis();
+        EloRatingEngine fresh = new EloRatingEngine(kFactor, homeAdvantage, seasonRegression);
+        dirty = false; // 재계산 도중 들어온 invalidate는 다음 재계산에서 처리
+        long[] rebuiltFingerprint;
+
+        try (Stream<Object[]> rows = gameScheduleRepository.streamGameResultsByStatus(GameStatus.FINISHED)) {
+            rebuiltFingerprint = readFingerprint(); // 읽는 사이 끝난 경기가 있으면 다음 확인에서 한 번 더 재계산
+            rows.forEach(row -> fresh.apply(
+                    (Long) row[0],
+                    (LocalDateTime) row[1],
+                    (Long) row[2],
+                    (Long) row[3],
+                    ((Number) row[4]).intValue(),
+                    ((Number) row[5]).intValue()));
+        } catch (RuntimeException e) {
+            dirty = true;
+            throw e;
+        }
+
+        engine = fresh;
+        fingerprint = rebuiltFingerprint;
+        publishSnapshot();
+        log.info("Elo ratings rebuilt from {} finished games in {} ms.", fresh.getAppliedGameCount(), System.currentTimeMillis() - start);
+        return fresh.getAppliedGameCount();
+    }
+
+    /**
+     * 시작 시 첫 계산과, 이 서버나 다른 서버의 결과 변경으로 필요해진 재계산을 조회 경로 밖에서 수행합니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${elo.rebuild-check-interval-ms:30000}",
+            initialDelayString = "${elo.rebuild-check-interval-ms:30000}")
+    public void rebuildIfStale() {
+        try {
+            long[] applied;
+            synchronized (this) {
+                applied = fingerprint;
+            }
+            if (dirty || !Arrays.equals(applied, readFingerprint())) {
+                rebuild();
+            }
+        } catch (Exception e) {
+            log.error("Elo rating rebuild failed: {}", e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public synchronized void recordResult(GameSchedule game) {
+        if (game == null || game.getStatus() != GameStatus.FINISHED || dirty || engine == null) {
+            // 아직 한 번도 계산하지 않았다면 다음 재계산에 포함됩니다.
+            return;
+        }
+        boolean applied = engine.apply(
+                game.getId(),
+                game.getGameDate(),
+                game.getHomeTeam().getId(),
+                game.getOpponentTeam().getId(),
+                game.getHomeScore(),
+                game.getAwayScore());
+
+        if (applied) {
+            fingerprint = new long[]{fingerprint[0] + 1,
+                    fingerprint[1] + game.getId() * 1009 + game.getHomeScore() * 31L + game.getAwayScore()};
+            publishSnapshot();
+        } else {
+            log.debug("Game {} could not be applied incrementally (already applied or out of order). Marking ratings dirty.", game.getId());
+            dirty = true;
+        }
+    }
+
+    @Override
+    public void invalidate() {
+        dirty = true;
+    }
+
+    @Override
+    public List<TeamRatingDTO> getRatings() {
+        Map<Long, Double> ratings = ratingSnapshot;
+        Map<Long, Integer> gamesPlayed = gamesPlayedSnapshot;
+
+        return teamRepository.findAll().stream()
+                .map(team -> TeamRatingDTO.builder()
+                        .teamId(team.getId())
+                        .teamName(team.getName())
+                        .rating(ratings.getOrDefault(team.getId(), EloRatingEngine.INITIAL_RATING))
+                        .gamesPlayed(gamesPlayed.getOrDefault(team.getId(), 0))
+                        .build())
+                .sorted(Comparator.comparingDouble(TeamRatingDTO::getRating).reversed())
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public double getHomeWinProbability(Long homeTeamId, Long awayTeamId) {
+        return EloRatingEngine.homeWinProbability(ratingSnapshot, homeTeamId, awayTeamId, homeAdvantage);
+    }
+
+    @Override
+    public Map<String, Double> getWinProbabilitiesByTeamName(GameSchedule game) {
+        Team homeTeam = game.getHomeTeam();
+        Team awayTeam = game.getOpponentTeam();
+        if (homeTeam == null || awayTeam == null) {
+            return Map.of();
+        }
+        double homeProbability = getHomeWinProbability(homeTeam.getId(), awayTeam.getId());
+
+        Map<String, Double> probabilities = new HashMap<>();
+        probabilities.put(homeTeam.getName(), homeProbability);
+        probabilities.put(awayTeam.getName(), 1.0 - homeProbability);
+        return probabilities;
+    }
+
+    // 종료 경기 지문 [경기 수, ID/점수 가중합]. 계산식은 GameScheduleRepository.findResultFingerprint와 같아야 함 (recordResult)
+    private long[] readFingerprint() {
+        Object[] row = gameScheduleRepository.findResultFingerprint(GameStatus.FINISHED).get(0);
+        return new long[]{((Number) row[0]).longValue(), ((Number) row[1]).longValue()};
+    }
+
+    private void publishSnapshot() {
+        ratingSnapshot = engine.getRatings();
+        gamesPlayedSnapshot = engine.getGamesPlayed();
+    }
+}
@@ -13,6 +13,12 @@ public interface GameLineupService {
 
     void deleteLineupByGameId(Long gameId);
 
+    // 라인업 응답 캐시(LineupSnapshotCache)를 DB의 현재 라인업으로 다시 채웁니다. 라인업이 바뀐 트랜잭션이 커밋된 뒤 호출
+    void warmLineupCache(Long gameId);
+
+    // 라인업 응답 캐시에서 경기를 지웁니다. 라인업이 바뀐 트랜잭션이 커밋된 뒤 호출
+    void evictLineupCache(Long gameId);
+
     // This remains to convert a single GameLineup entity to its DTO, including teamType
     GameLineupDTO toDTO(GameLineup entity);
 }
\ No newline at end of file
@@ -12,9 +12,11 @@ import com.example.p1.repository.GameLineupRepository;
 import com.example.p1.repository.GameScheduleRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import jakarta.persistence.EntityNotFoundException;
+import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -27,10 +29,27 @@ public class GameLineupServiceImpl implements GameLineupService {
 
     private final GameLineupRepository gameLineupRepository;
     private final GameScheduleRepository gameScheduleRepository;
+    private final LineupSnapshotCache lineupSnapshotCache;
 
+    // 캐시에 있으면 트랜잭션(DB 연결)도 시작하지 않음
     @Override
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public LineupResponseDTO getLineupByGameId(Long gameId) {
+        return lineupSnapshotCache.get(gameId, this::loadLineup);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    public void warmLineupCache(Long gameId) {
+        lineupSnapshotCache.put(gameId, loadLineup(gameId));
+    }
+
+    @Override
+    public void evictLineupCache(Long gameId) {
+        lineupSnapshotCache.evict(gameId);
+    }
+
+    private LineupResponseDTO loadLineup(Long gameId) {
         List<GameLineup> lineups = gameLineupRepository.findAllByGameIdWithPlayers(gameId);
 
         if (lineups.isEmpty()) {
@@ -71,7 +90,6 @@ public class GameLineupServiceImpl implements GameLineupService {
             gameLineup = gameLineupRepository.findById(lineupDTO.getId())
                     .orElseThrow(() -> new EntityNotFoundException("GameLineup not found with ID: " + lineupDTO.getId()));
 
-            gameLineup.getPlayers().clear();
             gameLineup.setTeamType(lineupDTO.getTeamType());
 
         } else {
@@ -81,21 +99,36 @@ public class GameLineupServiceImpl implements GameLineupService {
                     .build();
         }
 
+        List<LineupDiff.Entry> desired = new ArrayList<>();
         if (lineupDTO.getPlayers() != null) {
             for (LineupPlayerDTO playerDTO : lineupDTO.getPlayers()) {
-                LineupPlayer player = LineupPlayer.builder()
+                desired.add(new LineupDiff.Entry(
+                        lineupDTO.getTeamType(),
+                        playerDTO.getPlayerRole(),
                         // LineupPlayerDTO의 orderNumber가 Integer이므로 null 체크 필요
-                        .orderNumber(Optional.ofNullable(playerDTO.getOrderNumber()).orElse(0))
-                        .playerName(playerDTO.getPlayerName())
-                        .position(playerDTO.getPosition())
-                        .playerRole(playerDTO.getPlayerRole())
-                        .innings(playerDTO.getInnings())
-                        .build();
-                gameLineup.addPlayer(player);
+                        Optional.ofNullable(playerDTO.getOrderNumber()).orElse(0),
+                        playerDTO.getPlayerName(),
+                        playerDTO.getPosition(),
+                        playerDTO.getInnings()));
             }
         }
 
+        // 기존 선수를 모두 지우고 다시 넣지 않고 바뀐 선수만 반영 (바뀐 것이 없으면 SQL 없음)
+        LineupDiff diff = LineupDiff.compute(gameLineup.getPlayers(), desired);
+        diff.getDeletes().forEach(gameLineup::removePlayer);
+        diff.applyUpdates();
+        for (LineupDiff.Entry entry : diff.getInserts()) {
+            gameLineup.addPlayer(LineupPlayer.builder()
+                    .orderNumber(entry.getOrderNumber())
+                    .playerName(entry.getPlayerName())
+                    .position(entry.getPosition())
+                    .playerRole(entry.getPlayerRole())
+                    .innings(entry.getInnings())
+                    .build());
+        }
+
         GameLineup savedLineup = gameLineupRepository.save(gameLineup);
+        AfterCommit.run(() -> lineupSnapshotCache.evict(gameId));
 
         return toDTO(savedLineup);
     }
@@ -103,6 +136,7 @@ public class GameLineupServiceImpl implements GameLineupService {
     @Override
     public void deleteLineupByGameId(Long gameId) {
         gameLineupRepository.deleteByGameId(gameId);
+        AfterCommit.run(() -> lineupSnapshotCache.evict(gameId));
     }
 
     /**
@@ -0,0 +1,33 @@
+package com.example.p1.service;
+
+import lombok.Value;
+
+import java.time.LocalDateTime;
+
+/**
+ * 종료된 경기 결과 한 건. GameScheduleRepository.streamGameResultsByStatus의 projection 행을 담습니다.
+ * 엔티티를 로딩하지 않고 순위/통계를 계산할 때 사용합니다.
+ */
+@Value
+public class GameResultRow {
+    Long gameId;
+    LocalDateTime gameDate;
+    Long homeTeamId;
+    Long awayTeamId;
+    int homeScore;
+    int awayScore;
+
+    public static GameResultRow from(Object[] row) {
+        return new GameResultRow(
+                (Long) row[0],
+                (LocalDateTime) row[1],
+                (Long) row[2],
+                (Long) row[3],
+                ((Number) row[4]).intValue(),
+                ((Number) row[5]).intValue());
+    }
+
+    public int getSeasonYear() {
+        return gameDate.getYear();
+    }
+}
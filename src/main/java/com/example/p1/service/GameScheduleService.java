@@ -3,6 +3,7 @@ package com.example.p1.service;
 import com.example.p1.dto.GameScheduleDTO; // DTO 임포트
 
 import java.io.IOException;
+import java.util.Collection;
 import java.util.List;
 
 public interface GameScheduleService {
@@ -12,4 +13,5 @@ public interface GameScheduleService {
     GameScheduleDTO updateGame(Long id, GameScheduleDTO updatedGameDTO); // DTO 사용
     void deleteGame(Long id);
     List<GameScheduleDTO> updateGameSchedulesFromCrawl(int seasonYear, int month) throws IOException;
+    List<GameScheduleDTO> refreshGamesFromCrawl(Collection<String> gameKeys) throws IOException; // 지정한 gameKey 경기만 다시 크롤링
 }
\ No newline at end of file
@@ -21,12 +21,16 @@ import java.io.IOException;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.time.YearMonth;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
 import java.util.Optional; // Optional 임포트 추가 (findByGameKey 사용 시 필요)
 import java.util.stream.Collectors;
 
@@ -43,6 +47,10 @@ public class GameScheduleServiceImpl implements GameScheduleService {
     private final TeamRepository teamRepository;
     private final CommentService commentService;
     private final KboGameCrawlerService kboGameCrawlerService;
+    private final EloRatingService eloRatingService;
+    private final RecentFormService recentFormService;
+    private final PredictionLeaderboardService predictionLeaderboardService;
+    private final CommentArchiveService commentArchiveService;
 
     // KBO 웹사이트의 약식 팀명(크롤러가 반환하는 이름)과 DB에 저장된 정식 팀명 간의 매핑
     private static final Map<String, String> KBO_TEAM_NAME_MAPPING;
@@ -118,6 +126,7 @@ public class GameScheduleServiceImpl implements GameScheduleService {
 
         GameSchedule savedGame = gameScheduleRepository.save(game);
         log.info("Game created successfully with ID: {}", savedGame.getId());
+        onResultChanged(savedGame, null, 0, 0); // 이미 종료된 경기를 수동 등록하는 경우
         return toDTO(savedGame);
     }
 
@@ -144,6 +153,9 @@ public class GameScheduleServiceImpl implements GameScheduleService {
         log.info("Updating game schedule with ID: {}", id);
         GameSchedule game = gameScheduleRepository.findById(id)
                 .orElseThrow(() -> new IllegalArgumentException("경기 없음: " + id));
+        GameStatus previousStatus = game.getStatus();
+        int previousHomeScore = game.getHomeScore();
+        int previousAwayScore = game.getAwayScore();
 
         if (updatedGameDTO.getHomeTeam() != null && updatedGameDTO.getHomeTeam().getId() != null) {
             Team homeTeam = teamRepository.findById(updatedGameDTO.getHomeTeam().getId())
@@ -171,19 +183,58 @@ public class GameScheduleServiceImpl implements GameScheduleService {
 
         GameSchedule savedGame = gameScheduleRepository.save(game);
         log.info("Game schedule with ID: {} updated successfully.", savedGame.getId());
+        onResultChanged(savedGame, previousStatus, previousHomeScore, previousAwayScore);
         return toDTO(savedGame);
     }
 
     @Override
     public void deleteGame(Long id) {
         log.info("Deleting game schedule with ID: {}", id);
-        if (!gameScheduleRepository.existsById(id)) {
+        List<Object[]> dateAndStatus = gameScheduleRepository.findDateAndStatusById(id);
+        if (dateAndStatus.isEmpty()) {
             throw new IllegalArgumentException("해당 경기 없음: " + id);
         }
+        LocalDateTime gameDate = (LocalDateTime) dateAndStatus.get(0)[0];
+        boolean wasFinished = dateAndStatus.get(0)[1] == GameStatus.FINISHED;
+        commentArchiveService.discard(id);
         gameScheduleRepository.deleteById(id);
+        // 삭제된 경기가 이미 레이팅/최근 흐름/예측 성적에 반영되었을 수 있으므로 재계산
+        AfterCommit.run(() -> {
+            eloRatingService.invalidate();
+            recentFormService.invalidate();
+            gameLineupService.evictLineupCache(id); // 함께 삭제된 라인업
+            if (wasFinished) {
+                predictionLeaderboardService.requestRebuild(gameDate.getYear());
+            }
+        });
         log.info("Game schedule with ID: {} deleted successfully.", id);
     }
 
+    /**
+     * 경기 결과(상태/점수)가 바뀌었을 때 커밋 이후 Elo 레이팅과 최근 흐름에 반영합니다.
+     * 새로 종료된 경기는 증분 반영하고, 이미 종료된 경기의 결과 수정이나 종료 취소는 재계산으로 처리합니다.
+     * 예측 성적은 새로 종료된 경기를 이 트랜잭션 안에서 채점하고, 결과 수정/종료 취소 시 커밋 이후 시즌 재계산을 예약합니다.
+     */
+    private void onResultChanged(GameSchedule game, GameStatus previousStatus, int previousHomeScore, int previousAwayScore) {
+        boolean wasFinished = previousStatus == GameStatus.FINISHED;
+        boolean isFinished = game.getStatus() == GameStatus.FINISHED;
+        boolean scoreChanged = previousHomeScore != game.getHomeScore() || previousAwayScore != game.getAwayScore();
+
+        if (isFinished && !wasFinished) {
+            predictionLeaderboardService.recordResult(game);
+            AfterCommit.run(() -> {
+                eloRatingService.recordResult(game);
+                recentFormService.recordResult(game);
+            });
+        } else if (wasFinished && (!isFinished || scoreChanged)) {
+            AfterCommit.run(() -> {
+                eloRatingService.invalidate();
+                recentFormService.invalidate();
+                predictionLeaderboardService.requestRebuild(game.getGameDate().getYear());
+            });
+        }
+    }
+
     // --- DTO <-> Entity 변환 메서드 (서비스 내부에 위치) ---
 
     private TeamDTO toTeamDTO(Team team) {
@@ -213,14 +264,26 @@ public class GameScheduleServiceImpl implements GameScheduleService {
 
 
         List<CommentDTO> commentDTOs = new ArrayList<>();
-        if (game.getComments() != null && !game.getComments().isEmpty()) {
+        if (commentArchiveService.isArchived(game.getId())) {
+            commentDTOs = new ArrayList<>(commentArchiveService.getComments(game.getId())); // 지난 시즌 보관본
+        } else if (game.getComments() != null && !game.getComments().isEmpty()) {
             commentDTOs = game.getComments().stream()
+                    .filter(comment -> !comment.isHidden()) // 관리자가 숨긴 댓글 제외
                     .map(commentService::toDTO)
                     .collect(Collectors.toList());
         } else {
             log.debug("No comments found for game ID: {}", game.getId());
         }
 
+        Double homeWinProbability = null;
+        Map<String, Double> winProbabilities = null;
+        if (game.getStatus() == GameStatus.SCHEDULED || game.getStatus() == GameStatus.IN_PROGRESS) {
+            winProbabilities = eloRatingService.getWinProbabilitiesByTeamName(game);
+            if (game.getHomeTeam() != null) {
+                homeWinProbability = winProbabilities.get(game.getHomeTeam().getName());
+            }
+        }
+
         return GameScheduleDTO.builder()
                 .id(game.getId())
                 .gameKey(game.getGameKey()) // gameKey를 DTO에 포함
@@ -233,6 +296,8 @@ public class GameScheduleServiceImpl implements GameScheduleService {
                 .status(game.getStatus() != null ? game.getStatus().name() : null)
                 .lineups(lineupDTOs)
                 .comments(commentDTOs)
+                .homeWinProbability(homeWinProbability)
+                .winProbabilities(winProbabilities)
                 .build();
     }
 
@@ -340,25 +405,7 @@ public class GameScheduleServiceImpl implements GameScheduleService {
             }
 
             // 점수 및 상태 업데이트 (신규/기존 모두 해당)
-            int parsedHomeScore = 0;
-            int parsedAwayScore = 0;
-            try {
-                parsedHomeScore = Integer.parseInt(gameData.getOrDefault("homeScore", "0"));
-                parsedAwayScore = Integer.parseInt(gameData.getOrDefault("awayScore", "0"));
-            } catch (NumberFormatException e) {
-                log.warn("Error parsing scores for game {}: {}. Scores will be set to 0.", crawledGameKey, e.getMessage());
-            }
-            gameSchedule.setHomeScore(parsedHomeScore);
-            gameSchedule.setAwayScore(parsedAwayScore);
-
-            String statusStr = gameData.getOrDefault("status", "SCHEDULED");
-            try {
-                gameSchedule.setStatus(GameStatus.valueOf(statusStr));
-            } catch (IllegalArgumentException e) {
-                log.warn("Error parsing game status '{}' for game {}: {}. Status will be SCHEDULED.", statusStr, crawledGameKey, e.getMessage());
-                gameSchedule.setStatus(GameStatus.SCHEDULED); // 유효하지 않은 상태 문자열의 경우 기본값 설정
-            }
-            gameSchedule.setLocation(gameData.get("stadium")); // 경기장 정보도 업데이트
+            applyCrawledResult(gameSchedule, gameData);
 
             schedulesToSave.add(gameSchedule);
             log.debug("Prepared to save/update game: ID={}, GameKey={}, Date={}, Home={}, Opponent={}, Status={}, Score={}:{}",
@@ -378,6 +425,73 @@ public class GameScheduleServiceImpl implements GameScheduleService {
         return savedSchedules.stream().map(this::toDTO).collect(Collectors.toList());
     }
 
+    @Override
+    public List<GameScheduleDTO> refreshGamesFromCrawl(Collection<String> gameKeys) throws IOException {
+        if (gameKeys == null || gameKeys.isEmpty()) {
+            return List.of();
+        }
+        Map<String, GameSchedule> targets = gameScheduleRepository.findByGameKeyIn(gameKeys).stream()
+                .collect(Collectors.toMap(GameSchedule::getGameKey, game -> game, (existing, replacement) -> existing));
+
+        // 일정 페이지는 월 단위이므로 대상 경기가 속한 달만 한 번씩 크롤링합니다.
+        Set<YearMonth> months = new TreeSet<>();
+        for (GameSchedule game : targets.values()) {
+            months.add(YearMonth.from(game.getGameDate()));
+        }
+        log.info("Re-crawling {} targeted games across {} month(s): {}", targets.size(), months.size(), months);
+
+        List<GameSchedule> schedulesToSave = new ArrayList<>();
+        for (YearMonth month : months) {
+            for (Map<String, String> gameData : kboGameCrawlerService.crawlKboSchedule(month.getYear(), month.getMonthValue())) {
+                GameSchedule gameSchedule = targets.remove(gameData.get("gameKey"));
+                if (gameSchedule == null) {
+                    continue; // 대상이 아닌 경기는 건드리지 않음
+                }
+                applyCrawledResult(gameSchedule, gameData);
+                schedulesToSave.add(gameSchedule);
+            }
+        }
+        if (!targets.isEmpty()) {
+            log.warn("Targeted games not found in re-crawl: {}", targets.keySet());
+        }
+
+        List<GameSchedule> savedSchedules = gameScheduleRepository.saveAll(schedulesToSave);
+        log.info("Refreshed {} targeted games from crawl.", savedSchedules.size());
+        return savedSchedules.stream().map(this::toDTO).collect(Collectors.toList());
+    }
+
+    /**
+     * 크롤링된 경기 데이터의 점수, 상태, 경기장을 엔티티에 반영하고 결과 변경을 레이팅/최근 흐름에 알립니다.
+     */
+    private void applyCrawledResult(GameSchedule gameSchedule, Map<String, String> gameData) {
+        String crawledGameKey = gameSchedule.getGameKey();
+        GameStatus previousStatus = gameSchedule.getStatus();
+        int previousHomeScore = gameSchedule.getHomeScore();
+        int previousAwayScore = gameSchedule.getAwayScore();
+
+        int parsedHomeScore = 0;
+        int parsedAwayScore = 0;
+        try {
+            parsedHomeScore = Integer.parseInt(gameData.getOrDefault("homeScore", "0"));
+            parsedAwayScore = Integer.parseInt(gameData.getOrDefault("awayScore", "0"));
+        } catch (NumberFormatException e) {
+            log.warn("Error parsing scores for game {}: {}. Scores will be set to 0.", crawledGameKey, e.getMessage());
+        }
+        gameSchedule.setHomeScore(parsedHomeScore);
+        gameSchedule.setAwayScore(parsedAwayScore);
+
+        String statusStr = gameData.getOrDefault("status", "SCHEDULED");
+        try {
+            gameSchedule.setStatus(GameStatus.valueOf(statusStr));
+        } catch (IllegalArgumentException e) {
+            log.warn("Error parsing game status '{}' for game {}: {}. Status will be SCHEDULED.", statusStr, crawledGameKey, e.getMessage());
+            gameSchedule.setStatus(GameStatus.SCHEDULED); // 유효하지 않은 상태 문자열의 경우 기본값 설정
+        }
+        gameSchedule.setLocation(gameData.get("stadium")); // 경기장 정보도 업데이트
+
+        onResultChanged(gameSchedule, previousStatus, previousHomeScore, previousAwayScore);
+    }
+
     // gameKey를 기반으로 식별하는 것이 더 정확하므로, generateGameIdentifier는 이제 사용되지 않을 수 있습니다.
     // 하지만 gameKey가 없을 때의 fallback으로 남겨두거나, 로깅/디버깅 목적으로 유지할 수 있습니다.
     private String generateGameIdentifier(LocalDateTime gameDate, String homeTeamName, String opponentTeamName) {
@@ -8,10 +8,14 @@ import org.jsoup.select.Elements;
 import org.springframework.stereotype.Service;
 
 import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 /**
  * KBO 웹사이트에서 실시간 팀 순위 데이터를 크롤링하는 서비스.
@@ -19,6 +23,12 @@ import java.util.Map;
 @Service
 public class KboCrawlerService {
 
+    // 순위 페이지의 기준 날짜 ("2025.04.01")
+    private static final Pattern RANK_DATE = Pattern.compile("(\\d{4})\\.\\s*\\d{1,2}\\.\\s*\\d{1,2}");
+
+    // 마지막 순위 크롤링 결과. 정합성 점검처럼 자주 돌지만 최신값이 꼭 필요하지 않은 작업에서 재사용합니다.
+    private volatile CachedTeamRanks lastTeamRanks;
+
     /**
      * KBO 웹사이트에서 현재 시즌의 팀 순위 데이터를 크롤링하여 반환합니다.
      * @return 각 팀의 순위 정보가 담긴 맵 리스트. 각 맵은 "rank", "teamName", "games", "wins", "losses", "draws", "winRate", "gamesBehind" 키를 가집니다.
@@ -61,6 +71,56 @@ public class KboCrawlerService {
                 // 오류가 발생해도 다음 행 처리를 위해 건너뜁니다.
             }
         }
+        lastTeamRanks = new CachedTeamRanks(List.copyOf(crawledRanks), parseSeasonYear(doc), LocalDateTime.now());
         return crawledRanks;
     }
+
+    /**
+     * 마지막 순위 크롤링 결과가 maxAge 이내라면 그대로 반환하고, 아니면 새로 크롤링합니다.
+     * @param maxAge 캐시된 결과를 재사용할 최대 경과 시간
+     * @return 각 팀의 순위 정보가 담긴 맵 리스트 (crawlCurrentKboTeamRanks와 같은 형식)
+     * @throws IOException 새로 크롤링하다 오류가 발생한 경우
+     */
+    public List<Map<String, String>> getCachedKboTeamRanks(Duration maxAge) throws IOException {
+        CachedTeamRanks cached = lastTeamRanks;
+        if (cached != null && cached.crawledAt.plus(maxAge).isAfter(LocalDateTime.now())) {
+            return cached.ranks;
+        }
+        return crawlCurrentKboTeamRanks();
+    }
+
+    /**
+     * 마지막으로 순위를 크롤링한 시각을 반환합니다. 한 번도 크롤링하지 않았다면 null을 반환합니다.
+     */
+    public LocalDateTime getLastTeamRanksCrawledAt() {
+        CachedTeamRanks cached = lastTeamRanks;
+        return cached != null ? cached.crawledAt : null;
+    }
+
+    /**
+     * 마지막으로 크롤링한 순위의 시즌(페이지 기준 날짜의 연도)을 반환합니다. 크롤링하지 않았거나 기준 날짜를 찾지 못했다면 null을 반환합니다.
+     * 시즌이 끝난 뒤 새해 초에는 사이트가 지난 시즌 순위를 보여주므로 현재 연도와 다를 수 있습니다.
+     */
+    public Integer getLastTeamRanksSeasonYear() {
+        CachedTeamRanks cached = lastTeamRanks;
+        return cached != null ? cached.seasonYear : null;
+    }
+
+    private static Integer parseSeasonYear(Document doc) {
+        Element title = doc.selectFirst("[id$=lblSearchDateTitle]");
+        Matcher matcher = RANK_DATE.matcher(title != null ? title.text() : "");
+        return matcher.find() ? Integer.valueOf(matcher.group(1)) : null;
+    }
+
+    private static final class CachedTeamRanks {
+        private final List<Map<String, String>> ranks;
+        private final Integer seasonYear;
+        private final LocalDateTime crawledAt;
+
+        private CachedTeamRanks(List<Map<String, String>> ranks, Integer seasonYear, LocalDateTime crawledAt) {
+            this.ranks = ranks;
+            this.seasonYear = seasonYear;
+            this.crawledAt = crawledAt;
+        }
+    }
 }
\ No newline at end of file
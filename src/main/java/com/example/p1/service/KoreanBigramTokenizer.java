@@ -0,0 +1,82 @@
+package com.example.p1.service;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * 댓글 검색용 한글 바이그램 토크나이저.
+ * 형태소 분석 없이 글자 단위 n-gram을 쓰므로 조사가 붙은 단어("롯데가", "롯데는")도 "롯데"로 찾을 수 있습니다.
+ * 입력은 NFKC로 정규화해 조합형으로 입력된 한글(맥 등에서 자모가 분리된 NFD)과 전각 문자를 통일하고 소문자로 맞춥니다.
+ */
+final class KoreanBigramTokenizer {
+
+    private KoreanBigramTokenizer() {
+    }
+
+    static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        return Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * 글자/숫자가 이어진 구간을 단어로 나눕니다. (공백, 문장부호, 이모지 등은 구분자)
+     */
+    static List<String> words(String normalized) {
+        List<String> words = new ArrayList<>();
+        int start = -1;
+        for (int i = 0; i < normalized.length(); i++) {
+            if (Character.isLetterOrDigit(normalized.charAt(i))) {
+                if (start < 0) {
+                    start = i;
+                }
+            } else if (start >= 0) {
+                words.add(normalized.substring(start, i));
+                start = -1;
+            }
+        }
+        if (start >= 0) {
+            words.add(normalized.substring(start));
+        }
+        return words;
+    }
+
+    /**
+     * 색인어: 단어마다 모든 한 글자와 인접한 두 글자. (한 글자 검색도 색인으로 처리)
+     */
+    static Set<String> indexTerms(String normalized) {
+        Set<String> terms = new LinkedHashSet<>();
+        for (String word : words(normalized)) {
+            for (int i = 0; i < word.length(); i++) {
+                terms.add(word.substring(i, i + 1));
+                if (i + 1 < word.length()) {
+                    terms.add(word.substring(i, i + 2));
+                }
+            }
+        }
+        return terms;
+    }
+
+    /**
+     * 검색어: 두 글자 이상 단어는 바이그램만, 한 글자 단어는 그 글자를 사용합니다.
+     * 바이그램이 모두 있어도 순서가 다를 수 있으므로 후보는 원문 포함 여부로 다시 확인해야 합니다.
+     */
+    static Set<String> queryTerms(List<String> queryWords) {
+        Set<String> terms = new LinkedHashSet<>();
+        for (String word : queryWords) {
+            if (word.length() == 1) {
+                terms.add(word);
+                continue;
+            }
+            for (int i = 0; i + 1 < word.length(); i++) {
+                terms.add(word.substring(i, i + 2));
+            }
+        }
+        return terms;
+    }
+}
@@ -0,0 +1,119 @@
+package com.example.p1.service;
+
+import com.example.p1.domain.LineupPlayer;
+import com.example.p1.domain.PlayerRole;
+import com.example.p1.domain.TeamType;
+import lombok.Value;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * 저장된 라인업 선수와 새 라인업(크롤링 결과, 관리자 요청)의 차이.
+ * 선수는 (팀 구분, 역할, 타순, 이름)으로 맞추고, 맞는 선수는 포지션/이닝이 다를 때만 수정합니다.
+ * 같은 키가 여러 명이면 나온 순서대로 하나씩 맞춥니다. 맞지 않은 새 선수는 추가, 남은 기존 선수는 삭제 대상입니다.
+ * 다시 크롤링해도 바뀐 선수만 INSERT/UPDATE/DELETE 되고, 바뀐 것이 없으면 아무것도 쓰지 않습니다.
+ */
+final class LineupDiff {
+
+    /**
+     * 새 라인업의 선수 한 명.
+     */
+    @Value
+    static class Entry {
+        TeamType teamType;
+        PlayerRole playerRole;
+        int orderNumber;
+        String playerName;
+        String position;
+        String innings;
+    }
+
+    @Value
+    static class Update {
+        LineupPlayer player;
+        Entry entry;
+    }
+
+    private final List<Entry> inserts;
+    private final List<Update> updates;
+    private final List<LineupPlayer> deletes;
+
+    private LineupDiff(List<Entry> inserts, List<Update> updates, List<LineupPlayer> deletes) {
+        this.inserts = inserts;
+        this.updates = updates;
+        this.deletes = deletes;
+    }
+
+    /**
+     * @param existing 저장된 선수 (팀 구분은 선수가 속한 GameLineup의 값)
+     * @param desired 새 라인업
+     */
+    static LineupDiff compute(Collection<LineupPlayer> existing, List<Entry> desired) {
+        Map<List<Object>, Deque<LineupPlayer>> byKey = new HashMap<>();
+        for (LineupPlayer player : existing) {
+            TeamType teamType = player.getGameLineup() != null ? player.getGameLineup().getTeamType() : null;
+            byKey.computeIfAbsent(key(teamType, player.getPlayerRole(), player.getOrderNumber(), player.getPlayerName()),
+                    k -> new ArrayDeque<>()).add(player);
+        }
+
+        List<Entry> inserts = new ArrayList<>();
+        List<Update> updates = new ArrayList<>();
+        for (Entry entry : desired) {
+            Deque<LineupPlayer> candidates = byKey.get(key(entry.getTeamType(), entry.getPlayerRole(), entry.getOrderNumber(), entry.getPlayerName()));
+            LineupPlayer matched = candidates != null ? candidates.poll() : null;
+            if (matched == null) {
+                inserts.add(entry);
+            } else if (!Objects.equals(matched.getPosition(), entry.getPosition())
+                    || !Objects.equals(matched.getInnings(), entry.getInnings())) {
+                updates.add(new Update(matched, entry));
+            }
+        }
+
+        List<LineupPlayer> deletes = new ArrayList<>();
+        byKey.values().forEach(deletes::addAll);
+        return new LineupDiff(inserts, updates, deletes);
+    }
+
+    private static List<Object> key(TeamType teamType, PlayerRole playerRole, int orderNumber, String playerName) {
+        return Arrays.asList(teamType, playerRole, orderNumber, playerName); // 역할이 없는 예전 데이터도 있어 null 허용
+    }
+
+    /**
+     * 맞춘 선수의 포지션/이닝을 새 값으로 바꿉니다. (관리 중인 엔티티라 커밋 때 UPDATE)
+     */
+    void applyUpdates() {
+        for (Update update : updates) {
+            update.getPlayer().setPosition(update.getEntry().getPosition());
+            update.getPlayer().setInnings(update.getEntry().getInnings());
+        }
+    }
+
+    List<Entry> getInserts() {
+        return inserts;
+    }
+
+    List<Update> getUpdates() {
+        return updates;
+    }
+
+    List<LineupPlayer> getDeletes() {
+        return deletes;
+    }
+
+    boolean isEmpty() {
+        return inserts.isEmpty() && updates.isEmpty() && deletes.isEmpty();
+    }
+
+    @Override
+    public String toString() {
+        return "+" + inserts.size() + " ~" + updates.size() + " -" + deletes.size();
+    }
+}
@@ -15,10 +15,12 @@ import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 
 @Service
@@ -31,6 +33,7 @@ public class LineupServiceImpl implements LineupService {
     private final KboGameCrawlerService kboGameCrawlerService;
     private final GameScheduleRepository gameScheduleRepository;
     private final GameLineupRepository gameLineupRepository;
+    private final GameLineupService gameLineupService;
 
     // KboGameCrawlerService와 동일한 매핑을 사용하여 일관성 유지 (선수 크롤링에서는 직접 사용되지 않음)
     private static final Map<String, String> KBO_FULL_TO_DISPLAY_NAME_MAP = new HashMap<>();
@@ -56,12 +59,20 @@ public class LineupServiceImpl implements LineupService {
 
         log.info("Attempting to crawl and save players for GameSchedule ID: {}", gameScheduleId);
 
-        // --- 기존 라인업 삭제 로직 ---
-        if (!gameSchedule.getLineups().isEmpty()) {
-            log.info("Clearing existing lineups for GameSchedule ID: {}", gameScheduleId);
-            gameSchedule.getLineups().forEach(lineup -> lineup.setGame(null));
-            gameSchedule.getLineups().clear();
-        }
+        // 커밋되면 라인업 응답 캐시 갱신. 오늘 경기는 조회가 몰리므로 바로 다시 채우고, 나머지는 지우기만 함
+        boolean today = gameSchedule.getGameDate() != null && gameSchedule.getGameDate().toLocalDate().equals(LocalDate.now());
+        AfterCommit.run(() -> {
+            if (today) {
+                try {
+                    gameLineupService.warmLineupCache(gameScheduleId);
+                } catch (RuntimeException e) {
+                    log.warn("Lineup cache warm-up failed for game ID {}: {}", gameScheduleId, e.getMessage());
+                    gameLineupService.evictLineupCache(gameScheduleId);
+                }
+            } else {
+                gameLineupService.evictLineupCache(gameScheduleId);
+            }
+        });
 
         // gameSchedule에서 gameKey를 가져옵니다.
         // GameSchedule 엔티티에 gameKey 필드가 있어야 하며, KboGameCrawlerService.crawlKboSchedule에서 이 필드를 채워야 합니다.
@@ -84,61 +95,85 @@ public class LineupServiceImpl implements LineupService {
         );
 
         if (scrapedPlayersData.isEmpty()) {
+            // 아직 경기 전이거나 기록이 없는 경우: 저장된 라인업은 그대로 둠
             log.warn("No player data was crawled for game ID: {}. This might be due to the game not being played yet, or no detailed records being available.", gameScheduleId);
-            gameScheduleRepository.save(gameSchedule); // 라인업이 없어도 GameSchedule은 저장하여 상태를 업데이트할 수 있도록
             return;
         }
 
-        Map<String, GameLineup> currentProcessingLineups = new HashMap<>();
-
+        List<LineupDiff.Entry> desired = new ArrayList<>(scrapedPlayersData.size());
         for (Map<String, Object> playerData : scrapedPlayersData) {
-            String teamName = (String) playerData.get("teamName");
-            String teamTypeStr = (String) playerData.get("teamType");
-            String playerRoleStr = (String) playerData.get("playerRole");
-
-            TeamType teamType = TeamType.valueOf(teamTypeStr);
-            PlayerRole playerRole = PlayerRole.valueOf(playerRoleStr);
+            desired.add(toEntry(playerData));
+        }
 
-            String lineupKey = teamName + "_" + playerRole.name();
+        // 저장된 라인업과 비교해 바뀐 선수만 반영 (전체 삭제 후 다시 넣지 않음)
+        List<GameLineup> lineups = new ArrayList<>(gameLineupRepository.findAllByGameIdFetchPlayers(gameScheduleId));
+        List<LineupPlayer> existing = new ArrayList<>();
+        lineups.forEach(lineup -> existing.addAll(lineup.getPlayers()));
+        LineupDiff diff = LineupDiff.compute(existing, desired);
+        if (diff.isEmpty()) {
+            log.info("Lineups unchanged for game ID: {} ({} player entries).", gameScheduleId, desired.size());
+            return;
+        }
 
-            GameLineup gameLineup = currentProcessingLineups.computeIfAbsent(lineupKey, k -> {
+        diff.getDeletes().forEach(player -> player.getGameLineup().removePlayer(player)); // orphanRemoval로 DELETE
+        diff.applyUpdates();
+
+        // 추가할 선수는 (팀 구분, 역할)별 라인업에 넣음. 없으면 새로 만듦 (기존과 같이 팀/역할마다 라인업 하나)
+        Map<String, GameLineup> lineupsBySlot = new HashMap<>();
+        for (GameLineup lineup : lineups) {
+            lineup.getPlayers().stream()
+                    .map(LineupPlayer::getPlayerRole)
+                    .filter(Objects::nonNull)
+                    .findFirst()
+                    .ifPresent(role -> lineupsBySlot.putIfAbsent(lineup.getTeamType() + "_" + role.name(), lineup));
+        }
+        for (LineupDiff.Entry entry : diff.getInserts()) {
+            GameLineup gameLineup = lineupsBySlot.computeIfAbsent(entry.getTeamType() + "_" + entry.getPlayerRole().name(), k -> {
                 GameLineup newGameLineup = GameLineup.builder()
                         .game(gameSchedule)
-                        .teamType(teamType)
+                        .teamType(entry.getTeamType())
                         .build();
                 gameSchedule.getLineups().add(newGameLineup);
+                lineups.add(newGameLineup);
                 return newGameLineup;
             });
+            gameLineup.addPlayer(LineupPlayer.builder()
+                    .playerName(entry.getPlayerName())
+                    .playerRole(entry.getPlayerRole())
+                    .orderNumber(entry.getOrderNumber())
+                    .position(entry.getPosition())
+                    .innings(entry.getInnings())
+                    .build());
+        }
 
-            LineupPlayer player = LineupPlayer.builder()
-                    .playerName((String) playerData.get("playerName"))
-                    .playerRole(playerRole)
-                    .gameLineup(gameLineup)
-                    .build();
-
-            if (playerRole == PlayerRole.BATTER) {
-                if (playerData.containsKey("orderNumber") && playerData.get("orderNumber") != null) {
-                    try {
-                        player.setOrderNumber(Integer.parseInt((String) playerData.get("orderNumber")));
-                    } catch (NumberFormatException e) {
-                        log.warn("Invalid order number format for batter {}: {}. Defaulting to 0.", playerData.get("playerName"), playerData.get("orderNumber"));
-                        player.setOrderNumber(0);
-                    }
-                } else {
-                    player.setOrderNumber(0);
-                }
-                player.setPosition((String) playerData.get("position"));
-                player.setInnings(null);
-            } else if (playerRole == PlayerRole.PITCHER) {
-                player.setOrderNumber(0);
-                player.setPosition((String) playerData.get("position"));
-                player.setInnings((String) playerData.get("innings"));
+        // 선수가 모두 빠진 라인업 삭제
+        for (GameLineup lineup : lineups) {
+            if (lineup.getPlayers().isEmpty()) {
+                gameSchedule.getLineups().remove(lineup);
             }
-
-            gameLineup.addPlayer(player);
         }
 
-        gameScheduleRepository.save(gameSchedule);
-        log.info("Successfully crawled and saved {} player entries for game ID: {}", scrapedPlayersData.size(), gameScheduleId);
+        log.info("Successfully crawled lineups for game ID: {} ({} player entries, changes {}).", gameScheduleId, desired.size(), diff);
+    }
+
+    private LineupDiff.Entry toEntry(Map<String, Object> playerData) {
+        TeamType teamType = TeamType.valueOf((String) playerData.get("teamType"));
+        PlayerRole playerRole = PlayerRole.valueOf((String) playerData.get("playerRole"));
+        String playerName = (String) playerData.get("playerName");
+
+        int orderNumber = 0;
+        String innings = null;
+        if (playerRole == PlayerRole.BATTER) {
+            if (playerData.containsKey("orderNumber") && playerData.get("orderNumber") != null) {
+                try {
+                    orderNumber = Integer.parseInt((String) playerData.get("orderNumber"));
+                } catch (NumberFormatException e) {
+                    log.warn("Invalid order number format for batter {}: {}. Defaulting to 0.", playerName, playerData.get("orderNumber"));
+                }
+            }
+        } else if (playerRole == PlayerRole.PITCHER) {
+            innings = (String) playerData.get("innings");
+        }
+        return new LineupDiff.Entry(teamType, playerRole, orderNumber, playerName, (String) playerData.get("position"), innings);
     }
 }
\ No newline at end of file
@@ -0,0 +1,153 @@
+package com.example.p1.service;
+
+import com.example.p1.dto.GameLineupDTO;
+import com.example.p1.dto.LineupPlayerDTO;
+import com.example.p1.dto.LineupResponseDTO;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 경기별 라인업 응답 캐시. 라인업은 크롤링(LineupServiceImpl)이나 관리자 수정(GameLineupServiceImpl)으로만 바뀌므로
+ * 조회 때마다 선수까지 조인해 읽지 않고 한 번 만든 응답을 재사용합니다. 바꾸는 쪽이 커밋 후 evict/put을 호출합니다.
+ * - evict/put은 변경한 서버에서만 일어나므로 다른 서버는 TTL(lineup.cache.ttl-seconds)이 지나면 다시 읽어 반영합니다.
+ * - 캐시에 둔 응답은 밖으로 내주지 않고 꺼낼 때마다 복사본을 반환하므로, 호출한 쪽이 DTO를 고쳐도 캐시는 바뀌지 않습니다.
+ * - 읽는 도중 무효화가 일어나면 읽은 값(변경 전일 수 있음)은 캐시에 넣지 않습니다.
+ * - 최근 조회한 경기 max-games개까지만 둡니다. (접근 순서 LRU)
+ */
+@Component
+public class LineupSnapshotCache {
+
+    private final int maxGames;
+    private final long ttlNanos;
+    private final Map<Long, CachedLineup> snapshots;
+    private final AtomicLong generation = new AtomicLong();
+
+    public LineupSnapshotCache(@Value("${lineup.cache.max-games:1000}") int maxGames,
+                               @Value("${lineup.cache.ttl-seconds:60}") long ttlSeconds) {
+        this.maxGames = Math.max(1, maxGames);
+        this.ttlNanos = TimeUnit.SECONDS.toNanos(ttlSeconds);
+        this.snapshots = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, CachedLineup> eldest) {
+                return size() > LineupSnapshotCache.this.maxGames;
+            }
+        };
+    }
+
+    /**
+     * 캐시된 응답의 복사본을 반환합니다. 없으면 loader로 만들어 캐시에 넣습니다.
+     */
+    public LineupResponseDTO get(Long gameId, Function<Long, LineupResponseDTO> loader) {
+        LineupResponseDTO snapshot = null;
+        long loadGeneration;
+        long now = System.nanoTime();
+        synchronized (snapshots) {
+            CachedLineup cached = snapshots.get(gameId);
+            if (cached != null && now - cached.loadedAt <= ttlNanos) {
+                snapshot = cached.snapshot;
+            } else if (cached != null) {
+                snapshots.remove(gameId);
+            }
+            loadGeneration = generation.get();
+        }
+        if (snapshot == null) {
+            snapshot = freeze(loader.apply(gameId));
+            synchronized (snapshots) {
+                if (generation.get() == loadGeneration) {
+                    snapshots.put(gameId, new CachedLineup(snapshot, System.nanoTime()));
+                }
+            }
+        }
+        return copy(snapshot);
+    }
+
+    /**
+     * 방금 커밋된 라인업으로 만든 응답을 넣습니다. (오늘 경기 크롤링 직후 미리 채우기)
+     */
+    public void put(Long gameId, LineupResponseDTO response) {
+        LineupResponseDTO snapshot = freeze(response);
+        synchronized (snapshots) {
+            generation.incrementAndGet(); // 그 전에 시작한 조회가 예전 값을 넣지 않도록
+            snapshots.put(gameId, new CachedLineup(snapshot, System.nanoTime()));
+        }
+    }
+
+    /**
+     * 경기의 캐시 항목을 지웁니다. 라인업이 바뀐 트랜잭션이 커밋된 뒤 호출합니다.
+     */
+    public void evict(Long gameId) {
+        synchronized (snapshots) {
+            generation.incrementAndGet();
+            snapshots.remove(gameId);
+        }
+    }
+
+    public int size() {
+        synchronized (snapshots) {
+            return snapshots.size();
+        }
+    }
+
+    /**
+     * 캐시에 두는 응답. loadedAt은 System.nanoTime 기준입니다.
+     */
+    private static final class CachedLineup {
+        private final LineupResponseDTO snapshot;
+        private final long loadedAt;
+
+        CachedLineup(LineupResponseDTO snapshot, long loadedAt) {
+            this.snapshot = snapshot;
+            this.loadedAt = loadedAt;
+        }
+    }
+
+    // 캐시에 두는 값: 원본 DTO와 공유하지 않는 복사본 (선수 목록은 변경 불가)
+    private static LineupResponseDTO freeze(LineupResponseDTO response) {
+        return LineupResponseDTO.builder()
+                .gameId(response.getGameId())
+                .homeLineup(copyLineup(response.getHomeLineup(), true))
+                .awayLineup(copyLineup(response.getAwayLineup(), true))
+                .build();
+    }
+
+    private static LineupResponseDTO copy(LineupResponseDTO snapshot) {
+        return LineupResponseDTO.builder()
+                .gameId(snapshot.getGameId())
+                .homeLineup(copyLineup(snapshot.getHomeLineup(), false))
+                .awayLineup(copyLineup(snapshot.getAwayLineup(), false))
+                .build();
+    }
+
+    private static GameLineupDTO copyLineup(GameLineupDTO lineup, boolean unmodifiable) {
+        if (lineup == null) {
+            return null;
+        }
+        List<LineupPlayerDTO> players = null;
+        if (lineup.getPlayers() != null) {
+            players = lineup.getPlayers().stream()
+                    .map(player -> LineupPlayerDTO.builder()
+                            .id(player.getId())
+                            .playerName(player.getPlayerName())
+                            .orderNumber(player.getOrderNumber())
+                            .position(player.getPosition())
+                            .playerRole(player.getPlayerRole())
+                            .innings(player.getInnings())
+                            .build())
+                    .collect(unmodifiable ? Collectors.toUnmodifiableList() : Collectors.toList());
+        }
+        return GameLineupDTO.builder()
+                .id(lineup.getId())
+                .gameId(lineup.getGameId())
+                .teamType(lineup.getTeamType())
+                .players(players)
+                .build();
+    }
+}
@@ -0,0 +1,270 @@
+package com.example.p1.service;
+
+import com.example.p1.repository.MemberRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 아이디/닉네임/이메일/휴대전화번호 중복 확인 앞단의 Bloom 필터. 필터에 없으면 "확실히 사용 가능"이므로 DB를 읽지 않고,
+ * 있으면(사용 중이거나 오탐) MemberServiceImpl이 DB에서 한 번에 확인합니다.
+ * - 생성: 서버 시작 시(백그라운드) 회원 전체를 키셋으로 읽어 만들고, 만들기 전에는 모든 값을 "사용 중일 수 있음"으로 답합니다.
+ * - 갱신: 이 서버의 가입/정보 수정은 커밋 직후 add로 바로 반영합니다. 다른 서버의 변경은 주기적으로 읽어 추가합니다.
+ *   가입은 마지막으로 읽은 ID 이후, 정보 수정은 마지막으로 읽은 수정 시각(MEMBER.UPDATED_AT) 이후를 읽습니다.
+ *   늦게 커밋된 수정과 서버 간 시계 차이를 감안해 수정 시각은 UPDATE_OVERLAP만큼 겹쳐 읽습니다. (다시 넣어도 결과는 같음)
+ * - 재생성: 필터에서 값을 지울 수 없어 탈퇴나 정보 수정으로 남은 예전 값(오탐만 늘림)이 많아지거나 예상 개수를 넘으면 다시 만들고,
+ *   하루 한 번 다시 만듭니다.
+ * 놓친 값이 있어도 가입 저장 시 DB 유일 제약이 최종 확인합니다. (MemberServiceImpl.register)
+ */
+@Component
+public class MemberAvailabilityFilter {
+
+    private static final Logger log = LoggerFactory.getLogger(MemberAvailabilityFilter.class);
+
+    private static final int CHUNK_SIZE = 5_000;
+    private static final long MIN_CAPACITY = 10_000;
+    private static final double MAX_STALE_RATIO = 0.1; // 예전 값이 이 비율을 넘으면 재생성
+    private static final Duration UPDATE_OVERLAP = Duration.ofMinutes(5);
+
+    public enum Field { USERNAME, NICKNAME, EMAIL, PHONE_NUMBER }
+
+    private final MemberRepository memberRepository;
+    private final boolean enabled;
+    private final double falsePositiveRate;
+
+    private final Object lock = new Object();
+    private volatile Filters current;   // 만들기 전에는 null
+    private Filters building;           // 재생성 중일 때만 non-null (lock으로 보호)
+    private long lastSeenId;            // lock으로 보호
+    private LocalDateTime syncedAt;     // lock으로 보호. 이 시각(UTC) 이후 수정된 회원을 다음 갱신 때 읽음
+    private final AtomicLong staleValues = new AtomicLong();
+
+    public MemberAvailabilityFilter(MemberRepository memberRepository,
+                                    @Value("${member.availability-filter.enabled:true}") boolean enabled,
+                                    @Value("${member.availability-filter.false-positive-rate:0.01}") double falsePositiveRate) {
+        this.memberRepository = memberRepository;
+        this.enabled = enabled;
+        this.falsePositiveRate = falsePositiveRate;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildOnStartup() {
+        if (!enabled) {
+            return;
+        }
+        Thread builder = new Thread(() -> {
+            try {
+                rebuild();
+            } catch (Exception e) {
+                log.error("Member availability filter build failed: {}", e.getMessage(), e);
+            }
+        }, "member-availability-filter-build");
+        builder.setDaemon(true);
+        builder.start();
+    }
+
+    /**
+     * 값이 이미 사용 중일 수 있는지 확인합니다. false면 DB를 확인하지 않아도 사용 가능합니다.
+     */
+    public boolean mightBeTaken(Field field, String value) {
+        if (value == null || value.isEmpty()) {
+            return false;
+        }
+        Filters filters = current;
+        return filters == null || filters.of(field).mightContain(value);
+    }
+
+    /**
+     * 가입/정보 수정이 커밋된 뒤 새 값을 추가합니다. null인 값은 건너뜁니다.
+     */
+    public void add(String username, String nickname, String email, String phoneNumber) {
+        if (!enabled) {
+            return;
+        }
+        synchronized (lock) {
+            if (current != null) {
+                current.put(username, nickname, email, phoneNumber);
+            }
+            if (building != null) {
+                building.put(username, nickname, email, phoneNumber);
+            }
+        }
+    }
+
+    /**
+     * 탈퇴나 정보 수정으로 더 이상 쓰이지 않는 값의 개수를 기록합니다. (필터에 남아 오탐만 늘리므로 많아지면 재생성)
+     */
+    public void retire(int values) {
+        staleValues.addAndGet(values);
+    }
+
+    /**
+     * 다른 서버에서 가입하거나 정보를 바꾼 회원을 추가하고, 예전 값이 많거나 예상 개수를 넘었으면 다시 만듭니다.
+     */
+    @Scheduled(fixedDelayString = "${member.availability-filter.refresh-interval-ms:60000}",
+            initialDelayString = "${member.availability-filter.refresh-interval-ms:60000}")
+    public void refresh() {
+        if (!enabled || current == null) {
+            return;
+        }
+        try {
+            Filters filters = current;
+            if (staleValues.get() > filters.size() * MAX_STALE_RATIO || filters.size() > filters.capacity) {
+                rebuild();
+                return;
+            }
+            long afterId;
+            synchronized (lock) {
+                afterId = lastSeenId;
+            }
+            List<Object[]> rows;
+            do {
+                rows = memberRepository.findIdentifiersAfter(afterId, PageRequest.of(0, CHUNK_SIZE));
+                synchronized (lock) {
+                    for (Object[] row : rows) {
+                        current.put((String) row[1], (String) row[2], (String) row[3], (String) row[4]);
+                        afterId = (Long) row[0];
+                    }
+                    lastSeenId = Math.max(lastSeenId, afterId);
+                }
+            } while (rows.size() == CHUNK_SIZE);
+            syncUpdated();
+        } catch (Exception e) {
+            log.warn("Member availability filter refresh failed: {}", e.getMessage());
+        }
+    }
+
+    // 마지막 갱신 이후 닉네임/이메일/휴대전화번호가 바뀐 회원의 새 값을 추가
+    private void syncUpdated() {
+        LocalDateTime startedAt = LocalDateTime.now(ZoneOffset.UTC);
+        LocalDateTime since;
+        synchronized (lock) {
+            since = syncedAt.minus(UPDATE_OVERLAP);
+        }
+        long afterId = 0;
+        List<Object[]> rows;
+        do {
+            rows = memberRepository.findIdentifiersUpdatedAfter(since, afterId, PageRequest.of(0, CHUNK_SIZE));
+            synchronized (lock) {
+                for (Object[] row : rows) {
+                    current.put(null, (String) row[1], (String) row[2], (String) row[3]);
+                    afterId = (Long) row[0];
+                    since = (LocalDateTime) row[4];
+                }
+            }
+        } while (rows.size() == CHUNK_SIZE);
+        synchronized (lock) {
+            if (startedAt.isAfter(syncedAt)) {
+                syncedAt = startedAt;
+            }
+        }
+    }
+
+    @Scheduled(cron = "${member.availability-filter.rebuild-cron:0 15 4 * * *}")
+    public void scheduledRebuild() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            rebuild();
+        } catch (Exception e) {
+            log.error("Scheduled member availability filter rebuild failed: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 회원 전체를 읽어 새 필터를 만든 뒤 교체합니다. 만드는 동안 add된 값은 새 필터에도 넣습니다.
+     */
+    public void rebuild() {
+        LocalDateTime startedAt = LocalDateTime.now(ZoneOffset.UTC);
+        long capacity = Math.max(MIN_CAPACITY, memberRepository.count() * 2);
+        Filters next = new Filters(capacity, falsePositiveRate);
+        long staleBefore = staleValues.get();
+        synchronized (lock) {
+            if (building != null) {
+                return; // 이미 다른 스레드가 만드는 중
+            }
+            building = next;
+        }
+        long afterId = 0;
+        try {
+            List<Object[]> rows;
+            do {
+                rows = memberRepository.findIdentifiersAfter(afterId, PageRequest.of(0, CHUNK_SIZE));
+                for (Object[] row : rows) {
+                    next.put((String) row[1], (String) row[2], (String) row[3], (String) row[4]);
+                    afterId = (Long) row[0];
+                }
+            } while (rows.size() == CHUNK_SIZE);
+        } finally {
+            synchronized (lock) {
+                building = null;
+            }
+        }
+        synchronized (lock) {
+            current = next;
+            lastSeenId = afterId;
+            syncedAt = startedAt;
+        }
+        staleValues.addAndGet(-staleBefore);
+        log.info("Member availability filter built: {} members, {} bits per field, {} hashes.",
+                next.size(), next.username.getBitCount(), next.username.getHashCount());
+    }
+
+    private static final class Filters {
+        final long capacity;
+        final BloomFilter username;
+        final BloomFilter nickname;
+        final BloomFilter email;
+        final BloomFilter phoneNumber;
+        final AtomicLong size = new AtomicLong();
+
+        Filters(long capacity, double falsePositiveRate) {
+            this.capacity = capacity;
+            this.username = new BloomFilter(capacity, falsePositiveRate);
+            this.nickname = new BloomFilter(capacity, falsePositiveRate);
+            this.email = new BloomFilter(capacity, falsePositiveRate);
+            this.phoneNumber = new BloomFilter(capacity, falsePositiveRate);
+        }
+
+        void put(String usernameValue, String nicknameValue, String emailValue, String phoneNumberValue) {
+            if (usernameValue != null) {
+                username.put(usernameValue);
+                size.incrementAndGet();
+            }
+            if (nicknameValue != null) {
+                nickname.put(nicknameValue);
+            }
+            if (emailValue != null) {
+                email.put(emailValue);
+            }
+            if (phoneNumberValue != null) {
+                phoneNumber.put(phoneNumberValue);
+            }
+        }
+
+        long size() {
+            return size.get();
+        }
+
+        BloomFilter of(Field field) {
+            return switch (field) {
+                case USERNAME -> username;
+                case NICKNAME -> nickname;
+                case EMAIL -> email;
+                case PHONE_NUMBER -> phoneNumber;
+            };
+        }
+    }
+}
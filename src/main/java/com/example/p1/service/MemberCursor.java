@@ -0,0 +1,49 @@
+package com.example.p1.service;
+
+import lombok.Value;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * 관리자 회원 목록의 페이지 위치. 정렬 기준(ID, 아이디, 닉네임)과 마지막으로 내려준 회원의 그 값을 담습니다.
+ * 아이디/닉네임은 유일하므로 값 하나로 위치가 정해집니다. 클라이언트에는 URL-safe Base64 문자열로 전달합니다.
+ */
+@Value
+class MemberCursor {
+
+    enum Sort { ID, USERNAME, NICKNAME }
+
+    Sort sort;
+    String value;
+
+    String encode() {
+        String raw = sort.name() + "|" + value;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @throws IllegalArgumentException 형식이 잘못되었거나 요청한 정렬 기준과 다른 커서인 경우
+     */
+    static MemberCursor decode(String cursor, Sort expectedSort) {
+        String raw;
+        try {
+            raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다: " + cursor, e);
+        }
+        int separator = raw.indexOf('|');
+        if (separator < 0 || !expectedSort.name().equals(raw.substring(0, separator))) {
+            throw new IllegalArgumentException("잘못된 커서입니다: " + cursor);
+        }
+        String value = raw.substring(separator + 1);
+        if (expectedSort == Sort.ID) {
+            try {
+                Long.parseLong(value);
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("잘못된 커서입니다: " + cursor, e);
+            }
+        }
+        return new MemberCursor(expectedSort, value);
+    }
+}
@@ -4,15 +4,19 @@ import com.example.p1.dto.MemberDTO;
 import com.example.p1.dto.MemberUpdateRequestDTO;
 import com.example.p1.dto.PasswordChangeRequestDTO;
 import com.example.p1.dto.MemberDeleteRequestDTO;
+import com.example.p1.dto.MemberPageDTO;
+import com.example.p1.dto.MemberSearchConditionDTO;
 import com.example.p1.dto.RegisterRequestDTO;
-import java.util.List;
+import java.io.IOException;
+import java.io.Writer;
 import java.util.Optional; // Optional 임포트 추가
 
 public interface MemberService {
     void register(RegisterRequestDTO registerRequest);
     boolean isUsernameExists(String username);
     boolean isEmailExists(String email);
-    List<MemberDTO> getAllMembers();
+    MemberPageDTO searchMembers(MemberSearchConditionDTO condition, String cursor, int size);
+    void exportMembersCsv(MemberSearchConditionDTO condition, Writer writer) throws IOException;
     MemberDTO getMemberById(Long id);
     // ⭐ 이 부분을 수정합니다! ⭐
     Optional<MemberDTO> getMemberByUsername(String username);
@@ -5,17 +5,28 @@ import com.example.p1.dto.MemberDTO;
 import com.example.p1.dto.MemberUpdateRequestDTO;
 import com.example.p1.dto.PasswordChangeRequestDTO;
 import com.example.p1.dto.MemberDeleteRequestDTO;
+import com.example.p1.dto.MemberPageDTO;
+import com.example.p1.dto.MemberSearchConditionDTO;
 import com.example.p1.dto.RegisterRequestDTO;
 import com.example.p1.repository.MemberRepository;
+import com.example.p1.security.token.TokenDenylist;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.io.IOException;
+import java.io.Writer;
 import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Optional; // Optional 임포트 추가
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
@@ -24,6 +35,15 @@ public class MemberServiceImpl implements MemberService {
 
     private final MemberRepository memberRepository;
     private final PasswordEncoder passwordEncoder;
+    private final CommentWriteLookup commentWriteLookup;
+    private final CustomUserDetailsService userDetailsService;
+    private final TokenDenylist tokenDenylist;
+    private final MemberAvailabilityFilter availabilityFilter;
+    // 비밀번호 해시/확인(BoundedPasswordEncoder에서 대기할 수 있음)을 트랜잭션 밖에서 마친 뒤 쓰기만 묶는 데 사용
+    private final TransactionTemplate transactionTemplate;
+
+    private static final int MAX_ADMIN_PAGE_SIZE = 100;
+    private static final String CSV_HEADER = "id,username,name,nickname,email,phoneNumber,role,banned,bannedUntil";
 
     // Member 엔티티를 MemberDTO로 변환하는 헬퍼 메서드
     private MemberDTO toDTO(Member member) {
@@ -42,10 +62,117 @@ public class MemberServiceImpl implements MemberService {
 
     @Override
     @Transactional(readOnly = true)
-    public List<MemberDTO> getAllMembers() {
-        return memberRepository.findAll().stream()
-                .map(this::toDTO)
-                .collect(Collectors.toList());
+    public MemberPageDTO searchMembers(MemberSearchConditionDTO condition, String cursor, int size) {
+        int pageSize = Math.max(1, Math.min(size, MAX_ADMIN_PAGE_SIZE));
+        // 한 건 더 읽어 다음 페이지 존재 여부를 COUNT 쿼리 없이 판단합니다.
+        int limit = pageSize + 1;
+        Member.Role role = parseRole(condition.getRole());
+        String usernamePrefix = likePrefix(condition.getUsernamePrefix());
+        String nicknamePrefix = likePrefix(condition.getNicknamePrefix());
+
+        // 접두어 검색은 해당 유일 인덱스 순서로 읽어 범위 밖 회원을 훑지 않도록 정렬 기준을 바꿉니다.
+        MemberCursor.Sort sort = usernamePrefix != null ? MemberCursor.Sort.USERNAME
+                : nicknamePrefix != null ? MemberCursor.Sort.NICKNAME
+                : MemberCursor.Sort.ID;
+        String after = cursor == null || cursor.isEmpty() ? null : MemberCursor.decode(cursor, sort).getValue();
+
+        List<Member> members = switch (sort) {
+            case ID -> memberRepository.findAdminPageAfterId(after != null ? Long.parseLong(after) : null,
+                    role, condition.getBanned(), condition.getBannedFrom(), condition.getBannedTo(),
+                    usernamePrefix, nicknamePrefix, limit);
+            case USERNAME -> memberRepository.findAdminPageAfterUsername(after,
+                    role, condition.getBanned(), condition.getBannedFrom(), condition.getBannedTo(),
+                    usernamePrefix, nicknamePrefix, limit);
+            case NICKNAME -> memberRepository.findAdminPageAfterNickname(after,
+                    role, condition.getBanned(), condition.getBannedFrom(), condition.getBannedTo(),
+                    usernamePrefix, nicknamePrefix, limit);
+        };
+
+        boolean hasNext = members.size() > pageSize;
+        List<Member> page = hasNext ? members.subList(0, pageSize) : members;
+        String nextCursor = null;
+        if (hasNext) {
+            Member last = page.get(page.size() - 1);
+            String value = switch (sort) {
+                case ID -> String.valueOf(last.getId());
+                case USERNAME -> last.getUsername();
+                case NICKNAME -> last.getNickname();
+            };
+            nextCursor = new MemberCursor(sort, value).encode();
+        }
+
+        return MemberPageDTO.builder()
+                .members(page.stream().map(this::toDTO).collect(Collectors.toList()))
+                .nextCursor(nextCursor)
+                .hasNext(hasNext)
+                .build();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void exportMembersCsv(MemberSearchConditionDTO condition, Writer writer) throws IOException {
+        Member.Role role = parseRole(condition.getRole());
+        writer.write('\uFEFF'); // 엑셀에서 한글이 깨지지 않도록 BOM
+        writer.write(CSV_HEADER);
+        writer.write("\r\n");
+        // 한 행씩 읽어 바로 쓰므로 회원 수와 관계없이 메모리 사용량이 일정합니다.
+        try (Stream<Object[]> rows = memberRepository.streamForAdminExport(role, condition.getBanned(),
+                condition.getBannedFrom(), condition.getBannedTo(),
+                likePrefix(condition.getUsernamePrefix()), likePrefix(condition.getNicknamePrefix()))) {
+            Iterator<Object[]> iterator = rows.iterator();
+            StringBuilder line = new StringBuilder(256);
+            while (iterator.hasNext()) {
+                Object[] row = iterator.next();
+                line.setLength(0);
+                for (int i = 0; i < row.length; i++) {
+                    if (i > 0) {
+                        line.append(',');
+                    }
+                    appendCsvCell(line, row[i]);
+                }
+                line.append("\r\n");
+                writer.write(line.toString());
+            }
+        }
+        writer.flush();
+    }
+
+    /**
+     * @throws IllegalArgumentException 알 수 없는 역할인 경우
+     */
+    private static Member.Role parseRole(String role) {
+        if (role == null || role.isEmpty()) {
+            return null;
+        }
+        try {
+            return Member.Role.valueOf(role.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("유효하지 않은 역할입니다: " + role);
+        }
+    }
+
+    // 접두어 검색용 LIKE 패턴. 와일드카드 문자는 그대로 찾도록 '!'로 escape (MemberRepositoryCustom)
+    private static String likePrefix(String prefix) {
+        if (prefix == null || prefix.isEmpty()) {
+            return null;
+        }
+        return prefix.replace("!", "!!").replace("%", "!%").replace("_", "!_") + "%";
+    }
+
+    // RFC 4180 형식. 스프레드시트에서 수식으로 실행되지 않도록 =, +, -, @로 시작하는 값은 앞에 '를 붙임
+    private static void appendCsvCell(StringBuilder line, Object value) {
+        if (value == null) {
+            return;
+        }
+        String text = value.toString();
+        if (!text.isEmpty() && "=+-@".indexOf(text.charAt(0)) >= 0 && !(value instanceof Number)) {
+            text = "'" + text;
+        }
+        if (text.indexOf(',') >= 0 || text.indexOf('"') >= 0 || text.indexOf('\n') >= 0 || text.indexOf('\r') >= 0) {
+            line.append('"').append(text.replace("\"", "\"\"")).append('"');
+        } else {
+            line.append(text);
+        }
     }
 
     @Override
@@ -65,24 +192,15 @@ public class MemberServiceImpl implements MemberService {
     }
 
     @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED) // 해시 계산 동안 DB 연결을 잡지 않도록 저장만 트랜잭션으로
     public void register(RegisterRequestDTO registerRequest) {
-        // 아이디, 닉네임, 이메일, 전화번호 중복 확인
-        if (memberRepository.findByUsername(registerRequest.getUsername()).isPresent()) {
-            throw new IllegalArgumentException("이미 사용 중인 아이디입니다.");
-        }
-        if (memberRepository.findByNickname(registerRequest.getNickname()).isPresent()) {
-            throw new IllegalArgumentException("이미 사용 중인 닉네임입니다.");
-        }
-        if (memberRepository.findByEmail(registerRequest.getEmail()).isPresent()) {
-            throw new IllegalArgumentException("이미 사용 중인 이메일입니다.");
-        }
-        if (memberRepository.findByPhoneNumber(registerRequest.getPhoneNumber()).isPresent()) {
-            throw new IllegalArgumentException("이미 사용 중인 휴대전화번호입니다.");
-        }
+        // 아이디, 닉네임, 이메일, 전화번호 중복 확인 (해시 계산 전에 빨리 실패)
+        checkAvailable(0L, registerRequest.getUsername(), registerRequest.getNickname(),
+                registerRequest.getEmail(), registerRequest.getPhoneNumber());
 
         Member newMember = Member.builder()
                 .username(registerRequest.getUsername())
-                .password(passwordEncoder.encode(registerRequest.getPassword())) // 비밀번호 인코딩
+                .password(passwordEncoder.encode(registerRequest.getPassword())) // 비밀번호 인코딩 (트랜잭션 밖)
                 .name(registerRequest.getName())
                 .nickname(registerRequest.getNickname())
                 .email(registerRequest.getEmail())
@@ -90,7 +208,47 @@ public class MemberServiceImpl implements MemberService {
                 .role(Member.Role.USER) // 기본 역할은 USER
                 .banned(false)
                 .build();
-        memberRepository.save(newMember);
+        transactionTemplate.executeWithoutResult(status -> {
+            try {
+                memberRepository.saveAndFlush(newMember);
+            } catch (DataIntegrityViolationException e) {
+                // 필터에 아직 반영되지 않은 동시 가입 등: 유일 제약이 최종 확인
+                throw new IllegalArgumentException("이미 사용 중인 아이디, 닉네임, 이메일 또는 휴대전화번호입니다.");
+            }
+            AfterCommit.run(() -> availabilityFilter.add(newMember.getUsername(), newMember.getNickname(),
+                    newMember.getEmail(), newMember.getPhoneNumber()));
+        });
+    }
+
+    /**
+     * 중복 확인. 중복 확인 필터가 "확실히 사용 가능"이라고 답한 값은 DB에서 확인하지 않고,
+     * 나머지 값은 한 번의 조회로 함께 확인합니다. null인 값은 확인하지 않습니다.
+     * @param excludeId 정보 수정 시 본인 ID (가입 시 0)
+     * @throws IllegalArgumentException 이미 사용 중인 값이 있는 경우
+     */
+    private void checkAvailable(Long excludeId, String username, String nickname, String email, String phoneNumber) {
+        String usernameToCheck = availabilityFilter.mightBeTaken(MemberAvailabilityFilter.Field.USERNAME, username) ? username : null;
+        String nicknameToCheck = availabilityFilter.mightBeTaken(MemberAvailabilityFilter.Field.NICKNAME, nickname) ? nickname : null;
+        String emailToCheck = availabilityFilter.mightBeTaken(MemberAvailabilityFilter.Field.EMAIL, email) ? email : null;
+        String phoneNumberToCheck = availabilityFilter.mightBeTaken(MemberAvailabilityFilter.Field.PHONE_NUMBER, phoneNumber) ? phoneNumber : null;
+        if (usernameToCheck == null && nicknameToCheck == null && emailToCheck == null && phoneNumberToCheck == null) {
+            return;
+        }
+
+        List<Object[]> conflicts = memberRepository.findIdentifierConflicts(excludeId,
+                usernameToCheck, nicknameToCheck, emailToCheck, phoneNumberToCheck);
+        if (conflicts.stream().anyMatch(row -> usernameToCheck != null && usernameToCheck.equals(row[0]))) {
+            throw new IllegalArgumentException("이미 사용 중인 아이디입니다.");
+        }
+        if (conflicts.stream().anyMatch(row -> nicknameToCheck != null && nicknameToCheck.equals(row[1]))) {
+            throw new IllegalArgumentException("이미 사용 중인 닉네임입니다.");
+        }
+        if (conflicts.stream().anyMatch(row -> emailToCheck != null && emailToCheck.equals(row[2]))) {
+            throw new IllegalArgumentException("이미 사용 중인 이메일입니다.");
+        }
+        if (conflicts.stream().anyMatch(row -> phoneNumberToCheck != null && phoneNumberToCheck.equals(row[3]))) {
+            throw new IllegalArgumentException("이미 사용 중인 휴대전화번호입니다.");
+        }
     }
 
     @Override
@@ -98,21 +256,11 @@ public class MemberServiceImpl implements MemberService {
         Member member = memberRepository.findByUsername(username)
                 .orElseThrow(() -> new IllegalArgumentException("회원이 없습니다: " + username));
 
-        if (updateRequest.getNickname() != null && !updateRequest.getNickname().isEmpty() &&
-                !member.getNickname().equals(updateRequest.getNickname()) &&
-                memberRepository.findByNickname(updateRequest.getNickname()).isPresent()) {
-            throw new IllegalArgumentException("이미 사용 중인 닉네임입니다!");
-        }
-        if (updateRequest.getEmail() != null && !updateRequest.getEmail().isEmpty() &&
-                !member.getEmail().equals(updateRequest.getEmail()) &&
-                memberRepository.findByEmail(updateRequest.getEmail()).isPresent()) {
-            throw new IllegalArgumentException("이미 사용 중인 이메일입니다!");
-        }
-        if (updateRequest.getPhoneNumber() != null && !updateRequest.getPhoneNumber().isEmpty() &&
-                !member.getPhoneNumber().equals(updateRequest.getPhoneNumber()) &&
-                memberRepository.findByPhoneNumber(updateRequest.getPhoneNumber()).isPresent()) {
-            throw new IllegalArgumentException("이미 사용 중인 휴대전화번호입니다!");
-        }
+        // 바뀌는 값만 확인
+        String newNickname = changed(member.getNickname(), updateRequest.getNickname());
+        String newEmail = changed(member.getEmail(), updateRequest.getEmail());
+        String newPhoneNumber = changed(member.getPhoneNumber(), updateRequest.getPhoneNumber());
+        checkAvailable(member.getId(), null, newNickname, newEmail, newPhoneNumber);
 
         if (updateRequest.getName() != null && !updateRequest.getName().isEmpty()) {
             member.setName(updateRequest.getName());
@@ -127,37 +275,93 @@ public class MemberServiceImpl implements MemberService {
             member.setPhoneNumber(updateRequest.getPhoneNumber());
         }
 
-        Member updatedMember = memberRepository.save(member);
+        int retired = (newNickname != null ? 1 : 0) + (newEmail != null ? 1 : 0) + (newPhoneNumber != null ? 1 : 0);
+        if (retired > 0) {
+            member.setUpdatedAt(LocalDateTime.now(ZoneOffset.UTC)); // 다른 서버의 중복 확인 필터가 읽어 가도록
+        }
+        Member updatedMember;
+        try {
+            updatedMember = memberRepository.saveAndFlush(member);
+        } catch (DataIntegrityViolationException e) {
+            // 필터에 아직 반영되지 않은 동시 변경 등: 유일 제약이 최종 확인
+            throw new IllegalArgumentException("이미 사용 중인 닉네임, 이메일 또는 휴대전화번호입니다.");
+        }
+        AfterCommit.run(() -> {
+            commentWriteLookup.evictMember(username); // 댓글 쓰기 캐시의 닉네임 갱신
+            userDetailsService.evict(username);        // 로그인 응답의 닉네임 갱신
+            availabilityFilter.add(null, newNickname, newEmail, newPhoneNumber);
+            availabilityFilter.retire(retired);        // 이전 값
+        });
         return toDTO(updatedMember);
     }
 
+    // 요청 값이 있고 현재 값과 다르면 그 값, 아니면 null
+    private static String changed(String current, String requested) {
+        return requested != null && !requested.isEmpty() && !requested.equals(current) ? requested : null;
+    }
+
     @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED) // 비밀번호 확인/해시는 트랜잭션 밖, 변경만 트랜잭션으로
     public void changePassword(String username, PasswordChangeRequestDTO passwordChangeRequest) {
-        Member member = memberRepository.findByUsername(username)
-                .orElseThrow(() -> new IllegalArgumentException("회원이 없습니다: " + username));
-
-        if (!passwordEncoder.matches(passwordChangeRequest.getCurrentPassword(), member.getPassword())) {
-            throw new IllegalArgumentException("현재 비밀번호가 일치하지 않습니다.");
-        }
-
-        member.setPassword(passwordEncoder.encode(passwordChangeRequest.getNewPassword()));
-        memberRepository.save(member);
+        String verifiedHash = verifyPassword(username, passwordChangeRequest.getCurrentPassword(),
+                "현재 비밀번호가 일치하지 않습니다.");
+        String newHash = passwordEncoder.encode(passwordChangeRequest.getNewPassword());
+
+        transactionTemplate.executeWithoutResult(status -> {
+            Member member = findWithPassword(username, verifiedHash, "현재 비밀번호가 일치하지 않습니다.");
+            member.setPassword(newHash);
+            revokeTokens(member); // 이전 비밀번호로 받은 토큰 폐기
+            memberRepository.save(member);
+            AfterCommit.run(() -> userDetailsService.evict(username)); // 이전 비밀번호로 로그인되지 않도록
+        });
     }
 
     @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED) // 비밀번호 확인은 트랜잭션 밖, 삭제만 트랜잭션으로
     public void deleteMyAccount(String username, MemberDeleteRequestDTO deleteRequest) {
-        Member member = memberRepository.findByUsername(username)
-                .orElseThrow(() -> new IllegalArgumentException("회원이 없습니다: " + username));
+        String verifiedHash = verifyPassword(username, deleteRequest.getPassword(),
+                "비밀번호가 일치하지 않습니다. 탈퇴할 수 없습니다.");
 
-        if (!passwordEncoder.matches(deleteRequest.getPassword(), member.getPassword())) {
-            throw new IllegalArgumentException("비밀번호가 일치하지 않습니다. 탈퇴할 수 없습니다.");
-        }
+        transactionTemplate.executeWithoutResult(status -> {
+            Member member = findWithPassword(username, verifiedHash, "비밀번호가 일치하지 않습니다. 탈퇴할 수 없습니다.");
+            if (member.getRole() == Member.Role.ADMIN) {
+                throw new SecurityException("관리자 계정은 탈퇴할 수 없습니다.");
+            }
 
-        if (member.getRole() == Member.Role.ADMIN) {
-            throw new SecurityException("관리자 계정은 탈퇴할 수 없습니다.");
+            memberRepository.delete(member);
+            LocalDateTime revokedAt = LocalDateTime.now(ZoneOffset.UTC);
+            AfterCommit.run(() -> {
+                commentWriteLookup.evictMember(username);
+                userDetailsService.evict(username);
+                tokenDenylist.revokeMember(username, revokedAt);
+                availabilityFilter.retire(4); // 아이디, 닉네임, 이메일, 휴대전화번호
+            });
+        });
+    }
+
+    /**
+     * 트랜잭션 밖에서 비밀번호를 확인합니다. (BCrypt 계산 동안 DB 연결을 잡지 않음)
+     * @return 확인에 사용한 비밀번호 해시 (쓰기 트랜잭션에서 그 사이 바뀌지 않았는지 확인용)
+     * @throws IllegalArgumentException 회원이 없거나 비밀번호가 다른 경우
+     */
+    private String verifyPassword(String username, String rawPassword, String mismatchMessage) {
+        String hash = memberRepository.findByUsername(username)
+                .orElseThrow(() -> new IllegalArgumentException("회원이 없습니다: " + username))
+                .getPassword();
+        if (!passwordEncoder.matches(rawPassword, hash)) {
+            throw new IllegalArgumentException(mismatchMessage);
         }
+        return hash;
+    }
 
-        memberRepository.delete(member);
+    // 쓰기 트랜잭션 안에서 회원을 다시 읽고, 확인 이후 다른 요청이 비밀번호를 바꿨으면 거절
+    private Member findWithPassword(String username, String verifiedHash, String mismatchMessage) {
+        Member member = memberRepository.findByUsername(username)
+                .orElseThrow(() -> new IllegalArgumentException("회원이 없습니다: " + username));
+        if (!verifiedHash.equals(member.getPassword())) {
+            throw new IllegalArgumentException(mismatchMessage);
+        }
+        return member;
     }
 
     @Override
@@ -166,14 +370,24 @@ public class MemberServiceImpl implements MemberService {
                 .orElseThrow(() -> new IllegalArgumentException("회원이 없습니다: " + id));
 
         if (memberDTO.getRole() != null && !memberDTO.getRole().isEmpty()) {
+            Member.Role role;
             try {
-                member.setRole(Member.Role.valueOf(memberDTO.getRole().toUpperCase()));
+                role = Member.Role.valueOf(memberDTO.getRole().toUpperCase());
             } catch (IllegalArgumentException e) {
                 throw new IllegalArgumentException("유효하지 않은 역할입니다: " + memberDTO.getRole());
             }
+            if (role != member.getRole()) {
+                member.setRole(role);
+                revokeTokens(member); // 토큰에 담긴 역할이 바뀌므로 다시 발급받도록
+            }
         }
 
         Member updatedMember = memberRepository.save(member);
+        String username = updatedMember.getUsername();
+        AfterCommit.run(() -> {
+            commentWriteLookup.evictMember(username); // 역할 변경 반영
+            userDetailsService.evict(username);
+        });
         return toDTO(updatedMember);
     }
 
@@ -186,6 +400,14 @@ public class MemberServiceImpl implements MemberService {
             throw new SecurityException("관리자 계정은 삭제할 수 없습니다.");
         }
         memberRepository.delete(member);
+        String username = member.getUsername();
+        LocalDateTime revokedAt = LocalDateTime.now(ZoneOffset.UTC);
+        AfterCommit.run(() -> {
+            commentWriteLookup.evictMember(username);
+            userDetailsService.evict(username);
+            tokenDenylist.revokeMember(username, revokedAt);
+            availabilityFilter.retire(4); // 아이디, 닉네임, 이메일, 휴대전화번호
+        });
     }
 
     @Override
@@ -197,6 +419,8 @@ public class MemberServiceImpl implements MemberService {
         }
         member.setBanned(true);
         member.setBannedUntil(null);
+        revokeTokens(member); // 발급된 토큰도 바로 사용 중지
+        AfterCommit.run(() -> userDetailsService.evict(username)); // 다음 로그인부터 정지 적용
         return toDTO(memberRepository.save(member));
     }
 
@@ -211,6 +435,8 @@ public class MemberServiceImpl implements MemberService {
         }
         member.setBanned(true);
         member.setBannedUntil(until);
+        revokeTokens(member);
+        AfterCommit.run(() -> userDetailsService.evict(username));
         return toDTO(memberRepository.save(member));
     }
 
@@ -220,18 +446,33 @@ public class MemberServiceImpl implements MemberService {
                 .orElseThrow(() -> new IllegalArgumentException("회원이 없습니다: " + username));
         member.setBanned(false);
         member.setBannedUntil(null);
+        AfterCommit.run(() -> userDetailsService.evict(username));
         return toDTO(memberRepository.save(member));
     }
 
+    /**
+     * 회원이 지금까지 받은 토큰을 모두 폐기합니다. 폐기 시각을 저장해 다른 서버도 TokenDenylist 주기 갱신으로 반영하고,
+     * 이 서버는 커밋 직후 바로 반영합니다.
+     */
+    private void revokeTokens(Member member) {
+        LocalDateTime revokedAt = LocalDateTime.now(ZoneOffset.UTC);
+        member.setTokensRevokedAt(revokedAt);
+        String username = member.getUsername();
+        AfterCommit.run(() -> tokenDenylist.revokeMember(username, revokedAt));
+    }
+
+    // 가입 화면에서 입력할 때마다 호출되므로 필터가 "확실히 사용 가능"이라고 답하면 트랜잭션(DB 연결)도 시작하지 않음
     @Override
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public boolean isUsernameExists(String username) {
-        return memberRepository.findByUsername(username).isPresent();
+        return availabilityFilter.mightBeTaken(MemberAvailabilityFilter.Field.USERNAME, username)
+                && memberRepository.existsByUsername(username);
     }
 
     @Override
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public boolean isEmailExists(String email) {
-        return memberRepository.findByEmail(email).isPresent();
+        return availabilityFilter.mightBeTaken(MemberAvailabilityFilter.Field.EMAIL, email)
+                && memberRepository.existsByEmail(email);
     }
 }
\ No newline at end of file
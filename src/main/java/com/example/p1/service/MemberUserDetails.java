@@ -0,0 +1,30 @@
+package com.example.p1.service;
+
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+
+import java.util.Collection;
+
+/**
+ * 로그인한 회원의 인증 정보. 로그인 성공 응답이 닉네임을 다시 조회하지 않도록 회원 ID와 닉네임을 함께 담습니다.
+ */
+public class MemberUserDetails extends User {
+
+    private final Long memberId;
+    private final String nickname;
+
+    public MemberUserDetails(Long memberId, String username, String password, String nickname, boolean accountNonLocked,
+                             Collection<? extends GrantedAuthority> authorities) {
+        super(username, password, true, true, true, accountNonLocked, authorities);
+        this.memberId = memberId;
+        this.nickname = nickname;
+    }
+
+    public Long getMemberId() {
+        return memberId;
+    }
+
+    public String getNickname() {
+        return nickname;
+    }
+}
@@ -0,0 +1,33 @@
+package com.example.p1.service;
+
+import java.util.Map;
+
+/**
+ * 경기별/팀별 예측 댓글 수를 메모리 카운터로 관리하는 서비스 인터페이스.
+ */
+public interface PredictionCounterService {
+
+    /**
+     * 경기의 팀별 예측 댓글 수를 반환합니다. 처음 조회하는 경기는 집계 쿼리 한 번으로 카운터를 채웁니다.
+     * @return 팀 이름 → 예측 댓글 수 (0인 팀은 제외)
+     */
+    Map<String, Long> getCounts(Long gameId);
+
+    /**
+     * 커밋된 예측 변경 하나를 카운터에 반영합니다. 예측이 아니었거나 예측이 아니게 된 쪽은 null로 전달합니다.
+     * @param previousTeamName 변경 전 예측 팀 이름 (새 예측이면 null)
+     * @param newTeamName 변경 후 예측 팀 이름 (삭제/예측 해제면 null)
+     */
+    void recordChange(Long gameId, String previousTeamName, String newTeamName);
+
+    /**
+     * 경기의 카운터를 버립니다. 다음 조회 때 DB 집계로 다시 채워집니다. (일괄 삭제/숨김 커밋 이후 호출)
+     */
+    void evict(Long gameId);
+
+    /**
+     * 메모리 카운터를 DB 집계와 비교해 어긋난 경기를 바로잡습니다.
+     * @return 보정된 경기 수
+     */
+    int reconcile();
+}
@@ -0,0 +1,170 @@
+package com.example.p1.service;
+
+import com.example.p1.domain.CommentType;
+import com.example.p1.repository.CommentRepository;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 예측 댓글 카운터 서비스 구현체.
+ * - 경기별로 팀 이름 → LongAdder 카운터를 두어 조회는 메모리 합산만으로 끝납니다.
+ * - 처음 조회하는 경기만 집계 쿼리 한 번으로 채우고, 이후에는 커밋된 변경을 증감으로 반영합니다.
+ * - 적재 중 커밋된 변경처럼 증감이 빠질 수 있는 좁은 구간은 정기 보정(reconcile)이 DB 집계 기준으로 바로잡습니다.
+ *   보정 주기 동안 한 번도 조회되지 않은 경기는 보정 대신 메모리에서 내려 카운터가 계속 늘어나지 않게 합니다.
+ */
+@Service
+@RequiredArgsConstructor
+public class PredictionCounterServiceImpl implements PredictionCounterService {
+
+    private static final Logger log = LoggerFactory.getLogger(PredictionCounterServiceImpl.class);
+
+    private static final int RECONCILE_CHUNK_SIZE = 1000; // Oracle IN 목록 최대 개수
+
+    private final CommentRepository commentRepository;
+
+    private final Map<Long, GameCounters> counters = new ConcurrentHashMap<>();
+
+    @Override
+    public Map<String, Long> getCounts(Long gameId) {
+        GameCounters gameCounters = counters.get(gameId);
+        if (gameCounters == null) {
+            gameCounters = load(gameId);
+        }
+        gameCounters.accessed = true;
+        return gameCounters.snapshot();
+    }
+
+    @Override
+    public void recordChange(Long gameId, String previousTeamName, String newTeamName) {
+        if (Objects.equals(previousTeamName, newTeamName)) {
+            return;
+        }
+        GameCounters gameCounters = counters.get(gameId);
+        if (gameCounters == null) {
+            return; // 아직 적재 전인 경기는 다음 조회 때 DB 집계로 채워짐
+        }
+        gameCounters.changes.incrementAndGet();
+        if (previousTeamName != null) {
+            gameCounters.add(previousTeamName, -1);
+        }
+        if (newTeamName != null) {
+            gameCounters.add(newTeamName, 1);
+        }
+    }
+
+    @Override
+    public void evict(Long gameId) {
+        counters.remove(gameId);
+    }
+
+    @Scheduled(fixedDelayString = "${comment.prediction-counts.reconcile-interval-ms:300000}",
+            initialDelayString = "${comment.prediction-counts.reconcile-interval-ms:300000}")
+    public void scheduledReconcile() {
+        try {
+            reconcile();
+        } catch (Exception e) {
+            log.error("Scheduled prediction counter reconciliation failed: {}", e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public synchronized int reconcile() {
+        List<Long> gameIds = new ArrayList<>();
+        Map<Long, Long> changesBefore = new HashMap<>();
+        counters.forEach((gameId, gameCounters) -> {
+            if (!gameCounters.accessed) {
+                counters.remove(gameId, gameCounters); // 지난 주기 동안 조회되지 않은 경기
+                return;
+            }
+            gameCounters.accessed = false;
+            gameIds.add(gameId);
+            changesBefore.put(gameId, gameCounters.changes.get());
+        });
+
+        int corrected = 0;
+        for (int from = 0; from < gameIds.size(); from += RECONCILE_CHUNK_SIZE) {
+            List<Long> chunk = gameIds.subList(from, Math.min(from + RECONCILE_CHUNK_SIZE, gameIds.size()));
+            Map<Long, Map<String, Long>> actual = new HashMap<>();
+            for (Object[] row : commentRepository.countPredictionsByGameIds(chunk, CommentType.PREDICTION)) {
+                actual.computeIfAbsent((Long) row[0], id -> new HashMap<>())
+                        .put((String) row[1], ((Number) row[2]).longValue());
+            }
+
+            for (Long gameId : chunk) {
+                GameCounters current = counters.get(gameId);
+                long before = changesBefore.get(gameId);
+                // 집계 쿼리 도중 반영된 변경이 있으면 어느 쪽이 최신인지 알 수 없으므로 다음 주기에 다시 비교
+                if (current == null || current.changes.get() != before) {
+                    continue;
+                }
+                Map<String, Long> expected = actual.getOrDefault(gameId, Map.of());
+                if (expected.equals(current.snapshot())) {
+                    continue;
+                }
+                GameCounters fresh = GameCounters.of(expected);
+                fresh.accessed = current.accessed;
+                if (counters.replace(gameId, current, fresh)) {
+                    if (current.changes.get() != before) {
+                        counters.remove(gameId, fresh); // 교체 직전 변경이 옛 카운터에 들어감: 다음 조회에서 다시 적재
+                    }
+                    corrected++;
+                    log.warn("Prediction counters for game {} drifted from DB. memory={}, db={}",
+                            gameId, current.snapshot(), expected);
+                }
+            }
+        }
+        return corrected;
+    }
+
+    private GameCounters load(Long gameId) {
+        Map<String, Long> counts = new HashMap<>();
+        for (Object[] row : commentRepository.countPredictionsByGameId(gameId, CommentType.PREDICTION)) {
+            counts.put((String) row[0], ((Number) row[1]).longValue());
+        }
+        GameCounters loaded = GameCounters.of(counts);
+        GameCounters existing = counters.putIfAbsent(gameId, loaded);
+        return existing != null ? existing : loaded;
+    }
+
+    /**
+     * 한 경기의 팀별 예측 카운터.
+     */
+    private static final class GameCounters {
+        private final Map<String, LongAdder> byTeam = new ConcurrentHashMap<>();
+        private final AtomicLong changes = new AtomicLong(); // 반영된 변경 수 (보정 중 변경 감지용)
+        private volatile boolean accessed = true;
+
+        static GameCounters of(Map<String, Long> counts) {
+            GameCounters gameCounters = new GameCounters();
+            counts.forEach(gameCounters::add);
+            return gameCounters;
+        }
+
+        void add(String teamName, long delta) {
+            byTeam.computeIfAbsent(teamName, name -> new LongAdder()).add(delta);
+        }
+
+        Map<String, Long> snapshot() {
+            Map<String, Long> counts = new HashMap<>();
+            byTeam.forEach((teamName, adder) -> {
+                long count = adder.sum();
+                if (count > 0) {
+                    counts.put(teamName, count);
+                }
+            });
+            return counts;
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.example.p1.service;
+
+import com.example.p1.domain.GameSchedule;
+import com.example.p1.dto.PredictionLeaderboardDTO;
+
+/**
+ * 회원별 승부 예측 성적(적중/실패, 연속 적중, 적중률)과 시즌 리더보드를 관리하는 서비스 인터페이스.
+ */
+public interface PredictionLeaderboardService {
+
+    /**
+     * 새로 종료된 경기의 예측 댓글 전체를 한 번의 MERGE 문으로 성적에 반영합니다.
+     * 호출한 쪽(경기 상태 변경)의 트랜잭션 안에서 실행되어 상태 변경과 함께 커밋/롤백됩니다. 무승부면 아무것도 하지 않습니다.
+     * @param game 방금 FINISHED가 된 경기
+     */
+    void recordResult(GameSchedule game);
+
+    /**
+     * 시즌의 성적을 종료된 경기와 예측 댓글로부터 처음부터 다시 계산합니다.
+     * (이미 종료된 경기의 결과 수정/삭제, 종료 후 예측 변경 등 증분 반영으로 맞출 수 없는 경우)
+     * 댓글이 보관된 지난 시즌은 예측 댓글이 GAME_COMMENT에 없으므로 건너뜁니다.
+     * @return 성적이 기록된 회원 수
+     */
+    int rebuildSeason(int seasonYear);
+
+    /**
+     * 시즌 재계산을 예약합니다. 요청 스레드를 막지 않도록 스케줄러가 짧은 주기로 모아서 rebuildSeason을 실행합니다.
+     * (경기 삭제, 종료된 경기의 결과 수정 커밋 이후)
+     */
+    void requestRebuild(int seasonYear);
+
+    /**
+     * 시즌 리더보드 상위 size명과 username 회원의 순위를 반환합니다.
+     * @param username 순위를 함께 조회할 회원 (null이면 생략)
+     */
+    PredictionLeaderboardDTO getLeaderboard(int seasonYear, int size, String username);
+}
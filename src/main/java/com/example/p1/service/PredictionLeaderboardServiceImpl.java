@@ -0,0 +1,252 @@
+package com.example.p1.service;
+
+import com.example.p1.domain.CommentType;
+import com.example.p1.domain.GameSchedule;
+import com.example.p1.domain.GameStatus;
+import com.example.p1.dto.PredictionLeaderboardDTO;
+import com.example.p1.dto.PredictionLeaderboardEntryDTO;
+import com.example.p1.repository.CommentRepository;
+import com.example.p1.repository.PredictionScoreRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+/**
+ * 승부 예측 리더보드 서비스 구현체.
+ * - 채점: 경기가 FINISHED가 되면 그 경기의 예측 댓글 전체를 MERGE 한 번으로 PREDICTION_SCORE에 더합니다.
+ *   회원 수와 관계없이 SQL 1개이며, 경기 상태 변경과 같은 트랜잭션이라 채점이 빠지거나 두 번 되지 않습니다.
+ * - 조회: 시즌별 순위표(순위, 회원 ID → 성적)를 메모리에 두고 상위 N명과 회원 순위를 바로 반환합니다.
+ *   채점/재계산이 커밋되면 해당 시즌만 비우고, 다음 조회 때 한 번의 projection 쿼리로 다시 적재합니다.
+ * - 재계산: 시즌의 종료 경기 예측을 날짜순으로 스트리밍해 연속 적중까지 다시 계산한 뒤 시즌 행을 통째로 바꿉니다.
+ *   결과 수정/경기 삭제 시(requestRebuild로 예약해 스케줄러 스레드에서 처리)와
+ *   매일 새벽(종료 후 예측 변경 등 누적 오차 정리)에 실행됩니다.
+ */
+@Service
+public class PredictionLeaderboardServiceImpl implements PredictionLeaderboardService {
+
+    private static final Logger log = LoggerFactory.getLogger(PredictionLeaderboardServiceImpl.class);
+
+    private static final int BATCH_SIZE = 500;
+    private static final int MAX_LEADERBOARD_SIZE = 100;
+
+    // 예측 팀과 승리 팀이 같으면 hit = 1. 한 회원의 예측이 여러 개여도 MERGE 원본이 회원당 한 행이 되도록 집계
+    private static final String SCORE_GAME_SQL =
+            "MERGE INTO PREDICTION_SCORE s " +
+            "USING (SELECT c.member_id, MAX(CASE WHEN c.predicted_team_id = ? THEN 1 ELSE 0 END) AS hit " +
+            "FROM GAME_COMMENT c WHERE c.game_id = ? AND c.type = 'PREDICTION' AND c.predicted_team_id IS NOT NULL AND c.hidden = 0 " +
+            "GROUP BY c.member_id) p " +
+            "ON (s.member_id = p.member_id AND s.season_year = ?) " +
+            "WHEN MATCHED THEN UPDATE SET s.correct_count = s.correct_count + p.hit, " +
+            "s.incorrect_count = s.incorrect_count + 1 - p.hit, " +
+            "s.current_streak = CASE WHEN p.hit = 1 THEN s.current_streak + 1 ELSE 0 END, " +
+            "s.best_streak = CASE WHEN p.hit = 1 AND s.current_streak + 1 > s.best_streak THEN s.current_streak + 1 ELSE s.best_streak END, " +
+            "s.updated_at = SYSTIMESTAMP " +
+            "WHEN NOT MATCHED THEN INSERT (id, member_id, season_year, correct_count, incorrect_count, current_streak, best_streak, updated_at) " +
+            "VALUES (PREDICTION_SCORE_SEQ.NEXTVAL, p.member_id, ?, p.hit, 1 - p.hit, p.hit, p.hit, SYSTIMESTAMP)";
+
+    private static final String DELETE_SEASON_SQL = "DELETE FROM PREDICTION_SCORE WHERE season_year = ?";
+
+    private static final String INSERT_SCORE_SQL =
+            "INSERT INTO PREDICTION_SCORE (id, member_id, season_year, correct_count, incorrect_count, current_streak, best_streak, updated_at) " +
+            "VALUES (PREDICTION_SCORE_SEQ.NEXTVAL, ?, ?, ?, ?, ?, ?, SYSTIMESTAMP)";
+
+    private final CommentRepository commentRepository;
+    private final PredictionScoreRepository predictionScoreRepository;
+    private final CommentWriteLookup commentWriteLookup;
+    private final CommentArchiveService commentArchiveService;
+    private final JdbcTemplate jdbcTemplate;
+    // 커밋 이후 콜백이나 스케줄러에서도 항상 새 트랜잭션으로 실행
+    private final TransactionTemplate rebuildTransaction;
+
+    private final Map<Integer, Leaderboard> leaderboards = new ConcurrentHashMap<>();
+    // 재계산이 예약된 시즌 (요청 스레드 대신 processPendingRebuilds에서 처리)
+    private final Set<Integer> pendingSeasons = ConcurrentHashMap.newKeySet();
+
+    public PredictionLeaderboardServiceImpl(CommentRepository commentRepository,
+                                            PredictionScoreRepository predictionScoreRepository,
+                                            CommentWriteLookup commentWriteLookup,
+                                            CommentArchiveService commentArchiveService,
+                                            JdbcTemplate jdbcTemplate,
+                                            PlatformTransactionManager transactionManager) {
+        this.commentRepository = commentRepository;
+        this.predictionScoreRepository = predictionScoreRepository;
+        this.commentWriteLookup = commentWriteLookup;
+        this.commentArchiveService = commentArchiveService;
+        this.jdbcTemplate = jdbcTemplate;
+        this.rebuildTransaction = new TransactionTemplate(transactionManager);
+        this.rebuildTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    @Override
+    @Transactional
+    public void recordResult(GameSchedule game) {
+        if (game == null || game.getId() == null || game.getStatus() != GameStatus.FINISHED
+                || game.getHomeScore() == game.getAwayScore()) {
+            return; // 새로 등록되는 경기에는 예측이 없고, 무승부는 채점하지 않음
+        }
+        Long winnerTeamId = game.getHomeScore() > game.getAwayScore()
+                ? game.getHomeTeam().getId()
+                : game.getOpponentTeam().getId();
+        int seasonYear = game.getGameDate().getYear();
+
+        int scored = jdbcTemplate.update(SCORE_GAME_SQL, winnerTeamId, game.getId(), seasonYear, seasonYear);
+        log.debug("Scored {} prediction(s) for game {}.", scored, game.getId());
+        if (scored > 0) {
+            AfterCommit.run(() -> leaderboards.remove(seasonYear));
+        }
+    }
+
+    @Scheduled(cron = "${prediction.leaderboard.rebuild-cron:0 45 4 * * *}")
+    public void scheduledRebuild() {
+        try {
+            rebuildSeason(LocalDate.now().getYear());
+        } catch (Exception e) {
+            log.error("Scheduled prediction leaderboard rebuild failed: {}", e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public void requestRebuild(int seasonYear) {
+        pendingSeasons.add(seasonYear);
+    }
+
+    @Scheduled(fixedDelayString = "${prediction.leaderboard.pending-rebuild-interval-ms:5000}")
+    public void processPendingRebuilds() {
+        for (Integer seasonYear : new ArrayList<>(pendingSeasons)) {
+            pendingSeasons.remove(seasonYear); // 재계산 도중 다시 예약되면 다음 주기에 한 번 더
+            try {
+                rebuildSeason(seasonYear);
+            } catch (Exception e) {
+                pendingSeasons.add(seasonYear);
+                log.error("Pending prediction leaderboard rebuild for season {} failed: {}", seasonYear, e.getMessage(), e);
+            }
+        }
+    }
+
+    @Override
+    public synchronized int rebuildSeason(int seasonYear) {
+        if (commentArchiveService.isSeasonArchived(seasonYear)) {
+            // 예측 댓글이 GAME_COMMENT에 없으므로 다시 계산하면 성적이 사라짐. 보관 당시 성적을 유지
+            log.warn("Skipping prediction leaderboard rebuild for archived season {}.", seasonYear);
+            return 0;
+        }
+        long start = System.currentTimeMillis();
+        LocalDateTime from = LocalDateTime.of(seasonYear, 1, 1, 0, 0);
+        LocalDateTime to = from.plusYears(1);
+
+        Integer members = rebuildTransaction.execute(status -> {
+            // memberId -> {적중, 실패, 현재 연속, 최다 연속}
+            Map<Long, int[]> scores = new LinkedHashMap<>();
+            try (Stream<Object[]> rows = commentRepository.streamPredictionResults(
+                    CommentType.PREDICTION, GameStatus.FINISHED, from, to)) {
+                rows.forEach(row -> {
+                    int[] score = scores.computeIfAbsent((Long) row[0], id -> new int[4]);
+                    if (((Number) row[1]).intValue() == 1) {
+                        score[0]++;
+                        score[2]++;
+                        score[3] = Math.max(score[3], score[2]);
+                    } else {
+                        score[1]++;
+                        score[2] = 0;
+                    }
+                });
+            }
+
+            jdbcTemplate.update(DELETE_SEASON_SQL, seasonYear);
+            List<Map.Entry<Long, int[]>> entries = new ArrayList<>(scores.entrySet());
+            jdbcTemplate.batchUpdate(INSERT_SCORE_SQL, entries, BATCH_SIZE, (ps, entry) -> {
+                int[] score = entry.getValue();
+                ps.setLong(1, entry.getKey());
+                ps.setInt(2, seasonYear);
+                ps.setInt(3, score[0]);
+                ps.setInt(4, score[1]);
+                ps.setInt(5, score[2]);
+                ps.setInt(6, score[3]);
+            });
+            AfterCommit.run(() -> leaderboards.remove(seasonYear));
+            return entries.size();
+        });
+
+        log.info("Prediction leaderboard for season {} rebuilt with {} member(s) in {} ms.",
+                seasonYear, members, System.currentTimeMillis() - start);
+        return members != null ? members : 0;
+    }
+
+    @Override
+    public PredictionLeaderboardDTO getLeaderboard(int seasonYear, int size, String username) {
+        Leaderboard leaderboard = leaderboards.computeIfAbsent(seasonYear, this::load);
+        int limit = Math.max(1, Math.min(size, MAX_LEADERBOARD_SIZE));
+
+        PredictionLeaderboardEntryDTO me = null;
+        if (username != null) {
+            CommentWriteLookup.MemberRef member = commentWriteLookup.getMember(username);
+            if (member != null) {
+                me = leaderboard.byMemberId.get(member.getId());
+            }
+        }
+        return PredictionLeaderboardDTO.builder()
+                .seasonYear(seasonYear)
+                .totalMembers(leaderboard.entries.size())
+                .entries(new ArrayList<>(leaderboard.entries.subList(0, Math.min(limit, leaderboard.entries.size()))))
+                .me(me)
+                .build();
+    }
+
+    private Leaderboard load(int seasonYear) {
+        List<Object[]> rows = predictionScoreRepository.findLeaderboardRows(seasonYear);
+        List<PredictionLeaderboardEntryDTO> entries = new ArrayList<>(rows.size());
+        Map<Long, PredictionLeaderboardEntryDTO> byMemberId = new HashMap<>();
+        int rank = 0;
+        PredictionLeaderboardEntryDTO previous = null;
+        for (Object[] row : rows) {
+            int correct = ((Number) row[2]).intValue();
+            int incorrect = ((Number) row[3]).intValue();
+            // 적중/실패 수가 같으면 같은 순위 (1, 2, 2, 4 ...)
+            if (previous == null || previous.getCorrect() != correct || previous.getIncorrect() != incorrect) {
+                rank = entries.size() + 1;
+            }
+            PredictionLeaderboardEntryDTO entry = PredictionLeaderboardEntryDTO.builder()
+                    .rank(rank)
+                    .memberId((Long) row[0])
+                    .nickname((String) row[1])
+                    .correct(correct)
+                    .incorrect(incorrect)
+                    .accuracy(correct + incorrect > 0 ? (double) correct / (correct + incorrect) : 0.0)
+                    .currentStreak(((Number) row[4]).intValue())
+                    .bestStreak(((Number) row[5]).intValue())
+                    .build();
+            entries.add(entry);
+            byMemberId.put(entry.getMemberId(), entry);
+            previous = entry;
+        }
+        return new Leaderboard(List.copyOf(entries), byMemberId);
+    }
+
+    // 시즌 순위표 (적재 후 바뀌지 않음)
+    private static final class Leaderboard {
+        private final List<PredictionLeaderboardEntryDTO> entries;
+        private final Map<Long, PredictionLeaderboardEntryDTO> byMemberId;
+
+        Leaderboard(List<PredictionLeaderboardEntryDTO> entries, Map<Long, PredictionLeaderboardEntryDTO> byMemberId) {
+            this.entries = entries;
+            this.byMemberId = byMemberId;
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.example.p1.service;
+
+import com.example.p1.dto.RankingBackfillReportDTO;
+
+/**
+ * 과거 시즌을 포함한 전체 시즌의 순위, 상대 전적, 일별 순위 스냅샷을 한 번에 다시 계산하는 서비스 인터페이스.
+ */
+public interface RankingBackfillService {
+
+    /**
+     * 종료된 모든 경기를 한 번만 읽어 시즌별로 나눈 뒤, 시즌별 계산을 병렬로 수행하고 배치 upsert로 저장합니다.
+     * @return 시즌별 처리 건수와 소요 시간
+     */
+    RankingBackfillReportDTO backfillAllSeasons();
+}
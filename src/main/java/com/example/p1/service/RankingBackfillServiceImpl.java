@@ -0,0 +1,237 @@
+package com.example.p1.service;
+
+import com.example.p1.domain.GameStatus;
+import com.example.p1.domain.Team;
+import com.example.p1.dto.RankingBackfillReportDTO;
+import com.example.p1.repository.GameScheduleRepository;
+import com.example.p1.repository.TeamRepository;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Stream;
+
+/**
+ * 전체 시즌 순위 백필 서비스 구현체.
+ * 1) 종료 경기를 projection 스트림으로 한 번만 읽어 시즌별로 분할
+ * 2) 시즌별 순위/상대 전적/일별 스냅샷을 스레드 풀에서 병렬 계산 (DB 접근 없음, 경기가 없는 팀도 순위표에 포함)
+ * 3) Oracle MERGE 문을 JDBC 배치로 실행해 upsert
+ */
+@Service
+@RequiredArgsConstructor
+public class RankingBackfillServiceImpl implements RankingBackfillService {
+
+    private static final Logger log = LoggerFactory.getLogger(RankingBackfillServiceImpl.class);
+
+    private static final int BATCH_SIZE = 500;
+
+    private static final String UPSERT_TEAM_RANKING_SQL =
+            "MERGE INTO TEAM_RANKING t " +
+            "USING (SELECT ? AS team_id, ? AS season_year, ? AS wins, ? AS losses, ? AS draws, " +
+            "? AS win_rate, ? AS current_rank, ? AS games_behind FROM dual) s " +
+            "ON (t.team_id = s.team_id AND t.season_year = s.season_year) " +
+            "WHEN MATCHED THEN UPDATE SET t.wins = s.wins, t.losses = s.losses, t.draws = s.draws, " +
+            "t.win_rate = s.win_rate, t.current_rank = s.current_rank, t.games_behind = s.games_behind, t.updated_at = SYSTIMESTAMP " +
+            "WHEN NOT MATCHED THEN INSERT (id, team_id, season_year, wins, losses, draws, win_rate, current_rank, games_behind, created_at, updated_at) " +
+            "VALUES (TEAM_RANKING_SEQ.NEXTVAL, s.team_id, s.season_year, s.wins, s.losses, s.draws, s.win_rate, s.current_rank, s.games_behind, SYSTIMESTAMP, SYSTIMESTAMP)";
+
+    private static final String UPSERT_HEAD_TO_HEAD_SQL =
+            "MERGE INTO TEAM_HEAD_TO_HEAD t " +
+            "USING (SELECT ? AS season_year, ? AS team_id, ? AS opponent_team_id, ? AS wins, ? AS losses, ? AS draws FROM dual) s " +
+            "ON (t.season_year = s.season_year AND t.team_id = s.team_id AND t.opponent_team_id = s.opponent_team_id) " +
+            "WHEN MATCHED THEN UPDATE SET t.wins = s.wins, t.losses = s.losses, t.draws = s.draws, t.updated_at = SYSTIMESTAMP " +
+            "WHEN NOT MATCHED THEN INSERT (id, season_year, team_id, opponent_team_id, wins, losses, draws, updated_at) " +
+            "VALUES (TEAM_HEAD_TO_HEAD_SEQ.NEXTVAL, s.season_year, s.team_id, s.opponent_team_id, s.wins, s.losses, s.draws, SYSTIMESTAMP)";
+
+    private static final String UPSERT_SNAPSHOT_SQL =
+            "MERGE INTO TEAM_RANKING_SNAPSHOT t " +
+            "USING (SELECT ? AS season_year, ? AS snapshot_date, ? AS team_id, ? AS wins, ? AS losses, ? AS draws, " +
+            "? AS win_rate, ? AS current_rank, ? AS games_behind FROM dual) s " +
+            "ON (t.season_year = s.season_year AND t.snapshot_date = s.snapshot_date AND t.team_id = s.team_id) " +
+            "WHEN MATCHED THEN UPDATE SET t.wins = s.wins, t.losses = s.losses, t.draws = s.draws, " +
+            "t.win_rate = s.win_rate, t.current_rank = s.current_rank, t.games_behind = s.games_behind " +
+            "WHEN NOT MATCHED THEN INSERT (id, season_year, snapshot_date, team_id, wins, losses, draws, win_rate, current_rank, games_behind) " +
+            "VALUES (TEAM_RANKING_SNAPSHOT_SEQ.NEXTVAL, s.season_year, s.snapshot_date, s.team_id, s.wins, s.losses, s.draws, s.win_rate, s.current_rank, s.games_behind)";
+
+    private final GameScheduleRepository gameScheduleRepository;
+    private final TeamRepository teamRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TeamRankingService teamRankingService;
+
+    @Override
+    @Transactional
+    public RankingBackfillReportDTO backfillAllSeasons() {
+        long start = System.currentTimeMillis();
+
+        // 1. 한 번의 스트리밍 조회로 시즌별 분할 (경기 날짜순 정렬 유지)
+        Map<Integer, List<GameResultRow>> gamesBySeason = new TreeMap<>();
+        try (Stream<Object[]> rows = gameScheduleRepository.streamGameResultsByStatus(GameStatus.FINISHED)) {
+            rows.map(GameResultRow::from)
+                    .forEach(row -> gamesBySeason.computeIfAbsent(row.getSeasonYear(), season -> new ArrayList<>()).add(row));
+        }
+        List<Long> teamIds = teamRepository.findAll().stream().map(Team::getId).toList();
+        long readMs = System.currentTimeMillis() - start;
+        log.info("Backfill: read {} seasons in {} ms.", gamesBySeason.size(), readMs);
+
+        // 2. 시즌별 병렬 계산
+        Map<Integer, SeasonComputation> computations = computeInParallel(gamesBySeason, teamIds);
+
+        // 3. 시즌별 배치 upsert
+        List<RankingBackfillReportDTO.SeasonResult> seasonResults = new ArrayList<>();
+        int totalGames = 0;
+        for (SeasonComputation computation : computations.values()) {
+            long writeStart = System.currentTimeMillis();
+            int rankingRows = upsertTeamRankings(computation);
+            int headToHeadRows = upsertHeadToHead(computation);
+            int snapshotRows = upsertSnapshots(computation);
+            long writeMs = System.currentTimeMillis() - writeStart;
+
+            totalGames += computation.games;
+            seasonResults.add(RankingBackfillReportDTO.SeasonResult.builder()
+                    .seasonYear(computation.seasonYear)
+                    .games(computation.games)
+                    .rankingRows(rankingRows)
+                    .headToHeadRows(headToHeadRows)
+                    .snapshotRows(snapshotRows)
+                    .computeMs(computation.computeMs)
+                    .writeMs(writeMs)
+                    .build());
+            log.info("Backfill season {}: {} games, compute {} ms, write {} ms ({} rankings, {} head-to-head, {} snapshots).",
+                    computation.seasonYear, computation.games, computation.computeMs, writeMs, rankingRows, headToHeadRows, snapshotRows);
+        }
+
+        // JDBC로 직접 저장했으므로 커밋 이후 순위 스냅샷을 다시 적재
+        AfterCommit.run(teamRankingService::reloadRankingSnapshots);
+
+        return RankingBackfillReportDTO.builder()
+                .seasonCount(seasonResults.size())
+                .totalGames(totalGames)
+                .readMs(readMs)
+                .totalMs(System.currentTimeMillis() - start)
+                .seasons(seasonResults)
+                .build();
+    }
+
+    private Map<Integer, SeasonComputation> computeInParallel(Map<Integer, List<GameResultRow>> gamesBySeason, List<Long> teamIds) {
+        Map<Integer, SeasonComputation> computations = new LinkedHashMap<>();
+        if (gamesBySeason.isEmpty()) {
+            return computations;
+        }
+
+        int threads = Math.min(gamesBySeason.size(), Runtime.getRuntime().availableProcessors());
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            Map<Integer, Future<SeasonComputation>> futures = new LinkedHashMap<>();
+            gamesBySeason.forEach((season, games) -> futures.put(season, executor.submit(() -> computeSeason(season, games, teamIds))));
+            for (Map.Entry<Integer, Future<SeasonComputation>> entry : futures.entrySet()) {
+                computations.put(entry.getKey(), entry.getValue().get());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("순위 백필 계산이 중단되었습니다.", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("순위 백필 계산 중 오류가 발생했습니다: " + e.getCause().getMessage(), e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+        return computations;
+    }
+
+    /**
+     * 한 시즌의 최종 순위, 상대 전적, 일별 순위 스냅샷을 계산합니다. (DB 접근 없음)
+     * @param games 경기 날짜순으로 정렬된 시즌 경기 목록
+     * @param teamIds 순위표에 넣을 전체 팀 (종료 경기가 없는 팀도 0승 0패로 포함)
+     */
+    private SeasonComputation computeSeason(int seasonYear, List<GameResultRow> games, List<Long> teamIds) {
+        long start = System.currentTimeMillis();
+        StandingsCalculator calculator = new StandingsCalculator();
+        teamIds.forEach(calculator::register);
+        Map<LocalDate, List<StandingsCalculator.Standing>> snapshots = new LinkedHashMap<>();
+
+        LocalDate currentDay = null;
+        for (GameResultRow game : games) {
+            LocalDate day = game.getGameDate().toLocalDate();
+            if (currentDay != null && !day.equals(currentDay)) {
+                snapshots.put(currentDay, calculator.standings()); // 전날까지의 순위표 확정
+            }
+            currentDay = day;
+
+            calculator.apply(game.getHomeTeamId(), game.getAwayTeamId(), game.getHomeScore(), game.getAwayScore());
+        }
+        if (currentDay != null) {
+            snapshots.put(currentDay, calculator.standings());
+        }
+
+        SeasonComputation computation = new SeasonComputation();
+        computation.seasonYear = seasonYear;
+        computation.games = games.size();
+        computation.finalStandings = calculator.standings();
+        computation.headToHead = calculator.headToHead();
+        computation.snapshots = snapshots;
+        computation.computeMs = System.currentTimeMillis() - start;
+        return computation;
+    }
+
+    private int upsertTeamRankings(SeasonComputation computation) {
+        jdbcTemplate.batchUpdate(UPSERT_TEAM_RANKING_SQL, computation.finalStandings, BATCH_SIZE, (ps, s) -> {
+            ps.setLong(1, s.getTeamId());
+            ps.setInt(2, computation.seasonYear);
+            ps.setInt(3, s.getWins());
+            ps.setInt(4, s.getLosses());
+            ps.setInt(5, s.getDraws());
+            ps.setDouble(6, s.getWinRate());
+            ps.setInt(7, s.getRank());
+            ps.setDouble(8, s.getGamesBehind());
+        });
+        return computation.finalStandings.size();
+    }
+
+    private int upsertHeadToHead(SeasonComputation computation) {
+        jdbcTemplate.batchUpdate(UPSERT_HEAD_TO_HEAD_SQL, computation.headToHead, BATCH_SIZE, (ps, h) -> {
+            ps.setInt(1, computation.seasonYear);
+            ps.setLong(2, h.getTeamId());
+            ps.setLong(3, h.getOpponentTeamId());
+            ps.setInt(4, h.getWins());
+            ps.setInt(5, h.getLosses());
+            ps.setInt(6, h.getDraws());
+        });
+        return computation.headToHead.size();
+    }
+
+    private int upsertSnapshots(SeasonComputation computation) {
+        List<Object[]> rows = new ArrayList<>();
+        computation.snapshots.forEach((day, standings) -> standings.forEach(s -> rows.add(new Object[]{
+                computation.seasonYear, Date.valueOf(day), s.getTeamId(), s.getWins(), s.getLosses(), s.getDraws(),
+                s.getWinRate(), s.getRank(), s.getGamesBehind()})));
+        jdbcTemplate.batchUpdate(UPSERT_SNAPSHOT_SQL, rows, BATCH_SIZE, (ps, row) -> {
+            for (int i = 0; i < row.length; i++) {
+                ps.setObject(i + 1, row[i]);
+            }
+        });
+        return rows.size();
+    }
+
+    // 시즌 하나의 계산 결과 (계산 스레드에서 만들어 호출 스레드로 넘김)
+    private static class SeasonComputation {
+        int seasonYear;
+        int games;
+        long computeMs;
+        List<StandingsCalculator.Standing> finalStandings;
+        List<StandingsCalculator.HeadToHead> headToHead;
+        Map<LocalDate, List<StandingsCalculator.Standing>> snapshots;
+    }
+}
@@ -0,0 +1,43 @@
+package com.example.p1.service;
+
+import com.example.p1.domain.GameSchedule;
+
+/**
+ * 팀별 최근 경기 흐름(최근 10경기, 연승/연패, 홈/원정 성적)을 관리하는 서비스 인터페이스.
+ */
+public interface RecentFormService {
+
+    /**
+     * 종료된 모든 경기를 날짜순으로 한 번 훑어 흐름 정보를 처음부터 다시 계산합니다.
+     * @return 재계산에 반영된 경기 수
+     */
+    int rebuild();
+
+    /**
+     * 종료된 경기 결과 하나를 반영합니다.
+     * 순서가 어긋난 경기나 이미 반영된 경기의 점수 수정은 백그라운드 전체 재계산으로 처리됩니다.
+     * @param game 종료된 경기
+     */
+    void recordResult(GameSchedule game);
+
+    /**
+     * 흐름 정보를 백그라운드에서 다시 계산하도록 표시합니다. (경기 삭제 등) 재계산 전까지 조회는 기존 스냅샷을 반환합니다.
+     */
+    void invalidate();
+
+    /**
+     * 특정 시즌, 특정 팀의 흐름 요약을 반환합니다. (현재 스냅샷에서 조회, DB 접근 없음)
+     */
+    TeamFormTracker.FormSummary getForm(int seasonYear, Long teamId);
+
+    /**
+     * 흐름 정보가 바뀔 때마다(재계산, 경기 반영) 증가하는 버전을 반환합니다.
+     * 흐름 정보를 함께 담는 캐시가 자신이 최신인지 확인할 때 사용합니다.
+     */
+    long getVersion();
+
+    /**
+     * 현재 흐름 스냅샷을 반환합니다. 여러 팀을 같은 버전으로 읽어야 할 때 사용합니다. (DB 접근 없음)
+     */
+    RecentFormSnapshot getSnapshot();
+}
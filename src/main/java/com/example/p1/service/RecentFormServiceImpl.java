@@ -0,0 +1,133 @@
+package com.example.p1.service;
+
+import com.example.p1.domain.GameSchedule;
+import com.example.p1.domain.GameStatus;
+import com.example.p1.repository.GameScheduleRepository;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * 최근 경기 흐름 서비스 구현체.
+ * 흐름 정보는 메모리에만 보관하며, 시작 시 전체 이력으로 한 번 계산한 뒤 경기가 끝날 때마다 증분 반영합니다.
+ * 조회는 불변 스냅샷(RecentFormSnapshot)만 읽으므로 잠금, 트랜잭션, DB 연결을 쓰지 않습니다.
+ * 잠금과 트랜잭션은 재계산/반영 쪽에만 있고, 전체 재계산이 필요해지면(invalidate) 조회가 아닌 백그라운드 작업이 처리합니다.
+ */
+@Service
+@RequiredArgsConstructor
+public class RecentFormServiceImpl implements RecentFormService {
+
+    private static final Logger log = LoggerFactory.getLogger(RecentFormServiceImpl.class);
+
+    private final GameScheduleRepository gameScheduleRepository;
+
+    private TeamFormTracker tracker;  // 쓰기 쪽 상태 (this로 동기화)
+    private volatile boolean dirty = true;
+    // 조회용 불변 스냅샷. 쓰기 쪽에서 tracker를 갱신한 뒤 통째로 교체합니다.
+    private volatile RecentFormSnapshot snapshot = RecentFormSnapshot.EMPTY;
+
+    @Override
+    @Transactional(readOnly = true)
+    public synchronized int rebuild() {
+        long start = System.currentTimeMillis();
+        TeamFormTracker fresh = new TeamFormTracker();
+        dirty = false; // 재계산 도중 들어온 invalidate는 다음 재계산에서 처리
+
+        try (Stream<Object[]> rows = gameScheduleRepository.streamGameResultsByStatus(GameStatus.FINISHED)) {
+            rows.forEach(row -> fresh.apply(
+                    (Long) row[0],
+                    (LocalDateTime) row[1],
+                    (Long) row[2],
+                    (Long) row[3],
+                    ((Number) row[4]).intValue(),
+                    ((Number) row[5]).intValue()));
+        } catch (RuntimeException e) {
+            dirty = true;
+            throw e;
+        }
+
+        tracker = fresh;
+        snapshot = new RecentFormSnapshot(snapshot.getVersion() + 1, fresh.summarizeAll());
+        log.info("Recent form rebuilt from {} finished games in {} ms.", fresh.getAppliedGameCount(), System.currentTimeMillis() - start);
+        return fresh.getAppliedGameCount();
+    }
+
+    /**
+     * 시작 시 첫 계산과, invalidate 이후의 재계산을 조회 경로 밖에서 수행합니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${ranking.recent-form.rebuild-check-interval-ms:5000}",
+            initialDelayString = "${ranking.recent-form.rebuild-check-interval-ms:5000}")
+    @Transactional(readOnly = true)
+    public void rebuildIfDirty() {
+        if (!dirty) {
+            return;
+        }
+        try {
+            rebuild();
+        } catch (Exception e) {
+            log.error("Recent form rebuild failed: {}", e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public synchronized void recordResult(GameSchedule game) {
+        if (game == null || game.getStatus() != GameStatus.FINISHED || dirty || tracker == null) {
+            return;
+        }
+        Long homeTeamId = game.getHomeTeam().getId();
+        Long awayTeamId = game.getOpponentTeam().getId();
+        boolean applied = tracker.apply(
+                game.getId(),
+                game.getGameDate(),
+                homeTeamId,
+                awayTeamId,
+                game.getHomeScore(),
+                game.getAwayScore());
+
+        if (applied) {
+            // 바뀐 두 팀의 요약만 다시 만들어 스냅샷을 교체
+            int seasonYear = game.getGameDate().getYear();
+            RecentFormSnapshot current = snapshot;
+            Map<Integer, Map<Long, TeamFormTracker.FormSummary>> forms = new HashMap<>(current.getForms());
+            Map<Long, TeamFormTracker.FormSummary> seasonForms = new HashMap<>(forms.getOrDefault(seasonYear, Map.of()));
+            seasonForms.put(homeTeamId, tracker.summarize(seasonYear, homeTeamId));
+            seasonForms.put(awayTeamId, tracker.summarize(seasonYear, awayTeamId));
+            forms.put(seasonYear, Map.copyOf(seasonForms));
+            snapshot = new RecentFormSnapshot(current.getVersion() + 1, Map.copyOf(forms));
+        } else {
+            log.debug("Game {} could not be applied to recent form incrementally. Marking dirty.", game.getId());
+            dirty = true;
+        }
+    }
+
+    @Override
+    public void invalidate() {
+        dirty = true;
+    }
+
+    @Override
+    public TeamFormTracker.FormSummary getForm(int seasonYear, Long teamId) {
+        return snapshot.getForm(seasonYear, teamId);
+    }
+
+    @Override
+    public long getVersion() {
+        return snapshot.getVersion();
+    }
+
+    @Override
+    public RecentFormSnapshot getSnapshot() {
+        return snapshot;
+    }
+}
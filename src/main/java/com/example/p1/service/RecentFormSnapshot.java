@@ -0,0 +1,26 @@
+package com.example.p1.service;
+
+import lombok.Value;
+
+import java.util.Map;
+
+/**
+ * 모든 시즌/팀의 최근 흐름 요약 스냅샷. 만들어진 뒤에는 바뀌지 않습니다.
+ * 재계산이나 경기 반영 때마다 새 스냅샷으로 통째로 교체되므로, 조회 쪽은 잠금이나 DB 접근 없이 읽으면 됩니다.
+ */
+@Value
+public class RecentFormSnapshot {
+
+    static final RecentFormSnapshot EMPTY = new RecentFormSnapshot(0, Map.of());
+
+    long version;   // 스냅샷이 교체될 때마다 증가
+    Map<Integer, Map<Long, TeamFormTracker.FormSummary>> forms; // seasonYear -> teamId -> 요약 (수정 불가)
+
+    /**
+     * 시즌/팀의 흐름 요약을 반환합니다. 반영된 경기가 없으면 빈 요약을 반환합니다.
+     */
+    public TeamFormTracker.FormSummary getForm(int seasonYear, Long teamId) {
+        TeamFormTracker.FormSummary form = forms.getOrDefault(seasonYear, Map.of()).get(teamId);
+        return form != null ? form : TeamFormTracker.EMPTY_SUMMARY;
+    }
+}
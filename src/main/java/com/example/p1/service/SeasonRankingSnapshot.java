@@ -0,0 +1,23 @@
+package com.example.p1.service;
+
+import com.example.p1.dto.TeamRankingDTO;
+import lombok.Value;
+
+import java.util.List;
+
+/**
+ * 한 시즌의 순위표 스냅샷. 팀 정보와 최근 흐름까지 채운 DTO를 담으며 만들어진 뒤에는 바뀌지 않습니다.
+ * 순위가 저장될 때마다 새 스냅샷으로 통째로 교체되므로, 조회 쪽은 DB 접근 없이 그대로 반환하면 됩니다.
+ * rankings의 DTO는 여러 요청이 공유하므로 수정하면 안 됩니다.
+ */
+@Value
+public class SeasonRankingSnapshot {
+    int seasonYear;
+    long version;       // 스냅샷이 교체될 때마다 증가 (ETag에 사용)
+    long formVersion;   // 스냅샷을 만들 때 반영한 최근 흐름 버전
+    List<TeamRankingDTO> rankings; // 현재 순위 오름차순, 수정 불가 리스트
+
+    public String getETag() {
+        return "\"" + seasonYear + "-" + version + "\"";
+    }
+}
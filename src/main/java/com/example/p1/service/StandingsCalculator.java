@@ -0,0 +1,116 @@
+package com.example.p1.service;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 경기 결과를 누적해 순위표(승/패/무, 승률, 순위, 게임차)를 계산하는 계산기.
+ * 순위 기준: 1. 승률 내림차순, 2. 승수 내림차순, 3. 패수 오름차순
+ * 승률은 야구 방식(wins / (wins + losses))으로 계산하며 무승부는 포함하지 않습니다.
+ * 같은 경기 결과로 팀별 상대 전적도 함께 누적합니다.
+ */
+public class StandingsCalculator {
+
+    private static final Comparator<Standing> RANK_ORDER = Comparator
+            .comparingDouble(Standing::getWinRate).reversed()
+            .thenComparing(Comparator.comparingInt(Standing::getWins).reversed())
+            .thenComparingInt(Standing::getLosses);
+
+    // teamId -> {wins, losses, draws}
+    private final Map<Long, int[]> records = new HashMap<>();
+    // teamId -> opponentId -> {wins, losses, draws}
+    private final Map<Long, Map<Long, int[]>> headToHead = new HashMap<>();
+
+    public void apply(Long homeTeamId, Long awayTeamId, int homeScore, int awayScore) {
+        int homeResult = homeScore > awayScore ? 0 : (homeScore < awayScore ? 1 : 2);
+        int awayResult = homeResult == 2 ? 2 : 1 - homeResult;
+        records.computeIfAbsent(homeTeamId, id -> new int[3])[homeResult]++;
+        records.computeIfAbsent(awayTeamId, id -> new int[3])[awayResult]++;
+        headToHead.computeIfAbsent(homeTeamId, id -> new HashMap<>())
+                .computeIfAbsent(awayTeamId, id -> new int[3])[homeResult]++;
+        headToHead.computeIfAbsent(awayTeamId, id -> new HashMap<>())
+                .computeIfAbsent(homeTeamId, id -> new int[3])[awayResult]++;
+    }
+
+    /**
+     * 아직 경기를 치르지 않은 팀도 순위표에 포함되도록 등록합니다.
+     */
+    public void register(Long teamId) {
+        records.computeIfAbsent(teamId, id -> new int[3]);
+    }
+
+    /**
+     * 현재까지 누적된 결과로 순위표를 계산합니다. 호출할 때마다 새 리스트를 반환합니다.
+     */
+    public List<Standing> standings() {
+        List<Standing> unranked = new ArrayList<>(records.size());
+        for (Map.Entry<Long, int[]> entry : records.entrySet()) {
+            int[] r = entry.getValue();
+            int decisions = r[0] + r[1];
+            unranked.add(Standing.builder()
+                    .teamId(entry.getKey())
+                    .wins(r[0])
+                    .losses(r[1])
+                    .draws(r[2])
+                    .winRate(decisions > 0 ? (double) r[0] / decisions : 0.0)
+                    .build());
+        }
+        unranked.sort(RANK_ORDER);
+
+        List<Standing> ranked = new ArrayList<>(unranked.size());
+        if (unranked.isEmpty()) {
+            return ranked;
+        }
+        Standing first = unranked.get(0);
+        for (int i = 0; i < unranked.size(); i++) {
+            Standing s = unranked.get(i);
+            double gamesBehind = i == 0 ? 0.0 :
+                    ((first.getWins() - s.getWins()) + (s.getLosses() - first.getLosses())) / 2.0;
+            ranked.add(s.toBuilder().rank(i + 1).gamesBehind(gamesBehind).build());
+        }
+        return ranked;
+    }
+
+    /**
+     * 현재까지 누적된 팀별 상대 전적. 맞붙은 적이 있는 (팀, 상대 팀) 쌍마다 하나씩 반환합니다.
+     */
+    public List<HeadToHead> headToHead() {
+        List<HeadToHead> result = new ArrayList<>();
+        headToHead.forEach((teamId, opponents) -> opponents.forEach((opponentTeamId, r) -> result.add(HeadToHead.builder()
+                .teamId(teamId)
+                .opponentTeamId(opponentTeamId)
+                .wins(r[0])
+                .losses(r[1])
+                .draws(r[2])
+                .build())));
+        return result;
+    }
+
+    @Value
+    @Builder(toBuilder = true)
+    public static class Standing {
+        Long teamId;
+        int wins;
+        int losses;
+        int draws;
+        double winRate;
+        int rank;
+        double gamesBehind;
+    }
+
+    @Value
+    @Builder
+    public static class HeadToHead {
+        Long teamId;
+        Long opponentTeamId;
+        int wins;
+        int losses;
+        int draws;
+    }
+}
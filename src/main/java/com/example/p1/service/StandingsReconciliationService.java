@@ -0,0 +1,24 @@
+package com.example.p1.service;
+
+import com.example.p1.dto.StandingsReconciliationReportDTO;
+
+import java.io.IOException;
+
+/**
+ * KBO 사이트에서 크롤링한 순위와 DB 경기 결과로 계산한 순위를 비교하는 서비스 인터페이스.
+ */
+public interface StandingsReconciliationService {
+
+    /**
+     * 현재 시즌의 크롤링 순위(캐시 재사용)와 경기 결과 집계를 팀별로 비교하고,
+     * 차이를 설명할 수 있는 의심 경기만 다시 크롤링합니다.
+     * @return 점검 결과
+     * @throws IOException 순위 크롤링 또는 경기 재크롤링 실패 시
+     */
+    StandingsReconciliationReportDTO reconcile() throws IOException;
+
+    /**
+     * 마지막 점검 결과를 반환합니다. 아직 점검한 적이 없다면 null을 반환합니다.
+     */
+    StandingsReconciliationReportDTO getLastReport();
+}
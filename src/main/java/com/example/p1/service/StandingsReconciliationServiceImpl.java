@@ -0,0 +1,255 @@
+package com.example.p1.service;
+
+import com.example.p1.domain.GameSchedule;
+import com.example.p1.domain.GameStatus;
+import com.example.p1.domain.Team;
+import com.example.p1.dto.StandingsReconciliationReportDTO;
+import com.example.p1.repository.GameScheduleRepository;
+import com.example.p1.repository.ScheduledJobRunRepository;
+import com.example.p1.repository.TeamRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 크롤링 순위와 경기 결과 집계의 정합성 점검 서비스 구현체.
+ * 크롤링 순위는 캐시를 재사용하고 DB 쪽은 팀별 GROUP BY 집계 두 번으로 끝나므로,
+ * 차이가 없을 때는 경기 엔티티를 하나도 읽지 않습니다.
+ * 크롤링과 재크롤링이 길어질 수 있어 이 클래스는 트랜잭션을 열지 않습니다. (재크롤링 저장은 GameScheduleService 트랜잭션)
+ * - 시즌은 크롤링한 순위 페이지의 기준 날짜로 정합니다. (새해 초에는 지난 시즌 순위가 나오므로) 기준 날짜를 찾지 못하면 건너뜁니다.
+ * - 예약 점검은 SCHEDULED_JOB_RUN에 그날 실행 기록을 먼저 넣은 서버 하나만 실행합니다.
+ */
+@Service
+public class StandingsReconciliationServiceImpl implements StandingsReconciliationService {
+
+    private static final Logger log = LoggerFactory.getLogger(StandingsReconciliationServiceImpl.class);
+
+    private static final int WIN = 0;
+    private static final int LOSS = 1;
+    private static final int DRAW = 2;
+    private static final String JOB_NAME = "standings-reconcile";
+    private static final int JOB_RUN_RETENTION_DAYS = 30;
+
+    private final GameScheduleRepository gameScheduleRepository;
+    private final TeamRepository teamRepository;
+    private final KboCrawlerService kboCrawlerService;
+    private final GameScheduleService gameScheduleService;
+    private final ScheduledJobRunRepository scheduledJobRunRepository;
+
+    private final Duration crawlMaxAge;
+    private final int maxRecrawlGames;
+
+    private volatile StandingsReconciliationReportDTO lastReport;
+
+    public StandingsReconciliationServiceImpl(GameScheduleRepository gameScheduleRepository,
+                                              TeamRepository teamRepository,
+                                              KboCrawlerService kboCrawlerService,
+                                              GameScheduleService gameScheduleService,
+                                              ScheduledJobRunRepository scheduledJobRunRepository,
+                                              @Value("${ranking.reconcile.crawl-max-age-minutes:60}") long crawlMaxAgeMinutes,
+                                              @Value("${ranking.reconcile.max-recrawl-games:20}") int maxRecrawlGames) {
+        this.gameScheduleRepository = gameScheduleRepository;
+        this.teamRepository = teamRepository;
+        this.kboCrawlerService = kboCrawlerService;
+        this.gameScheduleService = gameScheduleService;
+        this.scheduledJobRunRepository = scheduledJobRunRepository;
+        this.crawlMaxAge = Duration.ofMinutes(crawlMaxAgeMinutes);
+        this.maxRecrawlGames = maxRecrawlGames;
+    }
+
+    @Scheduled(cron = "${ranking.reconcile.cron:0 30 4 * * *}")
+    public void scheduledReconcile() {
+        try {
+            if (!claimScheduledRun()) {
+                log.info("Skipping scheduled standings reconciliation: another server already ran it today.");
+                return;
+            }
+            reconcile();
+        } catch (Exception e) {
+            log.error("Scheduled standings reconciliation failed: {}", e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public synchronized StandingsReconciliationReportDTO reconcile() throws IOException {
+        // 1. 크롤링 순위 (캐시 재사용)와 그 시즌
+        List<Map<String, String>> crawledRanks = kboCrawlerService.getCachedKboTeamRanks(crawlMaxAge);
+        Integer crawledSeasonYear = kboCrawlerService.getLastTeamRanksSeasonYear();
+        if (crawledSeasonYear == null) {
+            StandingsReconciliationReportDTO report = StandingsReconciliationReportDTO.builder()
+                    .crawledAt(kboCrawlerService.getLastTeamRanksCrawledAt())
+                    .checkedAt(LocalDateTime.now())
+                    .consistent(true)
+                    .mismatchedTeams(List.of())
+                    .suspectGameKeys(List.of())
+                    .recrawledGameKeys(List.of())
+                    .skippedReason("크롤링한 순위의 기준 날짜를 찾을 수 없습니다.")
+                    .build();
+            lastReport = report;
+            log.warn("Skipping standings reconciliation: the crawled standings page has no reference date.");
+            return report;
+        }
+        int seasonYear = crawledSeasonYear;
+        LocalDateTime start = LocalDateTime.of(seasonYear, 1, 1, 0, 0);
+        LocalDateTime end = start.plusYears(1);
+        Map<Long, Team> teamsById = teamRepository.findAll().stream()
+                .collect(Collectors.toMap(Team::getId, Function.identity()));
+        Map<String, Team> teamsByName = teamsById.values().stream()
+                .collect(Collectors.toMap(Team::getName, Function.identity(), (existing, replacement) -> existing));
+        Map<Long, int[]> crawled = toCrawledRecords(crawledRanks, teamsByName);
+
+        // 2. 경기 결과 집계 (홈/원정 GROUP BY 두 번)
+        Map<Long, int[]> computed = new HashMap<>();
+        addRecords(computed, gameScheduleRepository.aggregateHomeRecords(GameStatus.FINISHED, start, end));
+        addRecords(computed, gameScheduleRepository.aggregateAwayRecords(GameStatus.FINISHED, start, end));
+
+        // 3. 팀별 비교. delta = 크롤링 - 계산
+        List<StandingsReconciliationReportDTO.TeamDiff> mismatchedTeams = new ArrayList<>();
+        Map<Long, int[]> deltas = new HashMap<>();
+        for (Map.Entry<Long, int[]> entry : crawled.entrySet()) {
+            int[] c = entry.getValue();
+            int[] m = computed.getOrDefault(entry.getKey(), new int[3]);
+            if (Arrays.equals(c, m)) {
+                continue;
+            }
+            deltas.put(entry.getKey(), new int[]{c[WIN] - m[WIN], c[LOSS] - m[LOSS], c[DRAW] - m[DRAW]});
+            mismatchedTeams.add(StandingsReconciliationReportDTO.TeamDiff.builder()
+                    .teamId(entry.getKey())
+                    .teamName(teamsById.get(entry.getKey()).getName())
+                    .crawledWins(c[WIN])
+                    .crawledLosses(c[LOSS])
+                    .crawledDraws(c[DRAW])
+                    .computedWins(m[WIN])
+                    .computedLosses(m[LOSS])
+                    .computedDraws(m[DRAW])
+                    .build());
+        }
+
+        // 4. 차이를 설명할 수 있는 의심 경기를 찾아 그 경기만 다시 크롤링
+        List<String> suspectGameKeys = deltas.isEmpty() ? List.of() : findSuspectGameKeys(deltas, start, end);
+        List<String> recrawledGameKeys = suspectGameKeys.size() > maxRecrawlGames
+                ? suspectGameKeys.subList(0, maxRecrawlGames)
+                : suspectGameKeys;
+        int refreshedGames = recrawledGameKeys.isEmpty() ? 0 : gameScheduleService.refreshGamesFromCrawl(recrawledGameKeys).size();
+
+        StandingsReconciliationReportDTO report = StandingsReconciliationReportDTO.builder()
+                .seasonYear(seasonYear)
+                .crawledAt(kboCrawlerService.getLastTeamRanksCrawledAt())
+                .checkedAt(LocalDateTime.now())
+                .consistent(mismatchedTeams.isEmpty())
+                .mismatchedTeams(mismatchedTeams)
+                .suspectGameKeys(suspectGameKeys)
+                .recrawledGameKeys(new ArrayList<>(recrawledGameKeys))
+                .refreshedGames(refreshedGames)
+                .build();
+        lastReport = report;
+
+        if (mismatchedTeams.isEmpty()) {
+            log.info("Standings reconciliation for {}: crawled and computed standings match.", seasonYear);
+        } else {
+            log.warn("Standings reconciliation for {}: {} team(s) differ, {} suspect game(s), re-crawled {} and refreshed {}.",
+                    seasonYear, mismatchedTeams.size(), suspectGameKeys.size(), recrawledGameKeys.size(), refreshedGames);
+        }
+        return report;
+    }
+
+    /**
+     * 오늘 예약 점검을 이 서버가 맡습니다. 다른 서버가 먼저 맡았으면 false.
+     */
+    private boolean claimScheduledRun() {
+        LocalDateTime now = LocalDateTime.now();
+        try {
+            scheduledJobRunRepository.insert(JOB_NAME + ":" + now.toLocalDate(), now);
+        } catch (DataIntegrityViolationException e) {
+            return false;
+        }
+        scheduledJobRunRepository.deleteClaimedBefore(now.minusDays(JOB_RUN_RETENTION_DAYS));
+        return true;
+    }
+
+    @Override
+    public StandingsReconciliationReportDTO getLastReport() {
+        return lastReport;
+    }
+
+    /**
+     * 팀별 차이(delta)를 설명할 수 있는 경기를 최근 경기부터 찾습니다.
+     * 한 경기는 항상 두 팀의 기록에 동시에 반영되므로, 양쪽 팀 모두 같은 방향으로 어긋난 경기만 의심합니다.
+     * - 결과 누락: 이미 지난 미종료 경기이고 두 팀 모두 사이트 기록이 더 많음
+     * - 잘못된 종료: 종료 경기이지만 두 팀 모두 사이트 기록이 더 적음 (취소 경기가 종료로 저장된 경우 등)
+     * - 잘못된 결과: 종료 경기이고 저장된 결과(홈 승/원정 패 등)가 두 팀 모두 사이트보다 많음
+     */
+    private List<String> findSuspectGameKeys(Map<Long, int[]> deltas, LocalDateTime start, LocalDateTime end) {
+        LocalDateTime now = LocalDateTime.now();
+        Set<String> suspects = new LinkedHashSet<>();
+
+        for (GameSchedule game : gameScheduleRepository.findGamesBetweenTeams(deltas.keySet(), start, end)) {
+            int[] home = deltas.get(game.getHomeTeam().getId());
+            int[] away = deltas.get(game.getOpponentTeam().getId());
+            int homeGames = home[WIN] + home[LOSS] + home[DRAW];
+            int awayGames = away[WIN] + away[LOSS] + away[DRAW];
+
+            boolean suspect;
+            if (game.getStatus() != GameStatus.FINISHED) {
+                suspect = game.getGameDate().isBefore(now) && homeGames > 0 && awayGames > 0;
+            } else if (homeGames < 0 && awayGames < 0) {
+                suspect = true;
+            } else {
+                int homeResult = game.getHomeScore() > game.getAwayScore() ? WIN
+                        : (game.getHomeScore() < game.getAwayScore() ? LOSS : DRAW);
+                int awayResult = homeResult == WIN ? LOSS : (homeResult == LOSS ? WIN : DRAW);
+                suspect = home[homeResult] < 0 && away[awayResult] < 0;
+            }
+            if (suspect) {
+                suspects.add(game.getGameKey());
+            }
+        }
+        return new ArrayList<>(suspects);
+    }
+
+    private Map<Long, int[]> toCrawledRecords(List<Map<String, String>> crawledRanks, Map<String, Team> teamsByName) {
+        Map<Long, int[]> crawled = new HashMap<>();
+        for (Map<String, String> data : crawledRanks) {
+            String fullName = TeamRankingServiceImpl.KBO_TEAM_NAME_MAPPING.get(data.get("teamName"));
+            Team team = fullName != null ? teamsByName.get(fullName) : null;
+            if (team == null) {
+                log.warn("Skipping crawled team '{}' during reconciliation: no matching team in DB.", data.get("teamName"));
+                continue;
+            }
+            try {
+                crawled.put(team.getId(), new int[]{
+                        Integer.parseInt(data.get("wins")),
+                        Integer.parseInt(data.get("losses")),
+                        Integer.parseInt(data.get("draws"))});
+            } catch (NumberFormatException e) {
+                log.warn("Skipping crawled team '{}' during reconciliation: {}", data.get("teamName"), e.getMessage());
+            }
+        }
+        return crawled;
+    }
+
+    private void addRecords(Map<Long, int[]> records, List<Object[]> rows) {
+        for (Object[] row : rows) {
+            int[] r = records.computeIfAbsent((Long) row[0], id -> new int[3]);
+            r[WIN] += ((Number) row[1]).intValue();
+            r[LOSS] += ((Number) row[2]).intValue();
+            r[DRAW] += ((Number) row[3]).intValue();
+        }
+    }
+}
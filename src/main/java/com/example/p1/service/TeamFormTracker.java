@@ -0,0 +1,174 @@
+package com.example.p1.service;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 시즌/팀별 최근 경기 흐름(최근 10경기, 연승/연패, 홈/원정 성적)을 경기 단위로 누적하는 계산기.
+ * 팀마다 고정 크기 링 버퍼와 누적 카운터를 두므로 경기 하나를 반영하는 비용은 O(1)입니다.
+ * 스레드 안전하지 않으므로 호출하는 쪽(RecentFormServiceImpl)에서 동기화해야 합니다.
+ */
+public class TeamFormTracker {
+
+    public static final int RECENT_SIZE = 10;
+
+    private static final byte WIN = 1;
+    private static final byte LOSS = 2;
+    private static final byte DRAW = 3;
+
+    static final FormSummary EMPTY_SUMMARY = FormSummary.builder().build();
+
+    // seasonYear -> teamId -> TeamForm
+    private final Map<Integer, Map<Long, TeamForm>> forms = new HashMap<>();
+    private final Set<Long> appliedGameIds = new HashSet<>();
+    private LocalDateTime lastGameDate;
+
+    /**
+     * 경기 하나를 반영합니다.
+     * 이미 반영한 경기이거나 마지막으로 반영한 경기보다 이전 날짜의 경기라면 반영하지 않고 false를 반환합니다.
+     */
+    public boolean apply(Long gameId, LocalDateTime gameDate, Long homeTeamId, Long awayTeamId, int homeScore, int awayScore) {
+        if (gameId != null && appliedGameIds.contains(gameId)) {
+            return false;
+        }
+        if (lastGameDate != null && gameDate.isBefore(lastGameDate)) {
+            return false;
+        }
+        lastGameDate = gameDate;
+
+        byte homeResult = homeScore > awayScore ? WIN : (homeScore < awayScore ? LOSS : DRAW);
+        byte awayResult = homeResult == WIN ? LOSS : (homeResult == LOSS ? WIN : DRAW);
+
+        Map<Long, TeamForm> seasonForms = forms.computeIfAbsent(gameDate.getYear(), year -> new HashMap<>());
+        seasonForms.computeIfAbsent(homeTeamId, id -> new TeamForm()).add(homeResult, true);
+        seasonForms.computeIfAbsent(awayTeamId, id -> new TeamForm()).add(awayResult, false);
+
+        if (gameId != null) {
+            appliedGameIds.add(gameId);
+        }
+        return true;
+    }
+
+    /**
+     * 팀의 현재 흐름을 불변 요약으로 반환합니다. 반영된 경기가 없으면 빈 요약을 반환합니다.
+     */
+    public FormSummary summarize(int seasonYear, Long teamId) {
+        TeamForm form = forms.getOrDefault(seasonYear, Map.of()).get(teamId);
+        return form != null ? form.toSummary() : EMPTY_SUMMARY;
+    }
+
+    /**
+     * 모든 시즌/팀의 현재 흐름을 수정 불가 맵으로 반환합니다. (조회용 스냅샷 생성)
+     */
+    public Map<Integer, Map<Long, FormSummary>> summarizeAll() {
+        Map<Integer, Map<Long, FormSummary>> summaries = new HashMap<>();
+        forms.forEach((seasonYear, seasonForms) -> {
+            Map<Long, FormSummary> seasonSummaries = new HashMap<>();
+            seasonForms.forEach((teamId, form) -> seasonSummaries.put(teamId, form.toSummary()));
+            summaries.put(seasonYear, Map.copyOf(seasonSummaries));
+        });
+        return Map.copyOf(summaries);
+    }
+
+    public int getAppliedGameCount() {
+        return appliedGameIds.size();
+    }
+
+    /**
+     * 한 팀의 한 시즌 흐름. 최근 결과는 링 버퍼에, 나머지는 누적 카운터에 보관합니다.
+     */
+    private static final class TeamForm {
+        private final byte[] recent = new byte[RECENT_SIZE];
+        private int head;   // 다음에 쓸 위치
+        private int size;
+
+        private int recentWins;
+        private int recentLosses;
+        private int recentDraws;
+
+        private byte streakResult;
+        private int streakLength;
+
+        private int homeWins;
+        private int homeLosses;
+        private int homeDraws;
+        private int awayWins;
+        private int awayLosses;
+        private int awayDraws;
+
+        void add(byte result, boolean home) {
+            if (size == RECENT_SIZE) {
+                adjustRecent(recent[head], -1); // 가장 오래된 결과가 밀려남
+            } else {
+                size++;
+            }
+            recent[head] = result;
+            head = (head + 1) % RECENT_SIZE;
+            adjustRecent(result, 1);
+
+            if (result == streakResult) {
+                streakLength++;
+            } else {
+                streakResult = result;
+                streakLength = 1;
+            }
+
+            if (home) {
+                if (result == WIN) homeWins++;
+                else if (result == LOSS) homeLosses++;
+                else homeDraws++;
+            } else {
+                if (result == WIN) awayWins++;
+                else if (result == LOSS) awayLosses++;
+                else awayDraws++;
+            }
+        }
+
+        private void adjustRecent(byte result, int delta) {
+            if (result == WIN) recentWins += delta;
+            else if (result == LOSS) recentLosses += delta;
+            else if (result == DRAW) recentDraws += delta;
+        }
+
+        FormSummary toSummary() {
+            String streak = null;
+            if (streakLength > 0) {
+                String prefix = streakResult == WIN ? "W" : (streakResult == LOSS ? "L" : "D");
+                streak = prefix + streakLength;
+            }
+            return FormSummary.builder()
+                    .recentWins(recentWins)
+                    .recentLosses(recentLosses)
+                    .recentDraws(recentDraws)
+                    .streak(streak)
+                    .homeWins(homeWins)
+                    .homeLosses(homeLosses)
+                    .homeDraws(homeDraws)
+                    .awayWins(awayWins)
+                    .awayLosses(awayLosses)
+                    .awayDraws(awayDraws)
+                    .build();
+        }
+    }
+
+    @Value
+    @Builder
+    public static class FormSummary {
+        int recentWins;
+        int recentLosses;
+        int recentDraws;
+        String streak; // 예: "W3" (3연승), "L2" (2연패), "D1"
+        int homeWins;
+        int homeLosses;
+        int homeDraws;
+        int awayWins;
+        int awayLosses;
+        int awayDraws;
+    }
+}
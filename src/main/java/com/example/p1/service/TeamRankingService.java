@@ -84,6 +84,19 @@ public interface TeamRankingService {
      */
     List<TeamRankingDTO> getAllTeamRankings(int seasonYear);
 
+    /**
+     * 특정 시즌의 순위 스냅샷을 반환합니다. 스냅샷은 순위가 저장될 때마다 교체되므로 조회 시 DB에 접근하지 않습니다.
+     * @param seasonYear 조회할 시즌 연도
+     * @return 순위 목록과 ETag용 버전을 담은 불변 스냅샷
+     */
+    SeasonRankingSnapshot getRankingSnapshot(int seasonYear);
+
+    /**
+     * 모든 시즌의 순위 스냅샷을 DB에서 다시 적재합니다.
+     * 애플리케이션 시작 시, 그리고 이 서비스를 거치지 않고 순위를 일괄 저장한 뒤(백필 등) 호출합니다.
+     */
+    void reloadRankingSnapshots();
+
     /**
      * 특정 ID의 팀 순위 정보를 조회합니다.
      * @param id 조회할 팀 순위의 ID
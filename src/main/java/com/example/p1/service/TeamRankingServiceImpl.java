@@ -263,11 +263,21 @@ import com.example.p1.repository.GameScheduleRepository;
 import com.example.p1.repository.TeamRankingRepository;
 import com.example.p1.repository.TeamRepository;
 import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.io.IOException;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.UnaryOperator;
 import java.util.stream.Collectors;
 
 /**
@@ -278,13 +288,21 @@ import java.util.stream.Collectors;
 @Transactional
 public class TeamRankingServiceImpl implements TeamRankingService {
 
+    private static final Logger log = LoggerFactory.getLogger(TeamRankingServiceImpl.class);
+
     private final TeamRankingRepository teamRankingRepository;
     private final TeamRepository teamRepository;
     private final GameScheduleRepository gameScheduleRepository;
     private final KboCrawlerService kboCrawlerService; // Jsoup 크롤링 서비스 주입
+    private final RecentFormService recentFormService;
+
+    // 시즌별 순위 스냅샷. 순위가 저장될 때마다 커밋 이후 통째로 교체하며, 조회는 여기서만 읽습니다.
+    private final ConcurrentMap<Integer, SeasonRankingSnapshot> rankingSnapshots = new ConcurrentHashMap<>();
+    // 재시작 후에도 이전 ETag와 겹치지 않도록 시작 시각에서 출발합니다.
+    private final AtomicLong snapshotVersion = new AtomicLong(System.currentTimeMillis());
 
-    // KBO 웹사이트의 약식 팀명과 DB에 저장된 정식 팀명 간의 매핑
-    private static final Map<String, String> KBO_TEAM_NAME_MAPPING;
+    // KBO 웹사이트의 약식 팀명과 DB에 저장된 정식 팀명 간의 매핑 (정합성 점검에서도 사용)
+    static final Map<String, String> KBO_TEAM_NAME_MAPPING;
 
     static {
         KBO_TEAM_NAME_MAPPING = new HashMap<>();
@@ -311,6 +329,13 @@ public class TeamRankingServiceImpl implements TeamRankingService {
         if (teamRanking == null) {
             return null;
         }
+        return withRecentForm(toBaseDTO(teamRanking), recentFormService.getSnapshot());
+    }
+
+    /**
+     * DB에 저장된 순위 값과 팀 정보만 채운 DTO를 만듭니다. (최근 흐름 제외)
+     */
+    private TeamRankingDTO toBaseDTO(TeamRanking teamRanking) {
         return TeamRankingDTO.builder()
                 .id(teamRanking.getId())
                 .team(toTeamDTO(teamRanking.getTeam())) // Team 엔티티를 TeamDTO로 변환
@@ -326,6 +351,25 @@ public class TeamRankingServiceImpl implements TeamRankingService {
                 .build();
     }
 
+    /**
+     * 순위 DTO에 최근 흐름(메모리 스냅샷 값)을 덮어쓴 새 DTO를 반환합니다.
+     */
+    private TeamRankingDTO withRecentForm(TeamRankingDTO ranking, RecentFormSnapshot forms) {
+        TeamFormTracker.FormSummary form = forms.getForm(ranking.getSeasonYear(), ranking.getTeam().getId());
+        return ranking.toBuilder()
+                .lastTenWins(form.getRecentWins())
+                .lastTenLosses(form.getRecentLosses())
+                .lastTenDraws(form.getRecentDraws())
+                .streak(form.getStreak())
+                .homeWins(form.getHomeWins())
+                .homeLosses(form.getHomeLosses())
+                .homeDraws(form.getHomeDraws())
+                .awayWins(form.getAwayWins())
+                .awayLosses(form.getAwayLosses())
+                .awayDraws(form.getAwayDraws())
+                .build();
+    }
+
     /**
      * Team 엔티티를 TeamDTO로 변환하는 헬퍼 메서드.
      * (다른 서비스에서 이미 정의되어 있을 수 있으나, 여기서는 독립적으로 정의)
@@ -344,11 +388,84 @@ public class TeamRankingServiceImpl implements TeamRankingService {
     }
 
     @Override
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.SUPPORTS) // 스냅샷이 있으면 DB 연결 없이 반환
     public List<TeamRankingDTO> getAllTeamRankings(int seasonYear) {
-        return teamRankingRepository.findBySeasonYearOrderByCurrentRankAsc(seasonYear).stream()
-                .map(this::toDTO)
-                .collect(Collectors.toList());
+        return getRankingSnapshot(seasonYear).getRankings();
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS) // 스냅샷이 있으면 DB 연결 없이 반환
+    public SeasonRankingSnapshot getRankingSnapshot(int seasonYear) {
+        SeasonRankingSnapshot snapshot = rankingSnapshots.get(seasonYear);
+        if (snapshot == null) {
+            // 시작 시 적재되지 않은 시즌(처음 조회되는 시즌)만 DB에서 한 번 읽습니다.
+            RecentFormSnapshot forms = recentFormService.getSnapshot();
+            List<TeamRankingDTO> rankings = teamRankingRepository.findBySeasonYearWithTeam(seasonYear).stream()
+                    .map(this::toBaseDTO)
+                    .map(ranking -> withRecentForm(ranking, forms))
+                    .collect(Collectors.toList());
+            return rankingSnapshots.computeIfAbsent(seasonYear, season -> newSnapshot(season, rankings, forms.getVersion()));
+        }
+        // 최근 흐름이 바뀌면 refreshRecentForm이 스냅샷을 교체하므로, 조회는 잠금/트랜잭션 없이 현재 스냅샷만 반환합니다.
+        return snapshot;
+    }
+
+    /**
+     * 최근 흐름 스냅샷이 바뀌었으면 적재된 시즌 스냅샷에 새 흐름을 덮어써 교체합니다. (DB 접근 없음, 조회 경로 밖에서 실행)
+     */
+    @Scheduled(fixedDelayString = "${ranking.snapshot.form-refresh-interval-ms:1000}",
+            initialDelayString = "${ranking.snapshot.form-refresh-interval-ms:1000}")
+    @Transactional(propagation = Propagation.SUPPORTS) // 트랜잭션/DB 연결 없이 실행
+    public void refreshRecentForm() {
+        RecentFormSnapshot forms = recentFormService.getSnapshot();
+        for (Integer seasonYear : rankingSnapshots.keySet()) {
+            rankingSnapshots.computeIfPresent(seasonYear, (season, current) ->
+                    current.getFormVersion() >= forms.getVersion() ? current : newSnapshot(season,
+                            current.getRankings().stream().map(ranking -> withRecentForm(ranking, forms)).collect(Collectors.toList()),
+                            forms.getVersion()));
+        }
+    }
+
+    @Override
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    public void reloadRankingSnapshots() {
+        long start = System.currentTimeMillis();
+        RecentFormSnapshot forms = recentFormService.getSnapshot();
+        Map<Integer, List<TeamRankingDTO>> rankingsBySeason = teamRankingRepository.findAllWithTeam().stream()
+                .collect(Collectors.groupingBy(TeamRanking::getSeasonYear, LinkedHashMap::new,
+                        Collectors.mapping(tr -> withRecentForm(toBaseDTO(tr), forms), Collectors.toList())));
+
+        rankingsBySeason.forEach((season, rankings) -> rankingSnapshots.put(season, newSnapshot(season, rankings, forms.getVersion())));
+        rankingSnapshots.keySet().retainAll(rankingsBySeason.keySet());
+        log.info("Ranking snapshots loaded for {} season(s) in {} ms.", rankingsBySeason.size(), System.currentTimeMillis() - start);
+    }
+
+    private SeasonRankingSnapshot newSnapshot(int seasonYear, List<TeamRankingDTO> rankings, long formVersion) {
+        List<TeamRankingDTO> sorted = new ArrayList<>(rankings);
+        sorted.sort(Comparator.comparingInt(TeamRankingDTO::getCurrentRank));
+        return new SeasonRankingSnapshot(seasonYear, snapshotVersion.incrementAndGet(), formVersion, Collections.unmodifiableList(sorted));
+    }
+
+    /**
+     * 커밋 이후 해당 시즌 스냅샷에 변경 내용을 반영한 새 스냅샷으로 교체합니다.
+     * 아직 적재되지 않은 시즌은 건드리지 않으며, 다음 조회 때 DB에서 한 번 읽습니다.
+     */
+    private void publishAfterCommit(int seasonYear, UnaryOperator<List<TeamRankingDTO>> change) {
+        AfterCommit.run(() -> rankingSnapshots.computeIfPresent(seasonYear, (season, current) ->
+                newSnapshot(season, change.apply(new ArrayList<>(current.getRankings())), current.getFormVersion())));
+    }
+
+    /**
+     * 팀 ID 기준으로 기존 순위를 새 순위로 교체하거나 추가합니다.
+     */
+    private UnaryOperator<List<TeamRankingDTO>> replaceByTeam(List<TeamRankingDTO> changed) {
+        return rankings -> {
+            Map<Long, TeamRankingDTO> byTeamId = new LinkedHashMap<>();
+            rankings.forEach(r -> byTeamId.put(r.getTeam().getId(), r));
+            changed.forEach(r -> byTeamId.put(r.getTeam().getId(), r));
+            return new ArrayList<>(byTeamId.values());
+        };
     }
 
     @Override
@@ -380,7 +497,9 @@ public class TeamRankingServiceImpl implements TeamRankingService {
                 .build();
 
         TeamRanking savedTeamRanking = teamRankingRepository.save(teamRanking);
-        return toDTO(savedTeamRanking);
+        TeamRankingDTO saved = toDTO(savedTeamRanking);
+        publishAfterCommit(saved.getSeasonYear(), replaceByTeam(List.of(saved)));
+        return saved;
     }
 
     @Override
@@ -396,15 +515,20 @@ public class TeamRankingServiceImpl implements TeamRankingService {
         teamRanking.setGamesBehind(updatedTeamRankingDTO.getGamesBehind()); // 게임차 수동 업데이트 허용
 
         TeamRanking savedTeamRanking = teamRankingRepository.save(teamRanking);
-        return toDTO(savedTeamRanking);
+        TeamRankingDTO saved = toDTO(savedTeamRanking);
+        publishAfterCommit(saved.getSeasonYear(), replaceByTeam(List.of(saved)));
+        return saved;
     }
 
     @Override
     public void deleteTeamRanking(Long id) {
-        if (!teamRankingRepository.existsById(id)) {
-            throw new IllegalArgumentException("해당 팀 순위 정보가 없습니다: " + id);
-        }
-        teamRankingRepository.deleteById(id);
+        TeamRanking teamRanking = teamRankingRepository.findById(id)
+                .orElseThrow(() -> new IllegalArgumentException("해당 팀 순위 정보가 없습니다: " + id));
+        teamRankingRepository.delete(teamRanking);
+        publishAfterCommit(teamRanking.getSeasonYear(), rankings -> {
+            rankings.removeIf(r -> id.equals(r.getId()));
+            return rankings;
+        });
     }
 
     @Override
@@ -505,9 +629,11 @@ public class TeamRankingServiceImpl implements TeamRankingService {
         // 5. 데이터베이스에 저장 (업데이트 또는 새로 생성)
         List<TeamRanking> savedRankings = teamRankingRepository.saveAll(updatedOrNewRankings);
 
-        return savedRankings.stream()
+        List<TeamRankingDTO> saved = savedRankings.stream()
                 .map(this::toDTO)
                 .collect(Collectors.toList());
+        publishAfterCommit(seasonYear, replaceByTeam(saved));
+        return saved;
     }
 
     @Override
@@ -577,8 +703,10 @@ public class TeamRankingServiceImpl implements TeamRankingService {
 
         // 데이터베이스에 저장 (새로 생성되거나 업데이트됨)
         List<TeamRanking> savedRankings = teamRankingRepository.saveAll(rankingsToSave);
-        return savedRankings.stream()
+        List<TeamRankingDTO> saved = savedRankings.stream()
                 .map(this::toDTO)
                 .collect(Collectors.toList());
+        publishAfterCommit(seasonYear, replaceByTeam(saved));
+        return saved;
     }
 }
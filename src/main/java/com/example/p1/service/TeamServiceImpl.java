@@ -18,6 +18,7 @@ import java.util.stream.Collectors;
 public class TeamServiceImpl implements TeamService {
 
     private final TeamRepository teamRepository;
+    private final CommentWriteLookup commentWriteLookup;
 
     // Helper method to convert Entity to DTO
     private TeamDTO convertToDto(Team team) {
@@ -79,6 +80,7 @@ public class TeamServiceImpl implements TeamService {
         existingTeam.setLogoUrl(updatedTeamDTO.getLogoUrl());
 
         Team savedTeam = teamRepository.save(existingTeam);
+        AfterCommit.run(commentWriteLookup::evictTeams); // 팀 이름 캐시 갱신
         return convertToDto(savedTeam); // Convert updated Entity back to DTO
     }
 
@@ -91,5 +93,6 @@ public class TeamServiceImpl implements TeamService {
         // If GameSchedule has a foreign key to Team, you might need to set opponentTeam to null
         // or delete related GameSchedules, depending on your business rules and CASCADE settings.
         teamRepository.deleteById(id);
+        AfterCommit.run(commentWriteLookup::evictTeams);
     }
 }
\ No newline at end of file
@@ -97,6 +97,8 @@ export const lineupApi = {
 // --- Admin Member Management API ---
 export const adminMemberApi = {
     getAllMembers: () => api.get('/admin/members'),
+    // 커서 페이징 목록. params: { cursor, size, role, banned, usernamePrefix, nicknamePrefix }
+    searchMembers: (params) => api.get('/admin/members/search', { params }),
     getMemberByUsername: (username) => api.get(`/admin/members/${username}`),
     updateMember: (id, memberDTO) => api.put(`/admin/members/${id}`, memberDTO),
     banMemberPermanently: (username) => api.post(`/admin/members/${username}/ban/permanent`),
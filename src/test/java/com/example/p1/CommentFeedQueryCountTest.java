@@ -0,0 +1,136 @@
+package com.example.p1;
+
+import com.example.p1.domain.Comment;
+import com.example.p1.domain.CommentType;
+import com.example.p1.domain.GameSchedule;
+import com.example.p1.domain.Member;
+import com.example.p1.domain.Team;
+import com.example.p1.dto.CommentDTO;
+import com.example.p1.dto.CommentFeedDTO;
+import com.example.p1.repository.CommentRepository;
+import com.example.p1.repository.GameScheduleRepository;
+import com.example.p1.repository.MemberRepository;
+import com.example.p1.repository.TeamRepository;
+import com.example.p1.service.CommentService;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 댓글 목록 조회가 작성자/예측 팀 LAZY 연관을 건드리지 않고 고정된 개수의 SQL만 실행하는지 확인합니다.
+ */
+@SpringBootTest
+@Transactional
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class CommentFeedQueryCountTest {
+
+    private static final int PAGE_SIZE = 20;
+
+    @Autowired
+    private CommentService commentService;
+    @Autowired
+    private CommentRepository commentRepository;
+    @Autowired
+    private GameScheduleRepository gameScheduleRepository;
+    @Autowired
+    private MemberRepository memberRepository;
+    @Autowired
+    private TeamRepository teamRepository;
+    @Autowired
+    private EntityManager entityManager;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Long gameId;
+
+    @BeforeEach
+    void setUp() {
+        long suffix = System.nanoTime();
+        Team home = teamRepository.save(Team.builder().name("QC홈" + suffix).logoUrl("home.png").build());
+        Team away = teamRepository.save(Team.builder().name("QC원정" + suffix).logoUrl("away.png").build());
+        GameSchedule game = gameScheduleRepository.save(GameSchedule.builder()
+                .gameDate(LocalDateTime.now())
+                .gameKey("QC" + suffix)
+                .homeTeam(home)
+                .opponentTeam(away)
+                .location("사직")
+                .build());
+        gameId = game.getId();
+
+        // 작성자와 예측 팀이 모두 다른 댓글을 두 페이지 이상 만들어 연관 로딩이 일어나면 쿼리 수가 늘어나게 합니다.
+        for (int i = 0; i < PAGE_SIZE * 2; i++) {
+            Member member = memberRepository.save(Member.builder()
+                    .username("qc" + suffix + "_" + i)
+                    .password("pw")
+                    .name("테스터")
+                    .nickname("qc닉" + suffix + "_" + i)
+                    .email("qc" + suffix + "_" + i + "@test.com")
+                    .phoneNumber("qc" + suffix + "_" + i)
+                    .role(Member.Role.USER)
+                    .build());
+            boolean prediction = i % 2 == 0;
+            commentRepository.save(Comment.builder()
+                    .game(game)
+                    .member(member)
+                    .commentText("댓글 " + i)
+                    .type(prediction ? CommentType.PREDICTION : CommentType.TEXT)
+                    .predictedTeam(prediction ? (i % 4 == 0 ? home : away) : null)
+                    .build());
+        }
+        entityManager.flush();
+        entityManager.clear(); // 1차 캐시에 남은 회원/팀이 연관 로딩을 가리지 않도록 비움
+    }
+
+    @Test
+    void feedPagesRunOneStatementEach() {
+        Statistics statistics = statistics();
+
+        CommentFeedDTO first = commentService.getCommentFeed(gameId, null, PAGE_SIZE);
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(PAGE_SIZE, first.getComments().size());
+        assertTrue(first.isHasNext());
+        assertAuthorAndTeamLoaded(first.getComments().get(0));
+
+        statistics.clear();
+        CommentFeedDTO second = commentService.getCommentFeed(gameId, first.getNextCursor(), PAGE_SIZE);
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(PAGE_SIZE, second.getComments().size());
+    }
+
+    @Test
+    void pagedListRunsSelectAndCountOnly() {
+        Statistics statistics = statistics();
+
+        Page<CommentDTO> page = commentService.getCommentsByGameId(gameId, PageRequest.of(0, PAGE_SIZE));
+        assertTrue(statistics.getPrepareStatementCount() <= 2, "페이지 조회는 SELECT + COUNT 두 번이어야 합니다.");
+        assertEquals(PAGE_SIZE, page.getContent().size());
+        assertEquals(PAGE_SIZE * 2, page.getTotalElements());
+    }
+
+    private Statistics statistics() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        return statistics;
+    }
+
+    private void assertAuthorAndTeamLoaded(CommentDTO comment) {
+        assertNotNull(comment.getNickname());
+        assertNotNull(comment.getUsername());
+        assertEquals(gameId, comment.getGameId());
+    }
+}
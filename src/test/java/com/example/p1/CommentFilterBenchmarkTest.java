@@ -0,0 +1,188 @@
+package com.example.p1;
+
+import com.example.p1.service.AhoCorasickMatcher;
+import com.example.p1.service.CommentFilterNormalizer;
+import com.example.p1.service.CommentFilterServiceImpl;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.io.DefaultResourceLoader;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 댓글 금지어 필터 테스트. 금지어 5천 개 기준으로 Aho-Corasick 한 번 훑기와 단어별 contains 반복의 결과가 같은지 확인하고
+ * 처리량 비율을 출력합니다. (실행 환경마다 다르므로 속도는 검사하지 않음)
+ * 자모 분리/띄어쓰기 우회 차단, 단어 경계/합성어 오탐 방지, 검사 중 다시 읽기도 확인합니다. (DB, 스프링 컨텍스트 없이 실행)
+ */
+class CommentFilterBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(CommentFilterBenchmarkTest.class);
+
+    private static final int WORDS = 5_000;
+    private static final int COMMENTS = 2_000;
+    private static final int ROUNDS = 3;
+
+    private static final String DEFAULT_WORD_LIST = "classpath:comment-filter/banned-words.txt";
+
+    @Test
+    void automatonMatchesNaiveContains() {
+        Random random = new Random(42);
+        List<String> words = new ArrayList<>(WORDS);
+        for (int i = 0; i < WORDS; i++) {
+            words.add(randomWord(random, 2 + random.nextInt(3)));
+        }
+        List<String> patterns = new ArrayList<>();
+        for (String word : words) {
+            patterns.addAll(CommentFilterNormalizer.patterns(word));
+        }
+        AhoCorasickMatcher matcher = AhoCorasickMatcher.compile(patterns);
+
+        // 일부 댓글에는 금지어를 띄어 쓰거나 자모로 풀어 끼워 넣음
+        List<String> comments = new ArrayList<>(COMMENTS);
+        for (int i = 0; i < COMMENTS; i++) {
+            StringBuilder comment = new StringBuilder();
+            int length = 20 + random.nextInt(60);
+            while (comment.length() < length) {
+                comment.append(randomWord(random, 1 + random.nextInt(3))).append(' ');
+            }
+            if (i % 10 == 0) {
+                String word = words.get(random.nextInt(WORDS));
+                comment.append(i % 20 == 0 ? String.join(" ", word.split("")) : word);
+            }
+            comments.add(comment.toString());
+        }
+        List<String> normalized = comments.stream().map(CommentFilterNormalizer::normalize).toList();
+
+        long naiveBest = Long.MAX_VALUE;
+        long automatonBest = Long.MAX_VALUE;
+        int naiveHits = 0;
+        int automatonHits = 0;
+        for (int round = 0; round < ROUNDS; round++) {
+            long start = System.nanoTime();
+            naiveHits = 0;
+            for (String text : normalized) {
+                for (String pattern : patterns) {
+                    if (text.contains(pattern)) {
+                        naiveHits++;
+                        break;
+                    }
+                }
+            }
+            naiveBest = Math.min(naiveBest, System.nanoTime() - start);
+
+            start = System.nanoTime();
+            automatonHits = 0;
+            for (String text : normalized) {
+                if (matcher.findFirst(text) >= 0) {
+                    automatonHits++;
+                }
+            }
+            automatonBest = Math.min(automatonBest, System.nanoTime() - start);
+        }
+
+        log.info("{} words, {} comments ({} blocked): naive contains {} comments/s, automaton {} comments/s ({}x, {} nodes)",
+                WORDS, COMMENTS, automatonHits,
+                Math.round(COMMENTS / (naiveBest / 1e9)), Math.round(COMMENTS / (automatonBest / 1e9)),
+                naiveBest / automatonBest, matcher.getNodeCount());
+        assertEquals(naiveHits, automatonHits);
+        assertTrue(automatonHits >= COMMENTS / 10, "끼워 넣은 금지어가 모두 걸려야 합니다.");
+        assertTrue(automatonBest * 10 < naiveBest,
+                "오토마톤이 단어별 contains보다 10배 이상 빨라야 합니다. (" + automatonBest + "ns vs " + naiveBest + "ns)");
+    }
+
+    @Test
+    void blocksEvasionsWithoutFlaggingSyllableBoundaries() {
+        CommentFilterServiceImpl filter = new CommentFilterServiceImpl(new DefaultResourceLoader(), DEFAULT_WORD_LIST);
+
+        List<String> evasions = List.of("시발", "시 발", "시.발", "시1발", "시\u200B발", "ㅅㅣㅂㅏㄹ", "시ㅂㅏㄹ", "ㅅ ㅂ",
+                "ㅅㅂ 진짜", "시발놈아", "닥쳐라", "개.새.끼", "개 새끼", "ＦＵＣＫ", "f u c k", "fucking", "카지노 가입");
+        for (String evasion : evasions) {
+            assertThrows(IllegalArgumentException.class, () -> filter.validate(evasion), evasion);
+        }
+        List<String> links = List.of("여기 보세요 bit . ly/abc", "https://bit.ly/x", "www.bit.ly/x", "ＢＩＴ．ＬＹ/x", "링크는 bit.ly.");
+        for (String link : links) {
+            assertThrows(IllegalArgumentException.class, () -> filter.validate(link), link);
+        }
+
+        // 단어 경계와 합성어: 금지어가 두 단어에 걸치거나 다른 단어의 일부인 경우
+        List<String> clean = List.of("갓바위 다녀왔어요", "오늘 선발 좋네요", "병살타 아쉽다", "롯데 화이팅",
+                "여기가 시발점이다", "서울역이 시발역이었다", "감시 발전소", "위기가 닥쳤다", "a fuchsia",
+                "a bit lyrical", "bit.lyrics.com", "orbit.ly", "scunthorpe fuchsia");
+        for (String text : clean) {
+            assertDoesNotThrow(() -> filter.validate(text), text);
+        }
+        assertThrows(IllegalArgumentException.class, () -> filter.validate("시발점에서 시발"), "허용 단어 밖의 금지어는 걸려야 합니다.");
+        assertEquals(evasions.size() + links.size() + 1, filter.getStatus().getBlockedComments());
+        assertEquals(3, filter.getStatus().getAllowedWordCount());
+    }
+
+    @Test
+    void reloadSwapsFilterWhileWritersKeepValidating(@TempDir Path dir) throws Exception {
+        Path wordList = dir.resolve("banned-words.txt");
+        Files.writeString(wordList, "시발\n", StandardCharsets.UTF_8);
+        CommentFilterServiceImpl filter = new CommentFilterServiceImpl(new DefaultResourceLoader(), wordList.toUri().toString());
+        assertDoesNotThrow(() -> filter.validate("새금지어 입니다"));
+
+        AtomicBoolean stop = new AtomicBoolean();
+        AtomicLong checked = new AtomicLong();
+        AtomicLong unexpected = new AtomicLong();
+        List<Thread> writers = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            Thread writer = new Thread(() -> {
+                while (!stop.get()) {
+                    try {
+                        filter.validate("오늘 경기 재밌네요");
+                    } catch (RuntimeException e) {
+                        unexpected.incrementAndGet();
+                    }
+                    checked.incrementAndGet();
+                }
+            });
+            writer.start();
+            writers.add(writer);
+        }
+
+        Set<String> words = new LinkedHashSet<>(List.of("시발", "새금지어"));
+        Random random = new Random(7);
+        while (words.size() < WORDS) {
+            words.add(randomWord(random, 3));
+        }
+        Files.write(wordList, words, StandardCharsets.UTF_8);
+        for (int i = 0; i < 5; i++) {
+            filter.reload();
+        }
+        stop.set(true);
+        for (Thread writer : writers) {
+            writer.join();
+        }
+
+        assertTrue(checked.get() > 0);
+        assertEquals(0, unexpected.get());
+        assertThrows(IllegalArgumentException.class, () -> filter.validate("새 금지어 입니다"));
+        assertTrue(filter.getStatus().getWordCount() >= WORDS);
+    }
+
+    private static String randomWord(Random random, int syllables) {
+        StringBuilder word = new StringBuilder(syllables);
+        for (int i = 0; i < syllables; i++) {
+            word.append((char) ('가' + random.nextInt(11_172)));
+        }
+        return word.toString();
+    }
+}
@@ -0,0 +1,219 @@
+package com.example.p1;
+
+import com.example.p1.domain.CommentType;
+import com.example.p1.dto.CommentDTO;
+import com.example.p1.dto.CommentStreamEventDTO;
+import com.example.p1.dto.CommentStreamFrameDTO;
+import com.example.p1.service.CommentStreamBroker;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 실시간 댓글 브로커 부하 테스트. 수천 개의 로컬 구독자에게 묶음 전송이 누락 없이 전달되는지,
+ * 멈춘 구독자가 다른 구독자를 막지 않고 끊기는지 확인합니다. (DB, 스프링 컨텍스트 없이 실행)
+ * 멈춘 구독자가 전송 스레드 수보다 많고 인터럽트에도 반응하지 않는 경우도 확인합니다.
+ */
+class CommentStreamBrokerLoadTest {
+
+    private static final Logger log = LoggerFactory.getLogger(CommentStreamBrokerLoadTest.class);
+
+    private static final int GAMES = 10;
+    private static final int SUBSCRIBERS_PER_GAME = 500;
+    private static final int STUCK_SUBSCRIBERS = 4;
+    private static final int ROUNDS = 100;
+    private static final int COMMENTS_PER_ROUND = 20;
+    private static final int BUFFER = 64;
+    private static final long SEND_TIMEOUT_MS = 2_000;
+
+    private final CountDownLatch release = new CountDownLatch(1);
+    private CommentStreamBroker broker;
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        if (broker != null) {
+            broker.shutdown();
+        }
+    }
+
+    @Test
+    void fansOutBurstsToThousandsOfSubscribersAndDropsStuckOnes() throws Exception {
+        AtomicInteger predictionLoads = new AtomicInteger();
+        // 주기 flush는 사실상 끄고 테스트에서 직접 flush해 라운드 수를 고정합니다.
+        broker = new CommentStreamBroker(gameId -> {
+            predictionLoads.incrementAndGet();
+            return Map.of("홈", 1L);
+        }, TimeUnit.HOURS.toMillis(1), BUFFER, 8, SEND_TIMEOUT_MS);
+
+        int expectedEvents = ROUNDS * COMMENTS_PER_ROUND;
+        CountDownLatch allDelivered = new CountDownLatch(GAMES * SUBSCRIBERS_PER_GAME);
+        List<AtomicInteger> received = new ArrayList<>();
+        for (long gameId = 1; gameId <= GAMES; gameId++) {
+            for (int i = 0; i < SUBSCRIBERS_PER_GAME; i++) {
+                AtomicInteger count = new AtomicInteger();
+                received.add(count);
+                broker.subscribe(gameId, frame -> {
+                    if (count.addAndGet(frame.getEvents().size()) == expectedEvents) {
+                        allDelivered.countDown();
+                    }
+                });
+            }
+        }
+        // 첫 프레임에서 멈춰 버리는 구독자: 버퍼가 가득 차면 끊겨야 함
+        AtomicInteger closedStuck = new AtomicInteger();
+        for (int i = 0; i < STUCK_SUBSCRIBERS; i++) {
+            broker.subscribe(1L, new CommentStreamBroker.Sink() {
+                @Override
+                public void send(CommentStreamFrameDTO frame) throws Exception {
+                    release.await();
+                }
+
+                @Override
+                public void close() {
+                    closedStuck.incrementAndGet();
+                }
+            });
+        }
+
+        AtomicLong commentId = new AtomicLong();
+        long start = System.nanoTime();
+        for (int round = 0; round < ROUNDS; round++) {
+            for (long gameId = 1; gameId <= GAMES; gameId++) {
+                for (int i = 0; i < COMMENTS_PER_ROUND; i++) {
+                    broker.publishCreated(gameId, comment(commentId.incrementAndGet(), gameId, i == 0 ? "홈" : null));
+                }
+            }
+            broker.flush();
+        }
+        boolean delivered = allDelivered.await(60, TimeUnit.SECONDS);
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        long totalFrames = (long) ROUNDS * GAMES * SUBSCRIBERS_PER_GAME;
+        log.info("Delivered {} events in {} frames to {} subscribers in {} ms ({} frames/s)",
+                (long) expectedEvents * GAMES * SUBSCRIBERS_PER_GAME, totalFrames, GAMES * SUBSCRIBERS_PER_GAME,
+                elapsedMs, totalFrames * 1000 / Math.max(1, elapsedMs));
+
+        assertTrue(delivered, "모든 구독자가 모든 댓글을 받아야 합니다.");
+        received.forEach(count -> assertEquals(expectedEvents, count.get()));
+        assertEquals(STUCK_SUBSCRIBERS, broker.getDroppedSubscriberCount());
+        assertEquals(STUCK_SUBSCRIBERS, closedStuck.get());
+        assertEquals(SUBSCRIBERS_PER_GAME, broker.getSubscriberCount(1L));
+        // 예측 집계는 구독자 수와 무관하게 경기별 프레임당 한 번만 계산
+        assertEquals(ROUNDS * GAMES, predictionLoads.get());
+    }
+
+    @Test
+    void stuckSubscribersOutnumberingSenderThreadsDoNotStallOtherGames() throws Exception {
+        int senderThreads = 2;
+        int stuckSubscribers = 16;
+        int healthyPerGame = 50;
+        int games = 4;
+        int rounds = 20;
+        broker = new CommentStreamBroker(gameId -> Map.of(), TimeUnit.HOURS.toMillis(1), BUFFER, senderThreads, 200);
+
+        CountDownLatch allDelivered = new CountDownLatch(games * healthyPerGame);
+        for (long gameId = 1; gameId <= games; gameId++) {
+            for (int i = 0; i < healthyPerGame; i++) {
+                AtomicInteger count = new AtomicInteger();
+                broker.subscribe(gameId, frame -> {
+                    if (count.addAndGet(frame.getEvents().size()) == rounds) {
+                        allDelivered.countDown();
+                    }
+                });
+            }
+        }
+        // 소켓 쓰기처럼 인터럽트에도 풀리지 않는 구독자: 모든 경기에 흩어 두어 전송 스레드를 모두 잡을 수 있게 함
+        AtomicInteger closedStuck = new AtomicInteger();
+        for (int i = 0; i < stuckSubscribers; i++) {
+            broker.subscribe((long) (i % games) + 1, new CommentStreamBroker.Sink() {
+                @Override
+                public void send(CommentStreamFrameDTO frame) {
+                    boolean released = false;
+                    while (!released) {
+                        try {
+                            released = release.await(1, TimeUnit.HOURS);
+                        } catch (InterruptedException ignored) {
+                            // 인터럽트를 무시하고 계속 멈춰 있음
+                        }
+                    }
+                }
+
+                @Override
+                public void close() {
+                    closedStuck.incrementAndGet();
+                }
+            });
+        }
+
+        AtomicLong commentId = new AtomicLong();
+        for (int round = 0; round < rounds; round++) {
+            for (long gameId = 1; gameId <= games; gameId++) {
+                broker.publishCreated(gameId, comment(commentId.incrementAndGet(), gameId, null));
+            }
+            broker.flush();
+        }
+
+        assertTrue(allDelivered.await(30, TimeUnit.SECONDS), "멈춘 구독자가 있어도 나머지 구독자는 모든 댓글을 받아야 합니다.");
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (broker.getDroppedSubscriberCount() < stuckSubscribers && System.nanoTime() < deadline) {
+            Thread.sleep(50);
+        }
+        assertEquals(stuckSubscribers, broker.getDroppedSubscriberCount());
+        assertEquals(stuckSubscribers, closedStuck.get());
+        for (long gameId = 1; gameId <= games; gameId++) {
+            assertEquals(healthyPerGame, broker.getSubscriberCount(gameId));
+        }
+    }
+
+    @Test
+    void coalescesChangesToTheSameCommentWithinOneFrame() throws Exception {
+        broker = new CommentStreamBroker(gameId -> Map.of(), TimeUnit.HOURS.toMillis(1), BUFFER, 1, SEND_TIMEOUT_MS);
+        List<CommentStreamFrameDTO> frames = new ArrayList<>();
+        CountDownLatch received = new CountDownLatch(1);
+        broker.subscribe(1L, frame -> {
+            frames.add(frame);
+            received.countDown();
+        });
+
+        broker.publishCreated(1L, comment(1L, 1L, null));
+        broker.publishUpdated(1L, comment(1L, 1L, null), false);
+        broker.publishCreated(1L, comment(2L, 1L, null));
+        broker.publishDeleted(1L, 2L, false);
+        broker.publishUpdated(1L, comment(3L, 1L, null), false);
+        broker.flush();
+
+        assertTrue(received.await(5, TimeUnit.SECONDS));
+        CommentStreamFrameDTO frame = frames.get(0);
+        assertEquals(2, frame.getEvents().size());
+        assertEquals(CommentStreamEventDTO.CREATED, frame.getEvents().get(0).getType());
+        assertEquals("수정 1", frame.getEvents().get(0).getComment().getCommentText());
+        assertEquals(CommentStreamEventDTO.UPDATED, frame.getEvents().get(1).getType());
+        assertNull(frame.getPredictionCounts());
+    }
+
+    private CommentDTO comment(Long id, Long gameId, String predictedTeamName) {
+        return CommentDTO.builder()
+                .id(id)
+                .gameId(gameId)
+                .username("user" + id)
+                .nickname("닉" + id)
+                .commentText("수정 " + id)
+                .type(predictedTeamName != null ? CommentType.PREDICTION : CommentType.TEXT)
+                .predictedTeamName(predictedTeamName)
+                .build();
+    }
+}
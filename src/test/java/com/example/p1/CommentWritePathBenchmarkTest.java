@@ -0,0 +1,190 @@
+package com.example.p1;
+
+import com.example.p1.domain.CommentType;
+import com.example.p1.domain.GameSchedule;
+import com.example.p1.domain.Member;
+import com.example.p1.domain.Team;
+import com.example.p1.dto.CommentDTO;
+import com.example.p1.repository.GameScheduleRepository;
+import com.example.p1.repository.MemberRepository;
+import com.example.p1.repository.TeamRepository;
+import com.example.p1.service.CommentService;
+import com.example.p1.service.CommentWriteLookup;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 댓글 1만 개가 달린 경기에서 댓글 등록/수정/삭제의 지연 시간과 호출당 SQL 수를 측정합니다.
+ * 쓰기 경로가 경기의 기존 댓글을 읽지 않도록 호출당 SQL 수가 예산 이내인지 확인하고, 지연 시간 분포는 로그로 남깁니다.
+ */
+@SpringBootTest
+@Transactional
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class CommentWritePathBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(CommentWritePathBenchmarkTest.class);
+
+    private static final int EXISTING_COMMENTS = 10_000;
+    private static final int ITERATIONS = 200;
+
+    // 호출당 SQL 예산 (회원/팀 캐시 적중 기준, flush 포함)
+    private static final long ADD_TEXT_BUDGET = 3;       // 경기 존재 확인 + 시퀀스 + INSERT
+    private static final long ADD_PREDICTION_BUDGET = 4; // + 예측 중복 확인
+    private static final long UPDATE_BUDGET = 2;         // fetch join 조회 + UPDATE
+    private static final long DELETE_BUDGET = 2;         // fetch join 조회 + DELETE
+
+    @Autowired
+    private CommentService commentService;
+    @Autowired
+    private CommentWriteLookup commentWriteLookup;
+    @Autowired
+    private GameScheduleRepository gameScheduleRepository;
+    @Autowired
+    private MemberRepository memberRepository;
+    @Autowired
+    private TeamRepository teamRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private EntityManager entityManager;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Long gameId;
+    private String username;
+    private String homeTeamName;
+
+    @BeforeEach
+    void setUp() {
+        long suffix = System.nanoTime();
+        Team home = teamRepository.save(Team.builder().name("BM홈" + suffix).logoUrl("home.png").build());
+        Team away = teamRepository.save(Team.builder().name("BM원정" + suffix).logoUrl("away.png").build());
+        homeTeamName = home.getName();
+        GameSchedule game = gameScheduleRepository.save(GameSchedule.builder()
+                .gameDate(LocalDateTime.now())
+                .gameKey("BM" + suffix)
+                .homeTeam(home)
+                .opponentTeam(away)
+                .location("사직")
+                .build());
+        gameId = game.getId();
+        username = "bm" + suffix;
+        Member member = memberRepository.save(Member.builder()
+                .username(username)
+                .password("pw")
+                .name("테스터")
+                .nickname("bm닉" + suffix)
+                .email("bm" + suffix + "@test.com")
+                .phoneNumber("bm" + suffix)
+                .role(Member.Role.USER)
+                .build());
+        entityManager.flush();
+
+        // 기존 댓글 1만 개는 JDBC 배치로 빠르게 채움
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now().minusHours(1));
+        List<Object[]> rows = new ArrayList<>(EXISTING_COMMENTS);
+        for (int i = 0; i < EXISTING_COMMENTS; i++) {
+            rows.add(new Object[]{member.getId(), gameId, "기존 댓글 " + i, now, now});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO GAME_COMMENT (id, member_id, game_id, comment_text, created_at, updated_at, type) " +
+                "VALUES (GAME_COMMENT_SEQ.NEXTVAL, ?, ?, ?, ?, ?, 'TEXT')", rows);
+        entityManager.clear();
+    }
+
+    @Test
+    void writePathStaysWithinStatementBudgetOnBusyGame() {
+        Statistics statistics = warmUpAndGetStatistics();
+
+        long[] addNanos = new long[ITERATIONS];
+        long[] updateNanos = new long[ITERATIONS];
+        long[] deleteNanos = new long[ITERATIONS];
+        List<Long> ids = new ArrayList<>(ITERATIONS);
+
+        for (int i = 0; i < ITERATIONS; i++) {
+            CommentDTO comment = text("새 댓글 " + i);
+            addNanos[i] = measure(statistics, ADD_TEXT_BUDGET, "add",
+                    () -> ids.add(commentService.addComment(gameId, username, comment).getId()));
+        }
+        for (int i = 0; i < ITERATIONS; i++) {
+            Long commentId = ids.get(i);
+            updateNanos[i] = measure(statistics, UPDATE_BUDGET, "update",
+                    () -> commentService.updateComment(commentId, username, text("수정된 댓글")));
+        }
+        for (int i = 0; i < ITERATIONS; i++) {
+            Long commentId = ids.get(i);
+            deleteNanos[i] = measure(statistics, DELETE_BUDGET, "delete",
+                    () -> commentService.deleteComment(commentId, username, false));
+        }
+
+        report("add", addNanos);
+        report("update", updateNanos);
+        report("delete", deleteNanos);
+    }
+
+    @Test
+    void predictionAddStaysWithinBudget() {
+        Statistics statistics = warmUpAndGetStatistics();
+
+        measure(statistics, ADD_PREDICTION_BUDGET, "add prediction",
+                () -> commentService.addComment(gameId, username, prediction()));
+    }
+
+    /**
+     * 예산은 캐시 적중 기준이므로 회원/팀 캐시를 먼저 채웁니다.
+     */
+    private Statistics warmUpAndGetStatistics() {
+        commentWriteLookup.getMember(username);
+        commentWriteLookup.getTeam(homeTeamName);
+        return entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    private long measure(Statistics statistics, long budget, String operation, Runnable call) {
+        statistics.clear();
+        long start = System.nanoTime();
+        call.run();
+        entityManager.flush();
+        long elapsed = System.nanoTime() - start;
+        long statements = statistics.getPrepareStatementCount();
+        entityManager.clear();
+        assertTrue(statements <= budget,
+                operation + " 호출이 SQL " + statements + "개를 실행했습니다. (예산 " + budget + "개)");
+        return elapsed;
+    }
+
+    private void report(String operation, long[] nanos) {
+        long[] sorted = nanos.clone();
+        Arrays.sort(sorted);
+        log.info("{} with {} existing comments: p50 {} us, p95 {} us, max {} us",
+                operation, EXISTING_COMMENTS,
+                sorted[sorted.length / 2] / 1_000,
+                sorted[(int) (sorted.length * 0.95)] / 1_000,
+                sorted[sorted.length - 1] / 1_000);
+    }
+
+    private CommentDTO text(String commentText) {
+        return CommentDTO.builder().commentText(commentText).type(CommentType.TEXT).build();
+    }
+
+    private CommentDTO prediction() {
+        return CommentDTO.builder().commentText("예측").type(CommentType.PREDICTION).predictedTeamName(homeTeamName).build();
+    }
+}
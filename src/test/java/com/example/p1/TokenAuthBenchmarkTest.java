@@ -0,0 +1,162 @@
+package com.example.p1;
+
+import com.example.p1.security.token.TokenAuthenticationFilter;
+import com.example.p1.security.token.TokenClaims;
+import com.example.p1.security.token.TokenCodec;
+import com.example.p1.security.token.TokenDenylist;
+import com.example.p1.security.token.TokenProperties;
+import com.example.p1.security.token.TokenService;
+import com.example.p1.service.CustomUserDetailsService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 토큰 인증 테스트. 요청마다 필터가 하는 일(서명/만료 검증 + 메모리 폐기 목록 확인)의 비용을 재고
+ * 비밀번호(BCrypt) 확인 한 번과 비교합니다. 폐기/변조/만료 토큰 거절도 확인합니다. (DB, 스프링 컨텍스트 없이 실행)
+ */
+class TokenAuthBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(TokenAuthBenchmarkTest.class);
+
+    private static final int REQUESTS = 100_000;
+    private static final int BCRYPT_CHECKS = 10;
+
+    private TokenCodec codec;
+    private TokenDenylist denylist;
+    private TokenAuthenticationFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        byte[] secret = new byte[32];
+        new Random(1).nextBytes(secret);
+        TokenProperties properties = new TokenProperties();
+        codec = new TokenCodec(secret);
+        denylist = new TokenDenylist(null, null, null, properties);
+        TokenService tokenService = new TokenService(codec, denylist, properties,
+                new CustomUserDetailsService(null, 100, 600), new BCryptPasswordEncoder());
+        filter = new TokenAuthenticationFilter(tokenService);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void tokenCheckPerRequestIsFarCheaperThanPasswordCheck() throws Exception {
+        String token = accessToken("fan01", System.currentTimeMillis());
+        // 다른 회원 폐기 기록이 있어도 비용이 같아야 하므로 몇 개 넣어 둠
+        for (int i = 0; i < 1_000; i++) {
+            denylist.revokeMember("banned" + i, LocalDateTime.now(ZoneOffset.UTC));
+        }
+
+        for (int i = 0; i < REQUESTS / 10; i++) { // 워밍업
+            authenticate(token);
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < REQUESTS; i++) {
+            assertEquals(200, authenticate(token).getStatus());
+        }
+        double tokenNanos = (System.nanoTime() - start) / (double) REQUESTS;
+
+        BCryptPasswordEncoder encoder = new BCryptPasswordEncoder();
+        String hash = encoder.encode("password1234");
+        start = System.nanoTime();
+        for (int i = 0; i < BCRYPT_CHECKS; i++) {
+            assertTrue(encoder.matches("password1234", hash));
+        }
+        double bcryptNanos = (System.nanoTime() - start) / (double) BCRYPT_CHECKS;
+
+        log.info("Token filter: {} ns/request ({} requests), BCrypt password check: {} us ({}x)",
+                Math.round(tokenNanos), REQUESTS, Math.round(bcryptNanos / 1_000), Math.round(bcryptNanos / tokenNanos));
+        assertTrue(tokenNanos < 50_000, "토큰 인증은 요청당 50us 이내여야 합니다. (" + tokenNanos + "ns)");
+        assertTrue(bcryptNanos > tokenNanos * 100, "토큰 인증이 비밀번호 확인보다 100배 이상 가벼워야 합니다.");
+    }
+
+    @Test
+    void authenticatesWithoutSessionAndRejectsBadTokens() throws Exception {
+        long now = System.currentTimeMillis();
+        String token = accessToken("fan01", now);
+
+        MockHttpServletResponse ok = authenticate(token);
+        assertEquals(200, ok.getStatus());
+
+        String tampered = token.substring(0, token.indexOf('.')) + "x" + token.substring(token.indexOf('.'));
+        assertEquals(401, authenticate(tampered).getStatus());
+        assertEquals(401, authenticate(codec.encode(claims("fan01", TokenClaims.ACCESS, now - 120_000, now - 60_000))).getStatus());
+        assertEquals(401, authenticate(codec.encode(claims("fan01", TokenClaims.REFRESH, now, now + 60_000))).getStatus());
+
+        // 토큰이 없으면 세션 로그인 경로로 넘김 (인증하지 않음)
+        SecurityContextHolder.clearContext();
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/members/me");
+        MockFilterChain chain = new MockFilterChain();
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+        assertTrue(chain.getRequest() != null);
+        assertNull(SecurityContextHolder.getContext().getAuthentication());
+        assertNull(request.getSession(false));
+    }
+
+    @Test
+    void revokingMemberRejectsEarlierTokensOnly() throws Exception {
+        String before = accessToken("fan01", System.currentTimeMillis() - 1_000);
+        String other = accessToken("fan02", System.currentTimeMillis() - 1_000);
+        LocalDateTime revokedAt = LocalDateTime.now(ZoneOffset.UTC);
+        denylist.revokeMember("fan01", revokedAt); // 비밀번호 변경/정지
+
+        assertEquals(401, authenticate(before).getStatus());
+        assertEquals(200, authenticate(other).getStatus());
+        long afterRevocation = revokedAt.toInstant(ZoneOffset.UTC).toEpochMilli() + 1;
+        assertEquals(200, authenticate(accessToken("fan01", afterRevocation)).getStatus());
+        assertEquals(1, denylist.getRevokedMemberCount());
+    }
+
+    private MockHttpServletResponse authenticate(String token) throws Exception {
+        SecurityContextHolder.clearContext();
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/members/me");
+        request.addHeader(HttpHeaders.AUTHORIZATION, "Bearer " + token);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+        filter.doFilter(request, response, chain);
+        if (response.getStatus() == 200) {
+            Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+            assertTrue(authentication != null && authentication.isAuthenticated());
+            assertTrue(chain.getRequest() != null);
+            assertNull(request.getSession(false)); // 세션을 만들지 않음
+        }
+        return response;
+    }
+
+    private String accessToken(String username, long issuedAt) {
+        return codec.encode(claims(username, TokenClaims.ACCESS, issuedAt, issuedAt + 900_000));
+    }
+
+    private static TokenClaims claims(String username, String type, long issuedAt, long expiresAt) {
+        return TokenClaims.builder()
+                .type(type)
+                .username(username)
+                .memberId(1L)
+                .role("USER")
+                .nickname("팬")
+                .issuedAt(issuedAt)
+                .expiresAt(expiresAt)
+                .build();
+    }
+}